@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.asic.cades.validation;
 
 import eu.europa.esig.dss.asic.common.ASiCContent;
+import eu.europa.esig.dss.asic.common.ASiCUtils;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
@@ -54,6 +55,11 @@ public class ASiCContainerWithCAdESValidatorFactory implements DocumentValidator
 		return validator.isSupported(asicContent);
 	}
 
+	@Override
+	public boolean isSupportedPreamble(byte[] preamble) {
+		return ASiCUtils.isZip(preamble);
+	}
+
 	@Override
 	public SignedDocumentValidator create(DSSDocument document) {
 		return new ASiCContainerWithCAdESValidator(document);
@@ -344,6 +344,17 @@ public final class ASiCUtils {
 		}
 	}
 
+	/**
+	 * Checks if the given byte array starts with a ZIP container preamble
+	 *
+	 * @param binaries byte array to check (e.g. the first bytes of a document)
+	 * @return TRUE if the binaries represent a ZIP container beginning, FALSE otherwise
+	 */
+	public static boolean isZip(byte[] binaries) {
+		Objects.requireNonNull(binaries, "Binaries cannot be null!");
+		return binaries.length >= 2 && (binaries[0] == 'P') && (binaries[1] == 'K');
+	}
+
 	/**
 	 * Checks if the given {@code InputStream} contains a ZIP container
 	 *
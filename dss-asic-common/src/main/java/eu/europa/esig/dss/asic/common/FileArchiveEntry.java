@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.CommonDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
@@ -48,6 +49,12 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
     /** Contains metadata about the extracted entry */
     private final DSSZipEntry dssZipEntry;
 
+    /** The maximum allowed size of the extracted entry content, -1 if not limited */
+    private final long maxEntrySize;
+
+    /** The position of the compressed entry data within the ZIP-container, -1 if unknown */
+    private final long dataOffset;
+
     /**
      * Default constructor
      *
@@ -55,10 +62,37 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
      * @param zipEntry {@link DSSZipEntry} containing metadata for zip container entry to be extracted
      */
     protected FileArchiveEntry(final FileDocument zipArchive, final ZipEntry zipEntry) {
+        this(zipArchive, zipEntry, -1);
+    }
+
+    /**
+     * Constructor with a limit of the extracted entry size, verified on reading of the entry content
+     *
+     * @param zipArchive {@link FileDocument} representing a ZIP-container
+     * @param zipEntry {@link DSSZipEntry} containing metadata for zip container entry to be extracted
+     * @param maxEntrySize the maximum allowed size of the extracted entry content, -1 if not limited
+     */
+    protected FileArchiveEntry(final FileDocument zipArchive, final ZipEntry zipEntry, final long maxEntrySize) {
+        this(zipArchive, zipEntry, maxEntrySize, -1);
+    }
+
+    /**
+     * Constructor with a limit of the extracted entry size and a known position of the compressed entry data,
+     * allowing to copy the compressed data as-is on a new ZIP-container creation
+     *
+     * @param zipArchive {@link FileDocument} representing a ZIP-container
+     * @param zipEntry {@link DSSZipEntry} containing metadata for zip container entry to be extracted
+     * @param maxEntrySize the maximum allowed size of the extracted entry content, -1 if not limited
+     * @param dataOffset the position of the compressed entry data within the ZIP-container, -1 if unknown
+     */
+    protected FileArchiveEntry(final FileDocument zipArchive, final ZipEntry zipEntry, final long maxEntrySize,
+                               final long dataOffset) {
         Objects.requireNonNull(zipArchive, "ZIP Archive cannot be null!");
         Objects.requireNonNull(zipEntry, "ZIP Entry cannot be null!");
         this.zipArchive = zipArchive;
         this.zipEntry = zipEntry;
+        this.maxEntrySize = maxEntrySize;
+        this.dataOffset = dataOffset;
         this.dssZipEntry = new DSSZipEntry(zipEntry);
         this.name = dssZipEntry.getName();
         this.mimeType = MimeType.fromFileName(dssZipEntry.getName());
@@ -84,6 +118,33 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
         return dssZipEntry;
     }
 
+    /**
+     * Returns the ZIP-container the entry belongs to
+     *
+     * @return {@link FileDocument}
+     */
+    FileDocument getZipArchive() {
+        return zipArchive;
+    }
+
+    /**
+     * Returns the original {@code ZipEntry}, as read from the ZIP-container
+     *
+     * @return {@link ZipEntry}
+     */
+    ZipEntry getOriginalZipEntry() {
+        return zipEntry;
+    }
+
+    /**
+     * Returns the position of the compressed entry data within the ZIP-container
+     *
+     * @return position of the compressed data, -1 if unknown
+     */
+    long getDataOffset() {
+        return dataOffset;
+    }
+
     /**
      * Creates InputStream for a ZipEntry from the provided archive file.
      * Handles closing of {@code java.util.zip.ZipFile}
@@ -96,6 +157,9 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
         /** InputStream for the given ZIP entry */
         private final InputStream entryInputStream;
 
+        /** The number of bytes read from the entry */
+        private long byteCounter = 0;
+
         /**
          * Default constructor
          *
@@ -108,12 +172,27 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
 
         @Override
         public int read() throws IOException {
-            return entryInputStream.read();
+            int b = entryInputStream.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
         }
 
         @Override
         public int read(byte[] b, int off, int len) throws IOException {
-            return entryInputStream.read(b, off, len);
+            int nRead = entryInputStream.read(b, off, len);
+            if (nRead > 0) {
+                count(nRead);
+            }
+            return nRead;
+        }
+
+        private void count(int nRead) {
+            byteCounter += nRead;
+            if (maxEntrySize != -1 && byteCounter > maxEntrySize) {
+                throw new IllegalInputException("Zip Bomb detected in the ZIP container. Validation is interrupted.");
+            }
         }
 
         @Override
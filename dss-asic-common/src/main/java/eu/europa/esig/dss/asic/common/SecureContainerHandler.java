@@ -25,6 +25,9 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
 import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -32,14 +35,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
@@ -56,6 +66,27 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SecureContainerHandler.class);
 
+	/** The signature of a ZIP local file header */
+	private static final long LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50L;
+
+	/** The signature of a ZIP data descriptor */
+	private static final long DATA_DESCRIPTOR_SIGNATURE = 0x08074b50L;
+
+	/** The signature of a ZIP end of central directory record */
+	private static final long END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50L;
+
+	/** The size of a ZIP local file header, excluding the file name and extra field */
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+	/** The size of a ZIP end of central directory record, excluding the archive comment */
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	/** The maximum size of a ZIP archive comment */
+	private static final int MAX_ZIP_COMMENT_SIZE = 0xffff;
+
+	/** The value of a size field, defining the value is present within ZIP64 extra field */
+	private static final long ZIP64_MAGIC_VALUE = 0xffffffffL;
+
 	/**
 	 * Minimum file size to be analyzed on zip bombing
 	 */
@@ -90,6 +121,13 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private int malformedFilesCounter = 0;
 
+	/**
+	 * The builder of resources handlers, used to create the ZIP archives
+	 *
+	 * Default : {@code InMemoryResourcesHandlerBuilder} (in-memory archives)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new InMemoryResourcesHandlerBuilder();
+
 	/**
 	 * Defines whether comments of ZIP entries shall be extracted.
 	 *
@@ -161,6 +199,8 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 * that is not able to extract comments for entries. In order to extract comments, the archive shall be read
 	 * again using {@code java.util.zip.ZipFile}.
 	 * For more information about limitations please see {@code <a href="https://stackoverflow.com/a/70848140">the link</a>}.
+	 * NOTE: for archives stored in the file system ({@code FileDocument}), the comments are read
+	 * from the central directory without an additional reading of the archive.
 	 *
 	 * Default : false (not extracted)
 	 *
@@ -170,11 +210,36 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		this.extractComments = extractComments;
 	}
 
+	/**
+	 * Sets the builder of resources handlers, defining where the created ZIP archives are written
+	 * (e.g. {@code TempFileResourcesHandlerBuilder} to write the archives into temporary files).
+	 *
+	 * NOTE: when creating an archive from entries of an archive stored in the file system
+	 * (e.g. on an ASiC container extension), the compressed data of the unchanged entries is copied as-is.
+	 *
+	 * Default : {@code InMemoryResourcesHandlerBuilder}
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public List<DSSDocument> extractContainerContent(DSSDocument zipArchive) {
 		resetCounters();
 
 		List<DSSDocument> result = new ArrayList<>();
+		if (zipArchive instanceof FileDocument) {
+			FileDocument zipFileDocument = (FileDocument) zipArchive;
+			List<FileArchiveEntry> archiveEntries = readZipFileEntries(zipFileDocument);
+			if (archiveEntries != null) {
+				result.addAll(archiveEntries);
+				return result;
+			}
+		}
+
 		if (isInFileProcessingSupported(zipArchive)) {
 			FileDocument zipFileDocument = (FileDocument) zipArchive;
 			List<ZipEntry> zipEntries = extractZipEntries(zipFileDocument);
@@ -242,6 +307,12 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public List<String> extractEntryNames(DSSDocument zipArchive) {
+		if (zipArchive instanceof FileDocument) {
+			List<FileArchiveEntry> archiveEntries = readZipFileEntries((FileDocument) zipArchive);
+			if (archiveEntries != null) {
+				return archiveEntries.stream().map(FileArchiveEntry::getName).collect(Collectors.toList());
+			}
+		}
 		List<ZipEntry> zipEntries = extractZipEntries(zipArchive);
 		if (Utils.isCollectionNotEmpty(zipEntries)) {
 			return zipEntries.stream().map(ZipEntry::getName).collect(Collectors.toList());
@@ -273,6 +344,202 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		return result;
 	}
 
+	/**
+	 * Reads the entries of a ZIP archive stored in the file system, without inflating their content.
+	 * The entries are listed from the central directory and their metadata is read from the local file headers,
+	 * in order to get the same values as when read with {@code java.util.zip.ZipInputStream}.
+	 * The cumulated declared size of the entries is verified against zip-bombing, while the actual size
+	 * of each entry is verified not to exceed its declared size on reading (see {@code FileArchiveEntry}).
+	 * The local file headers shall follow each other up to the central directory, in order to ensure
+	 * no entry is present within the archive without being listed within the central directory.
+	 *
+	 * @param zipArchive {@link FileDocument} representing a ZIP archive
+	 * @return a list of {@link FileArchiveEntry}s, or NULL if the archive cannot be processed this way
+	 *         (e.g. malformed entries or not supported structure)
+	 */
+	private List<FileArchiveEntry> readZipFileEntries(FileDocument zipArchive) {
+		final File file = zipArchive.getFile();
+		final long allowedSize = file.length() * maxCompressionRatio;
+
+		List<FileArchiveEntry> result = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(file); RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			final long centralDirectoryOffset = getCentralDirectoryOffset(raf);
+			if (centralDirectoryOffset == -1) {
+				LOG.debug("Unable to read the central directory offset of the archive with name '{}'.", zipArchive.getName());
+				return null;
+			}
+
+			long declaredSize = 0;
+			long offset = 0;
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				final ZipEntry centralDirectoryEntry = entries.nextElement();
+				final ZipEntry zipEntry = readLocalFileHeader(raf, offset, centralDirectoryEntry);
+				if (zipEntry == null) {
+					LOG.debug("Unable to read the local file header of the entry '{}' from the archive with name '{}'.",
+							centralDirectoryEntry.getName(), zipArchive.getName());
+					return null;
+				}
+				final long dataOffset = getDataOffset(raf, offset);
+				// the actual size of the entry is limited to its declared size, verified below
+				result.add(new FileArchiveEntry(zipArchive, zipEntry, zipEntry.getSize(), dataOffset));
+				assertCollectionSizeValid(result);
+
+				declaredSize += zipEntry.getSize();
+				if (declaredSize > threshold && declaredSize > allowedSize) {
+					throw new IllegalInputException("Zip Bomb detected in the ZIP container. Validation is interrupted.");
+				}
+				offset = getNextLocalFileHeaderOffset(raf, offset, dataOffset, zipEntry);
+			}
+
+			if (offset != centralDirectoryOffset) {
+				LOG.warn("The local file headers of the archive with name '{}' do not match its central directory " +
+						"(entries or data not listed within the central directory). Continue with ZipInputStream...",
+						zipArchive.getName());
+				return null;
+			}
+
+		} catch (IllegalInputException e) {
+			throw e;
+		} catch (Exception e) {
+			LOG.debug("Unable to read entries of the archive with name '{}' using ZipFile. Reason : {}",
+					zipArchive.getName(), e.getMessage());
+			return null;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the position of the central directory, as defined within the end of central directory record
+	 *
+	 * @param raf {@link RandomAccessFile} of the ZIP archive
+	 * @return position of the central directory, -1 if not found or defined within ZIP64 record
+	 * @throws IOException if an exception occurs on file reading
+	 */
+	private long getCentralDirectoryOffset(RandomAccessFile raf) throws IOException {
+		final long fileLength = raf.length();
+		final int tailLength = (int) Math.min(fileLength, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_ZIP_COMMENT_SIZE);
+		byte[] tail = new byte[tailLength];
+		raf.seek(fileLength - tailLength);
+		raf.readFully(tail);
+		for (int i = tailLength - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+			if (getUInt32(tail, i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+					&& i + END_OF_CENTRAL_DIRECTORY_SIZE + getUInt16(tail, i + 20) == tailLength) {
+				long centralDirectoryOffset = getUInt32(tail, i + 16);
+				return centralDirectoryOffset != ZIP64_MAGIC_VALUE ? centralDirectoryOffset : -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reads the local file header at the given {@code offset} and creates a {@code ZipEntry} with the values
+	 * read from the header, completed by the values of the corresponding central directory entry
+	 *
+	 * @param raf {@link RandomAccessFile} of the ZIP archive
+	 * @param offset position of the local file header
+	 * @param centralDirectoryEntry {@link ZipEntry} extracted from the central directory
+	 * @return {@link ZipEntry}, NULL if the local file header does not match the central directory entry
+	 * @throws IOException if an exception occurs on file reading
+	 */
+	private ZipEntry readLocalFileHeader(RandomAccessFile raf, long offset, ZipEntry centralDirectoryEntry) throws IOException {
+		byte[] header = new byte[LOCAL_FILE_HEADER_SIZE];
+		raf.seek(offset);
+		raf.readFully(header);
+		int flag = getUInt16(header, 6);
+		if (getUInt32(header, 0) != LOCAL_FILE_HEADER_SIGNATURE || (flag & 1) == 1) {
+			// not a local file header or encrypted entry
+			return null;
+		}
+
+		byte[] nameBytes = new byte[getUInt16(header, 26)];
+		raf.readFully(nameBytes);
+		byte[] extra = new byte[getUInt16(header, 28)];
+		raf.readFully(extra);
+
+		String name = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(nameBytes)).toString();
+		if (!name.equals(centralDirectoryEntry.getName())) {
+			return null;
+		}
+
+		ZipEntry zipEntry = new ZipEntry(name);
+		zipEntry.setMethod(getUInt16(header, 8));
+		zipEntry.setTime(dosToJavaTime(getUInt32(header, 10)));
+		if (extra.length > 0) {
+			zipEntry.setExtra(extra);
+		}
+		zipEntry.setSize(centralDirectoryEntry.getSize());
+		zipEntry.setCompressedSize(centralDirectoryEntry.getCompressedSize());
+		zipEntry.setCrc(centralDirectoryEntry.getCrc());
+		if (extractComments) {
+			zipEntry.setComment(centralDirectoryEntry.getComment());
+		}
+		return zipEntry;
+	}
+
+	/**
+	 * Returns the position of the entry data, following the local file header at the given {@code offset}
+	 *
+	 * @param raf {@link RandomAccessFile} of the ZIP archive
+	 * @param offset position of the local file header of the current entry
+	 * @return position of the entry data
+	 * @throws IOException if an exception occurs on file reading
+	 */
+	private long getDataOffset(RandomAccessFile raf, long offset) throws IOException {
+		byte[] header = new byte[LOCAL_FILE_HEADER_SIZE];
+		raf.seek(offset);
+		raf.readFully(header);
+		return offset + LOCAL_FILE_HEADER_SIZE + getUInt16(header, 26) + getUInt16(header, 28);
+	}
+
+	/**
+	 * Returns the position of the local file header following the entry data (and data descriptor, when present)
+	 *
+	 * @param raf {@link RandomAccessFile} of the ZIP archive
+	 * @param offset position of the local file header of the current entry
+	 * @param dataOffset position of the data of the current entry
+	 * @param zipEntry the current {@link ZipEntry}
+	 * @return position of the next local file header
+	 * @throws IOException if an exception occurs on file reading
+	 */
+	private long getNextLocalFileHeaderOffset(RandomAccessFile raf, long offset, long dataOffset, ZipEntry zipEntry) throws IOException {
+		byte[] header = new byte[LOCAL_FILE_HEADER_SIZE];
+		raf.seek(offset);
+		raf.readFully(header);
+		long nextOffset = dataOffset + zipEntry.getCompressedSize();
+
+		if ((getUInt16(header, 6) & 8) == 8) {
+			// data descriptor : optional signature, crc-32, compressed and uncompressed sizes
+			byte[] signature = new byte[4];
+			raf.seek(nextOffset);
+			raf.readFully(signature);
+			if (getUInt32(signature, 0) == DATA_DESCRIPTOR_SIGNATURE) {
+				nextOffset += 4;
+			}
+			boolean zip64 = getUInt32(header, 18) == ZIP64_MAGIC_VALUE || getUInt32(header, 22) == ZIP64_MAGIC_VALUE
+					|| zipEntry.getCompressedSize() >= ZIP64_MAGIC_VALUE || zipEntry.getSize() >= ZIP64_MAGIC_VALUE;
+			nextOffset += zip64 ? 20 : 12;
+		}
+		return nextOffset;
+	}
+
+	private static int getUInt16(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8);
+	}
+
+	private static long getUInt32(byte[] bytes, int offset) {
+		return (getUInt16(bytes, offset) | ((long) getUInt16(bytes, offset + 2) << 16)) & 0xffffffffL;
+	}
+
+	private static long dosToJavaTime(long dosTime) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set((int) (((dosTime >> 25) & 0x7f) + 1980), (int) (((dosTime >> 21) & 0x0f) - 1),
+				(int) ((dosTime >> 16) & 0x1f), (int) ((dosTime >> 11) & 0x1f),
+				(int) ((dosTime >> 5) & 0x3f), (int) ((dosTime << 1) & 0x3e));
+		return calendar.getTimeInMillis();
+	}
+
 	private void extractComments(DSSDocument zipArchive, List<ZipEntry> zipEntries) {
 		/*
 		 * When reading a zip file using ZipInputStream, the comment is not available.
@@ -295,28 +562,98 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public DSSDocument createZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment) {
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			 	ZipOutputStream zos = new ZipOutputStream(baos)) {
-
-			for (DSSDocument entry : containerEntries) {
-				final ZipEntry zipEntry = getZipEntry(entry, creationTime);
-				zos.putNextEntry(zipEntry);
-				try (InputStream entryIS = entry.openStream()) {
-					secureCopy(entryIS, zos, -1);
-				}
+		if (isRawCopySupported(containerEntries)) {
+			try {
+				return writeZipArchive(containerEntries, creationTime, zipComment);
+			} catch (ZipArchiveWriter.Zip64RequiredException e) {
+				LOG.debug("Unable to create the ZIP archive with raw copy of entries. Reason : {}. " +
+						"Continue with ZipOutputStream...", e.getMessage());
 			}
-			if (Utils.isStringNotEmpty(zipComment)) {
-				zos.setComment(zipComment);
+		}
+
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream();
+				 ZipOutputStream zos = new ZipOutputStream(os)) {
+
+				for (DSSDocument entry : containerEntries) {
+					final ZipEntry zipEntry = getZipEntry(entry, creationTime);
+					zos.putNextEntry(zipEntry);
+					try (InputStream entryIS = entry.openStream()) {
+						secureCopy(entryIS, zos, -1);
+					}
+				}
+				if (Utils.isStringNotEmpty(zipComment)) {
+					zos.setComment(zipComment);
+				}
+				zos.finish();
 			}
-			zos.finish();
+			return resourcesHandler.writeToDSSDocument();
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
+		}
+	}
 
-			return new InMemoryDocument(baos.toByteArray());
+	/**
+	 * Writes the ZIP archive, copying the compressed data of unchanged {@code FileArchiveEntry}s as-is
+	 *
+	 * @param containerEntries a list of {@link DSSDocument}s to embed into the new container instance
+	 * @param creationTime (Optional) {@link Date} defined time of an archive creation
+	 * @param zipComment (Optional) {@link String} defined a zipComment
+	 * @return {@link DSSDocument} ZIP-Archive
+	 * @throws ZipArchiveWriter.Zip64RequiredException if the archive cannot be created without ZIP64 format
+	 */
+	private DSSDocument writeZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment)
+			throws ZipArchiveWriter.Zip64RequiredException {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				ZipArchiveWriter zipArchiveWriter = new ZipArchiveWriter(os);
+				for (DSSDocument entry : containerEntries) {
+					final ZipEntry zipEntry = getZipEntry(entry, creationTime);
+					if (isRawCopySupported(entry, zipEntry)) {
+						zipArchiveWriter.writeRawEntry(zipEntry, (FileArchiveEntry) entry);
+					} else {
+						try (InputStream entryIS = entry.openStream()) {
+							zipArchiveWriter.writeEntry(zipEntry, entryIS);
+						}
+					}
+				}
+				zipArchiveWriter.finish(Utils.isStringNotEmpty(zipComment) ? zipComment : null);
+			}
+			return resourcesHandler.writeToDSSDocument();
 
+		} catch (ZipArchiveWriter.Zip64RequiredException e) {
+			throw e;
 		} catch (IOException e) {
 			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
 		}
 	}
 
+	private boolean isRawCopySupported(List<DSSDocument> containerEntries) {
+		for (DSSDocument entry : containerEntries) {
+			if (entry instanceof FileArchiveEntry && ((FileArchiveEntry) entry).getDataOffset() != -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the compressed data of the {@code entry} can be copied as-is to the created archive
+	 *
+	 * @param entry {@link DSSDocument} to be added to the archive
+	 * @param zipEntry {@link ZipEntry} to be created
+	 * @return TRUE if the compressed data can be copied, FALSE otherwise
+	 */
+	private boolean isRawCopySupported(DSSDocument entry, ZipEntry zipEntry) {
+		if (entry instanceof FileArchiveEntry) {
+			FileArchiveEntry archiveEntry = (FileArchiveEntry) entry;
+			return archiveEntry.getDataOffset() != -1 && ZipEntry.DEFLATED == zipEntry.getMethod()
+					&& ZipEntry.DEFLATED == archiveEntry.getOriginalZipEntry().getMethod();
+		}
+		return false;
+	}
+
 	private ZipEntry getZipEntry(DSSDocument entry, Date creationTime) {
 		final DSSZipEntry zipEntryWrapper;
 		if (entry instanceof DSSZipEntryDocument) {
@@ -348,11 +685,21 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		 * because they must appear before the user data in the resulting zip file.
 		 */
 		if (ZipEntry.STORED == zipEntry.getMethod()) {
-			final byte[] byteArray = DSSUtils.toByteArray(content);
-			zipEntry.setSize(byteArray.length);
-			zipEntry.setCompressedSize(byteArray.length);
 			final CRC32 crc = new CRC32();
-			crc.update(byteArray, 0, byteArray.length);
+			long size = 0;
+			try (InputStream is = content.openStream()) {
+				final byte[] buffer = new byte[8192];
+				int nRead;
+				while ((nRead = is.read(buffer)) != -1) {
+					crc.update(buffer, 0, nRead);
+					size += nRead;
+				}
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to read the document with name '%s'. Reason : %s",
+						content.getName(), e.getMessage()), e);
+			}
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(size);
 			zipEntry.setCrc(crc.getValue());
 		}
 		/*
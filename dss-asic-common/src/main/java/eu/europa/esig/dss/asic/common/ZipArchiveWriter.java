@@ -0,0 +1,343 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Internal class used to write a ZIP archive into an {@code OutputStream}, entry by entry.
+ * <p>
+ * The compressed data of {@code FileArchiveEntry}s is copied as-is from the original archive (without inflating and
+ * deflating it again), while other entries are compressed with {@code java.util.zip.ZipOutputStream}.
+ * The local file headers and central directory records are produced by {@code java.util.zip.ZipOutputStream}
+ * in both cases, in order to keep the same encoding of the entries metadata.
+ * <p>
+ * NOTE: ZIP64 format is not supported. A {@code Zip64RequiredException} is thrown when the archive requires it.
+ */
+final class ZipArchiveWriter {
+
+	/** The signature of the end of central directory record */
+	private static final long END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50L;
+
+	/** The size of the end of central directory record, excluding the comment */
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	/** The size of a ZIP local file header, excluding the file name and extra field */
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+	/** The size of a central directory record, excluding the file name, extra field and comment */
+	private static final int CENTRAL_DIRECTORY_RECORD_SIZE = 46;
+
+	/** The maximum value of a 4 bytes field. Exceeding values require ZIP64 format */
+	private static final long MAX_UINT32_VALUE = 0xffffffffL;
+
+	/** The maximum value of a 2 bytes field */
+	private static final int MAX_UINT16_VALUE = 0xffff;
+
+	/** The general purpose flag bit, defining presence of a data descriptor */
+	private static final int DATA_DESCRIPTOR_FLAG = 8;
+
+	/** The target OutputStream */
+	private final OutputStream os;
+
+	/** The central directory records of the written entries */
+	private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+
+	/** The number of written bytes */
+	private long offset = 0;
+
+	/** The number of written entries */
+	private int entriesNumber = 0;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param os {@link OutputStream} to write the ZIP archive into
+	 */
+	ZipArchiveWriter(OutputStream os) {
+		this.os = os;
+	}
+
+	/**
+	 * Writes a new entry with the given {@code zipEntry} metadata, copying the compressed data
+	 * of the {@code archiveEntry} as-is from its ZIP archive
+	 *
+	 * @param zipEntry {@link ZipEntry} containing metadata of the entry to be created, with DEFLATED method
+	 * @param archiveEntry {@link FileArchiveEntry} containing the compressed data
+	 * @throws IOException if an exception occurs
+	 */
+	void writeRawEntry(ZipEntry zipEntry, FileArchiveEntry archiveEntry) throws IOException {
+		final ZipEntry originalZipEntry = archiveEntry.getOriginalZipEntry();
+		final long crc = originalZipEntry.getCrc();
+		final long compressedSize = originalZipEntry.getCompressedSize();
+		final long size = originalZipEntry.getSize();
+		assertNoZip64Required(compressedSize);
+		assertNoZip64Required(size);
+		assertNoZip64Required(offset);
+
+		// generate headers for an empty entry with the same metadata
+		final byte[] template;
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); ZipOutputStream zos = new ZipOutputStream(baos)) {
+			zos.putNextEntry(zipEntry);
+			zos.closeEntry();
+			zos.finish();
+			template = baos.toByteArray();
+		}
+		final byte[] localFileHeader = Arrays.copyOf(template,
+				LOCAL_FILE_HEADER_SIZE + getUInt16(template, 26) + getUInt16(template, 28));
+		final byte[] centralDirectoryRecord = getFirstCentralDirectoryRecord(template, 0);
+
+		// the sizes are known, the data descriptor is not required
+		putUInt16(localFileHeader, 6, getUInt16(localFileHeader, 6) & ~DATA_DESCRIPTOR_FLAG);
+		putUInt32(localFileHeader, 14, crc);
+		putUInt32(localFileHeader, 18, compressedSize);
+		putUInt32(localFileHeader, 22, size);
+
+		putUInt16(centralDirectoryRecord, 8, getUInt16(centralDirectoryRecord, 8) & ~DATA_DESCRIPTOR_FLAG);
+		putUInt32(centralDirectoryRecord, 16, crc);
+		putUInt32(centralDirectoryRecord, 20, compressedSize);
+		putUInt32(centralDirectoryRecord, 24, size);
+		putUInt32(centralDirectoryRecord, 42, offset);
+
+		os.write(localFileHeader);
+		copyRawData(archiveEntry, compressedSize);
+		centralDirectory.write(centralDirectoryRecord);
+
+		offset += localFileHeader.length + compressedSize;
+		entriesNumber++;
+	}
+
+	private void copyRawData(FileArchiveEntry archiveEntry, long compressedSize) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(archiveEntry.getZipArchive().getFile(), "r")) {
+			raf.seek(archiveEntry.getDataOffset());
+			final byte[] buffer = new byte[65536];
+			long remaining = compressedSize;
+			while (remaining > 0) {
+				int nRead = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (nRead == -1) {
+					throw new EOFException(String.format("Unexpected end of the archive on reading entry '%s'",
+							archiveEntry.getName()));
+				}
+				os.write(buffer, 0, nRead);
+				remaining -= nRead;
+			}
+		}
+	}
+
+	/**
+	 * Writes a new entry with the given {@code zipEntry} metadata and content read from the {@code is}
+	 *
+	 * @param zipEntry {@link ZipEntry} containing metadata of the entry to be created
+	 * @param is {@link InputStream} of the entry content
+	 * @throws IOException if an exception occurs
+	 */
+	void writeEntry(ZipEntry zipEntry, InputStream is) throws IOException {
+		assertNoZip64Required(offset);
+
+		final EntryOutputStream entryOutputStream = new EntryOutputStream(os);
+		try (ZipOutputStream zos = new ZipOutputStream(entryOutputStream)) {
+			zos.putNextEntry(zipEntry);
+			Utils.copy(is, zos);
+			zos.closeEntry();
+			// the central directory of the single entry archive is kept in memory
+			entryOutputStream.startCapture();
+		}
+
+		// the captured bytes start after the local file header, data and data descriptor of the entry
+		final byte[] centralDirectoryRecord = getFirstCentralDirectoryRecord(entryOutputStream.getCaptured(),
+				entryOutputStream.getWritten());
+		if (getUInt32(centralDirectoryRecord, 20) == MAX_UINT32_VALUE || getUInt32(centralDirectoryRecord, 24) == MAX_UINT32_VALUE) {
+			throw new Zip64RequiredException();
+		}
+		putUInt32(centralDirectoryRecord, 42, offset);
+		centralDirectory.write(centralDirectoryRecord);
+
+		offset += entryOutputStream.getWritten();
+		entriesNumber++;
+	}
+
+	/**
+	 * Writes the central directory and finishes the ZIP archive. The target {@code OutputStream} is not closed.
+	 *
+	 * @param zipComment (Optional) {@link String} comment of the ZIP archive
+	 * @throws IOException if an exception occurs
+	 */
+	void finish(String zipComment) throws IOException {
+		assertNoZip64Required(offset);
+		if (entriesNumber > MAX_UINT16_VALUE) {
+			throw new Zip64RequiredException();
+		}
+		final byte[] comment = zipComment != null ? zipComment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+		if (comment.length > MAX_UINT16_VALUE) {
+			throw new ZipException("ZIP file comment too long.");
+		}
+
+		final byte[] centralDirectoryBytes = centralDirectory.toByteArray();
+		final byte[] endOfCentralDirectory = new byte[END_OF_CENTRAL_DIRECTORY_SIZE];
+		putUInt32(endOfCentralDirectory, 0, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		putUInt16(endOfCentralDirectory, 8, entriesNumber);
+		putUInt16(endOfCentralDirectory, 10, entriesNumber);
+		putUInt32(endOfCentralDirectory, 12, centralDirectoryBytes.length);
+		putUInt32(endOfCentralDirectory, 16, offset);
+		putUInt16(endOfCentralDirectory, 20, comment.length);
+
+		os.write(centralDirectoryBytes);
+		os.write(endOfCentralDirectory);
+		os.write(comment);
+		os.flush();
+	}
+
+	/**
+	 * Extracts the first central directory record from the end of a single entry ZIP archive
+	 *
+	 * @param archive the end of the archive, containing at least the central directory and
+	 *                the end of central directory record
+	 * @param archiveOffset the number of bytes of the archive preceding the {@code archive} content
+	 * @return the central directory record
+	 * @throws ZipException if the central directory record cannot be found
+	 */
+	private static byte[] getFirstCentralDirectoryRecord(byte[] archive, long archiveOffset) throws ZipException {
+		final int endOfCentralDirectoryOffset = archive.length - END_OF_CENTRAL_DIRECTORY_SIZE;
+		if (endOfCentralDirectoryOffset < 0 || getUInt32(archive, endOfCentralDirectoryOffset) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+			throw new ZipException("Unable to find the end of central directory record");
+		}
+		final long centralDirectoryOffset = getUInt32(archive, endOfCentralDirectoryOffset + 16) - archiveOffset;
+		if (centralDirectoryOffset < 0 || centralDirectoryOffset + CENTRAL_DIRECTORY_RECORD_SIZE > endOfCentralDirectoryOffset) {
+			throw new ZipException("Unable to find the central directory record");
+		}
+		final int recordOffset = (int) centralDirectoryOffset;
+		final int centralDirectoryRecordSize = CENTRAL_DIRECTORY_RECORD_SIZE + getUInt16(archive, recordOffset + 28)
+				+ getUInt16(archive, recordOffset + 30) + getUInt16(archive, recordOffset + 32);
+		if (recordOffset + centralDirectoryRecordSize > endOfCentralDirectoryOffset) {
+			throw new ZipException("Unable to find the central directory record");
+		}
+		return Arrays.copyOfRange(archive, recordOffset, recordOffset + centralDirectoryRecordSize);
+	}
+
+	private static void assertNoZip64Required(long value) throws Zip64RequiredException {
+		if (value >= MAX_UINT32_VALUE) {
+			throw new Zip64RequiredException();
+		}
+	}
+
+	private static int getUInt16(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8);
+	}
+
+	private static long getUInt32(byte[] bytes, int offset) {
+		return (getUInt16(bytes, offset) | ((long) getUInt16(bytes, offset + 2) << 16)) & MAX_UINT32_VALUE;
+	}
+
+	private static void putUInt16(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) (value & 0xff);
+		bytes[offset + 1] = (byte) ((value >>> 8) & 0xff);
+	}
+
+	private static void putUInt32(byte[] bytes, int offset, long value) {
+		putUInt16(bytes, offset, (int) (value & MAX_UINT16_VALUE));
+		putUInt16(bytes, offset + 2, (int) ((value >>> 16) & MAX_UINT16_VALUE));
+	}
+
+	/**
+	 * Passes the local file header, data and data descriptor of a single entry archive to the target OutputStream,
+	 * and captures the following central directory in memory. Closing of the stream does not close the target.
+	 */
+	private static final class EntryOutputStream extends OutputStream {
+
+		/** The target OutputStream */
+		private final OutputStream os;
+
+		/** The captured central directory */
+		private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+		/** Whether the written data shall be captured */
+		private boolean capture = false;
+
+		/** The number of bytes written to the target OutputStream */
+		private long written = 0;
+
+		private EntryOutputStream(OutputStream os) {
+			this.os = os;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (capture) {
+				captured.write(b);
+			} else {
+				os.write(b);
+				written++;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (capture) {
+				captured.write(b, off, len);
+			} else {
+				os.write(b, off, len);
+				written += len;
+			}
+		}
+
+		private void startCapture() {
+			this.capture = true;
+		}
+
+		private byte[] getCaptured() {
+			return captured.toByteArray();
+		}
+
+		private long getWritten() {
+			return written;
+		}
+
+	}
+
+	/**
+	 * Thrown when the created ZIP archive requires ZIP64 format
+	 */
+	static final class Zip64RequiredException extends ZipException {
+
+		private static final long serialVersionUID = 3467180346526946417L;
+
+		/**
+		 * Default constructor
+		 */
+		Zip64RequiredException() {
+			super("The ZIP archive requires ZIP64 format");
+		}
+
+	}
+
+}
@@ -0,0 +1,163 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipArchiveWriterTest {
+
+	private static final byte[] MIMETYPE = "application/vnd.etsi.asic-e+zip".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] DOCUMENT = "Hello World! Hello World! Hello World!".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] SIGNATURE = "<signature/>".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void storedAndNewEntriesTest() throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ZipArchiveWriter zipArchiveWriter = new ZipArchiveWriter(baos);
+		zipArchiveWriter.writeEntry(getStoredEntry("mimetype", MIMETYPE), new ByteArrayInputStream(MIMETYPE));
+		zipArchiveWriter.writeEntry(new ZipEntry("doc.txt"), new ByteArrayInputStream(DOCUMENT));
+		zipArchiveWriter.writeEntry(new ZipEntry("META-INF/signatures.xml"), new ByteArrayInputStream(SIGNATURE));
+		zipArchiveWriter.finish("zip comment");
+
+		File file = write(baos.toByteArray(), "target/zip-archive-writer-stored.zip");
+		try {
+			assertArchive(file, "zip comment");
+		} finally {
+			assertTrue(file.delete());
+		}
+		assertStreamedArchive(baos.toByteArray());
+	}
+
+	@Test
+	public void rawAndNewEntriesTest() throws IOException {
+		File source = createSourceArchive("target/zip-archive-writer-source.zip");
+		try (ZipFile zipFile = new ZipFile(source)) {
+			ZipEntry originalZipEntry = zipFile.getEntry("doc.txt");
+			// the single entry is written without extra field, directly after its local file header
+			FileArchiveEntry archiveEntry = new FileArchiveEntry(new FileDocument(source), originalZipEntry, -1,
+					30 + "doc.txt".length());
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			ZipArchiveWriter zipArchiveWriter = new ZipArchiveWriter(baos);
+			zipArchiveWriter.writeEntry(getStoredEntry("mimetype", MIMETYPE), new ByteArrayInputStream(MIMETYPE));
+			zipArchiveWriter.writeRawEntry(new ZipEntry("doc.txt"), archiveEntry);
+			zipArchiveWriter.writeEntry(new ZipEntry("META-INF/signatures.xml"), new ByteArrayInputStream(SIGNATURE));
+			zipArchiveWriter.finish(null);
+
+			File file = write(baos.toByteArray(), "target/zip-archive-writer-raw.zip");
+			try {
+				assertArchive(file, null);
+			} finally {
+				assertTrue(file.delete());
+			}
+			assertStreamedArchive(baos.toByteArray());
+
+		} finally {
+			assertTrue(source.delete());
+		}
+	}
+
+	private ZipEntry getStoredEntry(String name, byte[] content) {
+		ZipEntry zipEntry = new ZipEntry(name);
+		zipEntry.setMethod(ZipEntry.STORED);
+		zipEntry.setSize(content.length);
+		zipEntry.setCompressedSize(content.length);
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		zipEntry.setCrc(crc.getValue());
+		return zipEntry;
+	}
+
+	private File createSourceArchive(String path) throws IOException {
+		File file = new File(path);
+		try (OutputStream os = new FileOutputStream(file); ZipOutputStream zos = new ZipOutputStream(os)) {
+			zos.putNextEntry(new ZipEntry("doc.txt"));
+			zos.write(DOCUMENT);
+			zos.closeEntry();
+		}
+		return file;
+	}
+
+	private File write(byte[] binaries, String path) throws IOException {
+		File file = new File(path);
+		try (OutputStream os = new FileOutputStream(file)) {
+			os.write(binaries);
+		}
+		return file;
+	}
+
+	private void assertArchive(File file, String expectedComment) throws IOException {
+		try (ZipFile zipFile = new ZipFile(file)) {
+			List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+			assertEquals(3, entries.size());
+			assertEquals("mimetype", entries.get(0).getName());
+			assertEquals(ZipEntry.STORED, entries.get(0).getMethod());
+			assertArrayEquals(MIMETYPE, DSSUtils.toByteArray(zipFile.getInputStream(entries.get(0))));
+			assertEquals("doc.txt", entries.get(1).getName());
+			assertEquals(ZipEntry.DEFLATED, entries.get(1).getMethod());
+			assertArrayEquals(DOCUMENT, DSSUtils.toByteArray(zipFile.getInputStream(entries.get(1))));
+			assertEquals("META-INF/signatures.xml", entries.get(2).getName());
+			assertArrayEquals(SIGNATURE, DSSUtils.toByteArray(zipFile.getInputStream(entries.get(2))));
+			if (expectedComment != null) {
+				assertEquals(expectedComment, zipFile.getComment());
+			} else {
+				assertNull(zipFile.getComment());
+			}
+		}
+	}
+
+	private void assertStreamedArchive(byte[] binaries) throws IOException {
+		try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(binaries))) {
+			assertEquals("mimetype", zis.getNextEntry().getName());
+			assertArrayEquals(MIMETYPE, DSSUtils.toByteArray(zis));
+			assertEquals("doc.txt", zis.getNextEntry().getName());
+			assertArrayEquals(DOCUMENT, DSSUtils.toByteArray(zis));
+			assertEquals("META-INF/signatures.xml", zis.getNextEntry().getName());
+			assertArrayEquals(SIGNATURE, DSSUtils.toByteArray(zis));
+			assertNull(zis.getNextEntry());
+		}
+	}
+
+}
@@ -24,15 +24,18 @@ import eu.europa.esig.dss.asic.common.ASiCUtils;
 import eu.europa.esig.dss.asic.common.ContainerEntryDocument;
 import eu.europa.esig.dss.asic.common.DSSZipEntry;
 import eu.europa.esig.dss.asic.common.DSSZipEntryDocument;
+import eu.europa.esig.dss.asic.common.FileArchiveEntry;
 import eu.europa.esig.dss.asic.common.SecureContainerHandler;
 import eu.europa.esig.dss.asic.common.ZipUtils;
 import eu.europa.esig.dss.asic.xades.validation.ASiCContainerWithXAdESValidator;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
@@ -42,15 +45,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -128,6 +135,80 @@ public class SecureContainerHandlerTest {
 		assertEquals("Too many files detected. Cannot extract ASiC content from the file.", exception.getMessage());
 	}
 
+	@Test
+	public void entryNotListedInCentralDirectoryTest() throws IOException {
+		byte[] visibleZip = createZip("visible.txt", "Hello World!".getBytes());
+		byte[] hiddenZip = createZip("hidden.txt", "Hidden content".getBytes());
+
+		// local file headers of both entries, followed by the central directory of the visible entry only
+		int visibleCentralDirectoryOffset = getCentralDirectoryOffset(visibleZip);
+		int hiddenCentralDirectoryOffset = getCentralDirectoryOffset(hiddenZip);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(visibleZip, 0, visibleCentralDirectoryOffset);
+		baos.write(hiddenZip, 0, hiddenCentralDirectoryOffset);
+		baos.write(visibleZip, visibleCentralDirectoryOffset, visibleZip.length - visibleCentralDirectoryOffset);
+		byte[] craftedZip = baos.toByteArray();
+		setUInt32(craftedZip, craftedZip.length - 6, visibleCentralDirectoryOffset + hiddenCentralDirectoryOffset);
+
+		File zipArchiveFile = new File("target/hidden-entry.zip");
+		DSSDocument zipArchive = new InMemoryDocument(craftedZip);
+		zipArchive.save(zipArchiveFile.getPath());
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		// the entry present within the local file headers only is not dropped
+		assertEquals(Arrays.asList("visible.txt", "hidden.txt"), secureContainerHandler.extractEntryNames(new FileDocument(zipArchiveFile)));
+		assertEquals(secureContainerHandler.extractEntryNames(zipArchive), secureContainerHandler.extractEntryNames(new FileDocument(zipArchiveFile)));
+
+		assertTrue(zipArchiveFile.delete());
+	}
+
+	@Test
+	public void entrySizeExceedingDeclaredSizeTest() throws IOException {
+		byte[] content = new byte[10000];
+		Arrays.fill(content, (byte) 'a');
+		byte[] zip = createZip("doc.txt", content);
+
+		// reduce the uncompressed size declared within the central directory
+		int centralDirectoryOffset = getCentralDirectoryOffset(zip);
+		setUInt32(zip, centralDirectoryOffset + 24, 100);
+
+		File zipArchiveFile = new File("target/declared-size.zip");
+		new InMemoryDocument(zip).save(zipArchiveFile.getPath());
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		List<DSSDocument> containerContent = secureContainerHandler.extractContainerContent(new FileDocument(zipArchiveFile));
+		assertEquals(1, containerContent.size());
+		DSSDocument entry = containerContent.get(0);
+		assertTrue(entry instanceof FileArchiveEntry);
+
+		Exception exception = assertThrows(IllegalInputException.class, () -> DSSUtils.toByteArray(entry));
+		assertEquals("Zip Bomb detected in the ZIP container. Validation is interrupted.", exception.getMessage());
+
+		assertTrue(zipArchiveFile.delete());
+	}
+
+	private static byte[] createZip(String entryName, byte[] content) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+			zos.putNextEntry(new ZipEntry(entryName));
+			zos.write(content);
+			zos.closeEntry();
+		}
+		return baos.toByteArray();
+	}
+
+	private static int getCentralDirectoryOffset(byte[] zip) {
+		// end of central directory record without comment
+		int offset = zip.length - 6;
+		return (zip[offset] & 0xff) | (zip[offset + 1] & 0xff) << 8 | (zip[offset + 2] & 0xff) << 16 | (zip[offset + 3] & 0xff) << 24;
+	}
+
+	private static void setUInt32(byte[] bytes, int offset, int value) {
+		for (int i = 0; i < 4; i++) {
+			bytes[offset + i] = (byte) (value >> (8 * i));
+		}
+	}
+
 	private DocumentValidator getValidator(DSSDocument documentToValidate) {
 		ASiCContainerWithXAdESValidator validator = new ASiCContainerWithXAdESValidator(documentToValidate);
 		validator.setCertificateVerifier(new CommonCertificateVerifier());
@@ -181,6 +262,106 @@ public class SecureContainerHandlerTest {
 		}
 	}
 
+	@Test
+	public void extractContainerContentFileAndInMemoryDocumentTest() {
+		File file = new File("src/test/resources/validation/multifiles-ok.asice");
+		DSSDocument fileDocument = new FileDocument(file);
+		DSSDocument inMemoryDocument = new InMemoryDocument(DSSUtils.toByteArray(file));
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		assertEquals(secureContainerHandler.extractEntryNames(inMemoryDocument), secureContainerHandler.extractEntryNames(fileDocument));
+
+		List<DSSDocument> fileEntries = secureContainerHandler.extractContainerContent(fileDocument);
+		List<DSSDocument> inMemoryEntries = secureContainerHandler.extractContainerContent(inMemoryDocument);
+		assertEquals(inMemoryEntries.size(), fileEntries.size());
+		for (int i = 0; i < fileEntries.size(); i++) {
+			DSSDocument fileEntry = fileEntries.get(i);
+			DSSDocument inMemoryEntry = inMemoryEntries.get(i);
+			assertTrue(fileEntry instanceof FileArchiveEntry);
+			assertEquals(inMemoryEntry.getName(), fileEntry.getName());
+			assertEquals(inMemoryEntry.getDigest(DigestAlgorithm.SHA256), fileEntry.getDigest(DigestAlgorithm.SHA256));
+
+			DSSZipEntry fileZipEntry = ((DSSZipEntryDocument) fileEntry).getZipEntry();
+			DSSZipEntry inMemoryZipEntry = ((DSSZipEntryDocument) inMemoryEntry).getZipEntry();
+			assertEquals(inMemoryZipEntry.getCompressionMethod(), fileZipEntry.getCompressionMethod());
+			assertEquals(inMemoryZipEntry.getModificationTime(), fileZipEntry.getModificationTime());
+			assertEquals(inMemoryZipEntry.getCreationTime(), fileZipEntry.getCreationTime());
+			assertEquals(inMemoryZipEntry.getSize(), fileZipEntry.getSize());
+			assertEquals(inMemoryZipEntry.getCrc(), fileZipEntry.getCrc());
+		}
+	}
+
+	@Test
+	public void recreateZipArchiveFromFileDocumentTest() {
+		File file = new File("src/test/resources/validation/multifiles-ok.asice");
+		DSSDocument fileDocument = new FileDocument(file);
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		List<DSSDocument> originalEntries = secureContainerHandler.extractContainerContent(fileDocument);
+
+		DSSDocument inMemoryArchive = secureContainerHandler.createZipArchive(originalEntries, null, null);
+		assertTrue(inMemoryArchive instanceof InMemoryDocument);
+		assertEqualEntries(originalEntries, secureContainerHandler.extractContainerContent(inMemoryArchive));
+
+		secureContainerHandler.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder());
+		DSSDocument fileArchive = secureContainerHandler.createZipArchive(originalEntries, null, "zip comment");
+		assertTrue(fileArchive instanceof FileDocument);
+		assertEqualEntries(originalEntries, secureContainerHandler.extractContainerContent(fileArchive));
+		assertEquals(inMemoryArchive.getDigest(DigestAlgorithm.SHA256), new InMemoryDocument(DSSUtils.toByteArray(
+				secureContainerHandler.createZipArchive(originalEntries, null, null))).getDigest(DigestAlgorithm.SHA256));
+
+		new File(((FileDocument) fileArchive).getAbsolutePath()).delete();
+	}
+
+	@Test
+	public void recreateZipArchiveWithNewEntryFromFileDocumentTest() throws IOException {
+		DSSDocument fileDocument = new FileDocument("src/test/resources/validation/multifiles-ok.asice");
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		List<DSSDocument> originalEntries = secureContainerHandler.extractContainerContent(fileDocument);
+		DSSDocument mimetype = originalEntries.get(originalEntries.size() - 1);
+		assertEquals("mimetype", mimetype.getName());
+		assertEquals(ZipEntry.STORED, ((DSSZipEntryDocument) mimetype).getZipEntry().getCompressionMethod());
+
+		// the original entries are copied as-is, the new entry is compressed
+		List<DSSDocument> entries = new ArrayList<>(originalEntries);
+		DSSDocument newEntry = new InMemoryDocument("Hello World!".getBytes(), "META-INF/new-entry.xml");
+		entries.add(newEntry);
+
+		secureContainerHandler.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder());
+		DSSDocument fileArchive = secureContainerHandler.createZipArchive(entries, null, "zip comment");
+		assertTrue(fileArchive instanceof FileDocument);
+
+		List<DSSDocument> extractedEntries = secureContainerHandler.extractContainerContent(fileArchive);
+		assertEqualEntries(originalEntries, extractedEntries.subList(0, originalEntries.size()));
+		assertEquals(entries.size(), extractedEntries.size());
+		DSSDocument extractedNewEntry = extractedEntries.get(entries.size() - 1);
+		assertEquals(newEntry.getName(), extractedNewEntry.getName());
+		assertEquals(newEntry.getDigest(DigestAlgorithm.SHA256), extractedNewEntry.getDigest(DigestAlgorithm.SHA256));
+		File file = new File(((FileDocument) fileArchive).getAbsolutePath());
+		try (ZipFile zipFile = new ZipFile(file)) {
+			assertEquals("zip comment", zipFile.getComment());
+		}
+
+		file.delete();
+	}
+
+	private void assertEqualEntries(List<DSSDocument> expectedEntries, List<DSSDocument> entries) {
+		assertEquals(expectedEntries.size(), entries.size());
+		for (int i = 0; i < expectedEntries.size(); i++) {
+			DSSDocument expectedEntry = expectedEntries.get(i);
+			DSSDocument entry = entries.get(i);
+			assertEquals(expectedEntry.getName(), entry.getName());
+			assertEquals(expectedEntry.getDigest(DigestAlgorithm.SHA256), entry.getDigest(DigestAlgorithm.SHA256));
+
+			DSSZipEntry expectedZipEntry = ((DSSZipEntryDocument) expectedEntry).getZipEntry();
+			DSSZipEntry zipEntry = ((DSSZipEntryDocument) entry).getZipEntry();
+			assertEquals(expectedZipEntry.getCompressionMethod(), zipEntry.getCompressionMethod());
+			assertEquals(expectedZipEntry.getSize(), zipEntry.getSize());
+			assertEquals(expectedZipEntry.getCrc(), zipEntry.getCrc());
+		}
+	}
+
 	@Test
 	public void createZipArchiveTest() throws IOException {
 		Date creationTime = new Date();
@@ -0,0 +1,265 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.alert.SilentOnStatusAlert;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.service.crl.OnlineCRLSource;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds an offline PKI (trust anchor, signer, TSA and CRL) used by the benchmarks,
+ * so that the measured values do not depend on any network access
+ *
+ */
+public class BenchmarkPki {
+
+	/** The URL of the CRL issued by the root CA (served from memory) */
+	public static final String CRL_URL = "http://dss.benchmark.local/crl/root-ca.crl";
+
+	/** The signature algorithm used by the signer */
+	public static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.RSA_SHA256;
+
+	/** The JCA name of {@code SIGNATURE_ALGORITHM} */
+	private static final String JCA_SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+	/** The trust anchor */
+	private final CertificateToken rootCertificate;
+
+	/** The root CA private key */
+	private final PrivateKey rootPrivateKey;
+
+	/** The signer's certificate */
+	private final CertificateToken signingCertificate;
+
+	/** The signer's private key */
+	private final PrivateKey signingPrivateKey;
+
+	/** The TSA certificate */
+	private final CertificateToken tsaCertificate;
+
+	/** The TSA private key */
+	private final PrivateKey tsaPrivateKey;
+
+	/** The CRL distributed by {@code CRL_URL} */
+	private final byte[] crl;
+
+	/**
+	 * Default constructor generating a new PKI
+	 */
+	public BenchmarkPki() {
+		try {
+			final Date notBefore = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
+			final Date notAfter = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(365));
+
+			final KeyPair rootKeyPair = generateKeyPair();
+			final X500Name rootName = new X500Name("CN=DSS Benchmark Root CA,O=DSS,C=EU");
+			final JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+
+			X509v3CertificateBuilder rootBuilder = new JcaX509v3CertificateBuilder(rootName, BigInteger.ONE,
+					notBefore, notAfter, rootName, rootKeyPair.getPublic());
+			rootBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			rootBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+			rootBuilder.addExtension(Extension.subjectKeyIdentifier, false,
+					extensionUtils.createSubjectKeyIdentifier(rootKeyPair.getPublic()));
+			this.rootCertificate = build(rootBuilder, rootKeyPair.getPrivate());
+			this.rootPrivateKey = rootKeyPair.getPrivate();
+
+			final KeyPair signerKeyPair = generateKeyPair();
+			X509v3CertificateBuilder signerBuilder = new JcaX509v3CertificateBuilder(rootName, BigInteger.valueOf(2),
+					notBefore, notAfter, new X500Name("CN=DSS Benchmark Signer,O=DSS,C=EU"), signerKeyPair.getPublic());
+			signerBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.nonRepudiation));
+			addCommonEndEntityExtensions(signerBuilder, extensionUtils, signerKeyPair);
+			this.signingCertificate = build(signerBuilder, rootPrivateKey);
+			this.signingPrivateKey = signerKeyPair.getPrivate();
+
+			final KeyPair tsaKeyPair = generateKeyPair();
+			X509v3CertificateBuilder tsaBuilder = new JcaX509v3CertificateBuilder(rootName, BigInteger.valueOf(3),
+					notBefore, notAfter, new X500Name("CN=DSS Benchmark TSA,O=DSS,C=EU"), tsaKeyPair.getPublic());
+			tsaBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature));
+			tsaBuilder.addExtension(Extension.extendedKeyUsage, true, new ExtendedKeyUsage(KeyPurposeId.id_kp_timeStamping));
+			addCommonEndEntityExtensions(tsaBuilder, extensionUtils, tsaKeyPair);
+			this.tsaCertificate = build(tsaBuilder, rootPrivateKey);
+			this.tsaPrivateKey = tsaKeyPair.getPrivate();
+
+			this.crl = generateCRL(0);
+
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to build the benchmark PKI : %s", e.getMessage()), e);
+		}
+	}
+
+	private static KeyPair generateKeyPair() throws GeneralSecurityException {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		return keyPairGenerator.generateKeyPair();
+	}
+
+	private void addCommonEndEntityExtensions(X509v3CertificateBuilder builder, JcaX509ExtensionUtils extensionUtils,
+											  KeyPair keyPair) throws Exception {
+		builder.addExtension(Extension.subjectKeyIdentifier, false,
+				extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+		builder.addExtension(Extension.authorityKeyIdentifier, false,
+				extensionUtils.createAuthorityKeyIdentifier(rootCertificate.getCertificate()));
+		DistributionPointName distributionPointName = new DistributionPointName(
+				new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, CRL_URL)));
+		builder.addExtension(Extension.cRLDistributionPoints, false,
+				new CRLDistPoint(new DistributionPoint[] { new DistributionPoint(distributionPointName, null, null) }));
+	}
+
+	private static CertificateToken build(X509v3CertificateBuilder builder, PrivateKey issuerKey) throws Exception {
+		ContentSigner contentSigner = new JcaContentSignerBuilder(JCA_SIGNATURE_ALGORITHM).build(issuerKey);
+		return new CertificateToken(new JcaX509CertificateConverter().getCertificate(builder.build(contentSigner)));
+	}
+
+	/**
+	 * Generates a CRL issued by the root CA containing the given number of revoked entries
+	 *
+	 * @param numberOfEntries the number of revoked certificate entries
+	 * @return DER-encoded CRL
+	 */
+	public byte[] generateCRL(int numberOfEntries) {
+		try {
+			final Date thisUpdate = new Date();
+			X509v2CRLBuilder crlBuilder = new JcaX509v2CRLBuilder(rootCertificate.getCertificate(), thisUpdate);
+			crlBuilder.setNextUpdate(new Date(thisUpdate.getTime() + TimeUnit.DAYS.toMillis(7)));
+			for (int i = 0; i < numberOfEntries; i++) {
+				// serial numbers of the generated certificates are below 100
+				crlBuilder.addCRLEntry(BigInteger.valueOf(100L + i), thisUpdate, CRLReason.keyCompromise);
+			}
+			ContentSigner contentSigner = new JcaContentSignerBuilder(JCA_SIGNATURE_ALGORITHM).build(rootPrivateKey);
+			return crlBuilder.build(contentSigner).getEncoded();
+
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to generate a CRL : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Signs the given {@code ToBeSigned} with the signer's private key
+	 *
+	 * @param toBeSigned {@link ToBeSigned}
+	 * @return {@link SignatureValue}
+	 */
+	public SignatureValue sign(ToBeSigned toBeSigned) {
+		try {
+			Signature signature = Signature.getInstance(JCA_SIGNATURE_ALGORITHM);
+			signature.initSign(signingPrivateKey);
+			signature.update(toBeSigned.getBytes());
+			return new SignatureValue(SIGNATURE_ALGORITHM, signature.sign());
+		} catch (GeneralSecurityException e) {
+			throw new DSSException(String.format("Unable to sign : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Creates a {@code CertificateVerifier} trusting the root CA and retrieving revocation data from memory
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	public CertificateVerifier getCertificateVerifier() {
+		CommonTrustedCertificateSource trustedCertificateSource = new CommonTrustedCertificateSource();
+		trustedCertificateSource.addCertificate(rootCertificate);
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+		certificateVerifier.setAIASource(null);
+		certificateVerifier.setOcspSource(null);
+		certificateVerifier.setCrlSource(new OnlineCRLSource(new MemoryDataLoader(Collections.singletonMap(CRL_URL, crl))));
+		// the CRL is generated once, before the signing time
+		certificateVerifier.setAlertOnNoRevocationAfterBestSignatureTime(new SilentOnStatusAlert());
+		return certificateVerifier;
+	}
+
+	/**
+	 * Gets the trust anchor
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getRootCertificate() {
+		return rootCertificate;
+	}
+
+	/**
+	 * Gets the signer's certificate
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getSigningCertificate() {
+		return signingCertificate;
+	}
+
+	/**
+	 * Gets the TSA certificate
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getTsaCertificate() {
+		return tsaCertificate;
+	}
+
+	/**
+	 * Gets the TSA private key
+	 *
+	 * @return {@link PrivateKey}
+	 */
+	public PrivateKey getTsaPrivateKey() {
+		return tsaPrivateKey;
+	}
+
+}
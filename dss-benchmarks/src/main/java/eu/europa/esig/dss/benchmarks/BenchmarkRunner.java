@@ -0,0 +1,186 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH benchmarks with the GC profiler, stores the results and compares them with a baseline.
+ *
+ * The JMH command line options are supported (e.g. {@code java -jar benchmarks.jar SignatureBenchmark -p level=B}).
+ * The following system properties are supported :
+ * <ul>
+ *     <li>{@code dss.benchmark.output} : the file where the results are stored
+ *     (default : {@code benchmark-results.properties})</li>
+ *     <li>{@code dss.benchmark.baseline} : the results file of a previous run to compare with</li>
+ *     <li>{@code dss.benchmark.threshold} : the accepted regression in percent (default : 10)</li>
+ * </ul>
+ * The process exits with the status 1 when a score (average time or normalized allocation rate)
+ * exceeds the baseline value by more than the threshold.
+ *
+ */
+public class BenchmarkRunner {
+
+	/** The suffix of the average time score keys */
+	private static final String SCORE_SUFFIX = ".score";
+
+	/** The normalized allocation rate computed by the GC profiler (bytes per operation) */
+	private static final String ALLOCATION_RATE_NORM = "gc.alloc.rate.norm";
+
+	/** The default accepted regression in percent */
+	private static final double DEFAULT_THRESHOLD = 10;
+
+	private BenchmarkRunner() {
+		// empty
+	}
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args JMH command line options
+	 * @throws Exception if an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.shouldFailOnError(true)
+				.build();
+
+		Collection<RunResult> runResults = new Runner(options).run();
+		Map<String, Double> results = toScores(runResults);
+
+		File output = new File(System.getProperty("dss.benchmark.output", "benchmark-results.properties"));
+		store(results, output);
+		System.out.println("Benchmark results stored in " + output.getAbsolutePath());
+
+		String baselinePath = System.getProperty("dss.benchmark.baseline");
+		if (baselinePath != null) {
+			double threshold = Double.parseDouble(System.getProperty("dss.benchmark.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+			List<String> regressions = findRegressions(load(new File(baselinePath)), results, threshold);
+			if (!regressions.isEmpty()) {
+				System.err.println(String.format("%s regression(s) above %s%% detected :", regressions.size(), threshold));
+				for (String regression : regressions) {
+					System.err.println(" - " + regression);
+				}
+				System.exit(1);
+			}
+			System.out.println(String.format("No regression above %s%% detected compared to %s", threshold, baselinePath));
+		}
+	}
+
+	/**
+	 * Extracts the average time and the normalized allocation rate of each benchmark
+	 *
+	 * @param runResults a collection of {@link RunResult}s
+	 * @return a map between the result keys and the scores
+	 */
+	static Map<String, Double> toScores(Collection<RunResult> runResults) {
+		Map<String, Double> scores = new TreeMap<>();
+		for (RunResult runResult : runResults) {
+			String key = getKey(runResult.getParams());
+			scores.put(key + SCORE_SUFFIX, runResult.getPrimaryResult().getScore());
+			for (Map.Entry<String, Result> secondary : runResult.getSecondaryResults().entrySet()) {
+				// older JMH versions prefix the secondary result labels with a middle dot
+				String label = secondary.getKey().replace("·", "");
+				if (ALLOCATION_RATE_NORM.equals(label)) {
+					scores.put(key + "." + ALLOCATION_RATE_NORM, secondary.getValue().getScore());
+				}
+			}
+		}
+		return scores;
+	}
+
+	private static String getKey(BenchmarkParams params) {
+		StringBuilder sb = new StringBuilder(params.getBenchmark());
+		for (String paramKey : params.getParamsKeys()) {
+			sb.append('[').append(paramKey).append('=').append(params.getParam(paramKey)).append(']');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Compares the results with the baseline (a higher value is a regression for all the stored scores)
+	 *
+	 * @param baseline the baseline scores
+	 * @param results the current scores
+	 * @param threshold the accepted regression in percent
+	 * @return a list of regression descriptions
+	 */
+	static List<String> findRegressions(Map<String, Double> baseline, Map<String, Double> results, double threshold) {
+		List<String> regressions = new ArrayList<>();
+		for (Map.Entry<String, Double> result : results.entrySet()) {
+			Double baselineScore = baseline.get(result.getKey());
+			if (baselineScore == null || baselineScore <= 0) {
+				continue;
+			}
+			double difference = (result.getValue() - baselineScore) * 100 / baselineScore;
+			if (difference > threshold) {
+				regressions.add(String.format("%s : %.3f -> %.3f (+%.1f%%)",
+						result.getKey(), baselineScore, result.getValue(), difference));
+			}
+		}
+		return regressions;
+	}
+
+	private static void store(Map<String, Double> scores, File file) throws IOException {
+		Properties properties = new Properties();
+		for (Map.Entry<String, Double> score : scores.entrySet()) {
+			properties.setProperty(score.getKey(), String.valueOf(score.getValue()));
+		}
+		try (OutputStream os = new FileOutputStream(file)) {
+			properties.store(os, "DSS benchmark results");
+		}
+	}
+
+	private static Map<String, Double> load(File file) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		}
+		Map<String, Double> scores = new TreeMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			scores.put(key, Double.parseDouble(properties.getProperty(key)));
+		}
+		return scores;
+	}
+
+}
@@ -0,0 +1,119 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.crl.ICRLUtils;
+import eu.europa.esig.dss.crl.stream.impl.CRLUtilsStreamImpl;
+import eu.europa.esig.dss.crl.x509.impl.CRLUtilsX509CRLImpl;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the CRL parsing implementations ({@code CRLUtilsStreamImpl} and {@code CRLUtilsX509CRLImpl})
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CRLParsingBenchmark {
+
+	/** The CRL parser implementation */
+	@Param({ "stream", "x509crl" })
+	public String implementation;
+
+	/** The number of revoked entries within the CRL */
+	@Param({ "10", "10000" })
+	public int numberOfEntries;
+
+	/** The CRL parser */
+	private ICRLUtils crlUtils;
+
+	/** The DER-encoded CRL */
+	private byte[] crl;
+
+	/** The CRL issuer */
+	private CertificateToken issuer;
+
+	/** The parsed CRL */
+	private CRLValidity crlValidity;
+
+	/** The serial number of the last revoked entry */
+	private BigInteger lastRevokedSerialNumber;
+
+	/**
+	 * Generates the CRL
+	 *
+	 * @throws IOException if an error occurs on CRL parsing
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		crlUtils = "stream".equals(implementation) ? new CRLUtilsStreamImpl() : new CRLUtilsX509CRLImpl();
+
+		BenchmarkPki pki = new BenchmarkPki();
+		crl = pki.generateCRL(numberOfEntries);
+		issuer = pki.getRootCertificate();
+		crlValidity = crlUtils.buildCRLValidity(new CRLBinary(crl), issuer);
+		lastRevokedSerialNumber = BigInteger.valueOf(100L + numberOfEntries - 1);
+	}
+
+	/**
+	 * Parses the CRL and verifies its signature
+	 *
+	 * @return {@link CRLValidity}
+	 * @throws IOException if an error occurs on CRL parsing
+	 */
+	@Benchmark
+	public CRLValidity buildCRLValidity() throws IOException {
+		return crlUtils.buildCRLValidity(new CRLBinary(crl), issuer);
+	}
+
+	/**
+	 * Looks up a revoked entry within the CRL
+	 *
+	 * @return {@link X509CRLEntry}
+	 */
+	@Benchmark
+	public X509CRLEntry getRevocationInfo() {
+		return crlUtils.getRevocationInfo(crlValidity, lastRevokedSerialNumber);
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.enumerations.SignatureForm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the marshalling and unmarshalling of a DiagnosticData with {@code DiagnosticDataFacade}
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagnosticDataBenchmark {
+
+	/** The facade */
+	private DiagnosticDataFacade facade;
+
+	/** The DiagnosticData of a XAdES-BASELINE-LTA validation */
+	private XmlDiagnosticData diagnosticData;
+
+	/** The marshalled {@code diagnosticData} */
+	private String diagnosticDataXml;
+
+	/**
+	 * Validates a signature in order to obtain a DiagnosticData
+	 *
+	 * @throws Exception if an error occurs on marshalling
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		BenchmarkPki pki = new BenchmarkPki();
+		DSSDocument signedDocument = new SignatureFixture(pki, SignatureForm.XAdES, "LTA").sign();
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+		validator.setCertificateVerifier(pki.getCertificateVerifier());
+		diagnosticData = validator.validateDocument().getDiagnosticDataJaxb();
+
+		facade = DiagnosticDataFacade.newFacade();
+		diagnosticDataXml = facade.marshall(diagnosticData);
+	}
+
+	/**
+	 * Marshalls the DiagnosticData
+	 *
+	 * @return {@link String} XML
+	 * @throws Exception if an error occurs
+	 */
+	@Benchmark
+	public String marshall() throws Exception {
+		return facade.marshall(diagnosticData);
+	}
+
+	/**
+	 * Unmarshalls the DiagnosticData
+	 *
+	 * @return {@link XmlDiagnosticData}
+	 * @throws Exception if an error occurs
+	 */
+	@Benchmark
+	public XmlDiagnosticData unmarshall() throws Exception {
+		return facade.unmarshall(diagnosticDataXml);
+	}
+
+}
@@ -0,0 +1,95 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cms.SignerInfoGenerator;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoGeneratorBuilder;
+import org.bouncycastle.operator.DefaultDigestAlgorithmIdentifierFinder;
+import org.bouncycastle.operator.DigestCalculator;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.bouncycastle.tsp.TimeStampRequest;
+import org.bouncycastle.tsp.TimeStampRequestGenerator;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.bouncycastle.tsp.TimeStampTokenGenerator;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues timestamps in memory with the TSA of a {@code BenchmarkPki}
+ *
+ */
+public class LocalTSPSource implements TSPSource {
+
+	private static final long serialVersionUID = 2163307658460485377L;
+
+	/** The TSA policy */
+	private static final ASN1ObjectIdentifier POLICY_OID = new ASN1ObjectIdentifier("1.2.3.4.5.6");
+
+	/** The PKI providing the TSA key material */
+	private final transient BenchmarkPki pki;
+
+	/** The serial number of the last issued timestamp */
+	private final AtomicLong serialNumber = new AtomicLong();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param pki {@link BenchmarkPki}
+	 */
+	public LocalTSPSource(BenchmarkPki pki) {
+		this.pki = pki;
+	}
+
+	@Override
+	public TimestampBinary getTimeStampResponse(DigestAlgorithm digestAlgorithm, byte[] digest) throws DSSException {
+		try {
+			TimeStampRequestGenerator requestGenerator = new TimeStampRequestGenerator();
+			requestGenerator.setCertReq(true);
+			TimeStampRequest request = requestGenerator.generate(new ASN1ObjectIdentifier(digestAlgorithm.getOid()), digest);
+
+			SignerInfoGenerator signerInfoGenerator = new JcaSimpleSignerInfoGeneratorBuilder()
+					.build("SHA256withRSA", pki.getTsaPrivateKey(), pki.getTsaCertificate().getCertificate());
+			DigestCalculator essCertIdDigestCalculator = new JcaDigestCalculatorProviderBuilder().build()
+					.get(new DefaultDigestAlgorithmIdentifierFinder().find("SHA-256"));
+
+			TimeStampTokenGenerator tokenGenerator = new TimeStampTokenGenerator(
+					signerInfoGenerator, essCertIdDigestCalculator, POLICY_OID);
+			tokenGenerator.addCertificates(new JcaCertStore(Collections.singletonList(pki.getTsaCertificate().getCertificate())));
+
+			TimeStampToken timeStampToken = tokenGenerator.generate(request,
+					BigInteger.valueOf(serialNumber.incrementAndGet()), new Date());
+			return new TimestampBinary(timeStampToken.getEncoded());
+
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to generate a timestamp : %s", e.getMessage()), e);
+		}
+	}
+
+}
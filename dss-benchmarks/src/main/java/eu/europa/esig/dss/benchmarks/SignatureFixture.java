@@ -0,0 +1,183 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.signature.CAdESService;
+import eu.europa.esig.dss.enumerations.JWSSerializationType;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.enumerations.SignatureForm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.jades.JAdESSignatureParameters;
+import eu.europa.esig.dss.jades.signature.JAdESService;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.signature.XAdESService;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Creates signatures of a given format and level with the offline {@code BenchmarkPki}
+ *
+ */
+public class SignatureFixture {
+
+	/** The offline PKI */
+	private final BenchmarkPki pki;
+
+	/** The signature format */
+	private final SignatureForm signatureForm;
+
+	/** The target signature level */
+	private final SignatureLevel signatureLevel;
+
+	/** The signature service */
+	private final DocumentSignatureService<?, ?> service;
+
+	/** The document to be signed */
+	private final DSSDocument toSignDocument;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param pki {@link BenchmarkPki}
+	 * @param signatureForm {@link SignatureForm} one of XAdES, CAdES, PAdES or JAdES
+	 * @param baselineLevel {@link String} the baseline level (i.e. B, T, LT or LTA)
+	 */
+	public SignatureFixture(BenchmarkPki pki, SignatureForm signatureForm, String baselineLevel) {
+		this.pki = pki;
+		this.signatureForm = signatureForm;
+		this.signatureLevel = SignatureLevel.valueOf(signatureForm.name() + "_BASELINE_" + baselineLevel);
+
+		final CertificateVerifier certificateVerifier = pki.getCertificateVerifier();
+		switch (signatureForm) {
+			case XAdES:
+				this.service = new XAdESService(certificateVerifier);
+				this.toSignDocument = new InMemoryDocument(
+						"<root><data id=\"1\">Hello World!</data></root>".getBytes(StandardCharsets.UTF_8),
+						"sample.xml", MimeTypeEnum.XML);
+				break;
+			case CAdES:
+				this.service = new CAdESService(certificateVerifier);
+				this.toSignDocument = new InMemoryDocument(
+						"Hello World!".getBytes(StandardCharsets.UTF_8), "sample.txt", MimeTypeEnum.TEXT);
+				break;
+			case PAdES:
+				this.service = new PAdESService(certificateVerifier);
+				this.toSignDocument = new InMemoryDocument(createPdf(), "sample.pdf", MimeTypeEnum.PDF);
+				break;
+			case JAdES:
+				this.service = new JAdESService(certificateVerifier);
+				this.toSignDocument = new InMemoryDocument(
+						"{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8), "sample.json", MimeTypeEnum.JSON);
+				break;
+			default:
+				throw new UnsupportedOperationException(String.format(
+						"The signature form '%s' is not supported!", signatureForm));
+		}
+		this.service.setTspSource(new LocalTSPSource(pki));
+	}
+
+	private static byte[] createPdf() {
+		try (PDDocument pdDocument = new PDDocument(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			pdDocument.addPage(new PDPage());
+			pdDocument.save(baos);
+			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create a PDF document : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Gets the document to be signed
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument getToSignDocument() {
+		return toSignDocument;
+	}
+
+	/**
+	 * Performs the complete signature creation (getDataToSign, signature value computation and signDocument)
+	 *
+	 * @return {@link DSSDocument} signed document
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public DSSDocument sign() {
+		final DocumentSignatureService rawService = service;
+		final AbstractSignatureParameters<?> parameters = createParameters();
+		final ToBeSigned dataToSign = rawService.getDataToSign(toSignDocument, parameters);
+		final SignatureValue signatureValue = pki.sign(dataToSign);
+		return rawService.signDocument(toSignDocument, parameters, signatureValue);
+	}
+
+	/**
+	 * Creates new signature parameters (the parameters hold a signature-specific context and cannot be re-used)
+	 *
+	 * @return {@link AbstractSignatureParameters}
+	 */
+	private AbstractSignatureParameters<?> createParameters() {
+		final AbstractSignatureParameters<?> parameters;
+		switch (signatureForm) {
+			case XAdES:
+				parameters = new XAdESSignatureParameters();
+				parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+				break;
+			case CAdES:
+				parameters = new CAdESSignatureParameters();
+				parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+				break;
+			case PAdES:
+				parameters = new PAdESSignatureParameters();
+				parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+				break;
+			case JAdES:
+				JAdESSignatureParameters jadesParameters = new JAdESSignatureParameters();
+				// unsigned properties are not supported by the compact serialization
+				jadesParameters.setJwsSerializationType(JWSSerializationType.JSON_SERIALIZATION);
+				jadesParameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+				parameters = jadesParameters;
+				break;
+			default:
+				throw new UnsupportedOperationException(String.format(
+						"The signature form '%s' is not supported!", signatureForm));
+		}
+		parameters.setSignatureLevel(signatureLevel);
+		parameters.setSigningCertificate(pki.getSigningCertificate());
+		parameters.setCertificateChain(pki.getSigningCertificate(), pki.getRootCertificate());
+		return parameters;
+	}
+
+}
@@ -0,0 +1,151 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.tsl.job.TLValidationJob;
+import eu.europa.esig.dss.tsl.source.TLSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code TLValidationJob.offlineRefresh} on a set of national trusted lists
+ * (loaded from the dss-tsl-validation test resources)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TLValidationBenchmark {
+
+	/** The base URL of the trusted lists (served from memory) */
+	private static final String BASE_URL = "http://dss.benchmark.local/tl/";
+
+	/** The trusted lists to be processed */
+	private static final String[] COUNTRIES = { "AT", "BE", "BG", "CY", "CZ", "DK", "EL", "ES", "FI", "FR", "HR",
+			"HU", "IE", "IS", "IT", "LI", "LT", "LU", "LV", "MT", "NL", "NO", "PL", "PT", "SE", "SI", "SK" };
+
+	/** The offline loader */
+	private FileCacheDataLoader offlineLoader;
+
+	/** The sources of the trusted lists */
+	private TLSource[] tlSources;
+
+	/** The executor service used by the jobs */
+	private ExecutorService executorService;
+
+	/** The directory of the file cache */
+	private File cacheDirectory;
+
+	/**
+	 * Populates the file cache
+	 *
+	 * @throws IOException if an error occurs on the cache creation
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		final Map<String, byte[]> trustedLists = new HashMap<>();
+		tlSources = new TLSource[COUNTRIES.length];
+		for (int i = 0; i < COUNTRIES.length; i++) {
+			final String url = BASE_URL + COUNTRIES[i] + ".xml";
+			try (InputStream is = TLValidationBenchmark.class.getResourceAsStream("/lotlCache/" + COUNTRIES[i] + ".xml")) {
+				if (is == null) {
+					throw new DSSException(String.format("The trusted list '%s' is not found!", COUNTRIES[i]));
+				}
+				trustedLists.put(url, DSSUtils.toByteArray(is));
+			}
+			TLSource tlSource = new TLSource();
+			tlSource.setUrl(url);
+			tlSources[i] = tlSource;
+		}
+
+		cacheDirectory = Files.createTempDirectory("dss-benchmark-tl-cache").toFile();
+		offlineLoader = new FileCacheDataLoader();
+		offlineLoader.setCacheExpirationTime(Long.MAX_VALUE);
+		offlineLoader.setDataLoader(new MemoryDataLoader(trustedLists));
+		offlineLoader.setFileCacheDirectory(cacheDirectory);
+
+		executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+		// fills the file cache
+		offlineRefresh();
+	}
+
+	/**
+	 * Releases the resources
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executorService.shutdownNow();
+		File[] cachedFiles = cacheDirectory.listFiles();
+		if (cachedFiles != null) {
+			for (File cachedFile : cachedFiles) {
+				cachedFile.delete();
+			}
+		}
+		cacheDirectory.delete();
+	}
+
+	/**
+	 * Runs a complete offline refresh with a new job (empty in-memory cache)
+	 *
+	 * @return {@link TrustedListsCertificateSource}
+	 */
+	@Benchmark
+	public TrustedListsCertificateSource offlineRefresh() {
+		TrustedListsCertificateSource trustedListsCertificateSource = new TrustedListsCertificateSource();
+		TLValidationJob job = new TLValidationJob();
+		job.setExecutorService(executorService);
+		job.setOfflineDataLoader(offlineLoader);
+		job.setTrustedListSources(tlSources);
+		job.setTrustedListCertificateSource(trustedListsCertificateSource);
+		job.offlineRefresh();
+		return trustedListsCertificateSource;
+	}
+
+}
@@ -0,0 +1,113 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.DomUtils;
+import eu.europa.esig.dss.enumerations.SignatureForm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xades.definition.XAdESNamespaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.crypto.dsig.CanonicalizationMethod;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the XML operations used on XAdES signatures : DOM parsing, XPath evaluation and canonicalization
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlBenchmark {
+
+	/** The XPath used to extract the signature references */
+	private static final String REFERENCES_PATH = "./ds:Signature/ds:SignedInfo/ds:Reference";
+
+	/** The XAdES-BASELINE-LTA signature binaries */
+	private byte[] signatureBinaries;
+
+	/** The parsed XAdES-BASELINE-LTA signature */
+	private Document document;
+
+	/** The ds:Signature element */
+	private Node signatureElement;
+
+	/**
+	 * Creates the XAdES signature
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		XAdESNamespaces.registerNamespaces();
+		DSSDocument signedDocument = new SignatureFixture(new BenchmarkPki(), SignatureForm.XAdES, "LTA").sign();
+		signatureBinaries = DSSUtils.toByteArray(signedDocument);
+		document = DomUtils.buildDOM(signatureBinaries);
+		signatureElement = DomUtils.getNode(document.getDocumentElement(), "./ds:Signature");
+	}
+
+	/**
+	 * Parses the signed document
+	 *
+	 * @return {@link Document}
+	 */
+	@Benchmark
+	public Document buildDOM() {
+		return DomUtils.buildDOM(signatureBinaries);
+	}
+
+	/**
+	 * Evaluates an XPath expression
+	 *
+	 * @return {@link NodeList}
+	 */
+	@Benchmark
+	public NodeList getNodeList() {
+		return DomUtils.getNodeList(document.getDocumentElement(), REFERENCES_PATH);
+	}
+
+	/**
+	 * Canonicalizes the signature element
+	 *
+	 * @return canonicalized binaries
+	 */
+	@Benchmark
+	public byte[] canonicalize() {
+		return DSSXMLUtils.canonicalizeSubtree(CanonicalizationMethod.EXCLUSIVE, signatureElement);
+	}
+
+}
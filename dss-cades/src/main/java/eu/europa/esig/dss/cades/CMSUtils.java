@@ -37,13 +37,17 @@ import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.ASN1InputStream;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1SequenceParser;
 import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.ASN1StreamParser;
 import org.bouncycastle.asn1.ASN1UTCTime;
 import org.bouncycastle.asn1.DERSet;
 import org.bouncycastle.asn1.DERTaggedObject;
 import org.bouncycastle.asn1.DLSet;
 import org.bouncycastle.asn1.cms.Attribute;
 import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfoParser;
 import org.bouncycastle.asn1.ess.ESSCertID;
 import org.bouncycastle.asn1.ess.ESSCertIDv2;
 import org.bouncycastle.asn1.ess.SigningCertificate;
@@ -67,6 +71,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -368,6 +373,26 @@ public final class CMSUtils {
 		}
 	}
 
+	/**
+	 * Checks whether the document represents a CMS SignedData, by reading only the beginning
+	 * of the ContentInfo structure (the document is not loaded into memory)
+	 *
+	 * @param document {@link DSSDocument} to check
+	 * @return TRUE if the document is a CMS SignedData, FALSE otherwise
+	 */
+	public static boolean isSignedData(final DSSDocument document) {
+		if (document instanceof DigestDocument || !DSSASN1Utils.isASN1SequenceTag(DSSUtils.readFirstByte(document))) {
+			return false;
+		}
+		try (InputStream is = document.openStream()) {
+			final ContentInfoParser contentInfoParser = new ContentInfoParser((ASN1SequenceParser) new ASN1StreamParser(is).readObject());
+			return CMSObjectIdentifiers.signedData.equals(contentInfoParser.getContentType());
+		} catch (Exception e) {
+			LOG.debug("The document is not a CMS SignedData : {}", e.getMessage());
+			return false;
+		}
+	}
+
 	/**
 	 * Returns the content to be signed
 	 *
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.cades.signature;
 import eu.europa.esig.dss.cades.CAdESSignatureParameters;
 import eu.europa.esig.dss.cades.CMSUtils;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.SignaturePackaging;
@@ -38,6 +39,8 @@ import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
 import eu.europa.esig.dss.signature.CounterSignatureService;
 import eu.europa.esig.dss.signature.SigningOperation;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -46,6 +49,7 @@ import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.CMSSignedDataStreamGenerator;
 import org.bouncycastle.cms.CMSTypedData;
 import org.bouncycastle.cms.SignerInfoGeneratorBuilder;
 import org.bouncycastle.cms.SignerInformation;
@@ -55,6 +59,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -71,6 +77,11 @@ public class CAdESService extends
 
 	private static final Logger LOG = LoggerFactory.getLogger(CAdESService.class);
 
+	/**
+	 * Used to create an enveloping signature in a streaming way (not defined by default)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * This is the constructor to create an instance of the {@code CAdESService}. A certificate verifier must be
 	 * provided.
@@ -84,6 +95,21 @@ public class CAdESService extends
 		LOG.debug("+ CAdESService created");
 	}
 
+	/**
+	 * Sets a {@code DSSResourcesHandlerBuilder} enabling the streaming creation of enveloping signatures.
+	 * When defined, a new enveloping CAdES-BASELINE-B signature over a document (not a CMS)
+	 * is written to the document created by the handler (e.g. a temporary file with
+	 * {@code TempFileResourcesHandlerBuilder}), without loading the signed content into memory.
+	 * Other configurations (e.g. parallel signatures, signature augmentation) are processed in memory.
+	 *
+	 * Default : null (all signatures are created in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public TimestampToken getContentTimestamp(DSSDocument toSignDocument, CAdESSignatureParameters parameters) {
 		Objects.requireNonNull(tspSource, "A TSPSource is required !");
@@ -110,7 +136,8 @@ public class CAdESService extends
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId());
 		final DigestCalculatorProvider dcp = CMSUtils.getDigestCalculatorProvider(toSignDocument, parameters.getReferenceDigestAlgorithm());
 
-		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
+		final boolean streaming = isStreamingSupported(toSignDocument, parameters);
+		final CMSSignedData originalCmsSignedData = streaming ? null : getCmsSignedData(toSignDocument, parameters);
 
 		final CMSSignedDataBuilder cmsSignedDataBuilder = new CMSSignedDataBuilder(certificateVerifier);
 		final DSSDocument contentToSign = getContentToSign(toSignDocument, parameters, originalCmsSignedData);
@@ -121,7 +148,8 @@ public class CAdESService extends
 				signerInfoGeneratorBuilder, originalCmsSignedData);
 
 		final CMSTypedData content = CMSUtils.getContentToBeSigned(contentToSign);
-		final boolean encapsulate = !SignaturePackaging.DETACHED.equals(packaging);
+		// the signed attributes do not depend on the content encapsulation
+		final boolean encapsulate = !streaming && !SignaturePackaging.DETACHED.equals(packaging);
 		CMSUtils.generateCMSSignedData(cmsSignedDataGenerator, content, encapsulate);
 		final byte[] bytes = customContentSigner.getOutputStream().toByteArray();
 		return new ToBeSigned(bytes);
@@ -142,6 +170,15 @@ public class CAdESService extends
 		final CustomContentSigner customContentSigner = new CustomContentSigner(signatureAlgorithm.getJCEId(), signatureValue.getValue());
 		final DigestCalculatorProvider dcp = CMSUtils.getDigestCalculatorProvider(toSignDocument, parameters.getReferenceDigestAlgorithm());
 
+		if (isStreamingSupported(toSignDocument, parameters)) {
+			final DSSDocument signature = signDocumentStreaming(toSignDocument, parameters, customContentSigner, dcp);
+			signature.setName(getFinalFileName(toSignDocument, SigningOperation.SIGN,
+					parameters.getSignatureLevel(), parameters.getSignaturePackaging()));
+			signature.setMimeType(MimeTypeEnum.PKCS7);
+			parameters.reinit();
+			return signature;
+		}
+
 		final CMSSignedData originalCmsSignedData = getCmsSignedData(toSignDocument, parameters);
 		if (originalCmsSignedData == null && SignaturePackaging.DETACHED.equals(packaging) && Utils.isCollectionEmpty(parameters.getDetachedContents())) {
 			parameters.getContext().setDetachedContents(Arrays.asList(toSignDocument));
@@ -187,6 +224,47 @@ public class CAdESService extends
 		return dssDocument;
 	}
 
+	/**
+	 * Checks whether the signature can be created in a streaming way
+	 *
+	 * @param toSignDocument {@link DSSDocument} to sign
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @return TRUE if the streaming creation is enabled and supported for the given configuration, FALSE otherwise
+	 */
+	private boolean isStreamingSupported(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters) {
+		return resourcesHandlerBuilder != null
+				&& SignaturePackaging.ENVELOPING.equals(parameters.getSignaturePackaging())
+				&& SignatureLevel.CAdES_BASELINE_B.equals(parameters.getSignatureLevel())
+				&& Utils.isCollectionEmpty(parameters.getDetachedContents())
+				&& !(toSignDocument instanceof DigestDocument)
+				&& !CMSUtils.isSignedData(toSignDocument);
+	}
+
+	/**
+	 * Creates an enveloping signature by streaming the content of {@code toSignDocument}
+	 * through a {@code CMSSignedDataStreamGenerator} to the document created by the {@code resourcesHandlerBuilder}
+	 */
+	private DSSDocument signDocumentStreaming(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters,
+											  final CustomContentSigner customContentSigner, final DigestCalculatorProvider dcp) {
+		final CMSSignedDataBuilder cmsSignedDataBuilder = new CMSSignedDataBuilder(certificateVerifier);
+		final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder = cmsSignedDataBuilder.
+				getSignerInfoGeneratorBuilder(dcp, parameters, true, toSignDocument);
+		final CMSSignedDataStreamGenerator cmsSignedDataStreamGenerator = cmsSignedDataBuilder.createCMSSignedDataStreamGenerator(
+				parameters, customContentSigner, signerInfoGeneratorBuilder);
+
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream();
+				 OutputStream signedDataOs = cmsSignedDataStreamGenerator.open(os, true);
+				 InputStream is = toSignDocument.openStream()) {
+				Utils.copy(is, signedDataOs);
+			}
+			return resourcesHandler.writeToDSSDocument();
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create a CAdES signature in a streaming way. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * This method retrieves the data to be signed. If this data is located within a signature then it is extracted.
 	 *
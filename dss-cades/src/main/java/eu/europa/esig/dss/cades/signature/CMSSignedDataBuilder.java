@@ -43,6 +43,8 @@ import org.bouncycastle.cert.jcajce.JcaCertStore;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.CMSSignedDataStreamGenerator;
+import org.bouncycastle.cms.CMSSignedGenerator;
 import org.bouncycastle.cms.DefaultSignedAttributeTableGenerator;
 import org.bouncycastle.cms.SignerId;
 import org.bouncycastle.cms.SignerInfoGenerator;
@@ -112,8 +114,35 @@ public class CMSSignedDataBuilder {
 	 */
 	protected CMSSignedDataGenerator createCMSSignedDataGenerator(final CAdESSignatureParameters parameters, final ContentSigner contentSigner,
 			final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder, final CMSSignedData originalSignedData) {
+		final CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
+		initCMSSignedGenerator(generator, parameters, contentSigner, signerInfoGeneratorBuilder, originalSignedData);
+		return generator;
+	}
+
+	/**
+	 * Creates a streaming generator for a new signature (without an existing signed data).
+	 * The signed content is written through the {@code OutputStream} opened by the generator,
+	 * allowing the creation of an enveloping signature without loading the content into memory.
+	 *
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @param contentSigner
+	 *            the contentSigner to get the hash of the data to be signed
+	 * @param signerInfoGeneratorBuilder
+	 *            the builder for the signer info generator
+	 * @return the bouncycastle streaming signed data generator
+	 */
+	protected CMSSignedDataStreamGenerator createCMSSignedDataStreamGenerator(final CAdESSignatureParameters parameters,
+			final ContentSigner contentSigner, final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder) {
+		final CMSSignedDataStreamGenerator generator = new CMSSignedDataStreamGenerator();
+		initCMSSignedGenerator(generator, parameters, contentSigner, signerInfoGeneratorBuilder, null);
+		return generator;
+	}
+
+	private void initCMSSignedGenerator(final CMSSignedGenerator generator, final CAdESSignatureParameters parameters,
+			final ContentSigner contentSigner, final SignerInfoGeneratorBuilder signerInfoGeneratorBuilder,
+			final CMSSignedData originalSignedData) {
 		try {
-			final CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
 			final SignerInfoGenerator signerInfoGenerator = getSignerInfoGenerator(signerInfoGeneratorBuilder, contentSigner, parameters);
 
 			generator.addSignerInfoGenerator(signerInfoGenerator);
@@ -139,7 +168,6 @@ public class CMSSignedDataBuilder {
 
 			final JcaCertStore jcaCertStore = getJcaCertStore(certificateChain, parameters);
 			generator.addCertificates(jcaCertStore);
-			return generator;
 		} catch (CMSException | OperatorCreationException e) {
 			throw new DSSException(String.format("Unable to create a CMSSignedDataGenerator. Reason : %s", e.getMessage()), e);
 		}
@@ -848,12 +848,7 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		messageDigest.setValue(messageDigestValue);
 		messageDigestValidation.setDigest(messageDigest);
 
-		Set<DigestAlgorithm> digestAlgorithmCandidates = new HashSet<>();
-		DigestAlgorithm signerInformationDigestAlgorithm = getDigestAlgorithm();
-		if (signerInformationDigestAlgorithm != null) {
-			digestAlgorithmCandidates.add(signerInformationDigestAlgorithm);
-		}
-		digestAlgorithmCandidates.addAll(getMessageDigestAlgorithms());
+		Set<DigestAlgorithm> digestAlgorithmCandidates = getReferencesDigestAlgorithms();
 		
 		if (Utils.collectionSize(digestAlgorithmCandidates) == 1) {
 			messageDigest.setAlgorithm(digestAlgorithmCandidates.iterator().next());
@@ -962,6 +957,17 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		return cmsSignedDataParser.getSignerInfos().get(signerId);
 	}
 
+	@Override
+	public Set<DigestAlgorithm> getReferencesDigestAlgorithms() {
+		Set<DigestAlgorithm> digestAlgorithmCandidates = new HashSet<>();
+		DigestAlgorithm signerInformationDigestAlgorithm = getDigestAlgorithm();
+		if (signerInformationDigestAlgorithm != null) {
+			digestAlgorithmCandidates.add(signerInformationDigestAlgorithm);
+		}
+		digestAlgorithmCandidates.addAll(getMessageDigestAlgorithms());
+		return digestAlgorithmCandidates;
+	}
+
 	/**
 	 * Returns a set of used {@link DigestAlgorithm}s incorporated into the CMSSignedData
 	 *
@@ -24,16 +24,34 @@ import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.scope.SignatureScopeFinder;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetStringParser;
+import org.bouncycastle.asn1.ASN1SequenceParser;
+import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.ASN1SetParser;
+import org.bouncycastle.asn1.ASN1StreamParser;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.ContentInfoParser;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.asn1.cms.SignedDataParser;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,6 +69,12 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 	/** The CMSSignedData to be validated */
 	protected CMSSignedData cmsSignedData;
 
+	/**
+	 * The encapsulated signed content, when extracted from the CMS in a streaming way
+	 * (see {@code #CMSDocumentValidator(DSSDocument, DSSResourcesHandlerBuilder)})
+	 */
+	private DSSDocument signedContent;
+
 	/**
 	 * The empty constructor, instantiate {@link CAdESSignatureScopeFinder}
 	 */
@@ -92,6 +116,29 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		this.cmsSignedData = toCMSSignedData(document);
 	}
 
+	/**
+	 * The constructor for {@code CMSDocumentValidator} processing the document in a streaming way.
+	 * The encapsulated signed content is copied to a document created by the {@code resourcesHandlerBuilder}
+	 * (e.g. a temporary file with {@code TempFileResourcesHandlerBuilder}) and is used as a detached content
+	 * of the signatures. This allows validation of an enveloping signature over a large document
+	 * without loading the content into memory.
+	 *
+	 * NOTE: archive-time-stamp-v2 attributes cannot be validated for an enveloping signature in this mode.
+	 *
+	 * @param document
+	 *            document to validate (with the signature(s))
+	 * @param resourcesHandlerBuilder
+	 *            {@link DSSResourcesHandlerBuilder} used to store the extracted signed content
+	 */
+	public CMSDocumentValidator(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this();
+		Objects.requireNonNull(document, "Document to be validated cannot be null!");
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+
+		this.document = document;
+		this.cmsSignedData = toCMSSignedData(document, resourcesHandlerBuilder);
+	}
+
 	private CMSSignedData toCMSSignedData(DSSDocument document) {
 		try {
 			return DSSUtils.toCMSSignedData(document);
@@ -100,6 +147,52 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		}
 	}
 
+	/**
+	 * Parses the CMS with a {@code SignedDataParser} and copies the encapsulated content to a new document,
+	 * returning a {@code CMSSignedData} without the encapsulated content
+	 */
+	private CMSSignedData toCMSSignedData(DSSDocument document, DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		try (InputStream is = document.openStream();
+			 DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			final ContentInfoParser contentInfoParser = new ContentInfoParser((ASN1SequenceParser) new ASN1StreamParser(is).readObject());
+			if (!CMSObjectIdentifiers.signedData.equals(contentInfoParser.getContentType())) {
+				throw new IllegalInputException(String.format("A CMS SignedData is expected, but '%s' found!",
+						contentInfoParser.getContentType()));
+			}
+			final SignedDataParser signedDataParser = SignedDataParser.getInstance(contentInfoParser.getContent(BERTags.SEQUENCE));
+			signedDataParser.getVersion();
+			final ASN1Set digestAlgorithms = getLoadedSet(signedDataParser.getDigestAlgorithms());
+
+			final ContentInfoParser encapContentInfoParser = signedDataParser.getEncapContentInfo();
+			final ASN1ObjectIdentifier contentType = encapContentInfoParser.getContentType();
+			final ASN1OctetStringParser contentParser = (ASN1OctetStringParser) encapContentInfoParser.getContent(BERTags.OCTET_STRING);
+			if (contentParser != null) {
+				try (InputStream contentStream = contentParser.getOctetStream();
+					 OutputStream os = resourcesHandler.createOutputStream()) {
+					Utils.copy(contentStream, os);
+				}
+				signedContent = resourcesHandler.writeToDSSDocument();
+			}
+
+			final ASN1Set certificates = getLoadedSet(signedDataParser.getCertificates());
+			final ASN1Set crls = getLoadedSet(signedDataParser.getCrls());
+			final ASN1Set signerInfos = getLoadedSet(signedDataParser.getSignerInfos());
+
+			final SignedData signedData = new SignedData(digestAlgorithms, new ContentInfo(contentType, null),
+					certificates, crls, signerInfos);
+			return new CMSSignedData(new ContentInfo(CMSObjectIdentifiers.signedData, signedData));
+
+		} catch (IllegalInputException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalInputException(String.format("A CMS file is expected : %s", e.getMessage()), e);
+		}
+	}
+
+	private ASN1Set getLoadedSet(ASN1SetParser setParser) throws IOException {
+		return setParser != null ? ASN1Set.getInstance(setParser.getLoadedObject()) : null;
+	}
+
 	/**
 	 * Creates a validator from a {@code DSSDocument}
 	 *
@@ -130,7 +223,7 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 				if (document != null) {
 					cadesSignature.setSignatureFilename(document.getName());
 				}
-				cadesSignature.setDetachedContents(detachedContents);
+				cadesSignature.setDetachedContents(signedContent != null ? Collections.singletonList(signedContent) : detachedContents);
 				cadesSignature.setContainerContents(containerContents);
 				cadesSignature.setManifestFile(manifestFile);
 				cadesSignature.setSigningCertificateSource(signingCertificateSource);
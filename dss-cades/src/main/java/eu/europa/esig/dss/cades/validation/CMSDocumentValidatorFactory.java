@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.cades.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -42,6 +43,11 @@ public class CMSDocumentValidatorFactory implements DocumentValidatorFactory {
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupportedPreamble(byte[] preamble) {
+		return preamble.length > 0 && DSSASN1Utils.isASN1SequenceTag(preamble[0]);
+	}
+
 	@Override
 	public SignedDocumentValidator create(DSSDocument document) {
 		return new CMSDocumentValidator(document);
@@ -0,0 +1,153 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.signature;
+
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.validation.CMSDocumentValidator;
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.enumerations.MimeType;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CAdESLevelBEnvelopingWithTempFileHandlerTest extends AbstractCAdESTestSignature {
+
+	private CAdESService service;
+	private CAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+	private TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder;
+
+	@BeforeEach
+	public void init() throws Exception {
+		File file = new File("target/cades-streaming-content.txt");
+		try (OutputStream os = Files.newOutputStream(file.toPath())) {
+			byte[] line = "Hello World\n".getBytes(StandardCharsets.UTF_8);
+			for (int i = 0; i < 100000; i++) {
+				os.write(line);
+			}
+		}
+		documentToSign = new FileDocument(file);
+
+		signatureParameters = new CAdESSignatureParameters();
+		signatureParameters.bLevel().setSigningDate(new Date());
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		signatureParameters.setSignatureLevel(SignatureLevel.CAdES_BASELINE_B);
+
+		tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(new File("target"));
+
+		service = new CAdESService(getOfflineCertificateVerifier());
+		service.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		DSSDocument signedDocument = super.sign();
+		assertTrue(signedDocument instanceof FileDocument);
+		return signedDocument;
+	}
+
+	@Test
+	public void streamingValidationTest() {
+		DSSDocument signedDocument = sign();
+
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument, tempFileResourcesHandlerBuilder);
+		validator.setCertificateVerifier(getOfflineCertificateVerifier());
+		Reports reports = validator.validateDocument();
+
+		DiagnosticData diagnosticData = reports.getDiagnosticData();
+		SignatureWrapper signature = diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId());
+		assertNotNull(signature);
+		assertTrue(signature.isSignatureIntact());
+		assertTrue(signature.isSignatureValid());
+
+		List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signature.getId());
+		assertEquals(1, originalDocuments.size());
+		assertTrue(originalDocuments.get(0) instanceof FileDocument);
+		assertEquals(documentToSign.getDigest(signatureParameters.getDigestAlgorithm()),
+				originalDocuments.get(0).getDigest(signatureParameters.getDigestAlgorithm()));
+
+		tempFileResourcesHandlerBuilder.clear();
+	}
+
+	@Override
+	protected DocumentSignatureService<CAdESSignatureParameters, CAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected CAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected MimeType getExpectedMime() {
+		return MimeTypeEnum.PKCS7;
+	}
+
+	@Override
+	protected boolean isBaselineT() {
+		return false;
+	}
+
+	@Override
+	protected boolean isBaselineLTA() {
+		return false;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected List<DSSDocument> getOriginalDocuments() {
+		return Collections.singletonList(getDocumentToSign());
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+}
@@ -47,6 +47,8 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
 import java.util.Enumeration;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * http://luca.ntop.org/Teaching/Appunti/asn1.html
@@ -127,6 +129,44 @@ class CRLParser {
 	 * @throws IOException if an exception occurs
 	 */
 	public X509CRLEntry retrieveRevocationInfo(InputStream is, BigInteger serialNumber) throws IOException {
+		final X509CRLEntry[] result = new X509CRLEntry[1];
+		processRevokedCertificates(is, serialNumber::equals, crlEntry -> {
+			result[0] = crlEntry;
+			return false; // stop on the first match
+		});
+		return result[0];
+	}
+
+	/**
+	 * This method allows to parse the CRL and to process all the revoked certificate entries
+	 *
+	 * @param is
+	 *            {@link InputStream} an InputStream with the CRL
+	 * @param consumer
+	 *            {@link Consumer} of the {@link X509CRLEntry}s
+	 * @throws IOException if an exception occurs
+	 */
+	public void processRevokedCertificates(InputStream is, Consumer<X509CRLEntry> consumer) throws IOException {
+		processRevokedCertificates(is, serialNumber -> true, crlEntry -> {
+			consumer.accept(crlEntry);
+			return true;
+		});
+	}
+
+	/**
+	 * Parses the CRL and processes the revoked certificate entries with a serial number accepted by the filter.
+	 * Only the serial number is parsed for the entries not accepted by the filter.
+	 *
+	 * @param is
+	 *            {@link InputStream} an InputStream with the CRL
+	 * @param serialNumberFilter
+	 *            {@link Predicate} defining whether the entry with the given serial number shall be processed
+	 * @param entryProcessor
+	 *            {@link Predicate} processing an entry, returning FALSE to stop the parsing
+	 * @throws IOException if an exception occurs
+	 */
+	private void processRevokedCertificates(InputStream is, Predicate<BigInteger> serialNumberFilter,
+											Predicate<X509CRLEntry> entryProcessor) throws IOException {
 		// Skip CertificateList Sequence info
 		consumeTagIntro(is);
 
@@ -162,7 +202,7 @@ class CRLParser {
 
 			if (tag < 0) {
 				// EOF
-				return null;
+				return;
 			}
 
 			tagNo = DERUtil.readTagNumber(is, tag);
@@ -177,13 +217,15 @@ class CRLParser {
 					int entryTagNo = DERUtil.readTagNumber(bais, entryTag);
 					int entryLength = DERUtil.readLength(bais);
 
-					// SerialNumber
+					// SerialNumber (skips the CertificateList -> signatureAlgorithm sequence)
 					if (BERTags.INTEGER == entryTagNo) {
 						ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(bais, entryLength));
-						if (serialNumber.equals(asn1SerialNumber.getValue())) {
+						if (serialNumberFilter.test(asn1SerialNumber.getValue())) {
 							ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
 							CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
-							return new X509CRLEntryObject(crlEntry);
+							if (!entryProcessor.test(new X509CRLEntryObject(crlEntry))) {
+								return;
+							}
 						}
 					}
 				}
@@ -192,8 +234,6 @@ class CRLParser {
 				skip(is, length);
 			}
 		}
-
-		return null;
 	}
 
 	/**
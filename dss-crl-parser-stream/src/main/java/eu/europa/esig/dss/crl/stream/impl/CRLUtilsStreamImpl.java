@@ -26,6 +26,7 @@ import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.crl.ICRLUtils;
 import eu.europa.esig.dss.enumerations.KeyUsageBit;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import org.bouncycastle.asn1.x509.Extension;
 import org.slf4j.Logger;
@@ -33,13 +34,15 @@ import org.slf4j.LoggerFactory;
 
 import javax.security.auth.x500.X500Principal;
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
+import java.security.SignatureException;
 import java.security.cert.X509CRLEntry;
+import java.util.function.Consumer;
 
 /**
  * The DSS implementation of {@code ICRLUtils}
@@ -78,18 +81,25 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			crlValidity.setIssuerX509PrincipalMatches(true);
 		}
 
-		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, issuerToken);
 		
 		return crlValidity;
 	}
 
-	private byte[] getSignedData(CRLValidity crlValidity) throws IOException {
+	/**
+	 * Streams the signed data (TBSCertList) directly to the {@code signature}, without an intermediate copy
+	 */
+	private void updateWithSignedData(CRLValidity crlValidity, Signature signature) throws IOException, SignatureException {
 		try (InputStream is = crlValidity.toCRLInputStream();
-			 ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			 BinaryFilteringInputStream bfis = new BinaryFilteringInputStream(is, baos)) {
+			 SignatureOutputStream sos = new SignatureOutputStream(signature);
+			 BinaryFilteringInputStream bfis = new BinaryFilteringInputStream(is, sos)) {
 			CRLParser parser = new CRLParser();
 			parser.getSignedData(bfis);
-			return baos.toByteArray();
+		} catch (IOException e) {
+			if (e.getCause() instanceof SignatureException) {
+				throw (SignatureException) e.getCause();
+			}
+			throw e;
 		}
 	}
 
@@ -105,12 +115,22 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	@Override
+	public void processRevokedCertificates(CRLValidity crlValidity, Consumer<X509CRLEntry> consumer) {
+		CRLParser parser = new CRLParser();
+		try (InputStream is = crlValidity.toCRLInputStream()) {
+			parser.processRevokedCertificates(is, consumer);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to process the revoked certificates. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
-									 byte[] signedData, CertificateToken signer) {
+									 CertificateToken signer) throws IOException {
 		try {
 			Signature signature = Signature.getInstance(signatureAlgorithm.getJCEId());
 			signature.initVerify(signer.getPublicKey());
-			signature.update(signedData);
+			updateWithSignedData(crlValidity, signature);
 			if (signature.verify(signatureValue)) {
 				crlValidity.setSignatureIntact(true);
 				crlValidity.setIssuerToken(signer);
@@ -137,4 +157,36 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		}
 	}
 
+	/**
+	 * Updates the {@code Signature} with the written data
+	 */
+	private static final class SignatureOutputStream extends OutputStream {
+
+		/** The signature to update */
+		private final Signature signature;
+
+		private SignatureOutputStream(Signature signature) {
+			this.signature = signature;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			try {
+				signature.update((byte) b);
+			} catch (SignatureException e) {
+				throw new IOException(e);
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			try {
+				signature.update(b, off, len);
+			} catch (SignatureException e) {
+				throw new IOException(e);
+			}
+		}
+
+	}
+
 }
@@ -44,6 +44,8 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The implementation of {@code ICRLUtils} with java.security classes
@@ -127,6 +129,20 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
+		return getX509CRL(crlValidity).getRevokedCertificate(serialNumber);
+	}
+
+	@Override
+	public void processRevokedCertificates(CRLValidity crlValidity, Consumer<X509CRLEntry> consumer) {
+		final Set<? extends X509CRLEntry> revokedCertificates = getX509CRL(crlValidity).getRevokedCertificates();
+		if (revokedCertificates != null) {
+			for (X509CRLEntry crlEntry : revokedCertificates) {
+				consumer.accept(crlEntry);
+			}
+		}
+	}
+
+	private X509CRL getX509CRL(CRLValidity crlValidity) {
 		X509CRL crl = null;
 		if (crlValidity instanceof X509CRLValidity) {
 			crl = ((X509CRLValidity) crlValidity).getX509CRL();
@@ -138,7 +154,7 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 				throw new DSSException(String.format("Unable to get revocation info. Reason : %s", e.getMessage()), e);
 			}
 		}
-		return crl.getRevokedCertificate(serialNumber);
+		return crl;
 	}
 
 	/**
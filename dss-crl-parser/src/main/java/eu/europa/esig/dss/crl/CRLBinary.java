@@ -20,9 +20,16 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EncapsulatedRevocationTokenIdentifier;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
  * This class represents DER encoded CRL Binary identifier
  *
@@ -30,6 +37,12 @@ import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 
 	private static final long serialVersionUID = 3365111934665055383L;
+
+	/** Loads the DER encoded binaries on request, when not provided on creation */
+	private final transient Supplier<byte[]> binariesLoader;
+
+	/** The binaries obtained from the {@code binariesLoader} */
+	private transient volatile byte[] loadedBinaries;
 	
 	/**
 	 * The default constructor, accepts DER encoded binaries
@@ -38,6 +51,53 @@ public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 	 */
 	public CRLBinary(byte[] derEncoded) {
 		super(derEncoded);
+		this.binariesLoader = null;
+	}
+
+	/**
+	 * The constructor loading the DER encoded binaries only on request (e.g. from a database)
+	 *
+	 * @param digest {@link Digest} SHA-256 digest of the DER encoded binaries
+	 * @param binariesLoader {@link Supplier} of the DER encoded binaries, invoked on the first access
+	 */
+	public CRLBinary(Digest digest, Supplier<byte[]> binariesLoader) {
+		super(digest);
+		Objects.requireNonNull(binariesLoader, "Binaries loader cannot be null!");
+		this.binariesLoader = binariesLoader;
+	}
+
+	@Override
+	public byte[] getBinaries() {
+		if (binariesLoader == null) {
+			return super.getBinaries();
+		}
+		byte[] binaries = loadedBinaries;
+		if (binaries == null) {
+			synchronized (this) {
+				binaries = loadedBinaries;
+				if (binaries == null) {
+					binaries = binariesLoader.get();
+					if (binaries == null) {
+						throw new DSSException("Unable to load the CRL binaries!");
+					}
+					if (!Arrays.equals(getDigestValue(DigestAlgorithm.SHA256),
+							getMessageDigest(DigestAlgorithm.SHA256).digest(binaries))) {
+						throw new DSSException("The loaded CRL binaries do not match the expected digest!");
+					}
+					loadedBinaries = binaries;
+				}
+			}
+		}
+		return binaries;
+	}
+
+	/**
+	 * Replaces the instance with loaded binaries on serialization, as the loader is not serializable
+	 *
+	 * @return {@link CRLBinary}
+	 */
+	private Object writeReplace() {
+		return binariesLoader != null ? new CRLBinary(getBinaries()) : this;
 	}
 
 }
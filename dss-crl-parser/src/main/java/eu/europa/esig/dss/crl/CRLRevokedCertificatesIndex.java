@@ -0,0 +1,146 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl;
+
+import eu.europa.esig.dss.enumerations.RevocationReason;
+
+import java.math.BigInteger;
+import java.security.cert.CRLReason;
+import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A compact immutable index of the revoked certificates of a CRL, sorted by serial number.
+ * <p>
+ * The index is built with a single parsing of the revokedCertificates sequence
+ * and provides O(log n) revocation status lookups, without accessing the CRL binaries anymore.
+ * The revocation dates and reasons are stored in primitive arrays.
+ */
+public final class CRLRevokedCertificatesIndex {
+
+	/** The value used for an entry without a revocation reason */
+	private static final byte NO_REASON = -1;
+
+	/** The sorted serial numbers of the revoked certificates */
+	private final BigInteger[] serialNumbers;
+
+	/** The revocation times (in milliseconds), in the order of {@code serialNumbers} */
+	private final long[] revocationTimes;
+
+	/** The revocation reason codes, in the order of {@code serialNumbers} */
+	private final byte[] revocationReasons;
+
+	private CRLRevokedCertificatesIndex(BigInteger[] serialNumbers, long[] revocationTimes, byte[] revocationReasons) {
+		this.serialNumbers = serialNumbers;
+		this.revocationTimes = revocationTimes;
+		this.revocationReasons = revocationReasons;
+	}
+
+	/**
+	 * Builds the index of the revoked certificates of the given CRL
+	 *
+	 * @param crlValidity {@link CRLValidity} of the CRL to index
+	 * @return {@link CRLRevokedCertificatesIndex}
+	 */
+	public static CRLRevokedCertificatesIndex build(CRLValidity crlValidity) {
+		final List<X509CRLEntry> entries = new ArrayList<>();
+		CRLUtils.processRevokedCertificates(crlValidity, entries::add);
+		// the first entry is kept for a duplicated serial number (as for a sequential search)
+		entries.sort(Comparator.comparing(X509CRLEntry::getSerialNumber));
+
+		final int size = entries.size();
+		final BigInteger[] serialNumbers = new BigInteger[size];
+		final long[] revocationTimes = new long[size];
+		final byte[] revocationReasons = new byte[size];
+
+		int count = 0;
+		for (X509CRLEntry entry : entries) {
+			BigInteger serialNumber = entry.getSerialNumber();
+			if (count > 0 && serialNumber.equals(serialNumbers[count - 1])) {
+				continue;
+			}
+			serialNumbers[count] = serialNumber;
+			revocationTimes[count] = entry.getRevocationDate().getTime();
+			CRLReason revocationReason = entry.getRevocationReason();
+			revocationReasons[count] = revocationReason != null ? (byte) revocationReason.ordinal() : NO_REASON;
+			count++;
+		}
+
+		if (count < size) {
+			return new CRLRevokedCertificatesIndex(Arrays.copyOf(serialNumbers, count),
+					Arrays.copyOf(revocationTimes, count), Arrays.copyOf(revocationReasons, count));
+		}
+		return new CRLRevokedCertificatesIndex(serialNumbers, revocationTimes, revocationReasons);
+	}
+
+	/**
+	 * Returns the number of revoked certificates
+	 *
+	 * @return number of indexed entries
+	 */
+	public int size() {
+		return serialNumbers.length;
+	}
+
+	/**
+	 * Checks whether the certificate with the given serial number is revoked by the CRL
+	 *
+	 * @param serialNumber {@link BigInteger} of the certificate
+	 * @return TRUE if the certificate is revoked, FALSE otherwise
+	 */
+	public boolean isRevoked(BigInteger serialNumber) {
+		return indexOf(serialNumber) >= 0;
+	}
+
+	/**
+	 * Returns the revocation date of the certificate with the given serial number
+	 *
+	 * @param serialNumber {@link BigInteger} of the certificate
+	 * @return {@link Date} of the revocation, null if the certificate is not revoked
+	 */
+	public Date getRevocationDate(BigInteger serialNumber) {
+		int index = indexOf(serialNumber);
+		return index >= 0 ? new Date(revocationTimes[index]) : null;
+	}
+
+	/**
+	 * Returns the revocation reason of the certificate with the given serial number
+	 *
+	 * @param serialNumber {@link BigInteger} of the certificate
+	 * @return {@link RevocationReason}, null if the certificate is not revoked or no reason is defined
+	 */
+	public RevocationReason getRevocationReason(BigInteger serialNumber) {
+		int index = indexOf(serialNumber);
+		if (index >= 0 && revocationReasons[index] != NO_REASON) {
+			return RevocationReason.fromInt(revocationReasons[index]);
+		}
+		return null;
+	}
+
+	private int indexOf(BigInteger serialNumber) {
+		return Arrays.binarySearch(serialNumbers, serialNumber);
+	}
+
+}
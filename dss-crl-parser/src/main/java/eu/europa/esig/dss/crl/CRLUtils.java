@@ -25,6 +25,7 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
+import java.util.function.Consumer;
 import java.util.Iterator;
 import java.util.ServiceLoader;
 
@@ -68,6 +69,9 @@ public class CRLUtils {
 	 * verification of the revocation data is carried out. A dedicated object based on {@code CRLValidity} is created
 	 * and accordingly updated.
 	 *
+	 * NOTE: when {@code CRLValidityCache} is enabled, the CRL is verified only once per issuer certificate
+	 * and the returned {@code CRLValidity} is shared.
+	 *
 	 * @param crlBinary
 	 *            {@code CRLBinary} of the CRL to be created (cannot be null)
 	 * @param issuerToken
@@ -77,7 +81,15 @@ public class CRLUtils {
 	 *             if an IO error occurred
 	 */
 	public static CRLValidity buildCRLValidity(final CRLBinary crlBinary, final CertificateToken issuerToken) throws IOException {
-		return impl.buildCRLValidity(crlBinary, issuerToken);
+		final CRLValidityCache cache = CRLValidityCache.getInstance();
+		if (!cache.isEnabled()) {
+			return impl.buildCRLValidity(crlBinary, issuerToken);
+		}
+		CRLValidity crlValidity = cache.get(crlBinary, issuerToken);
+		if (crlValidity == null) {
+			crlValidity = cache.put(impl.buildCRLValidity(crlBinary, issuerToken), issuerToken);
+		}
+		return crlValidity;
 	}
 
 	/**
@@ -93,4 +105,16 @@ public class CRLUtils {
 		return impl.getRevocationInfo(crlValidity, serialNumber);
 	}
 
+	/**
+	 * This method processes all the revoked certificate entries of the CRL (e.g. in order to index them)
+	 *
+	 * @param crlValidity
+	 *            the CRL Validity
+	 * @param consumer
+	 *            the {@code Consumer} of the revoked certificate entries
+	 */
+	public static void processRevokedCertificates(CRLValidity crlValidity, Consumer<X509CRLEntry> consumer) {
+		impl.processRevokedCertificates(crlValidity, consumer);
+	}
+
 }
@@ -89,6 +89,12 @@ public class CRLValidity implements Serializable {
 
 	/** The 'thisUpdate' date value */
 	private Date thisUpdate;
+
+	/** Defines whether the index of the revoked certificates shall be built on the first status request */
+	private transient volatile boolean revokedCertificatesIndexEnabled = false;
+
+	/** The index of the revoked certificates, when built */
+	private transient volatile CRLRevokedCertificatesIndex revokedCertificatesIndex;
 	
 	/**
 	 * Default constructor
@@ -315,6 +321,18 @@ public class CRLValidity implements Serializable {
 		this.url = url;
 	}
 
+	/**
+	 * Gets 'onlyContainsUserCerts' value
+	 * ...
+	 * onlyContainsUserCerts [1] BOOLEAN DEFAULT FALSE
+	 * ...
+	 *
+	 * @return 'onlyContainsUserCerts' value
+	 */
+	public boolean isOnlyUserCerts() {
+		return onlyUserCerts;
+	}
+
 	/**
 	 * Sets 'onlyContainsUserCerts' value
 	 * ...
@@ -327,6 +345,18 @@ public class CRLValidity implements Serializable {
 		this.onlyUserCerts = onlyUserCerts;
 	}
 
+	/**
+	 * Gets 'onlyContainsCACerts' value
+	 * ...
+	 * onlyContainsCACerts [2] BOOLEAN DEFAULT FALSE
+	 * ...
+	 *
+	 * @return 'onlyContainsCACerts' value
+	 */
+	public boolean isOnlyCaCerts() {
+		return onlyCaCerts;
+	}
+
 	/**
 	 * Sets 'onlyContainsCACerts' value
 	 * ...
@@ -339,6 +369,18 @@ public class CRLValidity implements Serializable {
 		this.onlyCaCerts = onlyCaCerts;
 	}
 
+	/**
+	 * Gets 'onlySomeReasons' value
+	 * ...
+	 * onlySomeReasons [3] ReasonFlags OPTIONAL
+	 * ...
+	 *
+	 * @return {@link ReasonFlags} 'onlySomeReasons' value
+	 */
+	public ReasonFlags getReasonFlags() {
+		return onlySomeReasonFlags;
+	}
+
 	/**
 	 * Sets 'onlySomeReasons' value
 	 * ...
@@ -351,6 +393,18 @@ public class CRLValidity implements Serializable {
 		this.onlySomeReasonFlags = reasonFlags;
 	}
 
+	/**
+	 * Gets 'indirectCRL' value
+	 * ...
+	 * indirectCRL [4] BOOLEAN DEFAULT FALSE
+	 * ...
+	 *
+	 * @return 'indirectCRL' value
+	 */
+	public boolean isIndirectCrl() {
+		return indirectCrl;
+	}
+
 	/**
 	 * Sets 'indirectCRL' value
 	 * ...
@@ -363,6 +417,18 @@ public class CRLValidity implements Serializable {
 		this.indirectCrl = indirectCrl;
 	}
 
+	/**
+	 * Gets 'onlyContainsAttributeCerts' value
+	 * ...
+	 * onlyContainsAttributeCerts [5] BOOLEAN DEFAULT FALSE
+	 * ...
+	 *
+	 * @return 'onlyContainsAttributeCerts' value
+	 */
+	public boolean isOnlyAttributeCerts() {
+		return onlyAttributeCerts;
+	}
+
 	/**
 	 * Sets 'onlyContainsAttributeCerts' value
 	 * ...
@@ -384,6 +450,15 @@ public class CRLValidity implements Serializable {
 		return criticalExtensionsOid != null && !criticalExtensionsOid.isEmpty();
 	}
 
+	/**
+	 * Gets a collection of critical extension OIDs
+	 *
+	 * @return a collection of {@link String} critical extension OIDs
+	 */
+	public Collection<String> getCriticalExtensionsOid() {
+		return criticalExtensionsOid;
+	}
+
 	/**
 	 * Sets a collection of critical extension OIDs
 	 *
@@ -417,6 +492,36 @@ public class CRLValidity implements Serializable {
 					((onlyAttributeCerts && onlyCaCerts && onlyUserCerts && indirectCrl) || (onlySomeReasonFlags != null) || (url == null));
 	}
 
+	/**
+	 * Enables the index of the revoked certificates, built on the first request
+	 * (used for the CRLs shared through {@code CRLValidityCache})
+	 */
+	void enableRevokedCertificatesIndex() {
+		this.revokedCertificatesIndexEnabled = true;
+	}
+
+	/**
+	 * Returns the index of the revoked certificates, when enabled for the CRL. The index is built on the first call.
+	 *
+	 * @return {@link CRLRevokedCertificatesIndex} if enabled, null otherwise
+	 */
+	public CRLRevokedCertificatesIndex getRevokedCertificatesIndex() {
+		if (!revokedCertificatesIndexEnabled) {
+			return null;
+		}
+		CRLRevokedCertificatesIndex index = revokedCertificatesIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = revokedCertificatesIndex;
+				if (index == null) {
+					index = CRLRevokedCertificatesIndex.build(this);
+					revokedCertificatesIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -0,0 +1,223 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class keeps a process-wide set of verified CRLs ({@code CRLValidity}), keyed by the digest of the CRL
+ * and the identifier of the issuer certificate used for the verification.
+ * <p>
+ * When enabled, {@code CRLUtils.buildCRLValidity} parses and verifies a given CRL only once per issuer certificate,
+ * and the returned {@code CRLValidity} provides an index of the revoked certificates
+ * (see {@link CRLValidity#getRevokedCertificatesIndex()}), so the revocation status lookups
+ * do not parse the CRL binaries anymore.
+ * <p>
+ * The cache is disabled by default. Use {@code CRLValidityCache.getInstance().setMaxSize(size)} to enable it.
+ * When the maximum size is reached, the entries not requested since the previous sweep are evicted. If the cache
+ * remains full, new CRLs are returned without being cached.
+ */
+public class CRLValidityCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CRLValidityCache.class);
+
+	/** The shared instance */
+	private static final CRLValidityCache INSTANCE = new CRLValidityCache();
+
+	/** The cached CRLs, by CRL and issuer certificate identifiers */
+	private final Map<String, CacheEntry> crls = new ConcurrentHashMap<>();
+
+	/** Ensures that only one thread sweeps the cache at a time */
+	private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+	/** The maximum number of cached CRLs. 0 means the cache is disabled */
+	private volatile int maxSize = 0;
+
+	/**
+	 * Default constructor instantiating an independent disabled cache
+	 */
+	public CRLValidityCache() {
+		// empty
+	}
+
+	/**
+	 * Returns the shared instance of the cache, used by {@code CRLUtils}
+	 *
+	 * @return {@link CRLValidityCache}
+	 */
+	public static CRLValidityCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of CRLs to be kept in the cache.
+	 * The value 0 (default) disables the cache and removes all the cached entries.
+	 *
+	 * @param maxSize the maximum number of cached CRLs
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		this.maxSize = maxSize;
+		if (maxSize == 0) {
+			clear();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of CRLs to be kept in the cache
+	 *
+	 * @return the maximum size, 0 when the cache is disabled
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns whether the cache is enabled
+	 *
+	 * @return TRUE if the cache is enabled, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns the number of cached CRLs
+	 *
+	 * @return the number of cached CRLs
+	 */
+	public int size() {
+		return crls.size();
+	}
+
+	/**
+	 * Returns the cached {@code CRLValidity} for the given CRL and issuer certificate, when present
+	 *
+	 * @param crlBinary {@link CRLBinary} of the CRL
+	 * @param issuerToken {@link CertificateToken} used to verify the CRL
+	 * @return {@link CRLValidity} if found, null otherwise
+	 */
+	public CRLValidity get(CRLBinary crlBinary, CertificateToken issuerToken) {
+		Objects.requireNonNull(crlBinary, "CRLBinary cannot be null!");
+		Objects.requireNonNull(issuerToken, "Issuer CertificateToken cannot be null!");
+		if (!isEnabled()) {
+			return null;
+		}
+		CacheEntry entry = crls.get(getKey(crlBinary, issuerToken));
+		return entry != null ? entry.getCrlValidity() : null;
+	}
+
+	/**
+	 * Caches the {@code crlValidity} built for the given issuer certificate and returns the shared instance.
+	 * If an equivalent CRL is already cached, the cached instance is returned.
+	 *
+	 * @param crlValidity {@link CRLValidity} to cache
+	 * @param issuerToken {@link CertificateToken} used to verify the CRL
+	 * @return the shared {@link CRLValidity}
+	 */
+	public CRLValidity put(CRLValidity crlValidity, CertificateToken issuerToken) {
+		Objects.requireNonNull(crlValidity, "CRLValidity cannot be null!");
+		Objects.requireNonNull(issuerToken, "Issuer CertificateToken cannot be null!");
+		if (!isEnabled()) {
+			return crlValidity;
+		}
+		if (crls.size() >= maxSize) {
+			sweep();
+			if (crls.size() >= maxSize) {
+				return crlValidity;
+			}
+		}
+		crlValidity.enableRevokedCertificatesIndex();
+		CacheEntry existing = crls.putIfAbsent(getKey(crlValidity.getCrlBinary(), issuerToken), new CacheEntry(crlValidity));
+		return existing != null ? existing.getCrlValidity() : crlValidity;
+	}
+
+	/**
+	 * Removes all the cached CRLs
+	 */
+	public void clear() {
+		crls.clear();
+	}
+
+	/**
+	 * Removes the entries not requested since the previous sweep and resets the request flag of the other ones
+	 */
+	private void sweep() {
+		if (!sweeping.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int before = crls.size();
+			Iterator<CacheEntry> it = crls.values().iterator();
+			while (it.hasNext()) {
+				if (!it.next().resetRequested()) {
+					it.remove();
+				}
+			}
+			LOG.debug("CRLValidityCache swept : {} entries evicted", before - crls.size());
+		} finally {
+			sweeping.set(false);
+		}
+	}
+
+	private static String getKey(CRLBinary crlBinary, CertificateToken issuerToken) {
+		return crlBinary.asXmlId() + "-" + issuerToken.getDSSIdAsString();
+	}
+
+	/**
+	 * A cached CRL with its usage flag
+	 */
+	private static final class CacheEntry {
+
+		/** The shared CRL validity */
+		private final CRLValidity crlValidity;
+
+		/** Defines whether the entry has been requested since the last sweep */
+		private volatile boolean requested;
+
+		private CacheEntry(CRLValidity crlValidity) {
+			this.crlValidity = crlValidity;
+		}
+
+		private CRLValidity getCrlValidity() {
+			requested = true;
+			return crlValidity;
+		}
+
+		private boolean resetRequested() {
+			boolean result = requested;
+			requested = false;
+			return result;
+		}
+
+	}
+
+}
@@ -20,11 +20,18 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The interface for dealing with CRLs
@@ -66,4 +73,28 @@ public interface ICRLUtils {
 	 */
 	X509CRLEntry getRevocationInfo(final CRLValidity crlValidity, final BigInteger serialNumber);
 
+	/**
+	 * This method processes all the revoked certificate entries of the CRL (e.g. in order to index them)
+	 *
+	 * NOTE: the default implementation parses the CRL using {@code java.security.cert.X509CRL}
+	 *
+	 * @param crlValidity
+	 *            the CRL Validity
+	 * @param consumer
+	 *            the {@code Consumer} of the revoked certificate entries
+	 */
+	default void processRevokedCertificates(final CRLValidity crlValidity, final Consumer<X509CRLEntry> consumer) {
+		try (InputStream is = crlValidity.toCRLInputStream()) {
+			final X509CRL crl = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(is);
+			final Set<? extends X509CRLEntry> revokedCertificates = crl.getRevokedCertificates();
+			if (revokedCertificates != null) {
+				for (X509CRLEntry crlEntry : revokedCertificates) {
+					consumer.accept(crlEntry);
+				}
+			}
+		} catch (IOException | GeneralSecurityException e) {
+			throw new DSSException(String.format("Unable to process the revoked certificates. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 }
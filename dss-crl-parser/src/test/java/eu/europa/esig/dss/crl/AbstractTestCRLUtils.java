@@ -35,13 +35,17 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -263,6 +267,103 @@ public abstract class AbstractTestCRLUtils extends AbstractCRLParserTestUtils {
 		}
 	}
 
+	@Test
+	public void processRevokedCertificatesTest() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(toByteArray(is));
+			CRLValidity validity = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+
+			List<X509CRLEntry> entries = new ArrayList<>();
+			CRLUtils.processRevokedCertificates(validity, entries::add);
+			assertFalse(entries.isEmpty());
+
+			for (X509CRLEntry entry : entries) {
+				assertNotNull(entry.getSerialNumber());
+				assertNotNull(entry.getRevocationDate());
+			}
+
+			X509CRLEntry firstEntry = entries.get(0);
+			X509CRLEntry lookupEntry = CRLUtils.getRevocationInfo(validity, firstEntry.getSerialNumber());
+			assertNotNull(lookupEntry);
+			assertEquals(lookupEntry.getRevocationDate(), firstEntry.getRevocationDate());
+			assertEquals(lookupEntry.getRevocationReason(), firstEntry.getRevocationReason());
+
+			X509CRLEntry lastEntry = entries.get(entries.size() - 1);
+			lookupEntry = CRLUtils.getRevocationInfo(validity, lastEntry.getSerialNumber());
+			assertNotNull(lookupEntry);
+			assertEquals(lookupEntry.getRevocationDate(), lastEntry.getRevocationDate());
+		}
+	}
+
+	@Test
+	public void revokedCertificatesIndexTest() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(toByteArray(is));
+			CRLValidity validity = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+			assertNull(validity.getRevokedCertificatesIndex());
+
+			List<X509CRLEntry> entries = new ArrayList<>();
+			CRLUtils.processRevokedCertificates(validity, entries::add);
+
+			CRLRevokedCertificatesIndex index = CRLRevokedCertificatesIndex.build(validity);
+			assertEquals(entries.size(), index.size());
+			for (X509CRLEntry entry : entries) {
+				assertTrue(index.isRevoked(entry.getSerialNumber()));
+				assertEquals(entry.getRevocationDate(), index.getRevocationDate(entry.getSerialNumber()));
+				assertEquals(entry.getRevocationReason() != null, index.getRevocationReason(entry.getSerialNumber()) != null);
+			}
+
+			BigInteger serialNumber = new BigInteger("111111111111111111111111111");
+			assertFalse(index.isRevoked(serialNumber));
+			assertNull(index.getRevocationDate(serialNumber));
+			assertNull(index.getRevocationReason(serialNumber));
+		}
+	}
+
+	@Test
+	public void crlValidityCacheTest() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/belgium2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/belgiumrs2.crt");
+				InputStream isWrongCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+			CertificateToken certificateToken = loadCert(isCer);
+			CertificateToken wrongCertificateToken = loadCert(isWrongCer);
+			byte[] crlBinaries = toByteArray(is);
+
+			CRLValidityCache cache = CRLValidityCache.getInstance();
+			assertFalse(cache.isEnabled());
+			assertNotSame(CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), certificateToken),
+					CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), certificateToken));
+
+			try {
+				cache.setMaxSize(10);
+
+				CRLValidity validCRL = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), certificateToken);
+				assertTrue(validCRL.isValid());
+				assertNotNull(validCRL.getRevokedCertificatesIndex());
+				assertSame(validCRL, CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), certificateToken));
+				assertEquals(1, cache.size());
+
+				// the verification result depends on the issuer
+				CRLValidity invalidCRL = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), wrongCertificateToken);
+				assertNotSame(validCRL, invalidCRL);
+				assertFalse(invalidCRL.isSignatureIntact());
+				assertEquals(2, cache.size());
+
+			} finally {
+				cache.setMaxSize(0);
+			}
+			assertEquals(0, cache.size());
+		}
+	}
+
 	@Test
 	public void testARLFile() throws Exception {
 		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/notaires2020.arl");
@@ -48,8 +48,10 @@ import eu.europa.esig.dss.jaxb.object.Message;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class represents the detailed report built during the validation process. It contains information on each
@@ -77,6 +79,26 @@ public class DetailedReport {
 	 */
 	private DetailedReportMessageCollector messageCollector;
 
+	/**
+	 * Map of Basic Building Blocks by token ids (lazy loaded)
+	 */
+	private Map<String, XmlBasicBuildingBlocks> basicBuildingBlocksById;
+
+	/**
+	 * Map of signatures by ids (lazy loaded)
+	 */
+	private Map<String, XmlSignature> signaturesById;
+
+	/**
+	 * Map of timestamps (independent and signature timestamps) by ids (lazy loaded)
+	 */
+	private Map<String, XmlTimestamp> timestampsById;
+
+	/**
+	 * Map of certificates by ids (lazy loaded)
+	 */
+	private Map<String, XmlCertificate> certificatesById;
+
 	/**
 	 * The default constructor
 	 *
@@ -144,15 +166,16 @@ public class DetailedReport {
 	 * @return the XmlBasicBuildingBlocks
 	 */
 	public XmlBasicBuildingBlocks getBasicBuildingBlockById(String tokenId) {
-		List<XmlBasicBuildingBlocks> basicBuildingBlocks = jaxbDetailedReport.getBasicBuildingBlocks();
-		if (basicBuildingBlocks != null) {
-			for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : basicBuildingBlocks) {
-				if (tokenId.equals(xmlBasicBuildingBlocks.getId())) {
-					return xmlBasicBuildingBlocks;
+		if (basicBuildingBlocksById == null) {
+			basicBuildingBlocksById = new HashMap<>();
+			List<XmlBasicBuildingBlocks> basicBuildingBlocks = jaxbDetailedReport.getBasicBuildingBlocks();
+			if (basicBuildingBlocks != null) {
+				for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : basicBuildingBlocks) {
+					basicBuildingBlocksById.putIfAbsent(xmlBasicBuildingBlocks.getId(), xmlBasicBuildingBlocks);
 				}
 			}
 		}
-		return null;
+		return basicBuildingBlocksById.get(tokenId);
 	}
 
 	/**
@@ -445,22 +468,18 @@ public class DetailedReport {
 	 * @return {@link XmlTimestamp}
 	 */
 	public XmlTimestamp getXmlTimestampById(String timestampId) {
-		for (XmlTimestamp xmlTimestamp : getIndependentTimestamps()) {
-			if (xmlTimestamp.getId().equals(timestampId)) {
-				return xmlTimestamp;
+		if (timestampsById == null) {
+			timestampsById = new HashMap<>();
+			for (XmlTimestamp xmlTimestamp : getIndependentTimestamps()) {
+				timestampsById.putIfAbsent(xmlTimestamp.getId(), xmlTimestamp);
 			}
-		}
-
-		List<XmlSignature> signatures = getSignatures();
-		for (XmlSignature xmlSignature : signatures) {
-			List<XmlTimestamp> timestamps = xmlSignature.getTimestamps();
-			for (XmlTimestamp xmlTimestamp : timestamps) {
-				if (xmlTimestamp.getId().equals(timestampId)) {
-					return xmlTimestamp;
+			for (XmlSignature xmlSignature : getSignatures()) {
+				for (XmlTimestamp xmlTimestamp : xmlSignature.getTimestamps()) {
+					timestampsById.putIfAbsent(xmlTimestamp.getId(), xmlTimestamp);
 				}
 			}
 		}
-		return null;
+		return timestampsById.get(timestampId);
 	}
 
 	/**
@@ -471,15 +490,13 @@ public class DetailedReport {
 	 * @return {@link XmlSignature}
 	 */
 	public XmlSignature getXmlSignatureById(String signatureId) {
-		List<XmlSignature> signatures = getSignatures();
-		if (signatures != null) {
-			for (XmlSignature xmlSignature : signatures) {
-				if (signatureId.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
+		if (signaturesById == null) {
+			signaturesById = new HashMap<>();
+			for (XmlSignature xmlSignature : getSignatures()) {
+				signaturesById.putIfAbsent(xmlSignature.getId(), xmlSignature);
 			}
 		}
-		return null;
+		return signaturesById.get(signatureId);
 	}
 
 	/**
@@ -490,15 +507,13 @@ public class DetailedReport {
 	 * @return {@link XmlCertificate}
 	 */
 	public XmlCertificate getXmlCertificateById(String certificateId) {
-		List<XmlCertificate> certificates = getCertificates();
-		if (certificates != null) {
-			for (XmlCertificate xmlCertificate : certificates) {
-				if (certificateId.equals(xmlCertificate.getId())) {
-					return xmlCertificate;
-				}
+		if (certificatesById == null) {
+			certificatesById = new HashMap<>();
+			for (XmlCertificate xmlCertificate : getCertificates()) {
+				certificatesById.putIfAbsent(xmlCertificate.getId(), xmlCertificate);
 			}
 		}
-		return null;
+		return certificatesById.get(certificateId);
 	}
 
 	/**
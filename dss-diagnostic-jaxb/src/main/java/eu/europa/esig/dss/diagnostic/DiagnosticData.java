@@ -48,10 +48,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * This class represents all static data extracted by the process analysing the signature. They are independent from the
@@ -73,6 +76,27 @@ public class DiagnosticData {
 	/** List of found timestamps */
 	private List<TimestampWrapper> usedTimestamps;
 
+	/** List of used revocation data */
+	private List<RevocationWrapper> usedRevocations;
+
+	/** List of found orphan certificate values */
+	private List<OrphanCertificateTokenWrapper> orphanCertificateValues;
+
+	/** Map of found signatures by their ids */
+	private Map<String, SignatureWrapper> signaturesById;
+
+	/** Map of used certificates by their ids */
+	private Map<String, CertificateWrapper> certificatesById;
+
+	/** Map of found timestamps by their ids */
+	private Map<String, TimestampWrapper> timestampsById;
+
+	/** Map of used revocation data by their ids */
+	private Map<String, RevocationWrapper> revocationsById;
+
+	/** Map of found orphan certificate values by their ids */
+	private Map<String, OrphanCertificateTokenWrapper> orphanCertificatesById;
+
 	/**
 	 * Default constructor
 	 *
@@ -628,25 +652,16 @@ public class DiagnosticData {
 	 * @return a signature wrapper or null
 	 */
 	public SignatureWrapper getSignatureById(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
+		if (signaturesById == null) {
+			signaturesById = indexById(getSignatures(), SignatureWrapper::getId);
 		}
-		return null;
+		return signaturesById.get(id);
 	}
 
 	private SignatureWrapper getSignatureByIdNullSafe(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
+		SignatureWrapper signature = getSignatureById(id);
+		if (signature != null) {
+			return signature;
 		}
 		return new SignatureWrapper(new XmlSignature()); // TODO improve ?
 	}
@@ -667,13 +682,10 @@ public class DiagnosticData {
 	 * @return timestamp wrapper or null
 	 */
 	public TimestampWrapper getTimestampById(String id) {
-		List<TimestampWrapper> allTimestamps = getTimestampList();
-		for (TimestampWrapper timestampWrapper : allTimestamps) {
-			if (id.equals(timestampWrapper.getId())) {
-				return timestampWrapper;
-			}
+		if (timestampsById == null) {
+			timestampsById = indexById(getTimestampList(), TimestampWrapper::getId);
 		}
-		return null;
+		return timestampsById.get(id);
 	}
 
 	/**
@@ -699,15 +711,10 @@ public class DiagnosticData {
 	 * @return a certificate wrapper or null
 	 */
 	public CertificateWrapper getUsedCertificateById(String id) {
-		List<CertificateWrapper> certificates = getUsedCertificates();
-		if (certificates != null) {
-			for (CertificateWrapper certificate : certificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
-			}
+		if (certificatesById == null) {
+			certificatesById = indexById(getUsedCertificates(), CertificateWrapper::getId);
 		}
-		return null;
+		return certificatesById.get(id);
 	}
 
 	/**
@@ -718,15 +725,10 @@ public class DiagnosticData {
 	 * @return a orphan certificate wrapper or null
 	 */
 	public OrphanCertificateTokenWrapper getOrphanCertificateById(String id) {
-		List<OrphanCertificateTokenWrapper> orphanCertificates = getAllOrphanCertificateObjects();
-		if (orphanCertificates != null) {
-			for (OrphanCertificateTokenWrapper certificate : orphanCertificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
-			}
+		if (orphanCertificatesById == null) {
+			orphanCertificatesById = indexById(getOrphanCertificateValues(), OrphanCertificateTokenWrapper::getId);
 		}
-		return null;
+		return orphanCertificatesById.get(id);
 	}
 	
 	/**
@@ -750,15 +752,21 @@ public class DiagnosticData {
 	 * @return list of {@link OrphanCertificateWrapper}s
 	 */
 	public List<OrphanCertificateTokenWrapper> getAllOrphanCertificateObjects() {
-		List<OrphanCertificateTokenWrapper> orphanCertificateValues = new ArrayList<>();
-		if (wrapped.getOrphanTokens() != null) {
-			for (XmlOrphanCertificateToken orphanToken : wrapped.getOrphanTokens().getOrphanCertificates()) {
-				OrphanCertificateTokenWrapper orphanCertificate = new OrphanCertificateTokenWrapper(orphanToken);
-				if (XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType()) &&
-						!orphanCertificateValues.contains(orphanCertificate)) {
-					orphanCertificateValues.add(orphanCertificate);
+		return new ArrayList<>(getOrphanCertificateValues());
+	}
+
+	private List<OrphanCertificateTokenWrapper> getOrphanCertificateValues() {
+		if (orphanCertificateValues == null) {
+			// LinkedHashSet is used to remove duplicates, while keeping the order
+			Set<OrphanCertificateTokenWrapper> orphanCertificates = new LinkedHashSet<>();
+			if (wrapped.getOrphanTokens() != null) {
+				for (XmlOrphanCertificateToken orphanToken : wrapped.getOrphanTokens().getOrphanCertificates()) {
+					if (XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType())) {
+						orphanCertificates.add(new OrphanCertificateTokenWrapper(orphanToken));
+					}
 				}
 			}
+			orphanCertificateValues = new ArrayList<>(orphanCertificates);
 		}
 		return orphanCertificateValues;
 	}
@@ -878,7 +886,7 @@ public class DiagnosticData {
 	 */
 	public List<OrphanCertificateTokenWrapper> getOrphanEquivalentCertificates(CertificateWrapper certificate) {
 		List<OrphanCertificateTokenWrapper> equivalentCertificates = new ArrayList<>();
-		for (OrphanCertificateTokenWrapper candidate : getAllOrphanCertificateObjects()) {
+		for (OrphanCertificateTokenWrapper candidate : getOrphanCertificateValues()) {
 			if (!certificate.getId().equals(candidate.getId()) && certificate.getEntityKey().equals(candidate.getEntityKey())) {
 				equivalentCertificates.add(candidate);
 			}
@@ -1005,11 +1013,20 @@ public class DiagnosticData {
 	 * @return a set of revocation data
 	 */
 	public Set<RevocationWrapper> getAllRevocationData() {
-		Set<RevocationWrapper> revocationData = new HashSet<>();
-		for (XmlRevocation xmlRevocation : wrapped.getUsedRevocations()) {
-			revocationData.add(new RevocationWrapper(xmlRevocation));
+		return new HashSet<>(getUsedRevocations());
+	}
+
+	private List<RevocationWrapper> getUsedRevocations() {
+		if (usedRevocations == null) {
+			usedRevocations = new ArrayList<>();
+			List<XmlRevocation> xmlRevocations = wrapped.getUsedRevocations();
+			if (xmlRevocations != null) {
+				for (XmlRevocation xmlRevocation : xmlRevocations) {
+					usedRevocations.add(new RevocationWrapper(xmlRevocation));
+				}
+			}
 		}
-		return revocationData;
+		return usedRevocations;
 	}
 	
 	/**
@@ -1035,12 +1052,7 @@ public class DiagnosticData {
 	 * @return {@link CertificateWrapper}
 	 */
 	public CertificateWrapper getCertificateById(String id) {
-		for (CertificateWrapper certificateWrapper : getUsedCertificates()) {
-			if (id.equals(certificateWrapper.getId())) {
-				return certificateWrapper;
-			}
-		}
-		return null;
+		return getUsedCertificateById(id);
 	}
 	
 	/**
@@ -1049,12 +1061,26 @@ public class DiagnosticData {
 	 * @return {@link RevocationWrapper}
 	 */
 	public RevocationWrapper getRevocationById(String id) {
-		for (RevocationWrapper revocationWrapper : getAllRevocationData()) {
-			if (id.equals(revocationWrapper.getId())) {
-				return revocationWrapper;
-			}
+		if (revocationsById == null) {
+			revocationsById = indexById(getUsedRevocations(), RevocationWrapper::getId);
 		}
-		return null;
+		return revocationsById.get(id);
+	}
+
+	/**
+	 * Builds a map between token ids and the tokens. The first occurrence is kept in case of duplicate ids.
+	 *
+	 * @param tokens a list of tokens to index
+	 * @param idExtractor a function returning the id of a token
+	 * @param <T> token wrapper type
+	 * @return a map between token ids and the tokens
+	 */
+	private static <T> Map<String, T> indexById(List<T> tokens, Function<T, String> idExtractor) {
+		final Map<String, T> result = new HashMap<>();
+		for (T token : tokens) {
+			result.putIfAbsent(idExtractor.apply(token), token);
+		}
+		return result;
 	}
 	
 	/**
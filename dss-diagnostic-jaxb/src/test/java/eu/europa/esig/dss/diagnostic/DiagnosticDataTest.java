@@ -0,0 +1,86 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.diagnostic;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlRevocation;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlTimestamp;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DiagnosticDataTest {
+
+	@Test
+	public void getByIdTest() {
+		XmlDiagnosticData xmlDiagnosticData = new XmlDiagnosticData();
+		for (int i = 0; i < 100; i++) {
+			XmlSignature xmlSignature = new XmlSignature();
+			xmlSignature.setId("S-" + i);
+			xmlDiagnosticData.getSignatures().add(xmlSignature);
+
+			XmlCertificate xmlCertificate = new XmlCertificate();
+			xmlCertificate.setId("C-" + i);
+			xmlDiagnosticData.getUsedCertificates().add(xmlCertificate);
+
+			XmlRevocation xmlRevocation = new XmlRevocation();
+			xmlRevocation.setId("R-" + i);
+			xmlDiagnosticData.getUsedRevocations().add(xmlRevocation);
+
+			XmlTimestamp xmlTimestamp = new XmlTimestamp();
+			xmlTimestamp.setId("T-" + i);
+			xmlDiagnosticData.getUsedTimestamps().add(xmlTimestamp);
+		}
+
+		// duplicate id, the first occurrence is returned
+		XmlCertificate duplicate = new XmlCertificate();
+		duplicate.setId("C-0");
+		xmlDiagnosticData.getUsedCertificates().add(duplicate);
+
+		DiagnosticData diagnosticData = new DiagnosticData(xmlDiagnosticData);
+
+		SignatureWrapper signature = diagnosticData.getSignatureById("S-42");
+		assertEquals("S-42", signature.getId());
+		assertSame(diagnosticData.getSignatures().get(42), signature);
+		assertSame(signature, diagnosticData.getSignatureById("S-42"));
+		assertNull(diagnosticData.getSignatureById("S-100"));
+
+		CertificateWrapper certificate = diagnosticData.getUsedCertificateById("C-0");
+		assertSame(diagnosticData.getUsedCertificates().get(0), certificate);
+		assertSame(certificate, diagnosticData.getCertificateById("C-0"));
+		assertNull(diagnosticData.getUsedCertificateById("C-100"));
+
+		RevocationWrapper revocation = diagnosticData.getRevocationById("R-99");
+		assertEquals("R-99", revocation.getId());
+		assertSame(revocation, diagnosticData.getRevocationById("R-99"));
+		assertNull(diagnosticData.getRevocationById("R-100"));
+		assertEquals(100, diagnosticData.getAllRevocationData().size());
+
+		TimestampWrapper timestamp = diagnosticData.getTimestampById("T-7");
+		assertSame(diagnosticData.getTimestampList().get(7), timestamp);
+		assertNull(diagnosticData.getTimestampById("T-100"));
+	}
+
+}
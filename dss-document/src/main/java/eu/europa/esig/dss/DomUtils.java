@@ -67,9 +67,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The utils for dealing with {@code org.w3c.dom} objects
@@ -122,6 +124,18 @@ public final class DomUtils {
 		namespacePrefixMapper = new NamespaceContextMap();
 	}
 
+	/** The maximum number of compiled XPath expressions kept per thread */
+	private static final int XPATH_CACHE_SIZE = 512;
+
+	/** The version of the namespace context, incremented on each namespace registration */
+	private static final AtomicInteger namespaceContextVersion = new AtomicInteger();
+
+	/**
+	 * The cache of compiled XPath expressions.
+	 * NOTE: {@code XPath} and {@code XPathExpression} objects are not thread-safe, therefore the cache is per thread.
+	 */
+	private static final ThreadLocal<XPathExpressionCache> xPathExpressionCache = ThreadLocal.withInitial(XPathExpressionCache::new);
+
 	/**
 	 * This method allows to register a namespace and associated prefix. If the prefix exists already it is replaced.
 	 *
@@ -138,7 +152,10 @@ public final class DomUtils {
 		if (XMLNS.equals(prefix)) {
 			throw new UnsupportedOperationException(String.format("The default namespace '%s' cannot be registered!", XMLNS));
 		}
-		return namespacePrefixMapper.registerNamespace(prefix, uri);
+		final boolean result = namespacePrefixMapper.registerNamespace(prefix, uri);
+		// prefixes are resolved on XPath compilation, the cached expressions shall be compiled again
+		namespaceContextVersion.incrementAndGet();
+		return result;
 	}
 
 	/**
@@ -360,6 +377,119 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * Returns a compiled XPath expression for the given xpath string from the current thread cache,
+	 * or compiles and caches it if not present
+	 *
+	 * @param xpathString XPath query string
+	 * @return {@link XPathExpression}
+	 */
+	private static XPathExpression getCompiledXPathExpression(final String xpathString) {
+		final XPathExpressionCache cache = xPathExpressionCache.get();
+		final int currentVersion = namespaceContextVersion.get();
+		if (cache.namespaceContextVersion != currentVersion) {
+			cache.clear();
+			cache.namespaceContextVersion = currentVersion;
+		}
+		XPathExpression expression = cache.get(xpathString);
+		if (expression == null) {
+			try {
+				expression = cache.getXPath().compile(xpathString);
+			} catch (XPathExpressionException e) {
+				throw new DSSException(String.format("Unable to create an XPath expression : %s", e.getMessage()), e);
+			}
+			cache.put(xpathString, expression);
+		}
+		return expression;
+	}
+
+	/**
+	 * Evaluates a simple relative XPath of form "./prefix:Name/prefix:Name..." by a direct DOM navigation.
+	 * Returns null when the XPath is not of the supported form (or a prefix is not registered),
+	 * in which case the XPath engine shall be used.
+	 *
+	 * @param xmlNode the context node
+	 * @param xPathString XPath query string
+	 * @return a list of matching elements in the document order, or null if the fast path is not applicable
+	 */
+	private static List<Node> getChildElementsByPath(final Node xmlNode, final String xPathString) {
+		if (xmlNode == null || xPathString == null || !xPathString.startsWith("./") || xPathString.length() == 2) {
+			return null;
+		}
+		final List<String> namespaceUris = new ArrayList<>();
+		final List<String> localNames = new ArrayList<>();
+		int start = 2;
+		while (start <= xPathString.length()) {
+			int end = xPathString.indexOf('/', start);
+			if (end == -1) {
+				end = xPathString.length();
+			}
+			final int colon = xPathString.indexOf(':', start);
+			if (colon == -1 || colon >= end || !isNCName(xPathString, start, colon) || !isNCName(xPathString, colon + 1, end)) {
+				return null;
+			}
+			final String namespaceUri = namespacePrefixMapper.getNamespaceURI(xPathString.substring(start, colon));
+			if (Utils.isStringEmpty(namespaceUri)) {
+				return null;
+			}
+			namespaceUris.add(namespaceUri);
+			localNames.add(xPathString.substring(colon + 1, end));
+			start = end + 1;
+		}
+
+		List<Node> currentNodes = new ArrayList<>();
+		currentNodes.add(xmlNode);
+		for (int i = 0; i < localNames.size() && !currentNodes.isEmpty(); i++) {
+			final List<Node> nextNodes = new ArrayList<>();
+			for (Node currentNode : currentNodes) {
+				Node child = currentNode.getFirstChild();
+				while (child != null) {
+					if (Node.ELEMENT_NODE == child.getNodeType()) {
+						final String localName = child.getLocalName();
+						if (localName == null) {
+							// not a namespace-aware DOM
+							return null;
+						}
+						if (localNames.get(i).equals(localName) && namespaceUris.get(i).equals(child.getNamespaceURI())) {
+							nextNodes.add(child);
+						}
+					}
+					child = child.getNextSibling();
+				}
+			}
+			currentNodes = nextNodes;
+		}
+		return currentNodes;
+	}
+
+	private static boolean isNCName(final String str, final int start, final int end) {
+		if (start >= end) {
+			return false;
+		}
+		final char first = str.charAt(start);
+		if (!Character.isLetter(first) && first != '_') {
+			return false;
+		}
+		for (int i = start + 1; i < end; i++) {
+			final char c = str.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasNonTextChild(final Node node) {
+		Node child = node.getFirstChild();
+		while (child != null) {
+			if (Node.TEXT_NODE != child.getNodeType() && Node.CDATA_SECTION_NODE != child.getNodeType()) {
+				return true;
+			}
+			child = child.getNextSibling();
+		}
+		return false;
+	}
+
 	/**
 	 * Returns the String value of the corresponding to the XPath query.
 	 *
@@ -370,8 +500,12 @@ public final class DomUtils {
 	 * @return string value of the XPath query
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
+		final List<Node> nodes = getChildElementsByPath(xmlNode, xPathString);
+		if (nodes != null) {
+			return nodes.isEmpty() ? Utils.EMPTY_STRING : Utils.trim(nodes.get(0).getTextContent());
+		}
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
+			final XPathExpression xPathExpression = getCompiledXPathExpression(xPathString);
 			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
 			return Utils.trim(string);
 		} catch (XPathExpressionException e) {
@@ -389,8 +523,12 @@ public final class DomUtils {
 	 * @return the NodeList corresponding to the XPath query
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
+		final List<Node> nodes = getChildElementsByPath(xmlNode, xPathString);
+		if (nodes != null) {
+			return new DOMNodeList(nodes);
+		}
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
+			final XPathExpression expr = getCompiledXPathExpression(xPathString);
 			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to find a NodeList by the given xPathString '%s'. Reason : %s",
@@ -438,6 +576,15 @@ public final class DomUtils {
 	 * @return true if the current node has any filled child node
 	 */
 	public static boolean isNotEmpty(final Node xmlNode, final String xPathString) {
+		final List<Node> nodes = getChildElementsByPath(xmlNode, xPathString);
+		if (nodes != null) {
+			for (Node node : nodes) {
+				if (hasNonTextChild(node)) {
+					return true;
+				}
+			}
+			return false;
+		}
 		return getNodesAmount(xmlNode, xPathString + "/child::node()[not(self::text())]") > 0;
 	}
 
@@ -861,4 +1008,59 @@ public final class DomUtils {
 		return null;
 	}
 
+	/**
+	 * The per-thread LRU cache of compiled XPath expressions
+	 */
+	@SuppressWarnings("serial")
+	private static final class XPathExpressionCache extends LinkedHashMap<String, XPathExpression> {
+
+		/** The XPath instance used to compile the expressions */
+		private XPath xPath;
+
+		/** The namespace context version the cached expressions have been compiled with */
+		private int namespaceContextVersion = -1;
+
+		private XPathExpressionCache() {
+			super(16, 0.75f, true);
+		}
+
+		private XPath getXPath() {
+			if (xPath == null) {
+				xPath = factory.newXPath();
+				xPath.setNamespaceContext(namespacePrefixMapper);
+			}
+			return xPath;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+			return size() > XPATH_CACHE_SIZE;
+		}
+
+	}
+
+	/**
+	 * A {@code NodeList} implementation for nodes obtained with a DOM navigation
+	 */
+	private static final class DOMNodeList implements NodeList {
+
+		/** The list of nodes */
+		private final List<Node> nodes;
+
+		private DOMNodeList(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		public Node item(int index) {
+			return index >= 0 && index < nodes.size() ? nodes.get(index) : null;
+		}
+
+		@Override
+		public int getLength() {
+			return nodes.size();
+		}
+
+	}
+
 }
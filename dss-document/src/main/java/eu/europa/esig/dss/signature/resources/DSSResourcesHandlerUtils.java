@@ -0,0 +1,84 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.signature.resources;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Utils used to store documents received as a stream by means of a {@code DSSResourcesHandler},
+ * and to remove them once processed
+ */
+public final class DSSResourcesHandlerUtils {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DSSResourcesHandlerUtils.class);
+
+	private DSSResourcesHandlerUtils() {
+		// empty
+	}
+
+	/**
+	 * Copies the content of the {@code inputStream} to a new {@code DSSDocument}
+	 * created by a resources handler of the given builder
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder} to store the document with
+	 * @param inputStream {@link InputStream} to read
+	 * @param documentName {@link String} name of the document
+	 * @return {@link DSSDocument}
+	 * @throws IOException if an error occurs on reading or writing the data
+	 */
+	public static DSSDocument toDSSDocument(DSSResourcesHandlerBuilder resourcesHandlerBuilder,
+											InputStream inputStream, String documentName) throws IOException {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				Utils.copy(inputStream, os);
+			}
+			DSSDocument document = resourcesHandler.writeToDSSDocument();
+			document.setName(documentName);
+			return document;
+		}
+	}
+
+	/**
+	 * Removes the file of the document, when the document is stored within the filesystem
+	 * (e.g. a temporary file created by a {@code TempFileResourcesHandler}).
+	 * Does nothing for other document types.
+	 *
+	 * @param document {@link DSSDocument} to remove
+	 */
+	public static void delete(DSSDocument document) {
+		if (document instanceof FileDocument) {
+			File file = ((FileDocument) document).getFile();
+			if (file.exists() && !file.delete()) {
+				LOG.warn("Unable to remove a temporary file '{}'", file.getName());
+			}
+		}
+	}
+
+}
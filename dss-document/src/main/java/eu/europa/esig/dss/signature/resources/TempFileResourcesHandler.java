@@ -35,6 +35,9 @@ import java.nio.file.Files;
 /**
  * This resources factory stores temporary documents to a unique file within filesystem.
  * Removes temporary files on exit, unless they have been used within a {@code eu.europa.esig.dss.model.FileDocument}.
+ * <p>
+ * NOTE: the removal on exit keeps the path of each file in memory until the JVM exits. A long-running application
+ * removing the files itself (e.g. with {@code DSSResourcesHandlerUtils#delete}) should disable it.
  *
  */
 public class TempFileResourcesHandler extends AbstractResourcesHandler {
@@ -55,9 +58,24 @@ public class TempFileResourcesHandler extends AbstractResourcesHandler {
      * @param tempFileDirectory {@link File} representing a directory to store temporary documents in
      */
     public TempFileResourcesHandler(String fileNamePrefix, String fileNameSuffix, File tempFileDirectory) {
+        this(fileNamePrefix, fileNameSuffix, tempFileDirectory, true);
+    }
+
+    /**
+     * Constructor allowing to disable the removal of the temporary file on exit
+     *
+     * @param fileNamePrefix {@link String} filename prefix string
+     * @param fileNameSuffix {@link String} filename suffix string
+     * @param tempFileDirectory {@link File} representing a directory to store temporary documents in
+     * @param deleteOnExit whether the temporary file shall be registered for a removal on JVM exit
+     */
+    public TempFileResourcesHandler(String fileNamePrefix, String fileNameSuffix, File tempFileDirectory,
+                                    boolean deleteOnExit) {
         try {
             this.tempFile = Files.createTempFile(tempFileDirectory.toPath(), fileNamePrefix, fileNameSuffix).toFile();
-            this.tempFile.deleteOnExit();
+            if (deleteOnExit) {
+                this.tempFile.deleteOnExit();
+            }
         } catch (IOException e) {
             throw new DSSException(String.format("Unable to create a temporary file. Reason : %s", e.getMessage()), e);
         }
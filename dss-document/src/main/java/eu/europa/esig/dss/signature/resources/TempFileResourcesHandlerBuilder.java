@@ -72,6 +72,13 @@ public class TempFileResourcesHandlerBuilder implements DSSResourcesHandlerBuild
      */
     private File tempFileDirectory = new File(System.getProperty("java.io.tmpdir"));
 
+    /**
+     * Defines whether the created files are registered for a removal on JVM exit and kept for {@code #clear()}
+     *
+     * Default : TRUE
+     */
+    private boolean deleteOnExit = true;
+
     /**
      * Sets the filename prefix (beginning) for created temporary documents
      *
@@ -111,6 +118,24 @@ public class TempFileResourcesHandlerBuilder implements DSSResourcesHandlerBuild
         return this;
     }
 
+    /**
+     * Sets whether the created temporary files are registered for a removal on JVM exit
+     * (see {@code File#deleteOnExit}) and kept by the builder for {@code #clear()}.
+     *
+     * Shall be disabled by a long-running application (e.g. a web service) removing the files itself
+     * (e.g. with {@code DSSResourcesHandlerUtils#delete}), as both keep a reference to each created file
+     * until the JVM exits or the builder is cleared.
+     *
+     * Default : TRUE
+     *
+     * @param deleteOnExit whether the created files are removed on exit
+     * @return {@link TempFileResourcesHandlerBuilder} this builder
+     */
+    public TempFileResourcesHandlerBuilder setDeleteOnExit(boolean deleteOnExit) {
+        this.deleteOnExit = deleteOnExit;
+        return this;
+    }
+
     @Override
     public TempFileResourcesHandler createResourcesHandler() {
         if (!tempFileDirectory.exists()) {
@@ -123,8 +148,10 @@ public class TempFileResourcesHandlerBuilder implements DSSResourcesHandlerBuild
                         tempFileDirectory.getName()));
             }
         }
-        TempFileResourcesHandler handler = new TempFileResourcesHandler(fileNamePrefix, fileNameSuffix, tempFileDirectory);
-        handlers.add(handler);
+        TempFileResourcesHandler handler = new TempFileResourcesHandler(fileNamePrefix, fileNameSuffix, tempFileDirectory, deleteOnExit);
+        if (deleteOnExit) {
+            handlers.add(handler);
+        }
         return handler;
     }
 
@@ -134,7 +161,7 @@ public class TempFileResourcesHandlerBuilder implements DSSResourcesHandlerBuild
      * and should be called on user's side when the temporary files are no longer needed.
      *
      * NOTE: do not forget to preserve the output documents, such as a FileDocument returned by a
-     *       {@code #signDocument()} method.
+     *       {@code #signDocument()} method. The files created with a disabled {@code deleteOnExit} are not removed.
      */
     public void clear() {
         for (TempFileResourcesHandler handler : handlers) {
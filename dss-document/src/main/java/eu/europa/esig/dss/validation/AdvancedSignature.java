@@ -45,6 +45,7 @@ import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Provides an abstraction for an Advanced Electronic Signature. This ease the validation process. Every signature
@@ -148,6 +149,15 @@ public interface AdvancedSignature extends IdentifierBasedObject, Serializable {
 	 */
 	DigestAlgorithm getDigestAlgorithm();
 
+	/**
+	 * Retrieves the digest algorithms used to compute the digests of the signed data objects
+	 * (e.g. the detached contents covered by the signature references).
+	 * NOTE: the returned algorithms may differ from the digest algorithm used for generating the signature.
+	 *
+	 * @return a set of {@code DigestAlgorithm}s
+	 */
+	Set<DigestAlgorithm> getReferencesDigestAlgorithms();
+
 	/**
 	 * Retrieves the mask generation function used for generating the signature.
 	 *
@@ -26,7 +26,7 @@ import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.validation.executor.certificate.CertificateProcessExecutor;
 import eu.europa.esig.dss.validation.executor.certificate.DefaultCertificateProcessExecutor;
 import eu.europa.esig.dss.validation.reports.CertificateReports;
@@ -151,7 +151,7 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 	public CertificateReports validate() {
 		ValidationPolicy defaultPolicy;
 		try {
-			defaultPolicy = ValidationPolicyFacade.newFacade().getCertificateValidationPolicy();
+			defaultPolicy = ValidationPolicyCache.getInstance().getCertificateValidationPolicy();
 		} catch (Exception e) {
 			throw new DSSException("Unable to load the default policy", e);
 		}
@@ -171,7 +171,7 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 				return validate();
 
 			} else {
-				ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				ValidationPolicy validationPolicy = ValidationPolicyCache.getInstance().getValidationPolicy(policyDataStream);
 				return validate(validationPolicy);
 			}
 
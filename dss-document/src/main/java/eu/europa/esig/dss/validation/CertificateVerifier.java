@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.Executor;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -130,6 +132,34 @@ public interface CertificateVerifier {
 	 */
 	void setRevocationFallback(boolean revocationFallback);
 
+	/**
+	 * Returns the {@code Executor} used to fetch the revocation data concurrently
+	 * <p>
+	 * The default implementation returns null (the revocation data is fetched sequentially)
+	 *
+	 * @return {@link Executor}
+	 */
+	default Executor getExecutor() {
+		return null;
+	}
+
+	/**
+	 * Sets the {@code Executor} to be used in order to fetch the independent revocation data
+	 * (e.g. for different certificates of a certificate chain) concurrently.
+	 * The fetched data is processed in the same order as in the sequential mode, thus
+	 * the validation result does not depend on the executor.
+	 * Default: null (the revocation data is fetched sequentially within the current thread)
+	 * <p>
+	 * NOTE: the used {@code RevocationSource}s shall be thread-safe when an executor is defined
+	 * <p>
+	 * The default implementation throws an {@code UnsupportedOperationException}
+	 *
+	 * @param executor {@link Executor} (e.g. a virtual thread per task executor)
+	 */
+	default void setExecutor(Executor executor) {
+		throw new UnsupportedOperationException("The executor is not supported by this CertificateVerifier!");
+	}
+
 	/**
 	 * Returns the trusted certificate sources associated with this verifier. These
 	 * sources are used to identify the trusted anchors.
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -91,6 +92,13 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private boolean revocationFallback = false;
 
+	/**
+	 * The executor used to fetch the revocation data concurrently.
+	 *
+	 * Default: null (the revocation data is fetched sequentially)
+	 */
+	private Executor executor;
+
 	/**
 	 * The AIA source used to download a certificate's issuer by the AIA URI(s)
 	 * defining within a certificate.
@@ -242,6 +250,16 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		this.revocationFallback = revocationFallback;
 	}
 
+	@Override
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	@Override
 	public ListCertificateSource getTrustedCertSources() {
 		return trustedCertSources;
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.validation;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
@@ -40,6 +41,7 @@ import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A common implementation of {@code AdvancedSignature}
@@ -208,6 +210,16 @@ public abstract class DefaultAdvancedSignature implements AdvancedSignature {
 	public void setManifestFile(ManifestFile manifestFile) {
 		this.manifestFile = manifestFile;
 	}
+
+	@Override
+	public Set<DigestAlgorithm> getReferencesDigestAlgorithms() {
+		// by default, the signed data objects are digested with the algorithm used for the signature generation
+		final DigestAlgorithm digestAlgorithm = getDigestAlgorithm();
+		if (digestAlgorithm != null) {
+			return Collections.singleton(digestAlgorithm);
+		}
+		return Collections.emptySet();
+	}
 	
 	@Override
 	public SignatureIdentifier getDSSId() {
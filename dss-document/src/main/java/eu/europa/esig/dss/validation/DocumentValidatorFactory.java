@@ -38,6 +38,23 @@ public interface DocumentValidatorFactory {
 	 */
 	boolean isSupported(DSSDocument document);
 
+	/**
+	 * This method tests if a document starting with the given {@code preamble} may be supported
+	 * by the current implementation of {@link DocumentValidator}, without reading the document again.
+	 * It allows to skip the factory when the format is excluded by the first bytes of the document.
+	 * <p>
+	 * When TRUE is returned, {@code #isSupported(DSSDocument)} is executed on the document.
+	 * Default : TRUE (the format cannot be determined from the preamble)
+	 *
+	 * @param preamble
+	 *                 the first bytes of the document (can be shorter than
+	 *                 {@code DocumentValidatorFactoryRegistry.PREAMBLE_LENGTH} for a small document)
+	 * @return false, if the document is not supported, true if it may be supported
+	 */
+	default boolean isSupportedPreamble(byte[] preamble) {
+		return true;
+	}
+
 	/**
 	 * This method instantiates a {@link DocumentValidator} with the given document
 	 * 
@@ -0,0 +1,175 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * This class keeps the {@code DocumentValidatorFactory} implementations loaded with the {@code ServiceLoader},
+ * in order to avoid the service lookup and the instantiation of the factories for each document.
+ * <p>
+ * The first bytes of the document are read once and provided to the factories
+ * (see {@code DocumentValidatorFactory#isSupportedPreamble(byte[])}), so the factories not supporting
+ * the format are skipped without opening the document again.
+ * <p>
+ * The factories are loaded with the context class loader of the current thread, and loaded again
+ * when the class loader changes (e.g. for an application redeployed within a container).
+ */
+public final class DocumentValidatorFactoryRegistry {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DocumentValidatorFactoryRegistry.class);
+
+	/** The number of first bytes of the document provided to the factories */
+	public static final int PREAMBLE_LENGTH = 8;
+
+	/** The shared instance */
+	private static final DocumentValidatorFactoryRegistry INSTANCE = new DocumentValidatorFactoryRegistry();
+
+	/** The loaded factories, with the class loader used to load them */
+	private volatile LoadedFactories loadedFactories;
+
+	private DocumentValidatorFactoryRegistry() {
+		// singleton
+	}
+
+	/**
+	 * Returns the shared instance of the registry
+	 *
+	 * @return {@link DocumentValidatorFactoryRegistry}
+	 */
+	public static DocumentValidatorFactoryRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the available factories, in the {@code ServiceLoader} order
+	 *
+	 * @return an unmodifiable list of {@link DocumentValidatorFactory}s
+	 */
+	public List<DocumentValidatorFactory> getFactories() {
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		LoadedFactories current = loadedFactories;
+		if (current == null || current.classLoader.get() != classLoader) {
+			current = new LoadedFactories(classLoader, load());
+			loadedFactories = current;
+		}
+		return current.factories;
+	}
+
+	/**
+	 * Removes the loaded factories, which will be loaded again on the next call
+	 */
+	public void reload() {
+		loadedFactories = null;
+	}
+
+	/**
+	 * Instantiates a {@code SignedDocumentValidator} for the given document, with the first factory supporting it
+	 *
+	 * @param dssDocument {@link DSSDocument} to be validated
+	 * @return {@link SignedDocumentValidator}
+	 */
+	public SignedDocumentValidator fromDocument(DSSDocument dssDocument) {
+		Objects.requireNonNull(dssDocument, "DSSDocument is null");
+		return fromDocument(dssDocument, getFactories());
+	}
+
+	/**
+	 * Instantiates a {@code SignedDocumentValidator} for the given document, with the first of
+	 * the given {@code factories} supporting it
+	 *
+	 * @param dssDocument {@link DSSDocument} to be validated
+	 * @param factories a list of {@link DocumentValidatorFactory}s to be tested in the order
+	 * @return {@link SignedDocumentValidator}
+	 */
+	static SignedDocumentValidator fromDocument(DSSDocument dssDocument, List<DocumentValidatorFactory> factories) {
+		final byte[] preamble = readPreamble(dssDocument);
+		for (DocumentValidatorFactory factory : factories) {
+			if (preamble != null && !factory.isSupportedPreamble(preamble)) {
+				continue;
+			}
+			if (factory.isSupported(dssDocument)) {
+				return factory.create(dssDocument);
+			}
+		}
+		throw new UnsupportedOperationException("Document format not recognized/handled");
+	}
+
+	private List<DocumentValidatorFactory> load() {
+		final List<DocumentValidatorFactory> factories = new ArrayList<>();
+		for (DocumentValidatorFactory factory : ServiceLoader.load(DocumentValidatorFactory.class)) {
+			factories.add(factory);
+		}
+		LOG.debug("{} DocumentValidatorFactory implementation(s) loaded", factories.size());
+		return Collections.unmodifiableList(factories);
+	}
+
+	/**
+	 * Reads the first bytes of the document.
+	 * Returns null when the document cannot be read (e.g. a DigestDocument),
+	 * in which case the factories are tested on the document itself.
+	 */
+	private static byte[] readPreamble(DSSDocument dssDocument) {
+		try (InputStream is = dssDocument.openStream()) {
+			final byte[] preamble = new byte[PREAMBLE_LENGTH];
+			int offset = 0;
+			int read;
+			while (offset < PREAMBLE_LENGTH && (read = is.read(preamble, offset, PREAMBLE_LENGTH - offset)) != -1) {
+				offset += read;
+			}
+			return offset < PREAMBLE_LENGTH ? Arrays.copyOf(preamble, offset) : preamble;
+		} catch (IOException | RuntimeException e) {
+			LOG.debug("Unable to read the first bytes of the document : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Contains the factories loaded with a class loader
+	 */
+	private static final class LoadedFactories {
+
+		/** The class loader used to load the factories (weakly referenced to not prevent its unloading) */
+		private final WeakReference<ClassLoader> classLoader;
+
+		/** The loaded factories */
+		private final List<DocumentValidatorFactory> factories;
+
+		private LoadedFactories(ClassLoader classLoader, List<DocumentValidatorFactory> factories) {
+			this.classLoader = new WeakReference<>(classLoader);
+			this.factories = factories;
+		}
+
+	}
+
+}
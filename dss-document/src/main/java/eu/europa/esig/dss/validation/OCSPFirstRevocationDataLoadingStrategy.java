@@ -25,6 +25,8 @@ import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * This class fetches firstly OCSP token response, if not available, tries CRL and returns the first succeeded result
  *
@@ -63,4 +65,13 @@ public class OCSPFirstRevocationDataLoadingStrategy extends RevocationDataLoadin
         return null;
     }
 
+    @Override
+    public Map<CertificateToken, RevocationToken<?>> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+        if (certificatesAndIssuers.size() > 1) {
+            // OCSP is requested first for every certificate, the responses are obtained at once
+            prefetchOCSP(certificatesAndIssuers);
+        }
+        return super.getRevocationTokens(certificatesAndIssuers);
+    }
+
 }
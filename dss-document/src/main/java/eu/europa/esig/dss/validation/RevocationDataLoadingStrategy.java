@@ -24,11 +24,19 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.AlternateUrlsSourceAdapter;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPBatchSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * This class allows retrieving of Revocation data from CRL or OCSP sources, based on the defined strategy
  *
@@ -62,6 +70,12 @@ public abstract class RevocationDataLoadingStrategy {
 	 */
 	protected boolean fallbackEnabled = false;
 
+	/**
+	 * The OCSP tokens obtained with a batch request (see {@code #prefetchOCSP}).
+	 * The certificates without an obtained response are mapped to a null value.
+	 */
+	private Map<CertificateToken, OCSPToken> prefetchedOCSPTokens;
+
 	/**
 	 * Default constructor instantiating object with null values
 	 */
@@ -123,6 +137,62 @@ public abstract class RevocationDataLoadingStrategy {
 	public abstract RevocationToken getRevocationToken(CertificateToken certificateToken,
 														  CertificateToken issuerCertificateToken);
 
+	/**
+	 * This method retrieves {@code RevocationToken}s for several certificates
+	 *
+	 * @param certificatesAndIssuers map between the certificates to get revocation data for
+	 *                               and their issuer's certificates
+	 * @return map between the certificates and the obtained {@code RevocationToken}s.
+	 *         The certificates without a revocation token are not present in the map.
+	 */
+	public Map<CertificateToken, RevocationToken<?>> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		final Map<CertificateToken, RevocationToken<?>> result = new HashMap<>();
+		for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			RevocationToken<?> revocationToken = getRevocationToken(entry.getKey(), entry.getValue());
+			if (revocationToken != null) {
+				result.put(entry.getKey(), revocationToken);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Requests the OCSP tokens for the given certificates at once, when the OCSP source
+	 * implements {@code OCSPBatchSource}. The obtained tokens are then returned by
+	 * {@code #checkOCSP} without a new request.
+	 *
+	 * @param certificatesAndIssuers map between the certificates to get OCSP for
+	 *                               and their issuer's certificates
+	 */
+	protected void prefetchOCSP(Map<CertificateToken, CertificateToken> certificatesAndIssuers) {
+		OCSPBatchSource batchSource = null;
+		List<String> alternativeUrls = Collections.emptyList();
+		if (ocspSource instanceof OCSPBatchSource) {
+			batchSource = (OCSPBatchSource) ocspSource;
+		} else if (ocspSource instanceof AlternateUrlsSourceAdapter
+				&& ((AlternateUrlsSourceAdapter<?>) ocspSource).getWrappedSource() instanceof OCSPBatchSource) {
+			AlternateUrlsSourceAdapter<?> adapter = (AlternateUrlsSourceAdapter<?>) ocspSource;
+			batchSource = (OCSPBatchSource) adapter.getWrappedSource();
+			alternativeUrls = adapter.getAlternateUrls();
+		}
+		if (batchSource == null) {
+			LOG.trace("The OCSPSource does not support batch requests");
+			return;
+		}
+
+		try {
+			Map<CertificateToken, OCSPToken> ocspTokens = batchSource.getRevocationTokens(certificatesAndIssuers, alternativeUrls);
+			prefetchedOCSPTokens = new HashMap<>();
+			for (CertificateToken certificateToken : certificatesAndIssuers.keySet()) {
+				prefetchedOCSPTokens.put(certificateToken, ocspTokens.get(certificateToken));
+			}
+			LOG.debug("{} OCSP response(s) obtained with a batch request for {} certificates",
+					ocspTokens.size(), certificatesAndIssuers.size());
+		} catch (DSSException e) {
+			LOG.error("OCSP DSS Exception on batch request: {}", e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Retrieves and verifies the obtained CRL token
 	 *
@@ -173,6 +243,15 @@ public abstract class RevocationDataLoadingStrategy {
 			return null;
 		}
 
+		if (prefetchedOCSPTokens != null && prefetchedOCSPTokens.containsKey(certificateToken)) {
+			final RevocationToken<OCSP> revocationToken = prefetchedOCSPTokens.get(certificateToken);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("OCSP response for {} from the batch request: {}", certificateToken.getDSSIdAsString(),
+						revocationToken != null ? revocationToken.getAbbreviation() : null);
+			}
+			return revocationToken;
+		}
+
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("OCSP request for: {} using: {}", certificateToken.getDSSIdAsString(), ocspSource.getClass().getSimpleName());
 		}
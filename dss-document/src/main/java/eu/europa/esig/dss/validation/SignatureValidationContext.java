@@ -60,12 +60,17 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -103,7 +108,7 @@ public class SignatureValidationContext implements ValidationContext {
 	private AIASource aiaSource;
 
 	/** Map of tokens defining if they have been processed yet */
-	private final Map<Token, Boolean> tokensToProcess = new HashMap<>();
+	private final Map<Token, Boolean> tokensToProcess = new ConcurrentHashMap<>();
 
 	/** The best-signature-time for b-level certificate chain */
 	private final Map<CertificateToken, Date> bestSignatureTimeCertChainDates = new HashMap<>();
@@ -147,6 +152,9 @@ public class SignatureValidationContext implements ValidationContext {
 	/** Defines whether a revocation data still shall be returned, when validation of obtained revocation tokens failed */
 	private boolean revocationFallback;
 
+	/** Used to fetch the revocation data concurrently, when defined */
+	private Executor executor;
+
 	/** External trusted certificate sources */
 	private ListCertificateSource trustedCertSources;
 
@@ -197,6 +205,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.revocationDataVerifier = certificateVerifier.getRevocationDataVerifier();
 		this.revocationDataVerifier.setTrustedCertificateSource(trustedCertSources);
 		this.revocationFallback = certificateVerifier.isRevocationFallback();
+		this.executor = certificateVerifier.getExecutor();
 	}
 
 	@Override
@@ -341,15 +350,27 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return token to verify or null
 	 */
 	private Token getNotYetVerifiedToken() {
-		synchronized (tokensToProcess) {
-			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
-				if (entry.getValue() == null) {
-					entry.setValue(true);
-					return entry.getKey();
-				}
+		for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+			if (markAsVerified(entry.getKey())) {
+				return entry.getKey();
 			}
-			return null;
 		}
+		return null;
+	}
+
+	/**
+	 * This method returns all tokens to verify. If there is no more tokens to verify an empty list is returned.
+	 *
+	 * @return a list of tokens to verify
+	 */
+	private List<Token> getNotYetVerifiedTokens() {
+		final List<Token> tokens = new ArrayList<>();
+		for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+			if (markAsVerified(entry.getKey())) {
+				tokens.add(entry.getKey());
+			}
+		}
+		return tokens;
 	}
 
 	/**
@@ -358,15 +379,22 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return token to verify or null
 	 */
 	private TimestampToken getNotYetVerifiedTimestamp() {
-		synchronized (tokensToProcess) {
-			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
-				if (entry.getValue() == null && entry.getKey() instanceof TimestampToken) {
-					entry.setValue(true);
-					return (TimestampToken) entry.getKey();
-				}
+		for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+			if (entry.getKey() instanceof TimestampToken && markAsVerified(entry.getKey())) {
+				return (TimestampToken) entry.getKey();
 			}
-			return null;
 		}
+		return null;
+	}
+
+	/**
+	 * Atomically marks the token as verified
+	 *
+	 * @param token {@link Token} to mark
+	 * @return TRUE if the token was not yet verified, FALSE otherwise
+	 */
+	private boolean markAsVerified(Token token) {
+		return tokensToProcess.replace(token, Boolean.FALSE, Boolean.TRUE);
 	}
 	
 	private Map<CertificateToken, List<CertificateToken>> getOrderedCertificateChains() {
@@ -564,31 +592,18 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 
 		final boolean traceEnabled = LOG.isTraceEnabled();
-		if (traceEnabled) {
-			LOG.trace("addTokenForVerification: trying to acquire synchronized block");
+		if (tokensToProcess.putIfAbsent(token, Boolean.FALSE) != null) {
+			if (traceEnabled) {
+				LOG.trace("Token was already in the list {}:{}", token.getClass().getSimpleName(), token.getAbbreviation());
+			}
+			return false;
 		}
 
-		synchronized (tokensToProcess) {
-			try {
-				if (tokensToProcess.containsKey(token)) {
-					if (traceEnabled) {
-						LOG.trace("Token was already in the list {}:{}", token.getClass().getSimpleName(), token.getAbbreviation());
-					}
-					return false;
-				}
-
-				tokensToProcess.put(token, null);
-				registerPOE(token.getDSSIdAsString(), currentTime);
-				if (traceEnabled) {
-					LOG.trace("+ New {} to check: {}", token.getClass().getSimpleName(), token.getAbbreviation());
-				}
-				return true;
-			} finally {
-				if (traceEnabled) {
-					LOG.trace("addTokenForVerification: almost left synchronized block");
-				}
-			}
+		registerPOE(token.getDSSIdAsString(), currentTime);
+		if (traceEnabled) {
+			LOG.trace("+ New {} to check: {}", token.getClass().getSimpleName(), token.getAbbreviation());
 		}
+		return true;
 	}
 
 	@Override
@@ -744,6 +759,11 @@ public class SignatureValidationContext implements ValidationContext {
 			timestampToken = getNotYetVerifiedTimestamp();
 		}
 		
+		if (executor != null) {
+			validateConcurrently();
+			return;
+		}
+
 		Token token = getNotYetVerifiedToken();
 		while (token != null) {
 			// extract the certificate chain and add missing tokens for verification
@@ -755,6 +775,72 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Processes the tokens by waves : the certificate chains of all not yet verified tokens are built first,
+	 * then the online revocation data for all the certificates is requested concurrently using the {@code executor},
+	 * and the obtained revocation tokens are processed within the current thread in the order of the requests.
+	 * The operation is repeated until all the tokens are verified (e.g. OCSP responder's certificates).
+	 * The requests sharing the same trust anchor are loaded together, in order to allow
+	 * the revocation sources to group several certificates within one request (e.g. an OCSP multi-request).
+	 */
+	private void validateConcurrently() {
+		List<Token> tokens = getNotYetVerifiedTokens();
+		while (Utils.isCollectionNotEmpty(tokens)) {
+			final List<RevocationDataRequest> requests = new ArrayList<>();
+			for (Token token : tokens) {
+				// extract the certificate chain and add missing tokens for verification
+				List<Token> certChain = getCertChain(token);
+				if (token instanceof CertificateToken) {
+					RevocationDataRequest request = getRevocationDataRequest((CertificateToken) token, certChain);
+					if (request != null) {
+						requests.add(request);
+					}
+				}
+			}
+
+			// the revocation sources depend on the trust anchor (e.g. alternative URLs)
+			final Map<CertificateToken, List<RevocationDataRequest>> onlineRequestsByTrustAnchor = new LinkedHashMap<>();
+			for (RevocationDataRequest request : requests) {
+				if (request.isOnlineRequestRequired()) {
+					onlineRequestsByTrustAnchor.computeIfAbsent(request.trustAnchor, k -> new ArrayList<>()).add(request);
+				}
+			}
+
+			final Map<RevocationDataRequest, CompletableFuture<RevocationToken<?>>> futures = new HashMap<>();
+			for (List<RevocationDataRequest> group : onlineRequestsByTrustAnchor.values()) {
+				if (group.size() == 1) {
+					final RevocationDataRequest request = group.get(0);
+					futures.put(request, CompletableFuture.supplyAsync(() -> getRevocationToken(
+							request.certToken, request.issuerToken, request.trustAnchor), executor));
+				} else {
+					final CompletableFuture<Map<CertificateToken, RevocationToken<?>>> groupFuture =
+							CompletableFuture.supplyAsync(() -> getRevocationTokens(group), executor);
+					for (RevocationDataRequest request : group) {
+						futures.put(request, groupFuture.thenApply(revocationTokens -> revocationTokens.get(request.certToken)));
+					}
+				}
+			}
+
+			for (RevocationDataRequest request : requests) {
+				final CompletableFuture<RevocationToken<?>> future = futures.get(request);
+				processRevocationDataRequest(request, future != null ? getResult(future) : null);
+			}
+
+			tokens = getNotYetVerifiedTokens();
+		}
+	}
+
+	private RevocationToken<?> getResult(CompletableFuture<RevocationToken<?>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Retrieves the revocation data from signature (if exists) or from the online
 	 * sources. The issuer certificate must be provided, the underlining library
@@ -765,6 +851,28 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return a set of found {@link RevocationToken}s
 	 */
 	private Set<RevocationToken<?>> getRevocationData(final CertificateToken certToken, List<Token> certChain) {
+		final RevocationDataRequest request = getRevocationDataRequest(certToken, certChain);
+		if (request == null) {
+			return Collections.emptySet();
+		}
+
+		RevocationToken<?> onlineRevocationToken = null;
+		if (request.isOnlineRequestRequired()) {
+			// Fetch OCSP or CRL from online sources
+			onlineRevocationToken = getRevocationToken(certToken, request.issuerToken, request.trustAnchor);
+		}
+		return processRevocationDataRequest(request, onlineRevocationToken);
+	}
+
+	/**
+	 * Collects the revocation data from the signature (if exists) and defines whether
+	 * the revocation data shall be requested from the online sources
+	 *
+	 * @param certToken the current token
+	 * @param certChain the complete chain
+	 * @return {@link RevocationDataRequest}, null if the revocation data cannot be or is not required to be obtained
+	 */
+	private RevocationDataRequest getRevocationDataRequest(final CertificateToken certToken, List<Token> certChain) {
 
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Checking revocation data for : {}", certToken.getDSSIdAsString());
@@ -772,16 +880,17 @@ public class SignatureValidationContext implements ValidationContext {
 
 		if (isRevocationDataNotRequired(certToken)) {
 			LOG.debug("Revocation data is not required for certificate : {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
 		CertificateToken issuerToken = getIssuer(certToken);
 		if (issuerToken == null) {
 			LOG.warn("Issuer not found for certificate {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
-		Set<RevocationToken<?>> revocations = new HashSet<>();
+		final RevocationDataRequest request = new RevocationDataRequest(certToken, issuerToken);
+		final Set<RevocationToken<?>> revocations = request.revocations;
 
 		// ALL Embedded revocation data
 		List<RevocationToken<CRL>> crlTokens = documentCRLSource.getRevocationTokens(certToken, issuerToken);
@@ -805,24 +914,38 @@ public class SignatureValidationContext implements ValidationContext {
 			LOG.debug("The signature does not contain relative revocation data.");
 			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
 				LOG.trace("Revocation update is in progress for certificate : {}", certToken.getDSSIdAsString());
-				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
-
-				// Fetch OCSP or CRL from online sources
-				final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken, issuerToken, trustAnchor);
+				request.trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+				request.onlineRequestRequired = true;
 
-				// Check if the obtained revocation is not yet present
-				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
-					LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
-							onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
-					revocations.add(onlineRevocationToken);
-					addRevocationTokenForVerification(onlineRevocationToken);
-				}
-				
 			} else {
 				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
 			}
 		}
-		
+
+		return request;
+	}
+
+	/**
+	 * Registers the revocation data obtained from the online sources (if any) and
+	 * returns all the revocation data found for the certificate
+	 *
+	 * @param request {@link RevocationDataRequest}
+	 * @param onlineRevocationToken {@link RevocationToken} obtained from the online sources, can be null
+	 * @return a set of found {@link RevocationToken}s
+	 */
+	private Set<RevocationToken<?>> processRevocationDataRequest(RevocationDataRequest request,
+																 RevocationToken<?> onlineRevocationToken) {
+		final CertificateToken certToken = request.certToken;
+		final Set<RevocationToken<?>> revocations = request.revocations;
+
+		// Check if the obtained revocation is not yet present
+		if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
+			LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
+					onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
+			revocations.add(onlineRevocationToken);
+			addRevocationTokenForVerification(onlineRevocationToken);
+		}
+
 		if (revocations.isEmpty()) {
 			LOG.warn("No revocation found for the certificate {}", certToken.getDSSIdAsString());
 		}
@@ -847,6 +970,26 @@ public class SignatureValidationContext implements ValidationContext {
 
 	private RevocationToken<?> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificate,
 												  CertificateToken trustAnchor) {
+		final RevocationDataLoadingStrategy revocationDataLoadingStrategy = getRevocationDataLoadingStrategy(trustAnchor);
+		return revocationDataLoadingStrategy.getRevocationToken(certificateToken, issuerCertificate);
+	}
+
+	/**
+	 * Loads the revocation data for the given requests sharing the same trust anchor at once
+	 *
+	 * @param requests a list of {@link RevocationDataRequest}s with the same trust anchor
+	 * @return map between the certificates and the obtained revocation tokens
+	 */
+	private Map<CertificateToken, RevocationToken<?>> getRevocationTokens(List<RevocationDataRequest> requests) {
+		final Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<>();
+		for (RevocationDataRequest request : requests) {
+			certificatesAndIssuers.put(request.certToken, request.issuerToken);
+		}
+		final RevocationDataLoadingStrategy revocationDataLoadingStrategy = getRevocationDataLoadingStrategy(requests.get(0).trustAnchor);
+		return revocationDataLoadingStrategy.getRevocationTokens(certificatesAndIssuers);
+	}
+
+	private RevocationDataLoadingStrategy getRevocationDataLoadingStrategy(CertificateToken trustAnchor) {
 		// configure the CompositeRevocationSource
 		RevocationSource<OCSP> currentOCSPSource;
 		RevocationSource<CRL> currentCRLSource;
@@ -866,7 +1009,7 @@ public class SignatureValidationContext implements ValidationContext {
 		revocationDataLoadingStrategy.setOcspSource(currentOCSPSource);
 		revocationDataLoadingStrategy.setRevocationDataVerifier(revocationDataVerifier);
 		revocationDataLoadingStrategy.setFallbackEnabled(revocationFallback);
-		return revocationDataLoadingStrategy.getRevocationToken(certificateToken, issuerCertificate);
+		return revocationDataLoadingStrategy;
 	}
 
 	private RevocationSource<OCSP> instantiateOCSPWithTrustServices(CertificateToken trustAnchor) {
@@ -1366,6 +1509,49 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Contains the revocation data collected for a certificate and
+	 * the parameters of the online revocation request (when required)
+	 */
+	private static class RevocationDataRequest {
+
+		/** The certificate to get revocation data for */
+		private final CertificateToken certToken;
+
+		/** The issuer of the certificate */
+		private final CertificateToken issuerToken;
+
+		/** The revocation data found for the certificate */
+		private final Set<RevocationToken<?>> revocations = new HashSet<>();
+
+		/** The trust anchor of the certificate chain, when present */
+		private CertificateToken trustAnchor;
+
+		/** Defines whether the revocation data shall be requested from the online sources */
+		private boolean onlineRequestRequired;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certToken {@link CertificateToken} to get revocation data for
+		 * @param issuerToken {@link CertificateToken} issuer of the certificate
+		 */
+		private RevocationDataRequest(final CertificateToken certToken, final CertificateToken issuerToken) {
+			this.certToken = certToken;
+			this.issuerToken = issuerToken;
+		}
+
+		/**
+		 * Gets whether the revocation data shall be requested from the online sources
+		 *
+		 * @return TRUE if an online request is required, FALSE otherwise
+		 */
+		public boolean isOnlineRequestRequired() {
+			return onlineRequestRequired;
+		}
+
+	}
+
 	/**
 	 * This class defines a POE provided to the validation process or obtained from processed timestamps
 	 */
@@ -26,11 +26,13 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.TimestampedObjectType;
 import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
 import eu.europa.esig.dss.exception.IllegalInputException;
+import eu.europa.esig.dss.model.CommonDocument;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -62,10 +64,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * Validates a signed document. The content of the document is determined
@@ -216,14 +219,7 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 *         of the document type
 	 */
 	public static SignedDocumentValidator fromDocument(final DSSDocument dssDocument) {
-		Objects.requireNonNull(dssDocument, "DSSDocument is null");
-		ServiceLoader<DocumentValidatorFactory> serviceLoaders = ServiceLoader.load(DocumentValidatorFactory.class);
-		for (DocumentValidatorFactory factory : serviceLoaders) {
-			if (factory.isSupported(dssDocument)) {
-				return factory.create(dssDocument);
-			}
-		}
-		throw new UnsupportedOperationException("Document format not recognized/handled");
+		return DocumentValidatorFactoryRegistry.getInstance().fromDocument(dssDocument);
 	}
 
 	/**
@@ -403,9 +399,9 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		try {
 			if (policyDataStream == null) {
 				LOG.debug("No provided validation policy : use the default policy");
-				validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+				validationPolicy = ValidationPolicyCache.getInstance().getDefaultValidationPolicy();
 			} else {
-				validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				validationPolicy = ValidationPolicyCache.getInstance().getValidationPolicy(policyDataStream);
 			}
 		} catch (Exception e) {
 			throw new IllegalInputException("Unable to load the policy", e);
@@ -805,11 +801,50 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 
 	@Override
 	public <T extends AdvancedSignature> void processSignaturesValidation(Collection<T> allSignatureList) {
+		prefetchDetachedContentDigests(allSignatureList);
 		for (final AdvancedSignature signature : allSignatureList) {
 			signature.checkSignatureIntegrity();
 		}
 	}
 
+	/**
+	 * Computes within a single read of each detached content the digests expected to be used
+	 * by the signature integrity validation (i.e. with the digest algorithms of the signature references)
+	 * and by the signature scope computation
+	 *
+	 * @param allSignatureList a collection of {@link AdvancedSignature}s to be validated
+	 */
+	private <T extends AdvancedSignature> void prefetchDetachedContentDigests(Collection<T> allSignatureList) {
+		if (Utils.isCollectionEmpty(detachedContents) || Utils.isCollectionEmpty(allSignatureList)) {
+			return;
+		}
+		final Set<DigestAlgorithm> digestAlgorithms = EnumSet.noneOf(DigestAlgorithm.class);
+		if (getDefaultDigestAlgorithm() != null) {
+			digestAlgorithms.add(getDefaultDigestAlgorithm());
+		}
+		for (final AdvancedSignature signature : allSignatureList) {
+			try {
+				digestAlgorithms.addAll(signature.getReferencesDigestAlgorithms());
+			} catch (DSSException e) {
+				LOG.warn("Unable to extract the references digest algorithms for a signature with Id '{}' : {}",
+						signature.getId(), e.getMessage());
+			}
+		}
+		if (digestAlgorithms.isEmpty()) {
+			return;
+		}
+		for (DSSDocument detachedContent : detachedContents) {
+			if (detachedContent instanceof CommonDocument && !(detachedContent instanceof DigestDocument)) {
+				try {
+					detachedContent.getDigests(digestAlgorithms);
+				} catch (DSSException e) {
+					LOG.warn("Unable to compute digests for a detached content with name '{}' : {}",
+							detachedContent.getName(), e.getMessage());
+				}
+			}
+		}
+	}
+
 	/**
 	 * Finds and assigns SignatureScopes for a list of signatures
 	 * 
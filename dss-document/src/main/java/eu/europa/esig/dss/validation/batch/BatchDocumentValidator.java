@@ -0,0 +1,328 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CertificateVerifierBuilder;
+import eu.europa.esig.dss.validation.DocumentValidator;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Validates a batch of documents, sharing the data obtained from the remote sources between the validations.
+ * <p>
+ * The certificates obtained by AIA and the OCSP / CRL responses are requested only once per certificate
+ * for all documents validated with the same instance of the class, while the reports are still produced
+ * per document. Therefore, an instance is intended to be used for a single batch (e.g. a nightly re-validation)
+ * and shall be re-created in order to obtain fresh revocation data. The shared data is bounded
+ * (see {@code #setMaxCacheSize} and {@code #setCacheExpirationTime}).
+ * <p>
+ * The documents are validated concurrently on a bounded pool of threads (see {@code #setMaxThreads})
+ * or on the provided {@code ExecutorService}. The used {@code CertificateVerifier} sources shall be thread-safe.
+ * At most {@code maxThreads} documents are submitted at once, and each result is handed to the result handler
+ * as soon as obtained, so a large batch can be processed without keeping all reports in memory.
+ * The failure of a document is recorded in its {@code BatchValidationResult} and does not stop the batch.
+ *
+ */
+public class BatchDocumentValidator {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BatchDocumentValidator.class);
+
+	/** The CertificateVerifier, sharing the remote sources data, to be used for all validations */
+	private final CertificateVerifier certificateVerifier;
+
+	/** The validation policy to be used (the default policy is used if not defined) */
+	private ValidationPolicy validationPolicy;
+
+	/** The ExecutorService to run the validations on (a pool of {@code maxThreads} is created if not defined) */
+	private ExecutorService executorService;
+
+	/** The maximum number of documents validated concurrently (submitted to the executor at once) */
+	private int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param certificateVerifier {@link CertificateVerifier} defining the validation configuration
+	 */
+	public BatchDocumentValidator(CertificateVerifier certificateVerifier) {
+		Objects.requireNonNull(certificateVerifier, "CertificateVerifier cannot be null!");
+		this.certificateVerifier = initSharedCertificateVerifier(certificateVerifier);
+	}
+
+	private CertificateVerifier initSharedCertificateVerifier(CertificateVerifier certificateVerifier) {
+		final CertificateVerifier sharedCertificateVerifier = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+		if (certificateVerifier.getAIASource() != null) {
+			sharedCertificateVerifier.setAIASource(new SharedAIASource(certificateVerifier.getAIASource()));
+		}
+		if (certificateVerifier.getOcspSource() != null) {
+			sharedCertificateVerifier.setOcspSource(new SharedOCSPSource(certificateVerifier.getOcspSource()));
+		}
+		if (certificateVerifier.getCrlSource() != null) {
+			sharedCertificateVerifier.setCrlSource(new SharedRevocationSource<>(certificateVerifier.getCrlSource()));
+		}
+		return sharedCertificateVerifier;
+	}
+
+	/**
+	 * Gets the {@code CertificateVerifier} sharing the remote sources data, used for the validations
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	public CertificateVerifier getCertificateVerifier() {
+		return certificateVerifier;
+	}
+
+	/**
+	 * Sets the validation policy to be used for all documents
+	 *
+	 * Default : the default validation policy
+	 *
+	 * @param validationPolicy {@link ValidationPolicy}
+	 */
+	public void setValidationPolicy(ValidationPolicy validationPolicy) {
+		this.validationPolicy = validationPolicy;
+	}
+
+	/**
+	 * Sets the {@code ExecutorService} to run the validations on. The executor is not shut down by the class.
+	 *
+	 * Default : a fixed thread pool of {@code maxThreads} created for each batch
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Sets the maximum number of documents validated concurrently. This is the size of the created thread pool,
+	 * and the maximum number of documents submitted at once to the provided {@code ExecutorService}.
+	 *
+	 * Default : the number of available processors
+	 *
+	 * @param maxThreads the maximum number of threads
+	 */
+	public void setMaxThreads(int maxThreads) {
+		if (maxThreads < 1) {
+			throw new IllegalArgumentException("The maximum number of threads shall be positive!");
+		}
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Sets the maximum number of entries cached by each shared source (AIA, OCSP and CRL).
+	 * The least recently used entries are evicted above the limit.
+	 *
+	 * Default : 10000
+	 *
+	 * @param maxCacheSize the maximum number of cached entries per source
+	 */
+	public void setMaxCacheSize(int maxCacheSize) {
+		if (certificateVerifier.getAIASource() instanceof SharedAIASource) {
+			((SharedAIASource) certificateVerifier.getAIASource()).setMaxCacheSize(maxCacheSize);
+		}
+		if (certificateVerifier.getOcspSource() instanceof SharedRevocationSource) {
+			((SharedRevocationSource<?>) certificateVerifier.getOcspSource()).setMaxCacheSize(maxCacheSize);
+		}
+		if (certificateVerifier.getCrlSource() instanceof SharedRevocationSource) {
+			((SharedRevocationSource<?>) certificateVerifier.getCrlSource()).setMaxCacheSize(maxCacheSize);
+		}
+	}
+
+	/**
+	 * Sets the time in milliseconds after which the data cached by the shared sources (AIA, OCSP and CRL)
+	 * is requested again from the original sources
+	 *
+	 * Default : 0 (no expiration)
+	 *
+	 * @param cacheExpirationTime the expiration time in milliseconds, 0 for no expiration
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		if (certificateVerifier.getAIASource() instanceof SharedAIASource) {
+			((SharedAIASource) certificateVerifier.getAIASource()).setCacheExpirationTime(cacheExpirationTime);
+		}
+		if (certificateVerifier.getOcspSource() instanceof SharedRevocationSource) {
+			((SharedRevocationSource<?>) certificateVerifier.getOcspSource()).setCacheExpirationTime(cacheExpirationTime);
+		}
+		if (certificateVerifier.getCrlSource() instanceof SharedRevocationSource) {
+			((SharedRevocationSource<?>) certificateVerifier.getCrlSource()).setCacheExpirationTime(cacheExpirationTime);
+		}
+	}
+
+	/**
+	 * Validates the given documents
+	 *
+	 * NOTE: all results are kept in memory. Use {@code #validateDocuments(Iterable, Consumer)} for large batches.
+	 *
+	 * @param documents a list of signed {@link DSSDocument}s to validate
+	 * @return a list of {@link BatchValidationResult}s, in the order of the given documents
+	 */
+	public List<BatchValidationResult> validateDocuments(List<DSSDocument> documents) {
+		Objects.requireNonNull(documents, "List of documents cannot be null!");
+		final BatchValidationResult[] results = new BatchValidationResult[documents.size()];
+		validateDocuments(documents, result -> results[result.getIndex()] = result);
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Validates the given documents and hands the result of each document to the {@code resultHandler},
+	 * in the order of completion. The handler is called by the calling thread.
+	 *
+	 * @param documents an {@link Iterable} of signed {@link DSSDocument}s to validate (e.g. loaded lazily)
+	 * @param resultHandler {@link Consumer} of the {@link BatchValidationResult}s
+	 */
+	public void validateDocuments(Iterable<DSSDocument> documents, Consumer<BatchValidationResult> resultHandler) {
+		Objects.requireNonNull(documents, "Documents cannot be null!");
+		process(documents, SignedDocumentValidator::fromDocument, resultHandler);
+	}
+
+	/**
+	 * Validates the documents of the given validators (e.g. configured with detached contents).
+	 * The {@code CertificateVerifier} of the validators is overwritten by the shared one.
+	 *
+	 * NOTE: all results are kept in memory. Use {@code #validate(Iterable, Consumer)} for large batches.
+	 *
+	 * @param documentValidators a list of {@link DocumentValidator}s to execute
+	 * @return a list of {@link BatchValidationResult}s, in the order of the given validators
+	 */
+	public List<BatchValidationResult> validate(List<? extends DocumentValidator> documentValidators) {
+		Objects.requireNonNull(documentValidators, "List of DocumentValidators cannot be null!");
+		final BatchValidationResult[] results = new BatchValidationResult[documentValidators.size()];
+		validate(documentValidators, result -> results[result.getIndex()] = result);
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Validates the documents of the given validators and hands the result of each document
+	 * to the {@code resultHandler}, in the order of completion. The handler is called by the calling thread.
+	 * The {@code CertificateVerifier} of the validators is overwritten by the shared one.
+	 *
+	 * @param documentValidators an {@link Iterable} of {@link DocumentValidator}s to execute (e.g. created lazily)
+	 * @param resultHandler {@link Consumer} of the {@link BatchValidationResult}s
+	 */
+	public void validate(Iterable<? extends DocumentValidator> documentValidators,
+						 Consumer<BatchValidationResult> resultHandler) {
+		Objects.requireNonNull(documentValidators, "DocumentValidators cannot be null!");
+		process(documentValidators, documentValidator -> documentValidator, resultHandler);
+	}
+
+	private <T> void process(Iterable<T> items, Function<? super T, ? extends DocumentValidator> validatorProvider,
+							 Consumer<BatchValidationResult> resultHandler) {
+		Objects.requireNonNull(resultHandler, "Result handler cannot be null!");
+
+		final ExecutorService executor = executorService != null ? executorService : Executors.newFixedThreadPool(maxThreads);
+		final CompletionService<BatchValidationResult> completionService = new ExecutorCompletionService<>(executor);
+		final Set<Future<BatchValidationResult>> pending = new HashSet<>();
+		try {
+			final Iterator<T> iterator = items.iterator();
+			int index = 0;
+			while (iterator.hasNext() || !pending.isEmpty()) {
+				if (iterator.hasNext() && pending.size() < maxThreads) {
+					final T item = iterator.next();
+					final int documentIndex = index++;
+					pending.add(completionService.submit(() -> validateDocument(documentIndex, item, validatorProvider)));
+				} else {
+					final Future<BatchValidationResult> future = take(completionService);
+					pending.remove(future);
+					resultHandler.accept(getResult(future));
+				}
+			}
+			LOG.debug("Validation of a batch of {} documents done.", index);
+
+		} finally {
+			for (Future<BatchValidationResult> future : pending) {
+				future.cancel(true);
+			}
+			if (executorService == null) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private <T> BatchValidationResult validateDocument(int index, T item,
+			Function<? super T, ? extends DocumentValidator> validatorProvider) {
+		try {
+			return new BatchValidationResult(index, validateDocument(validatorProvider.apply(item)));
+		} catch (Exception e) {
+			LOG.warn("Unable to validate the document with index {} of the batch. Reason : {}", index, e.getMessage());
+			return new BatchValidationResult(index, e);
+		}
+	}
+
+	private Reports validateDocument(DocumentValidator documentValidator) {
+		documentValidator.setCertificateVerifier(certificateVerifier);
+		if (validationPolicy != null) {
+			return documentValidator.validateDocument(validationPolicy);
+		}
+		return documentValidator.validateDocument();
+	}
+
+	private Future<BatchValidationResult> take(CompletionService<BatchValidationResult> completionService) {
+		try {
+			return completionService.take();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while validating a batch of documents", e);
+		}
+	}
+
+	private BatchValidationResult getResult(Future<BatchValidationResult> future) {
+		try {
+			return future.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while validating a batch of documents", e);
+
+		} catch (ExecutionException e) {
+			// the exceptions of a document are recorded in its result, only an Error can be thrown
+			final Throwable cause = e.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(String.format("Unable to validate a document of the batch. Reason : %s",
+					cause.getMessage()), cause);
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.validation.reports.Reports;
+
+/**
+ * The result of the validation of a document within a batch : either the obtained {@code Reports},
+ * or the exception thrown during the validation of the document
+ *
+ */
+public class BatchValidationResult {
+
+	/** The position of the document in the batch, starting from 0 */
+	private final int index;
+
+	/** The validation reports (null if the validation failed) */
+	private final Reports reports;
+
+	/** The exception thrown during the validation (null if the validation succeeded) */
+	private final Exception exception;
+
+	/**
+	 * Constructor for a successful validation
+	 *
+	 * @param index the position of the document in the batch
+	 * @param reports {@link Reports}
+	 */
+	BatchValidationResult(int index, Reports reports) {
+		this(index, reports, null);
+	}
+
+	/**
+	 * Constructor for a failed validation
+	 *
+	 * @param index the position of the document in the batch
+	 * @param exception {@link Exception} thrown during the validation
+	 */
+	BatchValidationResult(int index, Exception exception) {
+		this(index, null, exception);
+	}
+
+	private BatchValidationResult(int index, Reports reports, Exception exception) {
+		this.index = index;
+		this.reports = reports;
+		this.exception = exception;
+	}
+
+	/**
+	 * Gets the position of the validated document in the batch, starting from 0
+	 *
+	 * @return the index of the document
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the validation reports of the document
+	 *
+	 * @return {@link Reports}, null if the validation failed
+	 */
+	public Reports getReports() {
+		return reports;
+	}
+
+	/**
+	 * Gets the exception thrown during the validation of the document
+	 *
+	 * @return {@link Exception}, null if the validation succeeded
+	 */
+	public Exception getException() {
+		return exception;
+	}
+
+	/**
+	 * Checks whether the validation of the document failed
+	 *
+	 * @return TRUE if an exception has been thrown during the validation, FALSE otherwise
+	 */
+	public boolean isFailed() {
+		return exception != null;
+	}
+
+}
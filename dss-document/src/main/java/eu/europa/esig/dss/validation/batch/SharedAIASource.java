@@ -0,0 +1,94 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The {@code AIASource} sharing the issuer certificates obtained by AIA between the validations of a batch.
+ * The certificates are requested from the wrapped source only once per certificate
+ * (an empty or a failed response is requested again).
+ *
+ */
+public class SharedAIASource implements AIASource {
+
+	private static final long serialVersionUID = -1817569584315412634L;
+
+	/** The wrapped AIASource */
+	private final AIASource aiaSource;
+
+	/** The obtained issuer certificates, by DSS identifiers of the certificates */
+	private final SharedDataCache<Set<CertificateToken>> cache = new SharedDataCache<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param aiaSource {@link AIASource} to request the certificates from
+	 */
+	public SharedAIASource(AIASource aiaSource) {
+		Objects.requireNonNull(aiaSource, "AIASource cannot be null!");
+		this.aiaSource = aiaSource;
+	}
+
+	/**
+	 * Sets the maximum number of cached issuer certificates. The least recently used ones are evicted above the limit.
+	 *
+	 * Default : 10000
+	 *
+	 * @param maxCacheSize the maximum number of cached entries
+	 */
+	public void setMaxCacheSize(int maxCacheSize) {
+		cache.setMaxSize(maxCacheSize);
+	}
+
+	/**
+	 * Sets the time in milliseconds after which the cached issuer certificates are requested again from the wrapped source
+	 *
+	 * Default : 0 (no expiration)
+	 *
+	 * @param cacheExpirationTime the expiration time in milliseconds, 0 for no expiration
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		cache.setExpirationTime(cacheExpirationTime);
+	}
+
+	@Override
+	public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+		Set<CertificateToken> certificates = cache.get(certificateToken.getDSSIdAsString(),
+				() -> aiaSource.getCertificatesByAIA(certificateToken));
+		return certificates != null ? Collections.unmodifiableSet(certificates) : Collections.emptySet();
+	}
+
+	/**
+	 * Returns the number of certificates, for which the issuers have been requested
+	 *
+	 * @return number of processed certificates
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+}
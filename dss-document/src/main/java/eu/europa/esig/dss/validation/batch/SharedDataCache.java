@@ -0,0 +1,247 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.model.DSSException;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Internal thread-safe cache used to share the data fetched from remote sources between the validations of a batch.
+ * <p>
+ * The value of a key is loaded only once, even when requested concurrently: the other threads wait for the result
+ * of the running loading. A {@code null} result (e.g. a remote source being unavailable) or a failed loading
+ * is not kept, so the value is loaded again on the next request.
+ * <p>
+ * The cache is bounded: when the maximum number of entries is reached, the least recently used entry is evicted.
+ * When an expiration time is defined, an entry older than the expiration time is loaded again on the next request.
+ * <p>
+ * The cache content is not serialized : a deserialized instance is empty (the configuration is kept).
+ *
+ * @param <V> the type of the cached values
+ */
+final class SharedDataCache<V> implements Serializable {
+
+	private static final long serialVersionUID = 6409257431948216743L;
+
+	/** The default maximum number of cached entries */
+	static final int DEFAULT_MAX_SIZE = 10000;
+
+	/** The maximum number of cached entries */
+	private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	/** The time in milliseconds after which an entry is loaded again (0 means no expiration) */
+	private volatile long expirationTime = 0;
+
+	/** The map between the keys and the (running or completed) loadings of the values, in the access order */
+	private final transient Map<String, CacheEntry<V>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Sets the maximum number of cached entries. The least recently used entries are evicted above the limit.
+	 *
+	 * Default : 10000
+	 *
+	 * @param maxSize the maximum number of entries
+	 */
+	void setMaxSize(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the cache shall be positive!");
+		}
+		this.maxSize = maxSize;
+		synchronized (cache) {
+			evict();
+		}
+	}
+
+	/**
+	 * Sets the time in milliseconds after which a cached entry expires and is loaded again on the next request.
+	 *
+	 * Default : 0 (no expiration)
+	 *
+	 * @param expirationTime the expiration time in milliseconds, 0 for no expiration
+	 */
+	void setExpirationTime(long expirationTime) {
+		if (expirationTime < 0) {
+			throw new IllegalArgumentException("The expiration time of the cache cannot be negative!");
+		}
+		this.expirationTime = expirationTime;
+	}
+
+	/**
+	 * Gets the value of the {@code key}, loading it with the {@code loader} when not cached yet
+	 *
+	 * @param key {@link String} identifying the value
+	 * @param loader {@link Callable} used to load the value
+	 * @return the value (can be null)
+	 */
+	V get(String key, Callable<V> loader) {
+		CacheEntry<V> entry;
+		boolean load = false;
+		synchronized (cache) {
+			entry = getValidEntry(key);
+			if (entry == null) {
+				entry = new CacheEntry<>(new FutureTask<>(loader));
+				cache.put(key, entry);
+				evict();
+				load = true;
+			}
+		}
+		if (load) {
+			entry.task.run();
+		}
+		try {
+			final V value = entry.task.get();
+			if (value == null) {
+				remove(key, entry);
+			}
+			return value;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException(String.format("Interrupted while loading the data with key '%s'", key), e);
+
+		} catch (ExecutionException e) {
+			remove(key, entry);
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(String.format("Unable to load the data with key '%s'. Reason : %s",
+					key, cause.getMessage()), cause);
+		}
+	}
+
+	/**
+	 * Caches the {@code value} for the {@code key}, when the key is not cached yet.
+	 * A {@code null} value is not cached.
+	 *
+	 * @param key {@link String} identifying the value
+	 * @param value the value to cache (can be null)
+	 */
+	void put(String key, V value) {
+		if (value == null) {
+			return;
+		}
+		final FutureTask<V> task = new FutureTask<>(() -> value);
+		task.run();
+		synchronized (cache) {
+			if (getValidEntry(key) == null) {
+				cache.put(key, new CacheEntry<>(task));
+				evict();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the {@code key} is cached (or being loaded) and not expired
+	 *
+	 * @param key {@link String} identifying the value
+	 * @return TRUE if the key is present in the cache, FALSE otherwise
+	 */
+	boolean contains(String key) {
+		synchronized (cache) {
+			return getValidEntry(key) != null;
+		}
+	}
+
+	/**
+	 * Returns the number of cached keys
+	 *
+	 * @return number of keys
+	 */
+	int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the entry of the {@code key}, removing it when expired. Shall be called within the lock on the cache.
+	 */
+	private CacheEntry<V> getValidEntry(String key) {
+		final CacheEntry<V> entry = cache.get(key);
+		if (entry != null && expirationTime > 0 && System.currentTimeMillis() - entry.creationTime > expirationTime) {
+			cache.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Evicts the least recently used entries above the maximum size. Shall be called within the lock on the cache.
+	 * A running loading is not interrupted : the threads waiting for it still obtain the value.
+	 */
+	private void evict() {
+		final Iterator<CacheEntry<V>> iterator = cache.values().iterator();
+		while (cache.size() > maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private void remove(String key, CacheEntry<V> entry) {
+		synchronized (cache) {
+			if (cache.get(key) == entry) {
+				cache.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Creates an empty cache on deserialization, as the loaded values are not serialized
+	 *
+	 * @return {@link SharedDataCache}
+	 */
+	private Object readResolve() {
+		final SharedDataCache<V> sharedDataCache = new SharedDataCache<>();
+		sharedDataCache.setMaxSize(maxSize);
+		sharedDataCache.setExpirationTime(expirationTime);
+		return sharedDataCache;
+	}
+
+	/**
+	 * The loading of a value with its creation time
+	 *
+	 * @param <V> the type of the value
+	 */
+	private static final class CacheEntry<V> {
+
+		/** The (running or completed) loading */
+		private final FutureTask<V> task;
+
+		/** The creation time of the entry */
+		private final long creationTime = System.currentTimeMillis();
+
+		private CacheEntry(FutureTask<V> task) {
+			this.task = task;
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPBatchSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The OCSP source sharing the obtained OCSP responses between the validations of a batch.
+ * <p>
+ * When the wrapped source is an {@code OCSPBatchSource}, the certificates not processed yet
+ * are requested within a single batch request. The certificates without a response in the batch
+ * are not requested again within the same call.
+ *
+ */
+public class SharedOCSPSource extends SharedRevocationSource<OCSP> implements OCSPBatchSource {
+
+	private static final long serialVersionUID = -3025816541530914736L;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param ocspSource {@link RevocationSource} to request the OCSP responses from
+	 */
+	public SharedOCSPSource(RevocationSource<OCSP> ocspSource) {
+		super(ocspSource);
+	}
+
+	@Override
+	public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return (OCSPToken) super.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@Override
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+																List<String> alternativeUrls) {
+		final Map<CertificateToken, CertificateToken> batchRequested = new LinkedHashMap<>();
+		if (revocationSource instanceof OCSPBatchSource) {
+			for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+				if (!cache.contains(getKey(entry.getKey(), entry.getValue(), alternativeUrls))) {
+					batchRequested.put(entry.getKey(), entry.getValue());
+				}
+			}
+			if (!batchRequested.isEmpty()) {
+				final Map<CertificateToken, OCSPToken> ocspTokens =
+						((OCSPBatchSource) revocationSource).getRevocationTokens(batchRequested, alternativeUrls);
+				for (Map.Entry<CertificateToken, CertificateToken> entry : batchRequested.entrySet()) {
+					cache.put(getKey(entry.getKey(), entry.getValue(), alternativeUrls), ocspTokens.get(entry.getKey()));
+				}
+			}
+		}
+
+		final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+		for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			final String key = getKey(entry.getKey(), entry.getValue(), alternativeUrls);
+			if (batchRequested.containsKey(entry.getKey()) && !cache.contains(key)) {
+				// no response obtained within the batch request
+				continue;
+			}
+			RevocationToken<OCSP> ocspToken = getRevocationToken(entry.getKey(), entry.getValue(), alternativeUrls);
+			if (ocspToken != null) {
+				result.put(entry.getKey(), (OCSPToken) ocspToken);
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,149 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code RevocationSource} sharing the obtained revocation data between the validations of a batch.
+ * The revocation data is requested from the wrapped source only once per certificate / issuer couple
+ * and alternative URLs. A request without an obtained response is performed again on the next call.
+ * <p>
+ * NOTE: the alternative URLs are provided by the trust anchor (e.g. a trusted list), so the same certificate
+ * can be requested with different alternative URLs. They are part of the cache key.
+ *
+ * @param <R> {@code Revocation}
+ */
+public class SharedRevocationSource<R extends Revocation> implements RevocationSourceAlternateUrlsSupport<R> {
+
+	private static final long serialVersionUID = 4512263858167497376L;
+
+	/** The wrapped revocation source */
+	protected final RevocationSource<R> revocationSource;
+
+	/** The obtained revocation tokens, by certificate / issuer couples */
+	protected final SharedDataCache<RevocationToken<R>> cache = new SharedDataCache<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param revocationSource {@link RevocationSource} to request the revocation data from
+	 */
+	public SharedRevocationSource(RevocationSource<R> revocationSource) {
+		Objects.requireNonNull(revocationSource, "RevocationSource cannot be null!");
+		this.revocationSource = revocationSource;
+	}
+
+	/**
+	 * Sets the maximum number of cached revocation tokens. The least recently used ones are evicted above the limit.
+	 *
+	 * Default : 10000
+	 *
+	 * @param maxCacheSize the maximum number of cached entries
+	 */
+	public void setMaxCacheSize(int maxCacheSize) {
+		cache.setMaxSize(maxCacheSize);
+	}
+
+	/**
+	 * Sets the time in milliseconds after which the cached revocation tokens are requested again from the wrapped source
+	 *
+	 * Default : 0 (no expiration)
+	 *
+	 * @param cacheExpirationTime the expiration time in milliseconds, 0 for no expiration
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		cache.setExpirationTime(cacheExpirationTime);
+	}
+
+	@Override
+	public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
+	}
+
+	@Override
+	public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+												 List<String> alternativeUrls) {
+		return cache.get(getKey(certificateToken, issuerCertificateToken, alternativeUrls),
+				() -> loadRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls));
+	}
+
+	/**
+	 * Requests the revocation data from the wrapped source
+	 *
+	 * @param certificateToken {@link CertificateToken} to get revocation data for
+	 * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative URLs
+	 * @return {@link RevocationToken}
+	 */
+	@SuppressWarnings("unchecked")
+	protected RevocationToken<R> loadRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+													 List<String> alternativeUrls) {
+		if (Utils.isCollectionNotEmpty(alternativeUrls) && revocationSource instanceof RevocationSourceAlternateUrlsSupport) {
+			return ((RevocationSourceAlternateUrlsSupport<R>) revocationSource).getRevocationToken(
+					certificateToken, issuerCertificateToken, alternativeUrls);
+		}
+		return revocationSource.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	/**
+	 * Returns the key of the certificate / issuer couple with the alternative URLs
+	 *
+	 * @param certificateToken {@link CertificateToken}
+	 * @param issuerCertificateToken {@link CertificateToken}
+	 * @param alternativeUrls a list of {@link String} alternative URLs (can be null)
+	 * @return {@link String} key
+	 */
+	protected String getKey(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+							List<String> alternativeUrls) {
+		final StringBuilder sb = new StringBuilder();
+		sb.append(certificateToken.getDSSIdAsString()).append(':').append(issuerCertificateToken.getDSSIdAsString());
+		if (Utils.isCollectionNotEmpty(alternativeUrls)) {
+			final List<String> sortedUrls = new ArrayList<>(alternativeUrls);
+			Collections.sort(sortedUrls);
+			for (String url : sortedUrls) {
+				sb.append(' ').append(url);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the number of certificate / issuer couples (with alternative URLs), for which the revocation data
+	 * has been obtained
+	 *
+	 * @return number of cached revocation tokens
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+}
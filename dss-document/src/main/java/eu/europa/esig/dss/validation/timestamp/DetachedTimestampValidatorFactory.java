@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.validation.timestamp;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -43,6 +44,11 @@ public class DetachedTimestampValidatorFactory implements DocumentValidatorFacto
 		return validator.isSupported(document);
 	}
 
+	@Override
+	public boolean isSupportedPreamble(byte[] preamble) {
+		return preamble.length > 0 && DSSASN1Utils.isASN1SequenceTag(preamble[0]);
+	}
+
 	@Override
 	public SignedDocumentValidator create(DSSDocument document) {
 		return new DetachedTimestampValidator(document);
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.model.InMemoryDocument;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
@@ -33,6 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -123,6 +125,36 @@ public class DomUtilsTest {
 		assertNotNull(DomUtils.getSecureTransformer());
 	}
 
+	@Test
+	public void childElementsPathTest() {
+		DomUtils.registerNamespace(new DSSNamespace("http://dss.test/path", "pt"));
+		Document document = DomUtils.buildDOM("<pt:root xmlns:pt=\"http://dss.test/path\" xmlns:o=\"http://dss.test/other\">" +
+				"<pt:a><pt:b> first </pt:b><o:b>other</o:b><pt:b><pt:c/></pt:b></pt:a><pt:a><pt:b>third<!-- comment --></pt:b></pt:a></pt:root>");
+		Element root = document.getDocumentElement();
+
+		// "[true()]" predicate forces the XPath engine evaluation
+		assertEquals(DomUtils.getNodesAmount(root, "./pt:a/pt:b[true()]"), DomUtils.getNodesAmount(root, "./pt:a/pt:b"));
+		assertEquals(3, DomUtils.getNodesAmount(root, "./pt:a/pt:b"));
+		assertEquals(0, DomUtils.getNodesAmount(root, "./pt:b"));
+		assertEquals(DomUtils.getValue(root, "./pt:a/pt:b[true()]"), DomUtils.getValue(root, "./pt:a/pt:b"));
+		assertEquals("first", DomUtils.getValue(root, "./pt:a/pt:b"));
+		assertEquals("", DomUtils.getValue(root, "./pt:a/pt:d"));
+
+		NodeList nodeList = DomUtils.getNodeList(root, "./pt:a/pt:b");
+		NodeList xPathNodeList = DomUtils.getNodeList(root, "./pt:a/pt:b[true()]");
+		for (int i = 0; i < xPathNodeList.getLength(); i++) {
+			assertEquals(xPathNodeList.item(i), nodeList.item(i));
+		}
+		assertNull(nodeList.item(xPathNodeList.getLength()));
+
+		assertTrue(DomUtils.isNotEmpty(root, "./pt:a"));
+		assertEquals(DomUtils.isNotEmpty(root, "./pt:a/pt:b[true()]"), DomUtils.isNotEmpty(root, "./pt:a/pt:b"));
+		assertFalse(DomUtils.isNotEmpty(root, "./pt:a/pt:b/pt:c"));
+
+		assertThrows(DSSException.class, () -> DomUtils.getElement(root, "./pt:a"));
+		assertNotNull(DomUtils.getElement(root, "./pt:a/pt:b/pt:c"));
+	}
+
 	@Test
 	public void getDate() {
 		assertNull(DomUtils.getDate("2020-02-16:T18:32:24Z"));
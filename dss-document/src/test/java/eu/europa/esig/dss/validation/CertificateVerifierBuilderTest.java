@@ -54,6 +54,7 @@ public class CertificateVerifierBuilderTest {
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
         assertEquals(certificateVerifier.isRevocationFallback(), copy.isRevocationFallback());
+        assertEquals(certificateVerifier.getExecutor(), copy.getExecutor());
         assertEquals(certificateVerifier.getRevocationDataVerifier(), copy.getRevocationDataVerifier());
         assertEquals(certificateVerifier.isCheckRevocationForUntrustedChains(), copy.isCheckRevocationForUntrustedChains());
         assertEquals(certificateVerifier.isExtractPOEFromUntrustedChains(), copy.isExtractPOEFromUntrustedChains());
@@ -89,6 +90,7 @@ public class CertificateVerifierBuilderTest {
         assertNull(copy.getOcspSource());
         assertNotNull(copy.getRevocationDataLoadingStrategyFactory()); // not relevant for offline validation
         assertFalse(copy.isRevocationFallback());
+        assertNull(copy.getExecutor()); // not relevant for offline validation
         assertFalse(copy.isCheckRevocationForUntrustedChains());
         assertTrue(copy.getAlertOnInvalidTimestamp() instanceof SilentOnStatusAlert);
         assertTrue(copy.getAlertOnMissingRevocationData() instanceof SilentOnStatusAlert);
@@ -110,6 +112,7 @@ public class CertificateVerifierBuilderTest {
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
         assertEquals(certificateVerifier.getRevocationDataVerifier(), copy.getRevocationDataVerifier());
+        assertEquals(certificateVerifier.getExecutor(), copy.getExecutor());
         assertEquals(certificateVerifier.isCheckRevocationForUntrustedChains(), copy.isCheckRevocationForUntrustedChains());
         assertEquals(certificateVerifier.isExtractPOEFromUntrustedChains(), copy.isExtractPOEFromUntrustedChains());
         assertEquals(certificateVerifier.getAdjunctCertSources(), copy.getAdjunctCertSources());
@@ -145,6 +148,7 @@ public class CertificateVerifierBuilderTest {
         certificateVerifier.setRevocationDataLoadingStrategyFactory(new CRLFirstRevocationDataLoadingStrategyFactory());
         certificateVerifier.setRevocationDataVerifier(RevocationDataVerifier.createDefaultRevocationDataVerifier());
         certificateVerifier.setRevocationFallback(true);
+        certificateVerifier.setExecutor(Runnable::run);
         certificateVerifier.setCheckRevocationForUntrustedChains(true);
         certificateVerifier.setExtractPOEFromUntrustedChains(true);
         certificateVerifier.setAdjunctCertSources(new CommonCertificateSource());
@@ -24,14 +24,18 @@ import eu.europa.esig.dss.crl.CRLBinary;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.RevocationType;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.AlternateUrlsSourceAdapter;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.ExternalResourcesOCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPBatchSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
@@ -41,9 +45,17 @@ import org.bouncycastle.cert.ocsp.SingleResp;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class RevocationDataLoadingStrategyTest {
@@ -134,6 +146,83 @@ public class RevocationDataLoadingStrategyTest {
         assertNotNull(revocationToken);
     }
 
+    @Test
+    public void ocspFirstBatchTest() {
+        MockOCSPBatchSource batchSource = new MockOCSPBatchSource();
+
+        RevocationDataLoadingStrategy revocationDataLoadingStrategy = new OCSPFirstRevocationDataLoadingStrategy();
+        revocationDataLoadingStrategy.setOcspSource(batchSource);
+
+        Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<>();
+        certificatesAndIssuers.put(CERTIFICATE, ISSUER);
+        // no response is returned for the second certificate by the batch source
+        certificatesAndIssuers.put(ISSUER, ISSUER);
+
+        Map<CertificateToken, RevocationToken<?>> revocationTokens = revocationDataLoadingStrategy.getRevocationTokens(certificatesAndIssuers);
+        assertEquals(1, revocationTokens.size());
+        assertEquals(ocspToken, revocationTokens.get(CERTIFICATE));
+        assertNull(revocationTokens.get(ISSUER));
+
+        assertEquals(1, batchSource.batchRequests.size());
+        assertEquals(certificatesAndIssuers, batchSource.batchRequests.get(0));
+        assertTrue(batchSource.alternativeUrls.get(0).isEmpty());
+        // the prefetched responses are used, no single request is sent
+        assertEquals(0, batchSource.singleRequests);
+    }
+
+    @Test
+    public void ocspFirstBatchSingleCertificateTest() {
+        MockOCSPBatchSource batchSource = new MockOCSPBatchSource();
+
+        RevocationDataLoadingStrategy revocationDataLoadingStrategy = new OCSPFirstRevocationDataLoadingStrategy();
+        revocationDataLoadingStrategy.setOcspSource(batchSource);
+
+        Map<CertificateToken, RevocationToken<?>> revocationTokens = revocationDataLoadingStrategy.getRevocationTokens(
+                Collections.singletonMap(CERTIFICATE, ISSUER));
+        assertEquals(1, revocationTokens.size());
+        assertEquals(ocspToken, revocationTokens.get(CERTIFICATE));
+
+        assertEquals(0, batchSource.batchRequests.size());
+        assertEquals(1, batchSource.singleRequests);
+    }
+
+    @Test
+    public void ocspFirstBatchAlternateUrlsTest() {
+        MockOCSPBatchSource batchSource = new MockOCSPBatchSource();
+        List<String> alternativeUrls = Collections.singletonList("http://dss.test/ocsp");
+
+        RevocationDataLoadingStrategy revocationDataLoadingStrategy = new OCSPFirstRevocationDataLoadingStrategy();
+        revocationDataLoadingStrategy.setOcspSource(new AlternateUrlsSourceAdapter<>(batchSource, alternativeUrls));
+
+        Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<>();
+        certificatesAndIssuers.put(CERTIFICATE, ISSUER);
+        certificatesAndIssuers.put(ISSUER, ISSUER);
+
+        Map<CertificateToken, RevocationToken<?>> revocationTokens = revocationDataLoadingStrategy.getRevocationTokens(certificatesAndIssuers);
+        assertEquals(ocspToken, revocationTokens.get(CERTIFICATE));
+
+        assertEquals(1, batchSource.batchRequests.size());
+        assertEquals(alternativeUrls, batchSource.alternativeUrls.get(0));
+        assertEquals(0, batchSource.singleRequests);
+    }
+
+    @Test
+    public void crlFirstBatchTest() {
+        MockOCSPBatchSource batchSource = new MockOCSPBatchSource();
+
+        RevocationDataLoadingStrategy revocationDataLoadingStrategy = new CRLFirstRevocationDataLoadingStrategy();
+        revocationDataLoadingStrategy.setOcspSource(batchSource);
+        revocationDataLoadingStrategy.setCrlSource(crlSource);
+
+        Map<CertificateToken, RevocationToken<?>> revocationTokens = revocationDataLoadingStrategy.getRevocationTokens(
+                Collections.singletonMap(CERTIFICATE, ISSUER));
+        assertEquals(RevocationType.CRL, revocationTokens.get(CERTIFICATE).getRevocationType());
+
+        // OCSP is not requested when a CRL is obtained
+        assertEquals(0, batchSource.batchRequests.size());
+        assertEquals(0, batchSource.singleRequests);
+    }
+
     private static class MockOCSPSource implements OCSPSource {
 
         private static final long serialVersionUID = -3854454644299458096L;
@@ -149,6 +238,46 @@ public class RevocationDataLoadingStrategyTest {
 
     }
 
+    private static class MockOCSPBatchSource implements OCSPBatchSource, RevocationSourceAlternateUrlsSupport<OCSP> {
+
+        private static final long serialVersionUID = 4178219633741357613L;
+
+        private final List<Map<CertificateToken, CertificateToken>> batchRequests = new ArrayList<>();
+
+        private final List<List<String>> alternativeUrls = new ArrayList<>();
+
+        private int singleRequests;
+
+        @Override
+        public Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+                                                                    List<String> alternativeUrls) {
+            this.batchRequests.add(new LinkedHashMap<>(certificatesAndIssuers));
+            this.alternativeUrls.add(alternativeUrls);
+            Map<CertificateToken, OCSPToken> result = new HashMap<>();
+            if (ISSUER.equals(certificatesAndIssuers.get(CERTIFICATE))) {
+                result.put(CERTIFICATE, ocspToken);
+            }
+            return result;
+        }
+
+        @Override
+        public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+            return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
+        }
+
+        @Override
+        public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+                                            List<String> alternativeUrls) {
+            singleRequests++;
+            if (CERTIFICATE.equals(certificateToken) && ISSUER.equals(issuerCertificateToken)) {
+                return ocspToken;
+            }
+            fail("Not implemented!");
+            throw new IllegalArgumentException("Not implemented!");
+        }
+
+    }
+
     private static class MockCRLSource implements CRLSource {
 
         private static final long serialVersionUID = 1976433101367636586L;
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
@@ -29,16 +30,37 @@ import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.ExternalResourcesOCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPBatchSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -76,6 +98,137 @@ public class SignatureValidationContextTest {
 		assertEquals(1, processedTimestamps.size());
 	}
 
+	@Test
+	public void concurrentTest() throws Exception {
+		SignatureValidationContext serialContext = validateWithOfflineSources(null);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		SignatureValidationContext concurrentContext;
+		try {
+			concurrentContext = validateWithOfflineSources(executorService);
+		} finally {
+			executorService.shutdown();
+		}
+
+		// the concurrent validation builds the same token graph as the serial one
+		Map<String, CertificateToken> serialCertificates = getTokensById(serialContext.getProcessedCertificates());
+		Map<String, CertificateToken> concurrentCertificates = getTokensById(concurrentContext.getProcessedCertificates());
+		assertEquals(serialCertificates.keySet(), concurrentCertificates.keySet());
+		for (Map.Entry<String, CertificateToken> entry : serialCertificates.entrySet()) {
+			CertificateToken concurrentCertificate = concurrentCertificates.get(entry.getKey());
+			assertEquals(entry.getValue().getPublicKeyOfTheSigner(), concurrentCertificate.getPublicKeyOfTheSigner());
+			assertEquals(entry.getValue().getSignatureValidity(), concurrentCertificate.getSignatureValidity());
+		}
+
+		Map<String, RevocationToken> serialRevocations = getTokensById(serialContext.getProcessedRevocations());
+		Map<String, RevocationToken> concurrentRevocations = getTokensById(concurrentContext.getProcessedRevocations());
+		assertEquals(1, serialRevocations.size());
+		assertEquals(serialRevocations.keySet(), concurrentRevocations.keySet());
+		for (Map.Entry<String, RevocationToken> entry : serialRevocations.entrySet()) {
+			RevocationToken concurrentRevocation = concurrentRevocations.get(entry.getKey());
+			assertEquals(entry.getValue().getRelatedCertificateId(), concurrentRevocation.getRelatedCertificateId());
+			assertEquals(entry.getValue().getStatus(), concurrentRevocation.getStatus());
+			assertEquals(entry.getValue().getPublicKeyOfTheSigner(), concurrentRevocation.getPublicKeyOfTheSigner());
+		}
+	}
+
+	private SignatureValidationContext validateWithOfflineSources(ExecutorService executorService) {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		CertificateSource trustedCertSource = new CommonTrustedCertificateSource();
+		trustedCertSource.addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/certificates/peru_CA.cer")));
+		certificateVerifier.setTrustedCertSources(trustedCertSource);
+		certificateVerifier.setAIASource(null);
+		certificateVerifier.setOcspSource(new ExternalResourcesOCSPSource("/peru_ocsp.bin"));
+		certificateVerifier.setExecutor(executorService);
+
+		SignatureValidationContext svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(DSSUtils.loadCertificate(new File("src/test/resources/certificates/peru_client.cer")));
+		svc.validate();
+		return svc;
+	}
+
+	@Test
+	public void concurrentRevocationRequestsGroupedByTrustAnchorTest() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair firstCaKeyPair = keyPairGenerator.generateKeyPair();
+		KeyPair secondCaKeyPair = keyPairGenerator.generateKeyPair();
+		KeyPair userKeyPair = keyPairGenerator.generateKeyPair();
+
+		X500Name firstCaName = new X500Name("CN=First Test CA,O=DSS,C=LU");
+		ContentSigner firstCaSigner = new JcaContentSignerBuilder("SHA256withRSA").build(firstCaKeyPair.getPrivate());
+		CertificateToken firstCa = createCertificate(firstCaName, firstCaSigner, firstCaName, BigInteger.ONE,
+				firstCaKeyPair.getPublic(), true);
+		CertificateToken firstUser = createCertificate(firstCaName, firstCaSigner, new X500Name("CN=First User,O=DSS,C=LU"),
+				BigInteger.valueOf(101), userKeyPair.getPublic(), false);
+		CertificateToken secondUser = createCertificate(firstCaName, firstCaSigner, new X500Name("CN=Second User,O=DSS,C=LU"),
+				BigInteger.valueOf(102), userKeyPair.getPublic(), false);
+
+		X500Name secondCaName = new X500Name("CN=Second Test CA,O=DSS,C=LU");
+		ContentSigner secondCaSigner = new JcaContentSignerBuilder("SHA256withRSA").build(secondCaKeyPair.getPrivate());
+		CertificateToken secondCa = createCertificate(secondCaName, secondCaSigner, secondCaName, BigInteger.ONE,
+				secondCaKeyPair.getPublic(), true);
+		CertificateToken thirdUser = createCertificate(secondCaName, secondCaSigner, new X500Name("CN=Third User,O=DSS,C=LU"),
+				BigInteger.valueOf(201), userKeyPair.getPublic(), false);
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		CertificateSource trustedCertSource = new CommonTrustedCertificateSource();
+		trustedCertSource.addCertificate(firstCa);
+		trustedCertSource.addCertificate(secondCa);
+		certificateVerifier.setTrustedCertSources(trustedCertSource);
+		certificateVerifier.setAIASource(null);
+		MockOCSPBatchSource ocspSource = new MockOCSPBatchSource();
+		certificateVerifier.setOcspSource(ocspSource);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			certificateVerifier.setExecutor(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(firstUser);
+			svc.addCertificateTokenForVerification(secondUser);
+			svc.addCertificateTokenForVerification(thirdUser);
+			svc.validate();
+
+		} finally {
+			executorService.shutdown();
+		}
+
+		// the certificates sharing the same trust anchor are requested at once
+		assertEquals(1, ocspSource.batchRequests.size());
+		Map<CertificateToken, CertificateToken> batchRequest = ocspSource.batchRequests.get(0);
+		assertEquals(2, batchRequest.size());
+		assertEquals(firstCa, batchRequest.get(firstUser));
+		assertEquals(firstCa, batchRequest.get(secondUser));
+
+		// the only certificate of the second trust anchor is requested alone
+		assertEquals(1, ocspSource.singleRequests.size());
+		assertEquals(thirdUser, ocspSource.singleRequests.get(0));
+	}
+
+	private CertificateToken createCertificate(X500Name issuerName, ContentSigner issuerSigner, X500Name subjectName,
+			BigInteger serialNumber, PublicKey publicKey, boolean ca) throws Exception {
+		Date now = new Date();
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, serialNumber,
+				new Date(now.getTime() - 24 * 3600 * 1000L), new Date(now.getTime() + 24 * 3600 * 1000L), subjectName, publicKey);
+		if (ca) {
+			builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+			builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		}
+		return DSSUtils.loadCertificate(builder.build(issuerSigner).getEncoded());
+	}
+
+	private <T extends Token> Map<String, T> getTokensById(Set<T> tokens) {
+		Map<String, T> result = new HashMap<>();
+		for (T token : tokens) {
+			result.put(token.getDSSIdAsString(), token);
+		}
+		assertEquals(tokens.size(), result.size());
+		return result;
+	}
+
 	@Test
 	public void testCannotDownload() throws Exception {
 		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
@@ -249,6 +402,29 @@ public class SignatureValidationContextTest {
 		assertNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	private static class MockOCSPBatchSource implements OCSPBatchSource {
+
+		private static final long serialVersionUID = 2519427185632817446L;
+
+		private final List<Map<CertificateToken, CertificateToken>> batchRequests = Collections.synchronizedList(new ArrayList<>());
+
+		private final List<CertificateToken> singleRequests = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+																	List<String> alternativeUrls) {
+			batchRequests.add(new HashMap<>(certificatesAndIssuers));
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			singleRequests.add(certificateToken);
+			return null;
+		}
+
+	}
+
 	private static class MockAIASource extends DefaultAIASource {
 
 		private static final long serialVersionUID = -5890796098843749473L;
@@ -20,12 +20,22 @@
  */
 package eu.europa.esig.dss.validation;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.validation.timestamp.DetachedTimestampValidator;
 import org.junit.jupiter.api.Test;
 
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SignedDocumentValidatorTest {
 
@@ -48,4 +58,116 @@ public class SignedDocumentValidatorTest {
 		assertThrows(NullPointerException.class, () -> SignedDocumentValidator.fromDocument(emptyDoc));
 	}
 
+	@Test
+	public void testDetachedTimestamp() {
+		FileDocument timestamp = new FileDocument("src/test/resources/archive_timestamp.tst");
+		assertTrue(SignedDocumentValidator.fromDocument(timestamp) instanceof DetachedTimestampValidator);
+	}
+
+	@Test
+	public void testPreambleFiltersFactories() {
+		CountingDocument document = new CountingDocument("<?xml version=\"1.0\"?><root/>".getBytes());
+		CountingFactory pdfFactory = new CountingFactory(false, true);
+		CountingFactory unsupportedXmlFactory = new CountingFactory(true, false);
+		CountingFactory xmlFactory = new CountingFactory(true, true);
+		CountingFactory lastFactory = new CountingFactory(true, true);
+
+		SignedDocumentValidator validator = DocumentValidatorFactoryRegistry.fromDocument(document,
+				Arrays.asList(pdfFactory, unsupportedXmlFactory, xmlFactory, lastFactory));
+		assertNotNull(validator);
+		assertSame(xmlFactory.createdValidator, validator);
+
+		// the preamble is read once and provided to every tested factory
+		assertEquals(1, document.openStreamCounter);
+		assertEquals(1, pdfFactory.isSupportedPreambleCounter);
+		assertEquals(1, unsupportedXmlFactory.isSupportedPreambleCounter);
+		assertEquals(1, xmlFactory.isSupportedPreambleCounter);
+		assertEquals(0, lastFactory.isSupportedPreambleCounter);
+		assertArrayEquals("<?xml ve".getBytes(), xmlFactory.preamble);
+
+		// the factory not supporting the preamble is skipped
+		assertEquals(0, pdfFactory.isSupportedCounter);
+		assertEquals(1, unsupportedXmlFactory.isSupportedCounter);
+		assertEquals(1, xmlFactory.isSupportedCounter);
+		assertEquals(0, lastFactory.isSupportedCounter);
+	}
+
+	@Test
+	public void testPreambleFiltersAllFactories() {
+		CountingDocument document = new CountingDocument(new byte[] { 0x30 });
+		CountingFactory firstFactory = new CountingFactory(false, true);
+		CountingFactory secondFactory = new CountingFactory(false, true);
+
+		Exception exception = assertThrows(UnsupportedOperationException.class,
+				() -> DocumentValidatorFactoryRegistry.fromDocument(document, Arrays.asList(firstFactory, secondFactory)));
+		assertEquals("Document format not recognized/handled", exception.getMessage());
+
+		// a short document provides a short preamble
+		assertArrayEquals(new byte[] { 0x30 }, firstFactory.preamble);
+		assertEquals(1, document.openStreamCounter);
+		assertEquals(0, firstFactory.isSupportedCounter);
+		assertEquals(0, secondFactory.isSupportedCounter);
+	}
+
+	@Test
+	public void testFactoriesCached() {
+		DocumentValidatorFactoryRegistry registry = DocumentValidatorFactoryRegistry.getInstance();
+		assertFalse(registry.getFactories().isEmpty());
+		assertSame(registry.getFactories(), registry.getFactories());
+	}
+
+	private static class CountingFactory implements DocumentValidatorFactory {
+
+		private final boolean preambleSupported;
+		private final boolean supported;
+
+		private int isSupportedPreambleCounter = 0;
+		private int isSupportedCounter = 0;
+		private byte[] preamble;
+		private SignedDocumentValidator createdValidator;
+
+		private CountingFactory(boolean preambleSupported, boolean supported) {
+			this.preambleSupported = preambleSupported;
+			this.supported = supported;
+		}
+
+		@Override
+		public boolean isSupportedPreamble(byte[] preamble) {
+			++isSupportedPreambleCounter;
+			this.preamble = preamble;
+			return preambleSupported;
+		}
+
+		@Override
+		public boolean isSupported(DSSDocument document) {
+			++isSupportedCounter;
+			return supported;
+		}
+
+		@Override
+		public SignedDocumentValidator create(DSSDocument document) {
+			createdValidator = new DetachedTimestampValidator(document);
+			return createdValidator;
+		}
+
+	}
+
+	private static class CountingDocument extends InMemoryDocument {
+
+		private static final long serialVersionUID = 6071283958419267253L;
+
+		private int openStreamCounter = 0;
+
+		private CountingDocument(byte[] bytes) {
+			super(bytes);
+		}
+
+		@Override
+		public InputStream openStream() {
+			++openStreamCounter;
+			return super.openStream();
+		}
+
+	}
+
 }
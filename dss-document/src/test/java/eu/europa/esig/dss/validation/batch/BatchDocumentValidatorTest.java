@@ -0,0 +1,416 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.batch;
+
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
+import eu.europa.esig.dss.diagnostic.TimestampWrapper;
+import eu.europa.esig.dss.enumerations.RevocationType;
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.identifier.TokenIdentifier;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationCertificateSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.reports.Reports;
+import eu.europa.esig.dss.validation.timestamp.DetachedTimestampValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchDocumentValidatorTest {
+
+	private static final int NUMBER_OF_DOCUMENTS = 10;
+
+	@Test
+	public void test() {
+		CountingAIASource aiaSource = new CountingAIASource();
+		CountingRevocationSource<OCSP> ocspSource = new CountingRevocationSource<>();
+		CountingRevocationSource<CRL> crlSource = new CountingRevocationSource<>();
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setOcspSource(ocspSource);
+		certificateVerifier.setCrlSource(crlSource);
+		certificateVerifier.setCheckRevocationForUntrustedChains(true);
+
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(certificateVerifier);
+		batchValidator.setMaxThreads(4);
+		assertTrue(batchValidator.getCertificateVerifier().getAIASource() instanceof SharedAIASource);
+		assertTrue(batchValidator.getCertificateVerifier().getOcspSource() instanceof SharedOCSPSource);
+		assertTrue(batchValidator.getCertificateVerifier().getCrlSource() instanceof SharedRevocationSource);
+
+		List<DetachedTimestampValidator> validators = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+			DetachedTimestampValidator validator = new DetachedTimestampValidator(new FileDocument("src/test/resources/d-trust.tsr"));
+			validator.setTimestampedData(new InMemoryDocument("Test123".getBytes()));
+			validators.add(validator);
+		}
+
+		List<Reports> reportsList = new ArrayList<>();
+		for (BatchValidationResult result : batchValidator.validate(validators)) {
+			assertFalse(result.isFailed());
+			reportsList.add(result.getReports());
+		}
+		assertEquals(NUMBER_OF_DOCUMENTS, reportsList.size());
+
+		String timestampId = reportsList.get(0).getDiagnosticData().getTimestampList().get(0).getId();
+		for (Reports reports : reportsList) {
+			assertNotNull(reports);
+			assertEquals(1, reports.getDiagnosticData().getTimestampList().size());
+			TimestampWrapper timestampWrapper = reports.getDiagnosticData().getTimestampList().get(0);
+			assertEquals(timestampId, timestampWrapper.getId());
+			assertTrue(timestampWrapper.isMessageImprintDataIntact());
+			assertTrue(timestampWrapper.isSignatureIntact());
+		}
+
+		// the certificates of the chain, except the self-signed root, are requested for revocation data
+		List<String> expectedCertificateIds = new ArrayList<>();
+		for (CertificateWrapper certificateWrapper : reportsList.get(0).getDiagnosticData().getTimestampList().get(0).getCertificateChain()) {
+			if (!certificateWrapper.isSelfSigned()) {
+				expectedCertificateIds.add(certificateWrapper.getId());
+			}
+		}
+		assertFalse(expectedCertificateIds.isEmpty());
+
+		// the sources return no revocation data, which is not cached and requested again by the next documents
+		// (the concurrent requests for the same certificate still share the running request)
+		ocspSource.assertRequested(expectedCertificateIds, NUMBER_OF_DOCUMENTS);
+		crlSource.assertRequested(expectedCertificateIds, NUMBER_OF_DOCUMENTS);
+
+		// the obtained issuer certificates are requested only once for the whole batch
+		aiaSource.assertRequestedOnce();
+	}
+
+	@Test
+	public void sharedRevocationSourceTest() {
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+
+		CountingRevocationSource<CRL> crlSource = new CountingRevocationSource<>(new MockRevocationToken());
+		SharedRevocationSource<CRL> sharedSource = new SharedRevocationSource<>(crlSource);
+
+		RevocationToken<CRL> revocationToken = sharedSource.getRevocationToken(certificate, issuer);
+		assertNotNull(revocationToken);
+		assertSame(revocationToken, sharedSource.getRevocationToken(certificate, issuer));
+		crlSource.assertRequested(Collections.singletonList(certificate.getDSSIdAsString()), 1);
+		assertEquals(1, sharedSource.size());
+
+		// alternative URLs, coming from the trust anchor, are part of the key
+		sharedSource.getRevocationToken(certificate, issuer, Arrays.asList("http://b.crl", "http://a.crl"));
+		sharedSource.getRevocationToken(certificate, issuer, Arrays.asList("http://a.crl", "http://b.crl"));
+		crlSource.assertRequested(Collections.singletonList(certificate.getDSSIdAsString()), 2);
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://c.crl"));
+		crlSource.assertRequested(Collections.singletonList(certificate.getDSSIdAsString()), 3);
+		assertEquals(3, sharedSource.size());
+	}
+
+	@Test
+	public void nullRevocationTokenNotCachedTest() {
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+
+		CountingRevocationSource<OCSP> ocspSource = new CountingRevocationSource<>();
+		SharedRevocationSource<OCSP> sharedSource = new SharedRevocationSource<>(ocspSource);
+		assertNull(sharedSource.getRevocationToken(certificate, issuer));
+		assertNull(sharedSource.getRevocationToken(certificate, issuer));
+		// the unavailable data is requested again
+		ocspSource.assertRequested(Collections.singletonList(certificate.getDSSIdAsString()), 2);
+		assertEquals(0, sharedSource.size());
+	}
+
+	@Test
+	public void serializationTest() throws Exception {
+		SharedRevocationSource<CRL> sharedSource = new SharedRevocationSource<>(
+				new CountingRevocationSource<>(new MockRevocationToken()));
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+		assertNotNull(sharedSource.getRevocationToken(certificate, issuer));
+
+		@SuppressWarnings("unchecked")
+		SharedRevocationSource<CRL> deserialized = (SharedRevocationSource<CRL>) serializeAndDeserialize(sharedSource);
+		// the cache is usable (and empty) after the deserialization
+		assertEquals(0, deserialized.size());
+		assertNotNull(deserialized.getRevocationToken(certificate, issuer));
+		assertEquals(1, deserialized.size());
+	}
+
+	@Test
+	public void validateDocumentsTest() {
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(new CommonCertificateVerifier());
+		List<DSSDocument> documents = Collections.nCopies(3, new FileDocument("src/test/resources/d-trust.tsr"));
+		List<BatchValidationResult> results = batchValidator.validateDocuments(documents);
+		assertEquals(3, results.size());
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i, results.get(i).getIndex());
+			Reports reports = results.get(i).getReports();
+			assertEquals(1, reports.getDiagnosticData().getTimestampList().size());
+			assertFalse(reports.getDiagnosticData().getTimestampList().get(0).isMessageImprintDataFound());
+		}
+	}
+
+	@Test
+	public void failedDocumentTest() {
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(new CommonCertificateVerifier());
+		batchValidator.setMaxThreads(2);
+		List<DSSDocument> documents = Arrays.asList(new FileDocument("src/test/resources/d-trust.tsr"),
+				new InMemoryDocument("Not a signature".getBytes()), new FileDocument("src/test/resources/d-trust.tsr"));
+		List<BatchValidationResult> results = batchValidator.validateDocuments(documents);
+		assertEquals(3, results.size());
+
+		// the failure is recorded for the document only, the other documents are validated
+		assertFalse(results.get(0).isFailed());
+		assertNotNull(results.get(0).getReports());
+		assertTrue(results.get(1).isFailed());
+		assertNull(results.get(1).getReports());
+		assertNotNull(results.get(1).getException());
+		assertFalse(results.get(2).isFailed());
+		assertNotNull(results.get(2).getReports());
+	}
+
+	@Test
+	public void resultHandlerTest() {
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(new CommonCertificateVerifier());
+		batchValidator.setMaxThreads(2);
+		List<DSSDocument> documents = Collections.nCopies(5, new FileDocument("src/test/resources/d-trust.tsr"));
+
+		Set<Integer> indexes = new HashSet<>();
+		batchValidator.validateDocuments(documents, result -> {
+			assertFalse(result.isFailed());
+			assertNotNull(result.getReports());
+			assertTrue(indexes.add(result.getIndex()));
+		});
+		assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4)), indexes);
+	}
+
+	@Test
+	public void cacheMaxSizeTest() {
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+
+		CountingRevocationSource<CRL> crlSource = new CountingRevocationSource<>(new MockRevocationToken());
+		SharedRevocationSource<CRL> sharedSource = new SharedRevocationSource<>(crlSource);
+		sharedSource.setMaxCacheSize(2);
+
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://a.crl"));
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://b.crl"));
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://a.crl"));
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://c.crl"));
+		assertEquals(2, sharedSource.size());
+		assertEquals(3, crlSource.getNumberOfRequests(certificate));
+
+		// the least recently used entry (b) has been evicted
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://a.crl"));
+		assertEquals(3, crlSource.getNumberOfRequests(certificate));
+		sharedSource.getRevocationToken(certificate, issuer, Collections.singletonList("http://b.crl"));
+		assertEquals(4, crlSource.getNumberOfRequests(certificate));
+		assertEquals(2, sharedSource.size());
+
+		assertThrows(IllegalArgumentException.class, () -> sharedSource.setMaxCacheSize(0));
+	}
+
+	@Test
+	public void cacheExpirationTest() throws Exception {
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+
+		CountingRevocationSource<CRL> crlSource = new CountingRevocationSource<>(new MockRevocationToken());
+		SharedRevocationSource<CRL> sharedSource = new SharedRevocationSource<>(crlSource);
+		sharedSource.setCacheExpirationTime(1);
+
+		sharedSource.getRevocationToken(certificate, issuer);
+		Thread.sleep(10);
+		sharedSource.getRevocationToken(certificate, issuer);
+		assertEquals(2, crlSource.getNumberOfRequests(certificate));
+		assertEquals(1, sharedSource.size());
+
+		assertThrows(IllegalArgumentException.class, () -> sharedSource.setCacheExpirationTime(-1));
+	}
+
+	@Test
+	public void nullTest() {
+		assertThrows(NullPointerException.class, () -> new BatchDocumentValidator(null));
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(new CommonCertificateVerifier());
+		assertThrows(IllegalArgumentException.class, () -> batchValidator.setMaxThreads(0));
+		assertThrows(NullPointerException.class, () -> batchValidator.validate(null));
+	}
+
+	private static Object serializeAndDeserialize(Serializable object) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(object);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			return ois.readObject();
+		}
+	}
+
+	private static void assertAllRequestedOnce(Map<String, AtomicInteger> requests) {
+		for (Map.Entry<String, AtomicInteger> entry : requests.entrySet()) {
+			assertEquals(1, entry.getValue().get(), "Requested several times : " + entry.getKey());
+		}
+	}
+
+	private static void assertRequested(Map<String, AtomicInteger> requests, List<String> expectedKeys, int maxRequests) {
+		assertEquals(new HashSet<>(expectedKeys), requests.keySet());
+		for (String expectedKey : expectedKeys) {
+			int nbRequests = requests.get(expectedKey).get();
+			assertTrue(nbRequests >= 1 && nbRequests <= maxRequests, "Unexpected number of requests for " + expectedKey + " : " + nbRequests);
+		}
+	}
+
+	private static class CountingAIASource implements AIASource {
+
+		private static final long serialVersionUID = 2207045934587404938L;
+
+		private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+		@Override
+		public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+			requests.computeIfAbsent(certificateToken.getDSSIdAsString(), k -> new AtomicInteger()).incrementAndGet();
+			return Collections.emptySet();
+		}
+
+		private void assertRequestedOnce() {
+			assertAllRequestedOnce(requests);
+		}
+
+	}
+
+	private static class CountingRevocationSource<R extends Revocation> implements RevocationSourceAlternateUrlsSupport<R> {
+
+		private static final long serialVersionUID = -4375813632963627104L;
+
+		private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+		private final RevocationToken<R> revocationToken;
+
+		private CountingRevocationSource() {
+			this(null);
+		}
+
+		@SuppressWarnings("unchecked")
+		private CountingRevocationSource(RevocationToken<?> revocationToken) {
+			this.revocationToken = (RevocationToken<R>) revocationToken;
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			requests.computeIfAbsent(certificateToken.getDSSIdAsString(), k -> new AtomicInteger()).incrementAndGet();
+			return revocationToken;
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+													 List<String> alternativeUrls) {
+			return getRevocationToken(certificateToken, issuerCertificateToken);
+		}
+
+		private void assertRequested(List<String> expectedCertificateIds, int maxRequests) {
+			BatchDocumentValidatorTest.assertRequested(requests, expectedCertificateIds, maxRequests);
+		}
+
+		private int getNumberOfRequests(CertificateToken certificateToken) {
+			AtomicInteger counter = requests.get(certificateToken.getDSSIdAsString());
+			return counter != null ? counter.get() : 0;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockRevocationToken extends RevocationToken<CRL> {
+
+		@Override
+		public RevocationType getRevocationType() {
+			return RevocationType.CRL;
+		}
+
+		@Override
+		public CertificateToken getIssuerCertificateToken() {
+			return null;
+		}
+
+		@Override
+		public RevocationCertificateSource getCertificateSource() {
+			return null;
+		}
+
+		@Override
+		protected TokenIdentifier buildTokenIdentifier() {
+			return null;
+		}
+
+		@Override
+		protected SignatureValidity checkIsSignedBy(PublicKey publicKey) {
+			return SignatureValidity.NOT_EVALUATED;
+		}
+
+		@Override
+		public X500Principal getIssuerX500Principal() {
+			return null;
+		}
+
+		@Override
+		public String toString(String indentStr) {
+			return "MockRevocationToken";
+		}
+
+		@Override
+		public byte[] getEncoded() {
+			return new byte[0];
+		}
+
+	}
+
+}
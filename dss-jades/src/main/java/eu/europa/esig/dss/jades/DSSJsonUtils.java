@@ -57,6 +57,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.StandardCharsets;
@@ -64,6 +65,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -503,16 +505,44 @@ public class DSSJsonUtils {
 			throw new IllegalArgumentException("Unable to build a message-digest. Reason : the detached content is not provided!");
 		}
 
-		byte[] octets = null;
-		if (documents.size() == 1) {
-			octets = getDocumentOctets(documents.get(0), isBase64UrlEncoded);
-			digestCalculator.update(octets);
+		for (DSSDocument document : documents) {
+			writeDocumentOctets(document, isBase64UrlEncoded, digestCalculator);
+		}
+	}
 
-		} else {
-			for (DSSDocument document : documents) {
-				octets = getDocumentOctets(document, isBase64UrlEncoded);
-				digestCalculator.update(octets);
-			}
+	/**
+	 * Computes digest of the {@code document} octets, base64url-encoded when {@code isBase64UrlEncoded} is set to TRUE.
+	 * The document content is processed in a single pass, without being loaded into memory.
+	 *
+	 * @param document {@link DSSDocument} to compute digest for
+	 * @param isBase64UrlEncoded defines whether the document octets shall be base64url-encoded before digesting
+	 * @param digestAlgorithm {@link DigestAlgorithm} to use
+	 * @return byte array representing the digest value
+	 */
+	public static byte[] getDocumentOctetsDigest(DSSDocument document, boolean isBase64UrlEncoded,
+												 DigestAlgorithm digestAlgorithm) {
+		DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+		writeDocumentOctets(document, isBase64UrlEncoded, digestCalculator);
+		return digestCalculator.getMessageDigest().getValue();
+	}
+
+	/**
+	 * Writes octets of the {@code document} to the {@code digestCalculator}, base64url-encoding them on the fly
+	 * when {@code isBase64UrlEncoded} is set to TRUE
+	 *
+	 * @param document {@link DSSDocument} to get octets from
+	 * @param isBase64UrlEncoded defines whether the document octets shall be base64url-encoded
+	 * @param digestCalculator {@link DSSMessageDigestCalculator} to compute message-digest with
+	 */
+	private static void writeDocumentOctets(DSSDocument document, boolean isBase64UrlEncoded,
+											DSSMessageDigestCalculator digestCalculator) {
+		OutputStream digestOutputStream = digestCalculator.getOutputStream();
+		try (InputStream is = document.openStream();
+			 OutputStream os = isBase64UrlEncoded ? Base64.getUrlEncoder().withoutPadding().wrap(digestOutputStream) : digestOutputStream) {
+			Utils.copy(is, os);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to compute digest of the document with name '%s'. Reason : %s",
+					document.getName(), e.getMessage()), e);
 		}
 	}
 
@@ -529,7 +559,7 @@ public class DSSJsonUtils {
 	public static byte[] getDocumentOctets(DSSDocument document, boolean isBase64UrlEncoded) {
 		byte[] octets = DSSUtils.toByteArray(document);
 		if (isBase64UrlEncoded) {
-			octets = DSSJsonUtils.toBase64Url(octets).getBytes();
+			octets = Base64.getUrlEncoder().withoutPadding().encode(octets);
 		}
 		return octets;
 	}
@@ -907,6 +937,27 @@ public class DSSJsonUtils {
 		return jwsJsonSerializationObject;
 	}
 
+	/**
+	 * This method computes digest of the signing input for a JWS signature,
+	 * without building a concatenated copy of the JWS Signing Input
+	 *
+	 * @param jws {@link JWS} to get signing input digest for
+	 * @param digestAlgorithm {@link DigestAlgorithm} to use
+	 * @return signing input digest
+	 */
+	public static byte[] getSigningInputDigest(JWS jws, DigestAlgorithm digestAlgorithm) {
+		DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+		digestCalculator.update(DSSJsonUtils.getAsciiBytes(jws.getEncodedHeader()));
+		digestCalculator.update((byte) 0x2e); // ascii for "."
+		if (!jws.isRfc7797UnencodedPayload()) {
+			digestCalculator.update(DSSJsonUtils.getAsciiBytes(jws.getEncodedPayload()));
+		} else {
+			// NOTE: unencoded payload shall not be converted to a string, it can lead to a data corruption!
+			digestCalculator.update(jws.getUnverifiedPayloadBytes());
+		}
+		return digestCalculator.getMessageDigest().getValue();
+	}
+
 	/**
 	 * This method computes the signing input bytes for a JWS signature
 	 *
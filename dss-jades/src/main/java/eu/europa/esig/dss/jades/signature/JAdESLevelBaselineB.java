@@ -842,8 +842,7 @@ public class JAdESLevelBaselineB {
 			 * or it is present and set to "true".
 			 */
 			else {
-				byte[] base64urlDocumentContent = DSSJsonUtils.toBase64Url(document).getBytes();
-				docDigest = DSSUtils.digest(digestAlgorithm, base64urlDocumentContent);
+				docDigest = DSSJsonUtils.getDocumentOctetsDigest(document, true, digestAlgorithm);
 			}
 			digests.add(DSSJsonUtils.toBase64Url(docDigest)); // base64Url digest
 		}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.jades.validation;
 
+import eu.europa.esig.dss.jades.DSSJsonUtils;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 
@@ -50,6 +51,12 @@ public class JAdESDocumentValidatorFactory implements DocumentValidatorFactory {
 		return false;
 	}
 
+	@Override
+	public boolean isSupportedPreamble(byte[] preamble) {
+		// JSON serialization starts with '{', compact serialization with a base64url-encoded header
+		return preamble.length > 0 && (preamble[0] == '{' || preamble[0] == '.' || DSSJsonUtils.isBase64UrlEncoded(preamble[0]));
+	}
+
 	@Override
 	public AbstractJWSDocumentValidator create(DSSDocument document) {
 
@@ -72,6 +72,7 @@ import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents the JAdES signature
@@ -683,9 +684,8 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 
 				SignatureAlgorithm signatureAlgorithm = getSignatureAlgorithm();
 				if (signatureAlgorithm != null) {
-					byte[] dataToSign = DSSJsonUtils.getSigningInputBytes(jws);
 					DigestAlgorithm digestAlgorithm = signatureAlgorithm.getDigestAlgorithm();
-					Digest digest = new Digest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, dataToSign));
+					Digest digest = new Digest(digestAlgorithm, DSSJsonUtils.getSigningInputDigest(jws, digestAlgorithm));
 					signatureValueReferenceValidation.setDigest(digest);
 
 					jws.setDoKeyValidation(false); // restrict on key size,...
@@ -738,6 +738,19 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 		return Collections.emptyList();
 	}
 	
+	@Override
+	public Set<DigestAlgorithm> getReferencesDigestAlgorithms() {
+		if (SigDMechanism.OBJECT_ID_BY_URI_HASH.equals(getSigDMechanism())) {
+			// the detached contents are digested with the algorithm defined in 'sigD'
+			DigestAlgorithm digestAlgorithm = getDigestAlgorithmForDetachedContent();
+			if (digestAlgorithm != null) {
+				return Collections.singleton(digestAlgorithm);
+			}
+			return Collections.emptySet();
+		}
+		return super.getReferencesDigestAlgorithms();
+	}
+
 	/**
 	 * Returns a mechanism used in 'sigD' to cover a detached content
 	 * 
@@ -990,8 +1003,7 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 			String computedDigestBase64 = document.getDigest(digestAlgorithm);
 			computedDigestValue = Utils.fromBase64(computedDigestBase64);
 		} else {
-			String base64UrlEncodedDocument = DSSJsonUtils.toBase64Url(document);
-			computedDigestValue = DSSUtils.digest(digestAlgorithm, base64UrlEncodedDocument.getBytes());
+			computedDigestValue = DSSJsonUtils.getDocumentOctetsDigest(document, true, digestAlgorithm);
 		}
 
 		if (Arrays.equals(expectedDigest, computedDigestValue)) {
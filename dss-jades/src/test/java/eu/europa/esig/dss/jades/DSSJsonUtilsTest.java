@@ -112,4 +112,20 @@ public class DSSJsonUtilsTest {
 		assertFalse(DSSJsonUtils.isJsonDocument(new DigestDocument(DigestAlgorithm.SHA1, Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA1, jsonDoc)))));
 	}
 
+	@Test
+	public void getDocumentOctetsDigestTest() {
+		FileDocument document = new FileDocument("src/test/resources/sample.png");
+		byte[] octets = DSSUtils.toByteArray(document);
+
+		assertArrayEquals(DSSUtils.digest(DigestAlgorithm.SHA256, octets),
+				DSSJsonUtils.getDocumentOctetsDigest(document, false, DigestAlgorithm.SHA256));
+		assertArrayEquals(DSSUtils.digest(DigestAlgorithm.SHA256, DSSJsonUtils.toBase64Url(octets).getBytes()),
+				DSSJsonUtils.getDocumentOctetsDigest(document, true, DigestAlgorithm.SHA256));
+		assertArrayEquals(DSSJsonUtils.toBase64Url(octets).getBytes(), DSSJsonUtils.getDocumentOctets(document, true));
+
+		InMemoryDocument emptyDocument = new InMemoryDocument(new byte[0]);
+		assertArrayEquals(DSSUtils.digest(DigestAlgorithm.SHA256, new byte[0]),
+				DSSJsonUtils.getDocumentOctetsDigest(emptyDocument, true, DigestAlgorithm.SHA256));
+	}
+
 }
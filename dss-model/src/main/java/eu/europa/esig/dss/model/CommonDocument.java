@@ -31,7 +31,10 @@ import java.io.StringWriter;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * This class implements the default methods.
@@ -40,6 +43,11 @@ import java.util.EnumMap;
 @SuppressWarnings("serial")
 public abstract class CommonDocument implements DSSDocument {
 
+	/**
+	 * The size of the buffer used to read the document content for digest computation
+	 */
+	private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
 	/**
 	 * Cached map of DigestAlgorithms and the corresponding digests for the document
 	 */
@@ -105,21 +113,46 @@ public abstract class CommonDocument implements DSSDocument {
 	public String getDigest(final DigestAlgorithm digestAlgorithm) {
 		String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
 		if (base64EncodeDigest == null) {
+			base64EncodeDigest = getDigests(Collections.singleton(digestAlgorithm)).get(digestAlgorithm);
+		}
+		return base64EncodeDigest;
+	}
+
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final Map<DigestAlgorithm, MessageDigest> messageDigests = new EnumMap<>(DigestAlgorithm.class);
+		try {
+			for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+				if (!base64EncodeDigestMap.containsKey(digestAlgorithm) && !messageDigests.containsKey(digestAlgorithm)) {
+					messageDigests.put(digestAlgorithm, digestAlgorithm.getMessageDigest());
+				}
+			}
+		} catch (NoSuchAlgorithmException e) {
+			throw new DSSException("Unable to compute the digest", e);
+		}
+
+		if (!messageDigests.isEmpty()) {
 			try (InputStream is = openStream()) {
-				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
-				final byte[] buffer = new byte[4096];
+				final byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
 				int count = 0;
 				while ((count = is.read(buffer)) > 0) {
-					messageDigest.update(buffer, 0, count);
+					for (MessageDigest messageDigest : messageDigests.values()) {
+						messageDigest.update(buffer, 0, count);
+					}
 				}
-				final byte[] digestBytes = messageDigest.digest();
-				base64EncodeDigest = Base64.getEncoder().encodeToString(digestBytes);
-				base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
-			} catch (IOException | NoSuchAlgorithmException e) {
+			} catch (IOException e) {
 				throw new DSSException("Unable to compute the digest", e);
 			}
+			for (Map.Entry<DigestAlgorithm, MessageDigest> entry : messageDigests.entrySet()) {
+				base64EncodeDigestMap.put(entry.getKey(), Base64.getEncoder().encodeToString(entry.getValue().digest()));
+			}
 		}
-		return base64EncodeDigest;
+
+		final Map<DigestAlgorithm, String> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, base64EncodeDigestMap.get(digestAlgorithm));
+		}
+		return result;
 	}
 
 	@Override
@@ -27,6 +27,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Interface representing a DSS document.
@@ -102,4 +105,22 @@ public interface DSSDocument extends Serializable {
 	 */
 	String getDigest(final DigestAlgorithm digestAlgorithm);
 
+	/**
+	 * This method returns the encoded digest values of the current {@code DSSDocument} using the base64 algorithm
+	 * for all the given digest algorithms.
+	 * The default implementation computes the digests one by one, while implementations having access to the
+	 * document content may compute the missing digests within a single read.
+	 *
+	 * @param digestAlgorithms
+	 *            a collection of {@code DigestAlgorithm}s
+	 * @return a map between {@code DigestAlgorithm}s and the corresponding base64 encoded digests
+	 */
+	default Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final Map<DigestAlgorithm, String> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigest(digestAlgorithm));
+		}
+		return result;
+	}
+
 }
@@ -25,6 +25,9 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
@@ -94,6 +97,15 @@ public class DigestDocument extends CommonDocument {
 		return base64EncodeDigest;
 	}
 
+	@Override
+	public Map<DigestAlgorithm, String> getDigests(final Collection<DigestAlgorithm> digestAlgorithms) {
+		final Map<DigestAlgorithm, String> result = new EnumMap<>(DigestAlgorithm.class);
+		for (DigestAlgorithm digestAlgorithm : digestAlgorithms) {
+			result.put(digestAlgorithm, getDigest(digestAlgorithm));
+		}
+		return result;
+	}
+
 	/**
 	 * Gets the defined digest value for the DigestDocument
 	 *
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.model.identifier;
 
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
 
 /**
@@ -39,6 +40,15 @@ public class EncapsulatedRevocationTokenIdentifier<R extends Revocation> extends
 	public EncapsulatedRevocationTokenIdentifier(byte[] binaries) {
 		super("R-", binaries);
 	}
+
+	/**
+	 * Constructor with a known SHA-256 digest of the revocation data binaries (the binaries are provided on request)
+	 *
+	 * @param digest {@link Digest} SHA-256 digest of the revocation data binaries
+	 */
+	protected EncapsulatedRevocationTokenIdentifier(Digest digest) {
+		super("R-", digest);
+	}
 	
 	@Override
 	public Identifier getDSSId() {
@@ -54,6 +54,22 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 		digestMap.put(id.getAlgorithm(), id.getValue());
 	}
 
+	/**
+	 * Constructor with an already computed identifier digest, when the binaries are not available on creation.
+	 * The {@code getBinaries()} method shall be overridden in order to provide the binaries on request.
+	 *
+	 * @param prefix {@link String} for the identifier
+	 * @param digest {@link Digest} of the token binaries, computed with the identifier digest algorithm (SHA-256)
+	 */
+	protected MultipleDigestIdentifier(final String prefix, final Digest digest) {
+		super(prefix, digest);
+		if (DIGEST_ALGO != digest.getAlgorithm()) {
+			throw new IllegalArgumentException(String.format("The identifier digest shall be computed with %s!", DIGEST_ALGO));
+		}
+		this.binaries = null;
+		digestMap.put(digest.getAlgorithm(), digest.getValue());
+	}
+
 	/**
 	 * Gets token binaries
 	 *
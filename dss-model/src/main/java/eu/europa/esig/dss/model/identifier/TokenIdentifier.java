@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.model.identifier;
 
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.Token;
 
 /**
@@ -30,6 +31,9 @@ public abstract class TokenIdentifier extends MultipleDigestIdentifier {
 
 	private static final long serialVersionUID = 1201653840828853681L;
 
+	/** The token, used to obtain the binaries on request, when the identifier is created from a digest */
+	private final Token token;
+
 	/**
 	 * Default constructor
 	 *
@@ -38,6 +42,29 @@ public abstract class TokenIdentifier extends MultipleDigestIdentifier {
 	 */
 	protected TokenIdentifier(final String prefix, Token token) {
 		super(prefix, token.getEncoded());
+		this.token = null;
+	}
+
+	/**
+	 * Constructor with an already known SHA-256 digest of the token binaries.
+	 * The binaries are obtained from the token only on request.
+	 *
+	 * @param prefix {@link String} identifier prefix
+	 * @param token {@link Token}
+	 * @param digest {@link Digest} SHA-256 digest of the token binaries
+	 */
+	protected TokenIdentifier(final String prefix, Token token, Digest digest) {
+		super(prefix, digest);
+		this.token = token;
+	}
+
+	@Override
+	public byte[] getBinaries() {
+		byte[] binaries = super.getBinaries();
+		if (binaries == null && token != null) {
+			binaries = token.getEncoded();
+		}
+		return binaries;
 	}
 
 }
@@ -40,7 +40,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Whenever the signature validation process encounters an {@link java.security.cert.X509Certificate} a certificateToken
@@ -72,6 +74,12 @@ public class CertificateToken extends Token {
 	 */
 	private List<KeyUsageBit> keyUsageBits;
 
+	/**
+	 * Memoized results of the signature verification, by public key of the signer candidate.
+	 * Instantiated on the first signature check.
+	 */
+	private transient volatile Map<PublicKey, SignatureCheck> signatureChecks;
+
 	/**
 	 * Creates a CertificateToken wrapping the provided X509Certificate.
 	 *
@@ -277,19 +285,121 @@ public class CertificateToken extends Token {
 		return x509Certificate.getIssuerX500Principal();
 	}
 
+	/**
+	 * Checks if the certificate is signed by the given certificate token.
+	 * NOTE: the signature verification is performed without locking the instance, as a certificate token
+	 * can be shared between concurrent validations (see {@code CertificateTokenCache}).
+	 *
+	 * @param token
+	 *              the candidate to be tested
+	 * @return true if this token is signed by the given certificate token
+	 */
+	@Override
+	public boolean isSignedBy(CertificateToken token) {
+		return isSignedBy(token.getPublicKey());
+	}
+
+	/**
+	 * Checks if the certificate is signed by the given publicKey.
+	 * The result of the signature verification is memoized per public key. The signer public key,
+	 * the signature validity and the invalidity reason are updated together under the instance lock,
+	 * and the state of a found signer is never overwritten by a concurrent check of another candidate.
+	 *
+	 * @param publicKey
+	 *              the candidate to be tested
+	 * @return true if this token is signed by the given public key
+	 */
+	@Override
+	public boolean isSignedBy(final PublicKey publicKey) {
+		final PublicKey signerPublicKey = publicKeyOfTheSigner;
+		if (signerPublicKey != null) {
+			return signerPublicKey.equals(publicKey);
+		}
+		final SignatureCheck candidateCheck = getSignatureCheck(publicKey);
+		synchronized (this) {
+			if (publicKeyOfTheSigner != null) {
+				return publicKeyOfTheSigner.equals(publicKey);
+			}
+			if (SignatureValidity.VALID == candidateCheck.signatureValidity) {
+				if (!isSelfSigned()) {
+					publicKeyOfTheSigner = publicKey;
+				}
+				signatureInvalidityReason = "";
+				signatureValidity = SignatureValidity.VALID;
+				return true;
+			}
+			signatureInvalidityReason = candidateCheck.invalidityReason;
+			signatureValidity = SignatureValidity.INVALID;
+			return false;
+		}
+	}
+
+	/**
+	 * Verifies the signature of the certificate with the given {@code publicKey}.
+	 * NOTE: the method does not change the state of the token, the result is memoized per public key.
+	 *
+	 * @param publicKey {@link PublicKey} of a signing candidate
+	 * @return {@link SignatureValidity}
+	 */
 	@Override
 	protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
-		signatureValidity = SignatureValidity.INVALID;
-		signatureInvalidityReason = "";
+		return getSignatureCheck(publicKey).signatureValidity;
+	}
+
+	private SignatureCheck getSignatureCheck(final PublicKey publicKey) {
+		return getSignatureChecks().computeIfAbsent(publicKey, this::verify);
+	}
+
+	/**
+	 * Returns the signature validity. When the signer has been found, the validity is derived from
+	 * the memoized verification against the signer public key.
+	 *
+	 * @return {@link SignatureValidity}
+	 */
+	@Override
+	public SignatureValidity getSignatureValidity() {
+		final SignatureCheck signerCheck = getSignerCheck();
+		return signerCheck != null ? signerCheck.signatureValidity : super.getSignatureValidity();
+	}
+
+	@Override
+	public String getInvalidityReason() {
+		final SignatureCheck signerCheck = getSignerCheck();
+		return signerCheck != null ? signerCheck.invalidityReason : super.getInvalidityReason();
+	}
+
+	private SignatureCheck getSignerCheck() {
+		final PublicKey signerPublicKey = publicKeyOfTheSigner;
+		final Map<PublicKey, SignatureCheck> checks = signatureChecks;
+		if (signerPublicKey != null && checks != null) {
+			return checks.get(signerPublicKey);
+		}
+		return null;
+	}
+
+	private Map<PublicKey, SignatureCheck> getSignatureChecks() {
+		Map<PublicKey, SignatureCheck> checks = signatureChecks;
+		if (checks == null) {
+			synchronized (this) {
+				checks = signatureChecks;
+				if (checks == null) {
+					checks = new ConcurrentHashMap<>();
+					signatureChecks = checks;
+				}
+			}
+		}
+		return checks;
+	}
+
+	private SignatureCheck verify(final PublicKey publicKey) {
 		try {
 			x509Certificate.verify(publicKey);
-			signatureValidity = SignatureValidity.VALID;
+			return new SignatureCheck(SignatureValidity.VALID, "");
 		} catch (NoSuchProviderException e) { // if there's no default provider.
 			throw new DSSException(String.format("No provider has been found for signature validation : %s", e.getMessage()), e);
 		} catch (Exception e) {
-			signatureInvalidityReason = e.getClass().getSimpleName() + " : " + e.getMessage();
+			return new SignatureCheck(SignatureValidity.INVALID, e.getClass().getSimpleName() + " : " + e.getMessage());
 		}
-		return signatureValidity;
 	}
 
 	/**
@@ -380,4 +490,22 @@ public class CertificateToken extends Token {
 		return out.toString();
 	}
 
+	/**
+	 * Contains the result of a certificate signature verification
+	 */
+	private static final class SignatureCheck {
+
+		/** The signature validity */
+		private final SignatureValidity signatureValidity;
+
+		/** The invalidity reason, empty when the signature is valid */
+		private final String invalidityReason;
+
+		private SignatureCheck(SignatureValidity signatureValidity, String invalidityReason) {
+			this.signatureValidity = signatureValidity;
+			this.invalidityReason = invalidityReason;
+		}
+
+	}
+
 }
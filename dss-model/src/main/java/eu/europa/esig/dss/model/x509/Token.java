@@ -46,19 +46,19 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	/**
 	 * The publicKey of the signed certificate(s)
 	 */
-	protected PublicKey publicKeyOfTheSigner;
+	protected volatile PublicKey publicKeyOfTheSigner;
 
 	/**
 	 * Indicates a status of token's signature
 	 * Method isSignedBy(CertificateToken) must be called in order to obtain a signature validity
 	 * Default: NOT_EVALUATED
 	 */
-	protected SignatureValidity signatureValidity = SignatureValidity.NOT_EVALUATED;
+	protected volatile SignatureValidity signatureValidity = SignatureValidity.NOT_EVALUATED;
 
 	/**
 	 * Indicates the token signature invalidity reason.
 	 */
-	protected String signatureInvalidityReason = "";
+	protected volatile String signatureInvalidityReason = "";
 
 	/**
 	 * The algorithm that was used to sign the token.
@@ -230,7 +230,7 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	 * @return whether the token's signature is intact
 	 */
 	public boolean isSignatureIntact() {
-		return SignatureValidity.VALID == signatureValidity;
+		return SignatureValidity.VALID == getSignatureValidity();
 	}
 
 	/**
@@ -26,6 +26,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -86,6 +88,22 @@ public class InMemoryDocumentTest {
 		assertNotNull(doc.getDigest(DigestAlgorithm.SHA256));
 	}
 
+	@Test
+	public void getDigestsTest() {
+		InMemoryDocument doc = new InMemoryDocument(getClass().getResourceAsStream("/AdobeCA.p7c"));
+		String sha256 = doc.getDigest(DigestAlgorithm.SHA256);
+
+		Map<DigestAlgorithm, String> digests = doc.getDigests(
+				Arrays.asList(DigestAlgorithm.SHA1, DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+		assertEquals(3, digests.size());
+		assertEquals(sha256, digests.get(DigestAlgorithm.SHA256));
+
+		InMemoryDocument otherDoc = new InMemoryDocument(doc.getBytes());
+		assertEquals(otherDoc.getDigest(DigestAlgorithm.SHA1), digests.get(DigestAlgorithm.SHA1));
+		assertEquals(otherDoc.getDigest(DigestAlgorithm.SHA512), digests.get(DigestAlgorithm.SHA512));
+		assertEquals(digests.get(DigestAlgorithm.SHA512), doc.getDigest(DigestAlgorithm.SHA512));
+	}
+
 	@Test
 	public void createEmptyDocTest() {
 		InMemoryDocument emptyDocument = InMemoryDocument.createEmptyDocument();
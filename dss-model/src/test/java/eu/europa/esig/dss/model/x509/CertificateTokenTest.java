@@ -47,6 +47,9 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -216,6 +219,42 @@ public class CertificateTokenTest {
 		assertFalse(set.contains(goodUserBis));
 	}
 
+	@Test
+	public void concurrentIsSignedByTest() throws Exception {
+		String goodUserB64 = "MIID1DCCArygAwIBAgIBCjANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU3WhcNMjEwMTE4MDkzMTU3WjBPMRIwEAYDVQQDDAlnb29kLXVzZXIxGTAXBgNVBAoMEE5vd2luYSBTb2x1dGlvbnMxETAPBgNVBAsMCFBLSS1URVNUMQswCQYDVQQGEwJMVTCCASIwDQYJKoZIhvcNAQEBBQADggEPADCCAQoCggEBAMtKFy1gwi9R5Ai79lTIVm6Fzjze5+ir1ejBCSNTyHy1eomoTVwD+s+ZsjsdvFseKMLY9e2Cxhck3owRHqKihOhJ7JpxK3dCTCohTUHNHIqDbozLZr/zsQOst8xSEKLyKwhWyJImLcBbm017r0p8omsUojjbCmO9nFp+KE+qoWaW6WsYsXsGzICkLjRjHP1esmd5zcYzBSId9l2wr28XFGW8qBgJKXQxeUgI190MuA6AwCld5BrLXVuLvLLzXQJ27EUfnvMIBsUSu7rAxqHKrlrqeOx+vhdrPATNWX+ifGnFsJMxToQuFfF9deMO62IzrcRSi47B+BARD+kfSiuvcaECAwEAAaOBvDCBuTAOBgNVHQ8BAf8EBAMCBkAwgYcGCCsGAQUFBwEBBHsweTA5BggrBgEFBQcwAYYtaHR0cDovL2Rzcy5ub3dpbmEubHUvcGtpLWZhY3Rvcnkvb2NzcC9nb29kLWNhMDwGCCsGAQUFBzAChjBodHRwOi8vZHNzLm5vd2luYS5sdS9wa2ktZmFjdG9yeS9jcnQvZ29vZC1jYS5jcnQwHQYDVR0OBBYEFLfj6J8hqF1pc5HuOqX5HORQQUQ5MA0GCSqGSIb3DQEBCwUAA4IBAQAxDzKz7YQdW/izFnRMfUgAS7cREg9F/z7lhmCT95gn7J4TGtwE1vXpPVKjGhrPPBNFfHXQ1MXMMFPwxvO1FyHUZkfVVH6+apPGyGTHoZdIlsXfJwQDxCSBCjw7Zekbc/7ljL7fPA6kbBsXdjGk6PvKSIN9YMcCuTg/fyYPoBWKGgo76V+hiQ/SVsbOzd0SHZJazg8zYFBnAS5QpB4ccGqmhrbCoL6kIMDrWTzRYCIBPpKXN5JwwxY99kDGyUVklSt91i8Q+ioI6A9C+KrwE+gbKPxyy9HmXq4lw8rod0HFG79YOpL3zbNnXFI0Hfs5+7j4EQB4Rms3fhvnKHAsYPk8";
+		String goodCaB64 = "MIID6jCCAtKgAwIBAgIBBDANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU1WhcNMjEwMTE4MDkzMTU1WjBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCfUvDNM8lvv9P5pILP98HhhM0iiGMdw/MjJOqSKdA3Ss0xXT0UeYlr0blGBFt4yKHxfIAwR8BqLviT1CA0a6+PS8EDEC29txIRCPO+BscKlz4ZFlU9g2dGwA4Dl5ynEq0AP/TYjKl5RY+rGZT/Qx8Ea5OAr9MgQWWKuONFyo7dv4tM7FMTcHUL+hUqdQEpKXXsCOT5WYjtr3oYeu34Cal8m8YN/UmK70fGDwlRHLKgDIvcfZT3dkNOehabuez2Sj6kFkWNseQWeXSjzM1f2OH9idW9UmSQ7RvxDIAgKBYD/D9gGannG2SPZWQo+w5O9UhcE1N8Nc89CLCdJguVNF9hAgMBAAGjgdQwgdEwDgYDVR0PAQH/BAQDAgEGMEEGA1UdHwQ6MDgwNqA0oDKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NybC9yb290LWNhLmNybDBMBggrBgEFBQcBAQRAMD4wPAYIKwYBBQUHMAKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NydC9yb290LWNhLmNydDAdBgNVHQ4EFgQU4tC4xPvJxRJqFXnjSqGn5Rzj5jYwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOCAQEAFJbVMStk22yRI6dczyzj6zyIh2noFa7STDW3oWg5UdXrjvWpCrw3OSqbF1UEF6X6FtDJfrXhmgyhVwVgHzH1n6+SXG3I/lOeAOKiCNjUA7uhenZuOgoVmWdfs+c9lIx8q7/f8L/kEePoDMLOYqhsSwfDhjELuq+2OOkMOqstuRyKPLQbK7nvf985W7qdjoggm4BHNm+RxkRkrLn1DxYqxnU+2ByZbZEWsqlPTgfRobBLbgPT7PMwVdwuZ6MzdVUsmBj82kGL2duAnzE117cTLmiEluUVXy/RskcHDcbhtOyOBzmQCKmXzafSiHTHtTUPC2XgpRwfwqad4jB+iMSL9A==";
+		String rootCaB64 = "MIIDVzCCAj+gAwIBAgIBATANBgkqhkiG9w0BAQ0FADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMjE4MDkzMTU0WhcNMjEwMjE4MDkzMTU0WjBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCr35vEZwV4ynpmxadO6nuJTqhdPSDN0JIO3CFMU4CT/QQ2ZquuPxt4ImFW3mxXzsXkozrUV99Mwt8yRuYt6uJf761DkSjdPB/HVWNyLXVTq1hyiLsrfRlsklnZ08HSLcDK9gmuiHYyOlIl6V9dZkgscdH68mBQHzaS5Ve9P7p0QXBu1PaY/Mc65eSYUGTi75W6vBeX59mEGYAkUlr0LFdUf+Nr3kFlZ14Okh7w0y1NY8v8EUPQvMGnyrcAs+LBm5i65LoGdSQaIE9LiyYZvoFiC0CutY/aYWoLIhvjiLhMEmk+odU/6XOpvI7cUMrBVcLsvWrSmD/ju/mtaiPXfVV5AgMBAAGjQjBAMA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUMAns58WjMfSq9Xqlt1OwKEY8ze4wDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQ0FAAOCAQEAYTtRueasFMQOuhKeJqI8QTonjxptdXpcOEx5lr7Hmo1+GDTuyKnGQIGWDl2WZoQuan9XITQsJSZWURY4yxsGhIxrM680M+FgZX/PQcgNOJDX00vAytnvZjssp45LDHMKbo9R9T5sjyjkxmMiQgWaQmKgt8biarZpzgTtlIG2U4aH6weuCNX8RW1nZHGMHjoR6lwV93jn8b8oZFqY7q0ISCR4gcIJ/Evqmshoau8vS8tIVD6FqECFWLKku+h9sO4LrYdDKLSZ4VAcZSv3jjGDbOmr4/L1XGF4WOWlrPNk3vVUH8ZbazNELzFPY24mrdZPDR9rNTE+rUZ4Nd1hhCKISg==";
+
+		CertificateToken goodCa = getCertificate(goodCaB64);
+		CertificateToken rootCa = getCertificate(rootCaB64);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			for (int i = 0; i < 20; i++) {
+				// a shared token checked concurrently against the right and a wrong candidate
+				CertificateToken goodUser = getCertificate(goodUserB64);
+				List<Future<Boolean>> futures = new ArrayList<>();
+				for (int j = 0; j < 50; j++) {
+					futures.add(executorService.submit(() -> goodUser.isSignedBy(rootCa)));
+					futures.add(executorService.submit(() -> goodUser.isSignedBy(goodCa)));
+				}
+				for (Future<Boolean> future : futures) {
+					future.get();
+				}
+				assertEquals(goodCa.getPublicKey(), goodUser.getPublicKeyOfTheSigner());
+				assertEquals(SignatureValidity.VALID, goodUser.getSignatureValidity());
+				assertEquals("", goodUser.getInvalidityReason());
+				assertTrue(goodUser.isSignatureIntact());
+
+				assertFalse(goodUser.isSignedBy(rootCa));
+				assertTrue(goodUser.isSignedBy(goodCa));
+				assertEquals(SignatureValidity.VALID, goodUser.getSignatureValidity());
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private CertificateToken getCertificate(String base64) {
 		return getCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(base64)));
 	}
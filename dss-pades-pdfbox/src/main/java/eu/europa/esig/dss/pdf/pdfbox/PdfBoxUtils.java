@@ -22,9 +22,12 @@ package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pdf.PdfMemoryUsageSetting;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
@@ -37,6 +40,7 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
 
 /**
@@ -48,6 +52,63 @@ public class PdfBoxUtils {
 	private PdfBoxUtils() {
 	}
 
+	/**
+	 * Loads a {@code PDDocument} from the given {@code DSSDocument} using the defined memory usage strategy.
+	 * When a scratch file mode is used and the document is a {@code FileDocument}, the content is read directly
+	 * from the file system instead of being copied to the heap memory.
+	 *
+	 * @param dssDocument           {@link DSSDocument} to load
+	 * @param passwordProtection    {@link String} a password to open a protected document
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting} the memory usage strategy
+	 * @return {@link PDDocument}
+	 * @throws IOException if an exception occurs
+	 */
+	public static PDDocument loadPDDocument(DSSDocument dssDocument, String passwordProtection,
+											PdfMemoryUsageSetting pdfMemoryUsageSetting) throws IOException {
+		Objects.requireNonNull(dssDocument, "The document must be defined!");
+		if (pdfMemoryUsageSetting == null || PdfMemoryUsageSetting.Mode.FULL_MEMORY == pdfMemoryUsageSetting.getMode()) {
+			try (InputStream is = dssDocument.openStream()) {
+				return PDDocument.load(is, passwordProtection);
+			}
+		}
+		final MemoryUsageSetting memoryUsageSetting = toMemoryUsageSetting(pdfMemoryUsageSetting);
+		if (dssDocument instanceof FileDocument) {
+			return PDDocument.load(((FileDocument) dssDocument).getFile(), passwordProtection, memoryUsageSetting);
+		}
+		try (InputStream is = dssDocument.openStream()) {
+			return PDDocument.load(is, passwordProtection, memoryUsageSetting);
+		}
+	}
+
+	/**
+	 * Converts the DSS {@code PdfMemoryUsageSetting} to the PDFBox {@code MemoryUsageSetting}
+	 *
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting}
+	 * @return {@link MemoryUsageSetting}
+	 */
+	public static MemoryUsageSetting toMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		Objects.requireNonNull(pdfMemoryUsageSetting, "PdfMemoryUsageSetting shall be defined!");
+		final MemoryUsageSetting memoryUsageSetting;
+		switch (pdfMemoryUsageSetting.getMode()) {
+			case FULL_MEMORY:
+				memoryUsageSetting = MemoryUsageSetting.setupMainMemoryOnly();
+				break;
+			case MIXED:
+				memoryUsageSetting = MemoryUsageSetting.setupMixed(pdfMemoryUsageSetting.getMaxMainMemoryBytes());
+				break;
+			case FILE_ONLY:
+				memoryUsageSetting = MemoryUsageSetting.setupTempFileOnly();
+				break;
+			default:
+				throw new UnsupportedOperationException(String.format(
+						"The memory usage mode '%s' is not supported!", pdfMemoryUsageSetting.getMode()));
+		}
+		if (pdfMemoryUsageSetting.getTempDir() != null) {
+			memoryUsageSetting.setTempDir(pdfMemoryUsageSetting.getTempDir());
+		}
+		return memoryUsageSetting;
+	}
+
 	/**
 	 * Generates a screenshot image of the specified page for the given PDF document
 	 * 
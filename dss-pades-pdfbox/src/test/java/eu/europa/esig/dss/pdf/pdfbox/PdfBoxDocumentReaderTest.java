@@ -21,15 +21,19 @@
 package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.pades.PAdESSignatureParameters;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
 import eu.europa.esig.dss.pdf.PdfDssDict;
+import eu.europa.esig.dss.pdf.PdfMemoryUsageSetting;
 import eu.europa.esig.dss.test.PKIFactoryAccess;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Calendar;
 import java.util.Date;
@@ -53,6 +57,26 @@ public class PdfBoxDocumentReaderTest extends PKIFactoryAccess {
 		}
 	}
 	
+	@Test
+	public void memoryUsageSettingTest(@TempDir File tempDir) throws Exception {
+		DSSDocument inMemoryDocument = new InMemoryDocument(getClass().getResourceAsStream(FILE));
+		File file = new File(tempDir, "doc.pdf");
+		inMemoryDocument.save(file.getAbsolutePath());
+		DSSDocument fileDocument = new FileDocument(file);
+
+		PdfMemoryUsageSetting mixedSetting = PdfMemoryUsageSetting.mixed(1024);
+		mixedSetting.setTempDir(tempDir);
+		for (PdfMemoryUsageSetting setting : new PdfMemoryUsageSetting[] {
+				PdfMemoryUsageSetting.memoryFull(), mixedSetting, PdfMemoryUsageSetting.fileOnly() }) {
+			for (DSSDocument document : new DSSDocument[] { fileDocument, inMemoryDocument }) {
+				try (PdfDocumentReader documentReader = new PdfBoxDocumentReader(document, null, setting)) {
+					assertNotNull(documentReader.getDSSDictionary());
+					assertFalse(documentReader.extractSigDictionaries().isEmpty());
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testPdfBoxUtilsEmptyDocument() throws Exception {
 		assertThrows(IOException.class, () -> new PdfBoxDocumentReader(InMemoryDocument.createEmptyDocument()));
@@ -342,6 +342,16 @@ public final class PAdESUtils {
 		return DSSUtils.startsWithBytes(document, PDF_PREAMBLE);
 	}
 
+	/**
+	 * Checks if the given byte array starts with a PDF preamble
+	 *
+	 * @param binaries byte array to check (e.g. the first bytes of a document)
+	 * @return TRUE if the binaries represent a PDF beginning, FALSE otherwise
+	 */
+	public static boolean isPDFDocument(byte[] binaries) {
+		return DSSUtils.startsWithBytes(binaries, PDF_PREAMBLE);
+	}
+
 	/**
 	 * This method extracts {@code SigFieldPermissions} (for instance /Lock dictionary) from a wrapping dictionary
 	 *
@@ -58,13 +58,16 @@ import eu.europa.esig.dss.validation.timestamp.TimestampToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -113,6 +116,13 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	 */
 	protected PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker = new PdfSignatureFieldPositionChecker();
 
+	/**
+	 * Defines the memory usage strategy when loading PDF documents
+	 *
+	 * Default : the whole document is loaded in memory
+	 */
+	protected PdfMemoryUsageSetting pdfMemoryUsageSetting = PdfMemoryUsageSetting.memoryFull();
+
 	/**
 	 * Constructor for the PDFSignatureService
 	 * 
@@ -157,6 +167,12 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		this.pdfSignatureFieldPositionChecker = pdfSignatureFieldPositionChecker;
 	}
 
+	@Override
+	public void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting) {
+		Objects.requireNonNull(pdfMemoryUsageSetting, "PdfMemoryUsageSetting cannot be null!");
+		this.pdfMemoryUsageSetting = pdfMemoryUsageSetting;
+	}
+
 	/**
 	 * Sets alert on a signature field overlap with existing fields or/and
 	 * annotations
@@ -336,7 +352,10 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
+		// the previous revision of a signature is in most cases the signed revision of the preceding signature,
+		// therefore the parsed revision is kept for the next iteration in order to avoid parsing it twice
+		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd);
+			 RevisionReaderHolder revisionHolder = new RevisionReaderHolder()) {
 
 			final PdfCompositeDssDictionary compositeDssDictionary = new PdfCompositeDssDictionary();
 
@@ -372,7 +391,7 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 					final boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
 
 					final DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+					try (PdfDocumentReader revisionReader = loadRevisionReader(revisionContent, revisionHolder, pwd)) {
 
 						// Method is used to detect modification within the signature dictionary itself (spoofing attack)
 						verifyPdfSignatureDictionary(signatureDictionary, fieldNames, revisionReader);
@@ -410,7 +429,9 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						revisions.add(newRevision);
 					}
 
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(previousRevision, pwd)) {
+					try {
+						PdfDocumentReader revisionReader = loadRevisionReader(previousRevision, revisionHolder, pwd);
+						revisionHolder.hold(previousRevision, revisionReader);
 
 						// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
 						lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
@@ -485,6 +506,88 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		return addNewSignatureField(document, parameters, pwd != null ? pwd.toCharArray() : null);
 	}
 
+	/**
+	 * Returns a {@code PdfDocumentReader} for the given {@code revision}, re-using the reader kept within
+	 * the {@code revisionHolder} when it corresponds to the same revision. The ownership of the returned reader
+	 * is transferred to the caller.
+	 *
+	 * @param revision {@link DSSDocument} revision content to read
+	 * @param revisionHolder {@link RevisionReaderHolder} containing the last parsed revision
+	 * @param pwd the password used to protect the document
+	 * @return {@link PdfDocumentReader}
+	 * @throws IOException in case of loading error
+	 */
+	private PdfDocumentReader loadRevisionReader(DSSDocument revision, RevisionReaderHolder revisionHolder,
+												 char[] pwd) throws IOException {
+		PdfDocumentReader reader = revisionHolder.release(revision);
+		if (reader == null) {
+			reader = loadPdfDocumentReader(revision, pwd);
+		}
+		return reader;
+	}
+
+	/**
+	 * Keeps an opened {@code PdfDocumentReader} of a revision in order to re-use it while processing
+	 * the next signature revision
+	 */
+	private static class RevisionReaderHolder implements Closeable {
+
+		/** The revision content of the kept reader */
+		private PdfByteRangeDocument revision;
+
+		/** The kept reader */
+		private PdfDocumentReader reader;
+
+		/**
+		 * Keeps the given reader, closes the previously held one
+		 *
+		 * @param revision {@link DSSDocument} revision content
+		 * @param reader {@link PdfDocumentReader} parsed revision
+		 * @throws IOException if an error occurs on closing of the previous reader
+		 */
+		private void hold(DSSDocument revision, PdfDocumentReader reader) throws IOException {
+			close();
+			if (revision instanceof PdfByteRangeDocument) {
+				this.revision = (PdfByteRangeDocument) revision;
+				this.reader = reader;
+			} else {
+				reader.close();
+			}
+		}
+
+		/**
+		 * Returns the held reader if it corresponds to the given revision content, null otherwise.
+		 * The returned reader is no longer held.
+		 *
+		 * @param revision {@link DSSDocument} revision content
+		 * @return {@link PdfDocumentReader} if found, null otherwise
+		 */
+		private PdfDocumentReader release(DSSDocument revision) {
+			if (reader != null && revision instanceof PdfByteRangeDocument) {
+				ByteRange heldByteRange = this.revision.getByteRange();
+				ByteRange byteRange = ((PdfByteRangeDocument) revision).getByteRange();
+				if (heldByteRange.getFirstPartStart() == byteRange.getFirstPartStart()
+						&& heldByteRange.getLength() == byteRange.getLength()) {
+					PdfDocumentReader result = reader;
+					this.reader = null;
+					this.revision = null;
+					return result;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (reader != null) {
+				reader.close();
+				reader = null;
+				revision = null;
+			}
+		}
+
+	}
+
 	/**
 	 * Loads {@code PdfDocumentReader} instance
 	 * 
@@ -750,11 +853,12 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	}
 
 	private List<TimestampToken> getUniqueTimestamps(List<AdvancedSignature> signatures) {
-		List<TimestampToken> timestampTokens = new ArrayList<>();
+		// a document timestamp covers all the preceding signatures, process it only once
+		Set<TimestampToken> timestampTokens = new LinkedHashSet<>();
 		for (AdvancedSignature signature : signatures) {
 			timestampTokens.addAll(signature.getDocumentTimestamps());
 		}
-		return timestampTokens;
+		return new ArrayList<>(timestampTokens);
 	}
 
 	@Override
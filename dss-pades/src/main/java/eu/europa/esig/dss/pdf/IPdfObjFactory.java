@@ -97,4 +97,12 @@ public interface IPdfObjFactory {
 	 */
 	void setPdfSignatureFieldPositionChecker(PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker);
 
+	/**
+	 * This method is used to define the memory usage strategy when loading PDF documents
+	 * (e.g. to use a scratch file instead of the heap memory for big documents).
+	 *
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting}
+	 */
+	void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting);
+
 }
@@ -337,4 +337,11 @@ public interface PDFSignatureService {
 	 */
 	void setPdfSignatureFieldPositionChecker(PdfSignatureFieldPositionChecker pdfSignatureFieldPositionChecker);
 
+	/**
+	 * Sets the memory usage strategy to be used when loading PDF documents
+	 *
+	 * @param pdfMemoryUsageSetting {@link PdfMemoryUsageSetting}
+	 */
+	void setPdfMemoryUsageSetting(PdfMemoryUsageSetting pdfMemoryUsageSetting);
+
 }
@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import java.io.File;
+import java.io.Serializable;
+
+/**
+ * Defines how a PDF document is loaded by a {@code PdfDocumentReader}, i.e. whether the document content and
+ * the parsed objects are kept within the heap memory, or whether a temporary scratch file is used.
+ *
+ * NOTE: the configuration is supported only by the PDFBox implementation. Other implementations load
+ * the document fully in memory.
+ *
+ */
+public final class PdfMemoryUsageSetting implements Serializable {
+
+	private static final long serialVersionUID = -3265282926096591562L;
+
+	/**
+	 * Defines the way to load a PDF document
+	 */
+	public enum Mode {
+
+		/**
+		 * The document is fully loaded within the heap memory (default)
+		 */
+		FULL_MEMORY,
+
+		/**
+		 * The document is loaded in memory up to the defined limit, the remaining part is spilled to a scratch file.
+		 * A document represented by a file is read directly from the file system.
+		 */
+		MIXED,
+
+		/**
+		 * The document is read directly from the file system (when represented by a file), and a scratch file
+		 * is used for any other buffered content
+		 */
+		FILE_ONLY
+
+	}
+
+	/** The load mode */
+	private final Mode mode;
+
+	/** The maximum number of bytes to be kept in the heap memory (used for {@code Mode.MIXED}) */
+	private final long maxMainMemoryBytes;
+
+	/** The directory where the scratch files are created (when null, the default temporary directory is used) */
+	private File tempDir;
+
+	/**
+	 * The default constructor
+	 *
+	 * @param mode {@link Mode}
+	 * @param maxMainMemoryBytes the maximum number of bytes to be kept in the heap memory
+	 */
+	private PdfMemoryUsageSetting(Mode mode, long maxMainMemoryBytes) {
+		this.mode = mode;
+		this.maxMainMemoryBytes = maxMainMemoryBytes;
+	}
+
+	/**
+	 * Creates a setting loading the whole document in memory
+	 *
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting memoryFull() {
+		return new PdfMemoryUsageSetting(Mode.FULL_MEMORY, -1);
+	}
+
+	/**
+	 * Creates a setting keeping at most {@code maxMainMemoryBytes} of the document in memory,
+	 * the remaining content being stored in a scratch file
+	 *
+	 * @param maxMainMemoryBytes the maximum number of bytes to be kept in the heap memory
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting mixed(long maxMainMemoryBytes) {
+		if (maxMainMemoryBytes < 0) {
+			throw new IllegalArgumentException("The maximum memory usage cannot be negative!");
+		}
+		return new PdfMemoryUsageSetting(Mode.MIXED, maxMainMemoryBytes);
+	}
+
+	/**
+	 * Creates a setting using a scratch file for all buffered content
+	 *
+	 * @return {@link PdfMemoryUsageSetting}
+	 */
+	public static PdfMemoryUsageSetting fileOnly() {
+		return new PdfMemoryUsageSetting(Mode.FILE_ONLY, 0);
+	}
+
+	/**
+	 * Gets the load mode
+	 *
+	 * @return {@link Mode}
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Gets the maximum number of bytes to be kept in the heap memory
+	 *
+	 * @return the number of bytes (-1 when not limited)
+	 */
+	public long getMaxMainMemoryBytes() {
+		return maxMainMemoryBytes;
+	}
+
+	/**
+	 * Gets the directory to create the scratch files in
+	 *
+	 * @return {@link File}, null when the default temporary directory is used
+	 */
+	public File getTempDir() {
+		return tempDir;
+	}
+
+	/**
+	 * Sets the directory to create the scratch files in
+	 *
+	 * Default : null (the system temporary directory is used)
+	 *
+	 * @param tempDir {@link File} directory
+	 */
+	public void setTempDir(File tempDir) {
+		this.tempDir = tempDir;
+	}
+
+	@Override
+	public String toString() {
+		return "PdfMemoryUsageSetting [mode=" + mode + ", maxMainMemoryBytes=" + maxMainMemoryBytes
+				+ ", tempDir=" + tempDir + "]";
+	}
+
+}
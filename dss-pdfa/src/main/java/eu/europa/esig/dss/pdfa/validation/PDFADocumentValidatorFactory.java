@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pdfa.validation;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
 import eu.europa.esig.dss.validation.DocumentValidatorFactory;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 
@@ -43,6 +44,11 @@ public class PDFADocumentValidatorFactory implements DocumentValidatorFactory {
         return validator.isSupported(document);
     }
 
+    @Override
+    public boolean isSupportedPreamble(byte[] preamble) {
+        return PAdESUtils.isPDFDocument(preamble);
+    }
+
     @Override
     public SignedDocumentValidator create(DSSDocument document) {
         return new PDFADocumentValidator(document);
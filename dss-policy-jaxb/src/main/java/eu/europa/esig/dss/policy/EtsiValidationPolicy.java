@@ -393,6 +393,8 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 	/**
 	 * Overrides all empty fields for the given {@code cryptographicConstraint}
 	 * by the default {@link CryptographicConstraint}
+	 * NOTE: only missing values are set with the (shared) default ones, so the operation is idempotent
+	 *       and may be performed concurrently on a cached policy (see {@code ValidationPolicyCache})
 	 *
 	 * @param cryptographicConstraint {@link CryptographicConstraint}
 	 */
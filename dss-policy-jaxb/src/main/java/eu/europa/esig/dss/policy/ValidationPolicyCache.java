@@ -0,0 +1,327 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import org.xml.sax.SAXException;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class keeps the parsed validation policies in memory, in order to avoid XSD validation and JAXB unmarshalling
+ * of the same policy on each validation.
+ * <p>
+ * The policies are cached by the resource path (for classpath resources), by the canonical path (for files,
+ * reloaded when the file is modified) or by the SHA-256 digest of the content (for binaries and streams).
+ * The number of policies cached by content is bounded (see {@link #setMaxSize(int)}), the least recently used
+ * policy being evicted first.
+ * <p>
+ * NOTE: The returned {@code ValidationPolicy} instances are shared between the callers and can be used concurrently.
+ * They shall not be modified. Use {@code ValidationPolicyFacade} in order to obtain a new modifiable instance.
+ */
+public class ValidationPolicyCache {
+
+	/** The default maximum number of policies cached by content */
+	public static final int DEFAULT_MAX_SIZE = 100;
+
+	/** The digest algorithm used to compute the cache key of a policy content */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The shared instance */
+	private static final ValidationPolicyCache INSTANCE = new ValidationPolicyCache();
+
+	/** The cached policies loaded from classpath resources, by resource path */
+	private final Map<String, ValidationPolicy> resourcePolicies = new ConcurrentHashMap<>();
+
+	/** The cached policies loaded from binaries, by digest of the content, in the least-recently-used order */
+	private final Map<String, ValidationPolicy> contentPolicies = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The cached policies loaded from files, by canonical file path */
+	private final Map<String, FilePolicyEntry> filePolicies = new ConcurrentHashMap<>();
+
+	/** The maximum number of policies cached by content */
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Default constructor instantiating an independent cache
+	 */
+	public ValidationPolicyCache() {
+		// empty
+	}
+
+	/**
+	 * Returns the shared instance of the cache
+	 *
+	 * @return {@link ValidationPolicyCache}
+	 */
+	public static ValidationPolicyCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of validation policies cached by their content (binaries and streams).
+	 * When the limit is reached, the least recently used policy is evicted.
+	 * The value 0 disables the caching by content. Default : {@value #DEFAULT_MAX_SIZE}
+	 *
+	 * @param maxSize the maximum number of cached policy contents
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		synchronized (contentPolicies) {
+			this.maxSize = maxSize;
+			Iterator<String> it = contentPolicies.keySet().iterator();
+			while (contentPolicies.size() > maxSize && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Gets the default validation policy
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getDefaultValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.DEFAULT_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the default policy for certificate validation
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getCertificateValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.CERTIFICATE_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy for LOTL/TL
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getTrustedListValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(ValidationPolicyFacade.TRUSTED_LIST_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy from the classpath resource {@code path}
+	 *
+	 * @param path {@link String} classpath resource path
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(String path) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(path, "The provided validation policy path is null");
+		ValidationPolicy validationPolicy = resourcePolicies.get(path);
+		if (validationPolicy == null) {
+			validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(path);
+			ValidationPolicy existing = resourcePolicies.putIfAbsent(path, validationPolicy);
+			if (existing != null) {
+				validationPolicy = existing;
+			}
+		}
+		return validationPolicy;
+	}
+
+	/**
+	 * Gets the validation policy from the {@code is}.
+	 * The stream content is read in order to compute the cache key.
+	 *
+	 * @param is {@link InputStream}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(InputStream is) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(is, "The provided validation policy is null");
+		return getValidationPolicy(toByteArray(is));
+	}
+
+	/**
+	 * Gets the validation policy from its binaries
+	 *
+	 * @param binaries byte array of the XML validation policy
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(byte[] binaries) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(binaries, "The provided validation policy is null");
+		final String key = getDigest(binaries);
+		synchronized (contentPolicies) {
+			ValidationPolicy cached = contentPolicies.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		// parsed outside the lock : concurrent callers may parse the same content, the first stored instance is kept
+		final ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(new ByteArrayInputStream(binaries));
+		synchronized (contentPolicies) {
+			if (maxSize == 0) {
+				return validationPolicy;
+			}
+			ValidationPolicy existing = contentPolicies.get(key);
+			if (existing != null) {
+				return existing;
+			}
+			if (contentPolicies.size() >= maxSize) {
+				// evicts the least recently used entry
+				Iterator<String> it = contentPolicies.keySet().iterator();
+				it.next();
+				it.remove();
+			}
+			contentPolicies.put(key, validationPolicy);
+		}
+		return validationPolicy;
+	}
+
+	/**
+	 * Gets the validation policy from the {@code file}.
+	 * The policy is parsed again if the file has been modified since its last loading.
+	 *
+	 * @param file {@link File}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(File file) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(file, "The provided validation policy is null");
+		final String key = file.getCanonicalPath();
+		final FilePolicyEntry entry = filePolicies.get(key);
+		if (entry != null && entry.isUpToDate(file)) {
+			return entry.validationPolicy;
+		}
+		return reload(file);
+	}
+
+	/**
+	 * Parses again the validation policy from the {@code file} and replaces the cached instance
+	 *
+	 * @param file {@link File}
+	 * @return the reloaded {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy reload(File file) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(file, "The provided validation policy is null");
+		final long lastModified = file.lastModified();
+		final long length = file.length();
+		final ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(file);
+		filePolicies.put(file.getCanonicalPath(), new FilePolicyEntry(validationPolicy, lastModified, length));
+		return validationPolicy;
+	}
+
+	/**
+	 * Removes all the cached validation policies
+	 */
+	public void clear() {
+		resourcePolicies.clear();
+		synchronized (contentPolicies) {
+			contentPolicies.clear();
+		}
+		filePolicies.clear();
+	}
+
+	private static byte[] toByteArray(InputStream is) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				baos.write(buffer, 0, read);
+			}
+			return baos.toByteArray();
+		}
+	}
+
+	private static String getDigest(byte[] binaries) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(binaries));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(String.format("Unable to compute the %s digest : %s", DIGEST_ALGORITHM, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Contains a validation policy loaded from a file, with the file state at the loading time
+	 */
+	private static final class FilePolicyEntry {
+
+		/** The parsed validation policy */
+		private final ValidationPolicy validationPolicy;
+
+		/** The last modification time of the file */
+		private final long lastModified;
+
+		/** The length of the file */
+		private final long length;
+
+		private FilePolicyEntry(ValidationPolicy validationPolicy, long lastModified, long length) {
+			this.validationPolicy = validationPolicy;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		private boolean isUpToDate(File file) {
+			return lastModified == file.lastModified() && length == file.length();
+		}
+
+	}
+
+}
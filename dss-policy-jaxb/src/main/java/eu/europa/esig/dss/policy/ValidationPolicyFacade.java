@@ -40,13 +40,13 @@ import java.util.Objects;
 public class ValidationPolicyFacade extends AbstractJaxbFacade<ConstraintsParameters> {
 
 	/** The default validation policy path */
-	private static final String DEFAULT_VALIDATION_POLICY_LOCATION = "/policy/constraint.xml";
+	static final String DEFAULT_VALIDATION_POLICY_LOCATION = "/policy/constraint.xml";
 
 	/** The path for default certificate validation policy */
-	private static final String CERTIFICATE_VALIDATION_POLICY_LOCATION = "/policy/certificate-constraint.xml";
+	static final String CERTIFICATE_VALIDATION_POLICY_LOCATION = "/policy/certificate-constraint.xml";
 
 	/** The path for a LOTL/TL validation policy */
-	private static final String TRUSTED_LIST_VALIDATION_POLICY_LOCATION = "/policy/tsl-constraint.xml";
+	static final String TRUSTED_LIST_VALIDATION_POLICY_LOCATION = "/policy/tsl-constraint.xml";
 
 	/**
 	 * Default constructor
@@ -0,0 +1,134 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValidationPolicyCacheTest {
+
+	@Test
+	public void resourceTest() throws Exception {
+		ValidationPolicyCache cache = new ValidationPolicyCache();
+		ValidationPolicy defaultPolicy = cache.getDefaultValidationPolicy();
+		assertNotNull(defaultPolicy);
+		assertSame(defaultPolicy, cache.getDefaultValidationPolicy());
+		assertSame(defaultPolicy, cache.getValidationPolicy("/policy/constraint.xml"));
+
+		ValidationPolicy certificatePolicy = cache.getCertificateValidationPolicy();
+		assertNotNull(certificatePolicy);
+		assertNotSame(defaultPolicy, certificatePolicy);
+		assertSame(certificatePolicy, cache.getCertificateValidationPolicy());
+
+		cache.clear();
+		assertNotSame(defaultPolicy, cache.getDefaultValidationPolicy());
+	}
+
+	@Test
+	public void contentTest() throws Exception {
+		ValidationPolicyCache cache = new ValidationPolicyCache();
+		ValidationPolicy validationPolicy;
+		try (InputStream is = new FileInputStream("src/test/resources/constraint.xml")) {
+			validationPolicy = cache.getValidationPolicy(is);
+		}
+		assertNotNull(validationPolicy);
+
+		byte[] binaries = Files.readAllBytes(new File("src/test/resources/constraint.xml").toPath());
+		assertSame(validationPolicy, cache.getValidationPolicy(binaries));
+
+		ValidationPolicy coreValidationPolicy = cache.getValidationPolicy(
+				Files.readAllBytes(new File("src/test/resources/constraint-core-validation.xml").toPath()));
+		assertNotSame(validationPolicy, coreValidationPolicy);
+
+		assertThrows(Exception.class, () -> cache.getValidationPolicy(
+				Files.readAllBytes(new File("src/test/resources/invalid-policy.xml").toPath())));
+	}
+
+	@Test
+	public void maxSizeTest() throws Exception {
+		ValidationPolicyCache cache = new ValidationPolicyCache();
+		cache.setMaxSize(1);
+
+		byte[] policy = Files.readAllBytes(new File("src/test/resources/constraint.xml").toPath());
+		byte[] corePolicy = Files.readAllBytes(new File("src/test/resources/constraint-core-validation.xml").toPath());
+
+		ValidationPolicy validationPolicy = cache.getValidationPolicy(policy);
+		assertSame(validationPolicy, cache.getValidationPolicy(policy));
+
+		ValidationPolicy coreValidationPolicy = cache.getValidationPolicy(corePolicy);
+		assertSame(coreValidationPolicy, cache.getValidationPolicy(corePolicy));
+		// the previous entry has been evicted
+		assertNotSame(validationPolicy, cache.getValidationPolicy(policy));
+
+		// least recently used entry is evicted
+		cache.setMaxSize(2);
+		byte[] otherPolicy = (new String(policy, StandardCharsets.UTF_8) + "\n<!-- other -->").getBytes(StandardCharsets.UTF_8);
+		ValidationPolicy first = cache.getValidationPolicy(policy);
+		ValidationPolicy core = cache.getValidationPolicy(corePolicy);
+		assertSame(first, cache.getValidationPolicy(policy));
+		ValidationPolicy other = cache.getValidationPolicy(otherPolicy);
+		assertSame(first, cache.getValidationPolicy(policy));
+		assertSame(other, cache.getValidationPolicy(otherPolicy));
+		assertNotSame(core, cache.getValidationPolicy(corePolicy));
+
+		assertThrows(IllegalArgumentException.class, () -> cache.setMaxSize(-1));
+
+		cache.setMaxSize(0);
+		ValidationPolicy notCached = cache.getValidationPolicy(corePolicy);
+		assertNotSame(notCached, cache.getValidationPolicy(corePolicy));
+	}
+
+	@Test
+	public void fileTest(@TempDir Path tempDir) throws Exception {
+		ValidationPolicyCache cache = new ValidationPolicyCache();
+		File file = tempDir.resolve("policy.xml").toFile();
+		Files.copy(new File("src/test/resources/constraint.xml").toPath(), file.toPath());
+
+		ValidationPolicy validationPolicy = cache.getValidationPolicy(file);
+		assertNotNull(validationPolicy);
+		assertSame(validationPolicy, cache.getValidationPolicy(file));
+
+		ValidationPolicy reloaded = cache.reload(file);
+		assertNotSame(validationPolicy, reloaded);
+		assertSame(reloaded, cache.getValidationPolicy(file));
+
+		// file modification is detected
+		Files.write(file.toPath(), Files.readAllBytes(new File("src/test/resources/constraint-core-validation.xml").toPath()));
+		assertTrue(file.setLastModified(file.lastModified() + 2000));
+		ValidationPolicy modified = cache.getValidationPolicy(file);
+		assertNotSame(reloaded, modified);
+		assertSame(modified, cache.getValidationPolicy(file));
+	}
+
+}
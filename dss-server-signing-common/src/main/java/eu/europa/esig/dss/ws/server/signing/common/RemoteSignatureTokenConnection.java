@@ -29,6 +29,7 @@ import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.server.signing.dto.RemoteKeyEntry;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -155,4 +156,97 @@ public interface RemoteSignatureTokenConnection {
 	 */
 	SignatureValueDTO signDigest(DigestDTO digest, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException;
 
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}.
+	 *
+	 * The default implementation signs the elements one by one.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, DigestAlgorithm digestAlgorithm, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<>();
+		for (ToBeSignedDTO toBeSigned : toBeSignedList) {
+			result.add(sign(toBeSigned, digestAlgorithm, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the
+	 * {@code signatureAlgorithm} and the given {@code alias}.
+	 *
+	 * The default implementation signs the elements one by one.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<>();
+		for (ToBeSignedDTO toBeSigned : toBeSignedList) {
+			result.add(sign(toBeSigned, signatureAlgorithm, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs each of the {@code digests} with the given {@code alias}.
+	 *
+	 * The default implementation signs the elements one by one.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<>();
+		for (DigestDTO digest : digests) {
+			result.add(signDigest(digest, alias));
+		}
+		return result;
+	}
+
+	/**
+	 * This method signs each of the {@code digests} with a {@code signatureAlgorithm} and
+	 * the given {@code alias}.
+	 *
+	 * The default implementation signs the elements one by one.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 * @throws DSSException
+	 *                      If there is any problem during the signature process
+	 */
+	default List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException {
+		final List<SignatureValueDTO> result = new ArrayList<>();
+		for (DigestDTO digest : digests) {
+			result.add(signDigest(digest, signatureAlgorithm, alias));
+		}
+		return result;
+	}
+
 }
@@ -39,15 +39,45 @@ import eu.europa.esig.dss.ws.server.signing.dto.RemoteKeyEntry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * Default implementation of a remote signing service
  */
 public class RemoteSignatureTokenConnectionImpl implements RemoteSignatureTokenConnection {
 
+	/** The default maximum number of elements accepted within a batch */
+	private static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
 	/** The KeyStore token connection */
 	private AbstractKeyStoreTokenConnection token;
 
+	/**
+	 * The ExecutorService to compute the signatures of the batches on
+	 * (a pool of {@code maxThreads}, shared between the batches, is created on the first use if not defined)
+	 */
+	private ExecutorService executorService;
+
+	/** Defines whether the {@code executorService} has been created by the class */
+	private boolean defaultExecutorService;
+
+	/** The number of batches being computed (guarded by {@code this}) */
+	private int runningBatches;
+
+	/** The replaced default pools, shut down when the running batches are completed (guarded by {@code this}) */
+	private final List<ExecutorService> replacedExecutorServices = new ArrayList<>();
+
+	/** The maximum number of signatures computed concurrently, when no ExecutorService is defined */
+	private int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	/** The maximum number of elements accepted within a batch */
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
 	/**
 	 * Default construction instantiating object with null token connection
 	 */
@@ -64,6 +94,51 @@ public class RemoteSignatureTokenConnectionImpl implements RemoteSignatureTokenC
 		this.token = token;
 	}
 
+	/**
+	 * Sets the {@code ExecutorService} to compute the signatures of the batches on.
+	 * The executor is not shut down by the class. The running batches are completed on the previous executor.
+	 *
+	 * Default : a fixed thread pool of {@code maxThreads} daemon threads, shared between all the batches
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public synchronized void setExecutorService(ExecutorService executorService) {
+		shutdownDefaultExecutorService();
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Sets the maximum number of signatures computed concurrently, when no {@code ExecutorService}
+	 * is defined. The concurrency is also limited by the token (e.g. the session pool of a PKCS#11 token).
+	 * The running batches are completed on the previous pool.
+	 *
+	 * Default : the number of available processors
+	 *
+	 * @param maxThreads the maximum number of threads
+	 */
+	public synchronized void setMaxThreads(int maxThreads) {
+		if (maxThreads < 1) {
+			throw new IllegalArgumentException("The maximum number of threads shall be positive!");
+		}
+		this.maxThreads = maxThreads;
+		// the default pool is re-created with the new size on the next batch
+		shutdownDefaultExecutorService();
+	}
+
+	/**
+	 * Sets the maximum number of elements accepted within a batch. Larger batches are rejected.
+	 *
+	 * Default : 1000
+	 *
+	 * @param maxBatchSize the maximum number of elements within a batch
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("The maximum batch size shall be positive!");
+		}
+		this.maxBatchSize = maxBatchSize;
+	}
+
 	@Override
 	public List<RemoteKeyEntry> getKeys() throws DSSException {
 		List<RemoteKeyEntry> result = new ArrayList<>();
@@ -119,6 +194,141 @@ public class RemoteSignatureTokenConnectionImpl implements RemoteSignatureTokenC
 		return DTOConverter.toSignatureValueDTO(signatureValue);
 	}
 
+	@Override
+	public List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, DigestAlgorithm digestAlgorithm, String alias) throws DSSException {
+		final DSSPrivateKeyEntry key = token.getKey(alias);
+		return signAll(toBeSignedList, toBeSigned -> token.sign(DTOConverter.toToBeSigned(toBeSigned), digestAlgorithm, key));
+	}
+
+	@Override
+	public List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException {
+		final DSSPrivateKeyEntry key = token.getKey(alias);
+		return signAll(toBeSignedList, toBeSigned -> token.sign(DTOConverter.toToBeSigned(toBeSigned), signatureAlgorithm, key));
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, String alias) throws DSSException {
+		final DSSPrivateKeyEntry key = token.getKey(alias);
+		return signAll(digests, digest -> token.signDigest(DTOConverter.toDigest(digest), key));
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) throws DSSException {
+		final DSSPrivateKeyEntry key = token.getKey(alias);
+		return signAll(digests, digest -> token.signDigest(DTOConverter.toDigest(digest), signatureAlgorithm, key));
+	}
+
+	/**
+	 * Computes the signature of each element with the {@code signer}, concurrently for more than one element.
+	 * Batches containing more than {@code maxBatchSize} elements are rejected.
+	 *
+	 * @param elements the list of elements to be signed
+	 * @param signer the signing function
+	 * @param <T> the element type
+	 * @return a list of {@link SignatureValueDTO}s, in the order of {@code elements}
+	 */
+	private <T> List<SignatureValueDTO> signAll(List<T> elements, Function<T, SignatureValue> signer) {
+		Objects.requireNonNull(elements, "List of data to be signed cannot be null!");
+		if (elements.size() > maxBatchSize) {
+			throw new DSSException(String.format("The batch contains %s elements, while the maximum allowed " +
+					"number of elements is %s!", elements.size(), maxBatchSize));
+		}
+		final List<SignatureValueDTO> result = new ArrayList<>();
+		if (elements.size() < 2) {
+			for (T element : elements) {
+				result.add(DTOConverter.toSignatureValueDTO(signer.apply(element)));
+			}
+			return result;
+		}
+
+		final ExecutorService executor = acquireExecutorService();
+		final List<Future<SignatureValue>> futures = new ArrayList<>();
+		try {
+			for (T element : elements) {
+				futures.add(executor.submit(() -> signer.apply(element)));
+			}
+			for (Future<SignatureValue> future : futures) {
+				result.add(DTOConverter.toSignatureValueDTO(getSignatureValue(future)));
+			}
+			return result;
+
+		} finally {
+			for (Future<SignatureValue> future : futures) {
+				future.cancel(true);
+			}
+			releaseExecutorService();
+		}
+	}
+
+	/**
+	 * Returns the executor to compute a batch on, and registers the batch as running,
+	 * so the executor is not shut down before the batch is completed
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	private synchronized ExecutorService acquireExecutorService() {
+		if (executorService == null) {
+			executorService = Executors.newFixedThreadPool(maxThreads, runnable -> {
+				Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+				// the pool is never shut down explicitly, and shall not prevent the JVM from exiting
+				thread.setDaemon(true);
+				return thread;
+			});
+			defaultExecutorService = true;
+		}
+		runningBatches++;
+		return executorService;
+	}
+
+	/**
+	 * Unregisters a completed batch, and shuts down the replaced pools when no batch is running anymore
+	 */
+	private synchronized void releaseExecutorService() {
+		runningBatches--;
+		if (runningBatches == 0) {
+			for (ExecutorService replacedExecutorService : replacedExecutorServices) {
+				replacedExecutorService.shutdown();
+			}
+			replacedExecutorServices.clear();
+		}
+	}
+
+	/**
+	 * Shuts down the default pool, or postpones it until the running batches are completed.
+	 * Shall be called within the lock on {@code this}.
+	 */
+	private void shutdownDefaultExecutorService() {
+		if (defaultExecutorService) {
+			if (runningBatches == 0) {
+				executorService.shutdown();
+			} else {
+				replacedExecutorServices.add(executorService);
+			}
+			executorService = null;
+			defaultExecutorService = false;
+		}
+	}
+
+	private SignatureValue getSignatureValue(Future<SignatureValue> future) {
+		try {
+			return future.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while signing a batch", e);
+
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new DSSException(String.format("Unable to sign an element of the batch. Reason : %s",
+					cause.getMessage()), cause);
+		}
+	}
+
 	private RemoteKeyEntry convert(KSPrivateKeyEntry key) {
 		if (key == null) {
 			return null;
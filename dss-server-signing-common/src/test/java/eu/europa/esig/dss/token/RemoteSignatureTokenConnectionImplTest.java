@@ -22,6 +22,9 @@ package eu.europa.esig.dss.token;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.ws.dto.DigestDTO;
@@ -36,11 +39,21 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore.PasswordProtection;
 import java.security.Signature;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RemoteSignatureTokenConnectionImplTest {
@@ -215,4 +228,172 @@ public class RemoteSignatureTokenConnectionImplTest {
 		}
 	}
 
+	@Test
+	public void testRemoteSignBatch() throws Exception {
+
+		Pkcs12SignatureToken serverToken = new Pkcs12SignatureToken("src/test/resources/good-user.p12",
+				new PasswordProtection("ks-password".toCharArray()));
+
+		RemoteSignatureTokenConnectionImpl exposedToken = new RemoteSignatureTokenConnectionImpl();
+		exposedToken.setToken(serverToken);
+		exposedToken.setMaxThreads(4);
+
+		RemoteKeyEntry remoteKeyEntry = exposedToken.getKeys().get(0);
+		CertificateToken certificateToken = DSSUtils.loadCertificate(remoteKeyEntry.getCertificate().getEncodedCertificate());
+
+		List<ToBeSignedDTO> toBeSignedList = new ArrayList<>();
+		List<DigestDTO> digests = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			byte[] toBeSigned = { 1, 2, 3, 4, (byte) i };
+			toBeSignedList.add(new ToBeSignedDTO(toBeSigned));
+			byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA256, toBeSigned);
+			digests.add(new DigestDTO(DigestAlgorithm.SHA256, DSSUtils.encodeRSADigest(DigestAlgorithm.SHA256, digest)));
+		}
+
+		List<SignatureValueDTO> signatureValues = exposedToken.signBatch(toBeSignedList, DigestAlgorithm.SHA256, remoteKeyEntry.getAlias());
+		assertEquals(toBeSignedList.size(), signatureValues.size());
+		for (int i = 0; i < toBeSignedList.size(); i++) {
+			assertEquals(SignatureAlgorithm.RSA_SHA256, signatureValues.get(i).getAlgorithm());
+			assertTrue(verify(certificateToken, signatureValues.get(i), toBeSignedList.get(i).getBytes()));
+		}
+
+		List<SignatureValueDTO> digestSignatureValues = exposedToken.signDigestBatch(digests, SignatureAlgorithm.RSA_SHA256,
+				remoteKeyEntry.getAlias());
+		assertEquals(digests.size(), digestSignatureValues.size());
+		for (int i = 0; i < digests.size(); i++) {
+			assertTrue(verify(certificateToken, digestSignatureValues.get(i), toBeSignedList.get(i).getBytes()));
+		}
+
+		assertTrue(exposedToken.signBatch(new ArrayList<>(), SignatureAlgorithm.RSA_SHA256, remoteKeyEntry.getAlias()).isEmpty());
+	}
+
+	@Test
+	public void testRemoteSignBatchSharedExecutor() throws Exception {
+		final Set<Thread> signingThreads = ConcurrentHashMap.newKeySet();
+		Pkcs12SignatureToken serverToken = new Pkcs12SignatureToken("src/test/resources/good-user.p12",
+				new PasswordProtection("ks-password".toCharArray())) {
+
+			@Override
+			public SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, DSSPrivateKeyEntry keyEntry) {
+				signingThreads.add(Thread.currentThread());
+				return super.sign(toBeSigned, digestAlgorithm, keyEntry);
+			}
+
+		};
+
+		RemoteSignatureTokenConnectionImpl exposedToken = new RemoteSignatureTokenConnectionImpl();
+		exposedToken.setToken(serverToken);
+		exposedToken.setMaxThreads(3);
+
+		String alias = exposedToken.getKeys().get(0).getAlias();
+		List<ToBeSignedDTO> toBeSignedList = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			toBeSignedList.add(new ToBeSignedDTO(new byte[] { 1, 2, 3, 4, (byte) i }));
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(toBeSignedList.size(), exposedToken.signBatch(toBeSignedList, DigestAlgorithm.SHA256, alias).size());
+		}
+
+		// the same bounded pool of daemon threads is used for all the batches
+		assertTrue(signingThreads.size() <= 3);
+		for (Thread thread : signingThreads) {
+			assertTrue(thread.isDaemon());
+		}
+	}
+
+	@Test
+	public void testRemoteSignBatchPoolReplacedWhileRunning() throws Exception {
+		final Set<Thread> signingThreads = ConcurrentHashMap.newKeySet();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		Pkcs12SignatureToken serverToken = new Pkcs12SignatureToken("src/test/resources/good-user.p12",
+				new PasswordProtection("ks-password".toCharArray())) {
+
+			@Override
+			public SignatureValue sign(ToBeSigned toBeSigned, DigestAlgorithm digestAlgorithm, DSSPrivateKeyEntry keyEntry) {
+				if (toBeSigned.getBytes()[0] == 0) {
+					signingThreads.add(Thread.currentThread());
+					started.countDown();
+					try {
+						assertTrue(release.await(10, TimeUnit.SECONDS));
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return super.sign(toBeSigned, digestAlgorithm, keyEntry);
+			}
+
+		};
+
+		RemoteSignatureTokenConnectionImpl exposedToken = new RemoteSignatureTokenConnectionImpl();
+		exposedToken.setToken(serverToken);
+		exposedToken.setMaxThreads(3);
+
+		String alias = exposedToken.getKeys().get(0).getAlias();
+		List<ToBeSignedDTO> blockedList = new ArrayList<>();
+		List<ToBeSignedDTO> toBeSignedList = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			blockedList.add(new ToBeSignedDTO(new byte[] { 0, 2, 3, 4, (byte) i }));
+			toBeSignedList.add(new ToBeSignedDTO(new byte[] { 1, 2, 3, 4, (byte) i }));
+		}
+
+		ExecutorService caller = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<SignatureValueDTO>> blockedBatch = caller.submit(
+					() -> exposedToken.signBatch(blockedList, DigestAlgorithm.SHA256, alias));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			// the pool is replaced while the first batch is running
+			exposedToken.setMaxThreads(2);
+			assertEquals(toBeSignedList.size(), exposedToken.signBatch(toBeSignedList, DigestAlgorithm.SHA256, alias).size());
+
+			release.countDown();
+			assertEquals(blockedList.size(), blockedBatch.get(10, TimeUnit.SECONDS).size());
+
+		} finally {
+			release.countDown();
+			caller.shutdownNow();
+		}
+
+		// the replaced pool is shut down once the running batch is completed
+		for (Thread thread : signingThreads) {
+			thread.join(10000);
+			assertFalse(thread.isAlive());
+		}
+	}
+
+	@Test
+	public void testRemoteSignBatchMaxSize() throws Exception {
+		Pkcs12SignatureToken serverToken = new Pkcs12SignatureToken("src/test/resources/good-user.p12",
+				new PasswordProtection("ks-password".toCharArray()));
+
+		RemoteSignatureTokenConnectionImpl exposedToken = new RemoteSignatureTokenConnectionImpl();
+		exposedToken.setToken(serverToken);
+		exposedToken.setMaxBatchSize(5);
+
+		String alias = exposedToken.getKeys().get(0).getAlias();
+		List<DigestDTO> digests = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			byte[] digest = DSSUtils.digest(DigestAlgorithm.SHA256, new byte[] { 1, 2, 3, 4, (byte) i });
+			digests.add(new DigestDTO(DigestAlgorithm.SHA256, DSSUtils.encodeRSADigest(DigestAlgorithm.SHA256, digest)));
+		}
+		assertEquals(5, exposedToken.signDigestBatch(digests, SignatureAlgorithm.RSA_SHA256, alias).size());
+
+		digests.add(digests.get(0));
+		DSSException exception = assertThrows(DSSException.class,
+				() -> exposedToken.signDigestBatch(digests, SignatureAlgorithm.RSA_SHA256, alias));
+		assertEquals("The batch contains 6 elements, while the maximum allowed number of elements is 5!", exception.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> exposedToken.setMaxBatchSize(0));
+	}
+
+	private boolean verify(CertificateToken certificateToken, SignatureValueDTO signatureValue, byte[] toBeSigned)
+			throws GeneralSecurityException {
+		Signature sig = Signature.getInstance(signatureValue.getAlgorithm().getJCEId());
+		sig.initVerify(certificateToken.getPublicKey());
+		sig.update(toBeSigned);
+		return sig.verify(signatureValue.getValue());
+	}
+
 }
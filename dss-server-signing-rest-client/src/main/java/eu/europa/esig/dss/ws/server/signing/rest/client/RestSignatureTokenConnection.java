@@ -170,4 +170,68 @@ public interface RestSignatureTokenConnection extends Serializable {
 	SignatureValueDTO signDigest(DigestDTO digest, @PathParam("signature-algo") SignatureAlgorithm signatureAlgorithm,
 								 @PathParam("alias") String alias);
 
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 */
+	@POST
+	@Path("sign-batch/{alias}/{algo}")
+	List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, @PathParam("algo") DigestAlgorithm digestAlgorithm,
+									  @PathParam("alias") String alias);
+
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the
+	 * {@code signatureAlgorithm} and the given {@code alias}.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 */
+	@POST
+	@Path("sign-batch-with-signature-algo/{alias}/{signature-algo}")
+	List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, @PathParam("signature-algo") SignatureAlgorithm signatureAlgorithm,
+									  @PathParam("alias") String alias);
+
+	/**
+	 * This method signs each of the {@code digests} with the given {@code alias}.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 */
+	@POST
+	@Path("sign-digest-batch/{alias}")
+	List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, @PathParam("alias") String alias);
+
+	/**
+	 * This method signs each of the {@code digests} with a {@code signatureAlgorithm} and
+	 * the given {@code alias}.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 */
+	@POST
+	@Path("sign-digest-batch-with-signature-algo/{alias}/{signature-algo}")
+	List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, @PathParam("signature-algo") SignatureAlgorithm signatureAlgorithm,
+											@PathParam("alias") String alias);
+
 }
@@ -98,4 +98,24 @@ public class RestSignatureTokenConnectionImpl implements RestSignatureTokenConne
 		return token.signDigest(digest, signatureAlgorithm, alias);
 	}
 
+	@Override
+	public List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, DigestAlgorithm digestAlgorithm, String alias) {
+		return token.signBatch(toBeSignedList, digestAlgorithm, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signBatch(List<ToBeSignedDTO> toBeSignedList, SignatureAlgorithm signatureAlgorithm, String alias) {
+		return token.signBatch(toBeSignedList, signatureAlgorithm, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, String alias) {
+		return token.signDigestBatch(digests, alias);
+	}
+
+	@Override
+	public List<SignatureValueDTO> signDigestBatch(List<DigestDTO> digests, SignatureAlgorithm signatureAlgorithm, String alias) {
+		return token.signDigestBatch(digests, signatureAlgorithm, alias);
+	}
+
 }
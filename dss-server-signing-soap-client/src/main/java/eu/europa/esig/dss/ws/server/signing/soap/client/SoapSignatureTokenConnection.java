@@ -172,4 +172,71 @@ public interface SoapSignatureTokenConnection extends Serializable {
 								 @WebParam(name = "signatureAlgorithm") SignatureAlgorithm signatureAlgorithm,
 								 @WebParam(name = "alias") String alias);
 
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the digest
+	 * {@code digestAlgorithm} and the given {@code alias}.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param digestAlgorithm
+	 *                        The digest algorithm to be used before signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 */
+	@WebMethod(operationName = "signBatch")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signBatch(@WebParam(name = "toBeSigned") List<ToBeSignedDTO> toBeSignedList,
+									  @WebParam(name = "digestAlgorithm") DigestAlgorithm digestAlgorithm,
+									  @WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs each of the {@code toBeSignedList} data with the
+	 * {@code signatureAlgorithm} and the given {@code alias}.
+	 *
+	 * @param toBeSignedList
+	 *                        The list of data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *                        The key alias to be used
+	 * @return the list of signature values, in the order of {@code toBeSignedList}
+	 */
+	@WebMethod(operationName = "signBatchWithSignatureAlgo")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signBatch(@WebParam(name = "toBeSigned") List<ToBeSignedDTO> toBeSignedList,
+									  @WebParam(name = "signatureAlgorithm") SignatureAlgorithm signatureAlgorithm,
+									  @WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs each of the {@code digests} with the given {@code alias}.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 */
+	@WebMethod(operationName = "signDigestBatch")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signDigestBatch(@WebParam(name = "digest") List<DigestDTO> digests, @WebParam(name = "alias") String alias);
+
+	/**
+	 * This method signs each of the {@code digests} with a {@code signatureAlgorithm} and
+	 * the given {@code alias}.
+	 *
+	 * @param digests
+	 *               The list of digested data that need to be signed
+	 * @param signatureAlgorithm
+	 *                        The signature algorithm to be used for signing
+	 * @param alias
+	 *               The key alias to be used
+	 * @return the list of signature values, in the order of {@code digests}
+	 */
+	@WebMethod(operationName = "signDigestBatchWithSignatureAlgo")
+	@WebResult(name = "response")
+	List<SignatureValueDTO> signDigestBatch(@WebParam(name = "digest") List<DigestDTO> digests,
+											@WebParam(name = "signatureAlgorithm") SignatureAlgorithm signatureAlgorithm,
+											@WebParam(name = "alias") String alias);
+
 }
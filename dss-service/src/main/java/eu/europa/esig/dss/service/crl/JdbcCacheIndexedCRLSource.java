@@ -0,0 +1,591 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.client.jdbc.SqlTransactionContext;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
+import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.spi.x509.revocation.JdbcRevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.asn1.x509.ReasonFlags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.security.cert.CRLReason;
+import java.security.cert.X509CRLEntry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * CRLSource that retrieve information from a JDBC datasource, with an index of the CRL entries.
+ * <p>
+ * Unlike {@code JdbcCacheCRLSource}, the CRL is parsed only once, when it is stored into the cache.
+ * The revoked certificate entries are stored in a dedicated table (CACHED_CRL_ENTRY), indexed by the CRL id and
+ * the certificate serial number, together with the CRL validity information. Thus, a cached revocation status lookup
+ * is performed with an indexed point query, without parsing the CRL nor validating its signature.
+ * <p>
+ * The CRL record and its entries are inserted, updated and removed within a single transaction, so a lookup never
+ * sees a CRL record with incomplete entries.
+ * <p>
+ * NOTE: the lookup query does not extract the CRL binaries. The token identifier is built from the stored digest
+ * of the CRL, while the binaries are loaded from the database only on request (e.g. to include them into a report).
+ */
+public class JdbcCacheIndexedCRLSource extends JdbcRevocationSource<CRL> implements CRLSource {
+
+	private static final long serialVersionUID = -2426381342869283227L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(JdbcCacheIndexedCRLSource.class);
+
+	/**
+	 * The maximum number of CRL entries inserted within a single batch
+	 */
+	private static final int ENTRIES_BATCH_SIZE = 1000;
+
+	/**
+	 * Used in the init method to check if the table exists
+	 */
+	private static final SqlQuery SQL_INIT_CHECK_EXISTENCE = SqlQuery.createQuery("SELECT COUNT(*) FROM CACHED_INDEXED_CRL");
+
+	/**
+	 * Used in the init method to check if the CRL entries table exists
+	 */
+	private static final SqlQuery SQL_INIT_CHECK_ENTRY_EXISTENCE = SqlQuery.createQuery("SELECT COUNT(*) FROM CACHED_CRL_ENTRY");
+
+	/**
+	 * Used in the init method to create the table, if not existing: ID (char40 = SHA1 length), DATA (blob),
+	 * DATA_DIGEST (base64 encoded SHA-256 digest of DATA), ISSUER (binary) and the CRL validity information
+	 */
+	private static final SqlQuery SQL_INIT_CREATE_TABLE = SqlQuery.createQuery("CREATE TABLE CACHED_INDEXED_CRL (ID CHAR(40), " +
+			"DATA BLOB, DATA_DIGEST VARCHAR(100), ISSUER LONGVARBINARY, SIGNATURE_ALGORITHM VARCHAR(100), THIS_UPDATE TIMESTAMP, NEXT_UPDATE TIMESTAMP, " +
+			"EXPIRED_CERTS_ON_CRL TIMESTAMP, ISSUER_PRINCIPAL_MATCHES BOOLEAN, SIGNATURE_INTACT BOOLEAN, " +
+			"SIGNATURE_INVALIDITY_REASON VARCHAR(1000), CRL_SIGN_KEY_USAGE BOOLEAN, URL VARCHAR(1000), ONLY_USER_CERTS BOOLEAN, " +
+			"ONLY_CA_CERTS BOOLEAN, ONLY_ATTRIBUTE_CERTS BOOLEAN, INDIRECT_CRL BOOLEAN, REASON_FLAGS INT, CRITICAL_EXTENSIONS VARCHAR(1000))");
+
+	/**
+	 * Used in the init method to create the CRL entries table, if not existing: CRL_ID (char40 = SHA1 length),
+	 * SERIAL (hexadecimal serial number), REVOCATION_DATE (timestamp) and REASON (revocation reason)
+	 */
+	private static final SqlQuery SQL_INIT_CREATE_ENTRY_TABLE = SqlQuery.createQuery("CREATE TABLE CACHED_CRL_ENTRY " +
+			"(CRL_ID CHAR(40), SERIAL VARCHAR(64), REVOCATION_DATE TIMESTAMP, REASON VARCHAR(50))");
+
+	/**
+	 * Used in the init method to create the index on the CRL entries table
+	 */
+	private static final SqlQuery SQL_INIT_CREATE_ENTRY_INDEX = SqlQuery.createQuery(
+			"CREATE INDEX CACHED_CRL_ENTRY_IDX ON CACHED_CRL_ENTRY (CRL_ID, SERIAL)");
+
+	/**
+	 * Used to drop the cache table
+	 */
+	private static final SqlQuery SQL_DROP_TABLE = SqlQuery.createQuery("DROP TABLE CACHED_INDEXED_CRL");
+
+	/**
+	 * Used to drop the CRL entries table
+	 */
+	private static final SqlQuery SQL_DROP_ENTRY_TABLE = SqlQuery.createQuery("DROP TABLE CACHED_CRL_ENTRY");
+
+	/**
+	 * Used via the find method to insert a new record
+	 */
+	private static final SqlQuery SQL_FIND_INSERT = SqlQuery.createQuery("INSERT INTO CACHED_INDEXED_CRL (ID, DATA, DATA_DIGEST, ISSUER, " +
+			"SIGNATURE_ALGORITHM, THIS_UPDATE, NEXT_UPDATE, EXPIRED_CERTS_ON_CRL, ISSUER_PRINCIPAL_MATCHES, SIGNATURE_INTACT, " +
+			"SIGNATURE_INVALIDITY_REASON, CRL_SIGN_KEY_USAGE, URL, ONLY_USER_CERTS, ONLY_CA_CERTS, ONLY_ATTRIBUTE_CERTS, " +
+			"INDIRECT_CRL, REASON_FLAGS, CRITICAL_EXTENSIONS) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+	/**
+	 * Used via the find method to insert a new CRL entry
+	 */
+	private static final SqlQuery SQL_FIND_INSERT_ENTRY = SqlQuery.createQuery(
+			"INSERT INTO CACHED_CRL_ENTRY (CRL_ID, SERIAL, REVOCATION_DATE, REASON) VALUES (?, ?, ?, ?)");
+
+	/**
+	 * Used via the find method to update an existing record by the id (the CRL entries are rebuilt within the same transaction)
+	 */
+	private static final SqlQuery SQL_FIND_UPDATE = SqlQuery.createQuery("UPDATE CACHED_INDEXED_CRL SET DATA = ?, DATA_DIGEST = ?, " +
+			"ISSUER = ?, SIGNATURE_ALGORITHM = ?, THIS_UPDATE = ?, NEXT_UPDATE = ?, EXPIRED_CERTS_ON_CRL = ?, " +
+			"ISSUER_PRINCIPAL_MATCHES = ?, SIGNATURE_INTACT = ?, SIGNATURE_INVALIDITY_REASON = ?, CRL_SIGN_KEY_USAGE = ?, " +
+			"URL = ?, ONLY_USER_CERTS = ?, ONLY_CA_CERTS = ?, ONLY_ATTRIBUTE_CERTS = ?, INDIRECT_CRL = ?, REASON_FLAGS = ?, " +
+			"CRITICAL_EXTENSIONS = ? WHERE ID = ?");
+
+	/**
+	 * Used via the find method to remove an existing record by the id
+	 */
+	private static final SqlQuery SQL_FIND_REMOVE = SqlQuery.createQuery("DELETE FROM CACHED_INDEXED_CRL WHERE ID = ?");
+
+	/**
+	 * Used via the find method to remove the CRL entries of an existing record by the id
+	 */
+	private static final SqlQuery SQL_FIND_REMOVE_ENTRIES = SqlQuery.createQuery("DELETE FROM CACHED_CRL_ENTRY WHERE CRL_ID = ?");
+
+	/**
+	 * Extracts the CRL validity information (without the CRL binaries) and the CRL entry (if any)
+	 * for the given serial number and CRL id
+	 */
+	private static final SqlSelectQuery SQL_FIND_QUERY = new SqlSelectQuery("SELECT C.ID, C.DATA_DIGEST, C.ISSUER, " +
+			"C.SIGNATURE_ALGORITHM, C.THIS_UPDATE, C.NEXT_UPDATE, C.EXPIRED_CERTS_ON_CRL, C.ISSUER_PRINCIPAL_MATCHES, " +
+			"C.SIGNATURE_INTACT, C.SIGNATURE_INVALIDITY_REASON, C.CRL_SIGN_KEY_USAGE, C.URL, C.ONLY_USER_CERTS, C.ONLY_CA_CERTS, " +
+			"C.ONLY_ATTRIBUTE_CERTS, C.INDIRECT_CRL, C.REASON_FLAGS, C.CRITICAL_EXTENSIONS, E.REVOCATION_DATE, E.REASON " +
+			"FROM CACHED_INDEXED_CRL C LEFT JOIN CACHED_CRL_ENTRY E ON E.CRL_ID = C.ID AND E.SERIAL = ? WHERE C.ID = ?") {
+		@Override
+		public SqlIndexedCRLRecord getRecord(ResultSet rs) throws SQLException {
+			SqlIndexedCRLRecord response = new SqlIndexedCRLRecord();
+			response.id = rs.getString("ID");
+			response.crlDigest = rs.getString("DATA_DIGEST");
+			response.certificateIssuerBinary = rs.getBytes("ISSUER");
+			response.signatureAlgorithm = rs.getString("SIGNATURE_ALGORITHM");
+			response.thisUpdate = toDate(rs.getTimestamp("THIS_UPDATE"));
+			response.nextUpdate = toDate(rs.getTimestamp("NEXT_UPDATE"));
+			response.expiredCertsOnCRL = toDate(rs.getTimestamp("EXPIRED_CERTS_ON_CRL"));
+			response.issuerX509PrincipalMatches = rs.getBoolean("ISSUER_PRINCIPAL_MATCHES");
+			response.signatureIntact = rs.getBoolean("SIGNATURE_INTACT");
+			response.signatureInvalidityReason = rs.getString("SIGNATURE_INVALIDITY_REASON");
+			response.crlSignKeyUsage = rs.getBoolean("CRL_SIGN_KEY_USAGE");
+			response.url = rs.getString("URL");
+			response.onlyUserCerts = rs.getBoolean("ONLY_USER_CERTS");
+			response.onlyCaCerts = rs.getBoolean("ONLY_CA_CERTS");
+			response.onlyAttributeCerts = rs.getBoolean("ONLY_ATTRIBUTE_CERTS");
+			response.indirectCrl = rs.getBoolean("INDIRECT_CRL");
+			int reasonFlags = rs.getInt("REASON_FLAGS");
+			response.reasonFlags = rs.wasNull() ? null : reasonFlags;
+			response.criticalExtensions = rs.getString("CRITICAL_EXTENSIONS");
+			response.revocationDate = toDate(rs.getTimestamp("REVOCATION_DATE"));
+			response.revocationReason = rs.getString("REASON");
+			return response;
+		}
+	};
+
+	/**
+	 * Extracts the CRL binaries for the given CRL id, when requested
+	 */
+	private static final SqlSelectQuery SQL_FIND_DATA_QUERY = new SqlSelectQuery("SELECT DATA FROM CACHED_INDEXED_CRL WHERE ID = ?") {
+		@Override
+		public SqlIndexedCRLRecord getRecord(ResultSet rs) throws SQLException {
+			SqlIndexedCRLRecord response = new SqlIndexedCRLRecord();
+			response.crlBinary = rs.getBytes("DATA");
+			return response;
+		}
+	};
+
+	/**
+	 * Default constructor
+	 */
+	public JdbcCacheIndexedCRLSource() {
+		// empty
+	}
+
+	@Override
+	protected SqlQuery getCreateTableQuery() {
+		return SQL_INIT_CREATE_TABLE;
+	}
+
+	@Override
+	protected SqlQuery getTableExistenceQuery() {
+		return SQL_INIT_CHECK_EXISTENCE;
+	}
+
+	@Override
+	protected SqlQuery getInsertRevocationTokenEntryQuery() {
+		return SQL_FIND_INSERT;
+	}
+
+	@Override
+	protected SqlQuery getUpdateRevocationTokenEntryQuery() {
+		return SQL_FIND_UPDATE;
+	}
+
+	@Override
+	protected SqlQuery getRemoveRevocationTokenEntryQuery() {
+		return SQL_FIND_REMOVE;
+	}
+
+	@Override
+	protected SqlQuery getDeleteTableQuery() {
+		return SQL_DROP_TABLE;
+	}
+
+	@Override
+	protected SqlSelectQuery getRevocationDataExtractQuery() {
+		return SQL_FIND_QUERY;
+	}
+
+	@Override
+	public void initTable() throws SQLException {
+		super.initTable();
+		if (!getJdbcCacheConnector().tableQuery(SQL_INIT_CHECK_ENTRY_EXISTENCE)) {
+			LOG.debug("CRL entries table does not exist. Creating a new table...");
+			getJdbcCacheConnector().executeThrowable(SQL_INIT_CREATE_ENTRY_TABLE);
+			getJdbcCacheConnector().executeThrowable(SQL_INIT_CREATE_ENTRY_INDEX);
+			LOG.info("CRL entries table was created.");
+		}
+	}
+
+	@Override
+	public void destroyTable() throws SQLException {
+		super.destroyTable();
+		if (getJdbcCacheConnector().tableQuery(SQL_INIT_CHECK_ENTRY_EXISTENCE)) {
+			getJdbcCacheConnector().executeThrowable(SQL_DROP_ENTRY_TABLE);
+			LOG.info("CRL entries table was destroyed.");
+		}
+	}
+
+	@Override
+	public boolean isTableExists() {
+		return super.isTableExists() && getJdbcCacheConnector().tableQuery(SQL_INIT_CHECK_ENTRY_EXISTENCE);
+	}
+
+	/**
+	 * Returns a revocation token key
+	 *
+	 * @param certificateToken {@link CertificateToken}
+	 * @return revocation token key {@link String}
+	 */
+	@Override
+	protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+		return DSSRevocationUtils.getCRLRevocationTokenKeys(certificateToken);
+	}
+
+	@Override
+	protected List<RevocationToken<CRL>> findRevocations(final String key, final CertificateToken certificateToken,
+														 final CertificateToken issuerCertificateToken) {
+		final Collection<SqlRecord> responses = getJdbcCacheConnector().select(getRevocationDataExtractQuery(),
+				toSerialNumberString(certificateToken.getSerialNumber()), key);
+		LOG.debug("Record obtained : {}", responses.size());
+		if (Utils.isCollectionNotEmpty(responses)) {
+			final List<RevocationToken<CRL>> revocationTokens = new ArrayList<>();
+			for (SqlRecord sqlRecord : responses) {
+				revocationTokens.add(buildRevocationTokenFromResult(sqlRecord, certificateToken, issuerCertificateToken));
+			}
+			return revocationTokens;
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected RevocationToken<CRL> buildRevocationTokenFromResult(SqlRecord response, CertificateToken certificateToken,
+			CertificateToken issuerCertificateToken) throws DSSExternalResourceException {
+		try {
+			final SqlIndexedCRLRecord crlResponse = (SqlIndexedCRLRecord) response;
+			final CertificateToken cachedIssuerCertificate = DSSUtils.loadCertificate(crlResponse.certificateIssuerBinary);
+			final CRLValidity cached = toCRLValidity(crlResponse);
+			cached.setIssuerToken(cachedIssuerCertificate);
+
+			final RevocationReason revocationReason = crlResponse.revocationReason != null ?
+					RevocationReason.valueOf(crlResponse.revocationReason) : null;
+			CRLToken crlToken = new CRLToken(certificateToken, cached, crlResponse.revocationDate, revocationReason);
+			crlToken.setExternalOrigin(RevocationOrigin.CACHED);
+			return crlToken;
+
+		} catch (Exception e) {
+			throw new DSSExternalResourceException(String.format(
+					"An error occurred during an attempt to get a revocation token. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private CRLValidity toCRLValidity(SqlIndexedCRLRecord crlResponse) {
+		final Digest crlDigest = new Digest(DigestAlgorithm.SHA256, Utils.fromBase64(crlResponse.crlDigest));
+		final CRLValidity crlValidity = new CRLValidity(new CRLBinary(crlDigest, getCRLBinariesLoader(crlResponse.id)));
+		if (crlResponse.signatureAlgorithm != null) {
+			crlValidity.setSignatureAlgorithm(SignatureAlgorithm.valueOf(crlResponse.signatureAlgorithm));
+		}
+		crlValidity.setThisUpdate(crlResponse.thisUpdate);
+		crlValidity.setNextUpdate(crlResponse.nextUpdate);
+		crlValidity.setExpiredCertsOnCRL(crlResponse.expiredCertsOnCRL);
+		crlValidity.setIssuerX509PrincipalMatches(crlResponse.issuerX509PrincipalMatches);
+		crlValidity.setSignatureIntact(crlResponse.signatureIntact);
+		crlValidity.setSignatureInvalidityReason(crlResponse.signatureInvalidityReason);
+		crlValidity.setCrlSignKeyUsage(crlResponse.crlSignKeyUsage);
+		crlValidity.setUrl(crlResponse.url);
+		crlValidity.setOnlyUserCerts(crlResponse.onlyUserCerts);
+		crlValidity.setOnlyCaCerts(crlResponse.onlyCaCerts);
+		crlValidity.setOnlyAttributeCerts(crlResponse.onlyAttributeCerts);
+		crlValidity.setIndirectCrl(crlResponse.indirectCrl);
+		if (crlResponse.reasonFlags != null) {
+			crlValidity.setReasonFlags(new ReasonFlags(crlResponse.reasonFlags));
+		}
+		if (Utils.isStringNotEmpty(crlResponse.criticalExtensions)) {
+			crlValidity.setCriticalExtensionsOid(new HashSet<>(Arrays.asList(crlResponse.criticalExtensions.split(","))));
+		} else {
+			crlValidity.setCriticalExtensionsOid(Collections.emptySet());
+		}
+		return crlValidity;
+	}
+
+	/**
+	 * Returns a loader of the CRL binaries with the given id, extracting the binaries from the database on request
+	 *
+	 * @param revocationKey {@link String} id of the CRL record
+	 * @return {@link Supplier} of the CRL binaries
+	 */
+	private Supplier<byte[]> getCRLBinariesLoader(final String revocationKey) {
+		final JdbcCacheConnector jdbcCacheConnector = getJdbcCacheConnector();
+		return () -> {
+			LOG.debug("Loading the CRL binaries with key '{}'...", revocationKey);
+			final Collection<SqlRecord> responses = jdbcCacheConnector.select(SQL_FIND_DATA_QUERY, revocationKey);
+			if (Utils.isCollectionEmpty(responses)) {
+				throw new DSSExternalResourceException(String.format(
+						"The CRL with key '%s' is not present in the database anymore!", revocationKey));
+			}
+			return ((SqlIndexedCRLRecord) responses.iterator().next()).crlBinary;
+		};
+	}
+
+	@Override
+	protected void insertRevocation(final String revocationKey, final RevocationToken<CRL> token) {
+		final CRLValidity crlValidity = ((CRLToken) token).getCrlValidity();
+		final boolean success = getJdbcCacheConnector().executeTransaction(context -> {
+			// remove entries possibly remaining from a previous insertion
+			context.execute(SQL_FIND_REMOVE_ENTRIES, revocationKey);
+			insertEntries(context, revocationKey, crlValidity);
+			context.execute(getInsertRevocationTokenEntryQuery(), toRecordArguments(revocationKey, crlValidity, true));
+		});
+		if (!success) {
+			LOG.warn("Unable to index the CRL entries. The CRL with key '{}' is not cached.", revocationKey);
+		}
+	}
+
+	@Override
+	protected void updateRevocation(final String revocationKey, final RevocationToken<CRL> token) {
+		final CRLValidity crlValidity = ((CRLToken) token).getCrlValidity();
+		final boolean success = getJdbcCacheConnector().executeTransaction(context -> {
+			// the CRL entries of the new CRL shall be indexed again
+			context.execute(SQL_FIND_REMOVE_ENTRIES, revocationKey);
+			insertEntries(context, revocationKey, crlValidity);
+			if (context.execute(getUpdateRevocationTokenEntryQuery(), toRecordArguments(revocationKey, crlValidity, false)) == 0) {
+				// the record is not present (e.g. a forced refresh)
+				context.execute(getInsertRevocationTokenEntryQuery(), toRecordArguments(revocationKey, crlValidity, true));
+			}
+		});
+		if (!success) {
+			LOG.warn("Unable to index the CRL entries. The CRL with key '{}' is not updated.", revocationKey);
+		}
+	}
+
+	@Override
+	protected void removeRevocation(final String revocationTokenKey) {
+		getJdbcCacheConnector().executeTransaction(context -> {
+			context.execute(getRemoveRevocationTokenEntryQuery(), revocationTokenKey);
+			context.execute(SQL_FIND_REMOVE_ENTRIES, revocationTokenKey);
+		});
+	}
+
+	private void insertEntries(final SqlTransactionContext context, final String revocationKey,
+							   final CRLValidity crlValidity) throws SQLException {
+		final List<Object[]> batch = new ArrayList<>();
+		final SQLException[] exception = { null };
+		CRLUtils.processRevokedCertificates(crlValidity, crlEntry -> {
+			if (exception[0] != null) {
+				return;
+			}
+			batch.add(toEntryArguments(revocationKey, crlEntry));
+			if (batch.size() >= ENTRIES_BATCH_SIZE) {
+				try {
+					context.executeBatch(SQL_FIND_INSERT_ENTRY, batch);
+				} catch (SQLException e) {
+					exception[0] = e;
+				}
+				batch.clear();
+			}
+		});
+		if (exception[0] != null) {
+			throw exception[0];
+		}
+		if (!batch.isEmpty()) {
+			context.executeBatch(SQL_FIND_INSERT_ENTRY, batch);
+		}
+	}
+
+	/**
+	 * Returns the arguments of the CRL record insert (with the id first) or update (with the id last) query
+	 */
+	private Object[] toRecordArguments(final String revocationKey, final CRLValidity crlValidity, boolean insert) {
+		final List<Object> arguments = new ArrayList<>(Arrays.asList(crlValidity.getDerEncoded(),
+				Utils.toBase64(crlValidity.getCrlBinary().getDigestValue(DigestAlgorithm.SHA256)),
+				crlValidity.getIssuerToken().getEncoded(), getSignatureAlgorithmName(crlValidity),
+				toTimestamp(crlValidity.getThisUpdate()), toTimestamp(crlValidity.getNextUpdate()),
+				toTimestamp(crlValidity.getExpiredCertsOnCRL()), crlValidity.isIssuerX509PrincipalMatches(),
+				crlValidity.isSignatureIntact(), crlValidity.getSignatureInvalidityReason(), crlValidity.isCrlSignKeyUsage(),
+				crlValidity.getUrl(), crlValidity.isOnlyUserCerts(), crlValidity.isOnlyCaCerts(),
+				crlValidity.isOnlyAttributeCerts(), crlValidity.isIndirectCrl(), getReasonFlagsValue(crlValidity),
+				getCriticalExtensionsString(crlValidity)));
+		if (insert) {
+			arguments.add(0, revocationKey);
+		} else {
+			arguments.add(revocationKey);
+		}
+		return arguments.toArray();
+	}
+
+	private Object[] toEntryArguments(final String revocationKey, final X509CRLEntry crlEntry) {
+		RevocationReason revocationReason = null;
+		final CRLReason crlReason = crlEntry.getRevocationReason();
+		if (crlReason != null) {
+			revocationReason = RevocationReason.fromInt(crlReason.ordinal());
+		}
+		return new Object[] { revocationKey, toSerialNumberString(crlEntry.getSerialNumber()),
+				toTimestamp(crlEntry.getRevocationDate()), revocationReason != null ? revocationReason.name() : null };
+	}
+
+	private String getSignatureAlgorithmName(CRLValidity crlValidity) {
+		return crlValidity.getSignatureAlgorithm() != null ? crlValidity.getSignatureAlgorithm().name() : null;
+	}
+
+	private Integer getReasonFlagsValue(CRLValidity crlValidity) {
+		return crlValidity.getReasonFlags() != null ? crlValidity.getReasonFlags().intValue() : null;
+	}
+
+	private String getCriticalExtensionsString(CRLValidity crlValidity) {
+		return crlValidity.areCriticalExtensionsOidNotEmpty() ?
+				Utils.joinStrings(new ArrayList<>(crlValidity.getCriticalExtensionsOid()), ",") : null;
+	}
+
+	private static String toSerialNumberString(BigInteger serialNumber) {
+		return serialNumber.toString(16);
+	}
+
+	private static Timestamp toTimestamp(Date date) {
+		return date != null ? new Timestamp(date.getTime()) : null;
+	}
+
+	private static Date toDate(Timestamp timestamp) {
+		return timestamp != null ? new Date(timestamp.getTime()) : null;
+	}
+
+	@Override
+	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken);
+	}
+
+	@Override
+	public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken, boolean forceRefresh) {
+		return (CRLToken) super.getRevocationToken(certificateToken, issuerCertificateToken, forceRefresh);
+	}
+
+	@Override
+	protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+		return DSSRevocationUtils.getCRLRevocationTokenKey(urlString);
+	}
+
+	/**
+	 * Represents a CRL record with the indexed CRL entry extracted from the SQL database tables
+	 */
+	protected static class SqlIndexedCRLRecord implements SqlRecord {
+
+		/** ID of the record */
+		protected String id;
+
+		/** CRL binary (extracted only on request) */
+		protected byte[] crlBinary;
+
+		/** Base64 encoded SHA-256 digest of the CRL binary */
+		protected String crlDigest;
+
+		/** Binary of the CRL issuer certificate */
+		protected byte[] certificateIssuerBinary;
+
+		/** Name of the CRL signature algorithm */
+		protected String signatureAlgorithm;
+
+		/** The thisUpdate time of the CRL */
+		protected Date thisUpdate;
+
+		/** The nextUpdate time of the CRL */
+		protected Date nextUpdate;
+
+		/** The 'expiredCertsOnCRL' value of the CRL */
+		protected Date expiredCertsOnCRL;
+
+		/** Defines whether the CRL issuer matches the issuer certificate */
+		protected boolean issuerX509PrincipalMatches;
+
+		/** Defines whether the CRL signature is intact */
+		protected boolean signatureIntact;
+
+		/** The signature invalidity reason, if applicable */
+		protected String signatureInvalidityReason;
+
+		/** Defines whether the issuer certificate has the cRLSign key usage */
+		protected boolean crlSignKeyUsage;
+
+		/** The distribution point url */
+		protected String url;
+
+		/** The 'onlyContainsUserCerts' value */
+		protected boolean onlyUserCerts;
+
+		/** The 'onlyContainsCACerts' value */
+		protected boolean onlyCaCerts;
+
+		/** The 'onlyContainsAttributeCerts' value */
+		protected boolean onlyAttributeCerts;
+
+		/** The 'indirectCRL' value */
+		protected boolean indirectCrl;
+
+		/** The 'onlySomeReasons' value, if present */
+		protected Integer reasonFlags;
+
+		/** The comma-separated list of critical extension OIDs */
+		protected String criticalExtensions;
+
+		/** The revocation date of the requested certificate, null if not revoked */
+		protected Date revocationDate;
+
+		/** The revocation reason of the requested certificate, if present */
+		protected String revocationReason;
+
+		/**
+		 * Default constructor
+		 */
+		protected SqlIndexedCRLRecord() {
+			// empty
+		}
+
+	}
+
+}
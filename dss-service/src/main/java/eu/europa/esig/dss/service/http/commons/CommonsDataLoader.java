@@ -65,6 +65,8 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.message.StatusLine;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.TrustStrategy;
 import org.apache.hc.core5.util.TimeValue;
@@ -79,6 +81,7 @@ import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
 import javax.net.ssl.HostnameVerifier;
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -94,6 +97,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementation of DataLoader for any protocol.
@@ -102,8 +107,13 @@ import java.util.StringTokenizer;
  * having to add the certificate to the JVM TrustStore. It takes into account a
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
+ * <p>
+ * By default, a new HTTP client with its own connection pool is created for every request.
+ * When {@code setHttpClientReuse(true)} is configured, a single connection pool is shared between all
+ * the requests of the data loader, allowing re-use of keep-alive connections and TLS sessions.
+ * In that case, the data loader shall be closed with {@code #close()} when it is no longer used.
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements DataLoader, Closeable {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -242,6 +252,22 @@ public class CommonsDataLoader implements DataLoader {
 	 */
 	private transient HttpClientResponseHandler<byte[]> httpClientResponseHandler = new CommonsHttpClientResponseHandler();
 
+	/**
+	 * Defines whether the created HTTP client and its connection pool shall be re-used between the requests
+	 * Default: FALSE (a new HTTP client is created for every request)
+	 */
+	private boolean httpClientReuse = false;
+
+	/**
+	 * The shared connection manager, used when {@code httpClientReuse} is enabled
+	 */
+	private transient volatile PoolingHttpClientConnectionManager sharedConnectionManager;
+
+	/**
+	 * The shared HTTP clients, mapped by the request protocol (used when {@code httpClientReuse} is enabled)
+	 */
+	private transient volatile ConcurrentMap<String, CloseableHttpClient> sharedHttpClients;
+
 	/**
 	 * The default constructor for CommonsDataLoader.
 	 */
@@ -460,6 +486,45 @@ public class CommonsDataLoader implements DataLoader {
 		this.useSystemProperties = useSystemProperties;
 	}
 
+	/**
+	 * Gets if the HTTP client and its connection pool are re-used between the requests
+	 *
+	 * @return TRUE if the HTTP client is re-used, FALSE otherwise
+	 */
+	public boolean isHttpClientReuse() {
+		return httpClientReuse;
+	}
+
+	/**
+	 * Sets if the HTTP client and its connection pool shall be re-used between the requests.
+	 * When enabled, the keep-alive connections and TLS sessions are shared between the requests,
+	 * and the data loader shall be closed with {@code #close()} when it is no longer used.
+	 *
+	 * Default: FALSE (a new HTTP client is created and closed for every request)
+	 *
+	 * NOTE: when enabled, the configuration of the data loader is applied on the first request.
+	 *       Any later change of the configuration requires a call of {@code #close()} to be taken into account.
+	 *
+	 * @param httpClientReuse if the HTTP client shall be re-used between the requests
+	 */
+	public void setHttpClientReuse(boolean httpClientReuse) {
+		this.httpClientReuse = httpClientReuse;
+	}
+
+	/**
+	 * Returns the statistics of the shared connection pool (leased, available and pending connections).
+	 * Returns null, when {@code httpClientReuse} is not enabled or no request has been executed yet.
+	 *
+	 * @return {@link PoolStats}
+	 */
+	public PoolStats getConnectionPoolStats() {
+		final PoolingHttpClientConnectionManager connectionManager = sharedConnectionManager;
+		if (connectionManager != null) {
+			return connectionManager.getTotalStats();
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the content type
 	 *
@@ -1180,7 +1245,10 @@ public class CommonsDataLoader implements DataLoader {
 				Utils.closeQuietly(httpResponse);
 			}
 		} finally {
-			Utils.closeQuietly(client);
+			// the shared client is closed only by close()
+			if (!httpClientReuse) {
+				Utils.closeQuietly(client);
+			}
 		}
 	}
 
@@ -1196,11 +1264,55 @@ public class CommonsDataLoader implements DataLoader {
 				httpRequest.cancel();
 			}
 		} finally {
-			Utils.closeQuietly(client);
+			if (!httpClientReuse) {
+				Utils.closeQuietly(client);
+			}
+		}
+	}
+
+	/**
+	 * Closes the shared HTTP clients and the connection pool, when {@code httpClientReuse} is enabled.
+	 * The data loader may still be used after the call, in which case a new connection pool is created
+	 * using the current configuration.
+	 */
+	@Override
+	public synchronized void close() {
+		final ConcurrentMap<String, CloseableHttpClient> httpClients = sharedHttpClients;
+		sharedHttpClients = null;
+		if (httpClients != null) {
+			for (CloseableHttpClient httpClient : httpClients.values()) {
+				Utils.closeQuietly(httpClient);
+			}
+		}
+		final PoolingHttpClientConnectionManager connectionManager = sharedConnectionManager;
+		sharedConnectionManager = null;
+		if (connectionManager != null) {
+			connectionManager.close(CloseMode.GRACEFUL);
 		}
 	}
 
 	private HttpClientConnectionManager getConnectionManager() {
+		if (httpClientReuse) {
+			return getSharedConnectionManager();
+		}
+		return createConnectionManager();
+	}
+
+	private PoolingHttpClientConnectionManager getSharedConnectionManager() {
+		PoolingHttpClientConnectionManager connectionManager = sharedConnectionManager;
+		if (connectionManager == null) {
+			synchronized (this) {
+				connectionManager = sharedConnectionManager;
+				if (connectionManager == null) {
+					connectionManager = createConnectionManager();
+					sharedConnectionManager = connectionManager;
+				}
+			}
+		}
+		return connectionManager;
+	}
+
+	private PoolingHttpClientConnectionManager createConnectionManager() {
 		final PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
 				.setSSLSocketFactory(getConnectionSocketFactoryHttps())
 				.setDefaultSocketConfig(getSocketConfig())
@@ -1335,6 +1447,7 @@ public class CommonsDataLoader implements DataLoader {
 				.setRedirectsEnabled(redirectsEnabled);
 
 		httpClientBuilder.setConnectionManager(getConnectionManager())
+				.setConnectionManagerShared(httpClientReuse)
 				.setDefaultRequestConfig(requestConfigBuilder.build())
 				.setRetryStrategy(retryStrategy);
 		
@@ -1342,15 +1455,34 @@ public class CommonsDataLoader implements DataLoader {
 	}
 
 	/**
-	 * Gets the HTTP client
+	 * Gets the HTTP client.
+	 * When {@code httpClientReuse} is enabled, returns the shared HTTP client created for the url's protocol.
 	 *
 	 * @param url {@link String} request url
 	 * @return {@link CloseableHttpClient}
 	 */
-	protected synchronized CloseableHttpClient getHttpClient(final String url) {
+	protected CloseableHttpClient getHttpClient(final String url) {
+		if (httpClientReuse) {
+			return getSharedHttpClients().computeIfAbsent(getURL(url).getProtocol(),
+					protocol -> getHttpClientBuilder(url).build());
+		}
 		return getHttpClientBuilder(url).build();
 	}
 
+	private ConcurrentMap<String, CloseableHttpClient> getSharedHttpClients() {
+		ConcurrentMap<String, CloseableHttpClient> httpClients = sharedHttpClients;
+		if (httpClients == null) {
+			synchronized (this) {
+				httpClients = sharedHttpClients;
+				if (httpClients == null) {
+					httpClients = new ConcurrentHashMap<>();
+					sharedHttpClients = httpClients;
+				}
+			}
+		}
+		return httpClients;
+	}
+
 	/**
 	 * Defines the Credentials
 	 *
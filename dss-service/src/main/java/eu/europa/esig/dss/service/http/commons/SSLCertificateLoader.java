@@ -128,6 +128,8 @@ public class SSLCertificateLoader implements Serializable {
 		
 		} finally {
 			dataLoader.closeQuietly(httpRequest, client);
+			// the client is specific to the certificate extraction and is never shared
+			Utils.closeQuietly(client);
 		}
     }
     
@@ -33,6 +33,7 @@ import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.spi.x509.revocation.OnlineRevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPBatchSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPRespStatus;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
@@ -57,15 +58,21 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Online OCSP repository. This implementation will contact the OCSP Responder
  * to retrieve the OCSP response.
+ *
+ * The status of several certificates issued by the same issuer can be requested within
+ * a single OCSP request (see {@code #getRevocationTokens(Map, List)}).
  */
 @SuppressWarnings("serial")
-public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUrlsSupport<OCSP>, OnlineRevocationSource<OCSP> {
+public class OnlineOCSPSource implements OCSPBatchSource, RevocationSourceAlternateUrlsSupport<OCSP>, OnlineRevocationSource<OCSP> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(OnlineOCSPSource.class);
 
@@ -195,7 +202,7 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 			nonce = nonceSource.getNonce();
 		}
 
-		final byte[] content = buildOCSPRequest(certId, nonce);
+		final byte[] content = buildOCSPRequest(Collections.singletonList(certId), nonce);
 
 		int nbTries = ocspUrls.size();
 		for (String ocspAccessLocation : ocspUrls) {
@@ -249,10 +256,143 @@ public class OnlineOCSPSource implements OCSPSource, RevocationSourceAlternateUr
 		return null;
 	}
 
-	private byte[] buildOCSPRequest(final CertificateID certId, BigInteger nonce) throws DSSException {
+	@Override
+	public Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+																List<String> alternativeUrls) {
+		Objects.requireNonNull(dataLoader, "DataLoader is not provided !");
+
+		// groups the certificates by issuer and OCSP access urls
+		final Map<CertificateToken, Map<List<String>, List<CertificateToken>>> requestGroups = new LinkedHashMap<>();
+		for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			final CertificateToken certificateToken = entry.getKey();
+			final List<String> ocspUrls = new ArrayList<>(CertificateExtensionsUtils.getOCSPAccessUrls(certificateToken));
+			if (alternativeUrls != null) {
+				ocspUrls.addAll(alternativeUrls);
+			}
+			if (Utils.isCollectionEmpty(ocspUrls)) {
+				LOG.warn("No OCSP location found for {}", certificateToken.getDSSIdAsString());
+				continue;
+			}
+			requestGroups.computeIfAbsent(entry.getValue(), k -> new LinkedHashMap<>())
+					.computeIfAbsent(ocspUrls, k -> new ArrayList<>()).add(certificateToken);
+		}
+
+		final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+		for (Map.Entry<CertificateToken, Map<List<String>, List<CertificateToken>>> issuerGroup : requestGroups.entrySet()) {
+			final CertificateToken issuerToken = issuerGroup.getKey();
+			for (Map.Entry<List<String>, List<CertificateToken>> urlGroup : issuerGroup.getValue().entrySet()) {
+				final List<String> ocspUrls = urlGroup.getKey();
+				final List<CertificateToken> certificateTokens = urlGroup.getValue();
+				if (certificateTokens.size() > 1) {
+					result.putAll(getRevocationTokens(certificateTokens, issuerToken, ocspUrls));
+				}
+				// single requests for the remaining certificates (e.g. when the responder does not support multiple requests)
+				for (CertificateToken certificateToken : certificateTokens) {
+					if (!result.containsKey(certificateToken)) {
+						OCSPToken ocspToken = getSingleRevocationToken(certificateToken, issuerToken, ocspUrls);
+						if (ocspToken != null) {
+							result.put(certificateToken, ocspToken);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private OCSPToken getSingleRevocationToken(CertificateToken certificateToken, CertificateToken issuerToken, List<String> ocspUrls) {
+		try {
+			RevocationTokenAndUrl<OCSP> revocationTokenAndUrl = getRevocationTokenAndUrl(certificateToken, issuerToken, ocspUrls);
+			if (revocationTokenAndUrl != null) {
+				return (OCSPToken) revocationTokenAndUrl.getRevocationToken();
+			}
+		} catch (DSSException e) {
+			LOG.warn(e.getMessage());
+		}
+		LOG.debug("No OCSP has been downloaded for a CertificateToken with Id '{}' from a list of urls : {}",
+				certificateToken.getDSSIdAsString(), ocspUrls);
+		return null;
+	}
+
+	/**
+	 * Extracts OCSP tokens for several {@code certificateTokens} issued by the same {@code issuerToken}
+	 * using a single OCSP request containing a CertID per certificate.
+	 *
+	 * NOTE: an empty map is returned if the request cannot be processed by the OCSP responder(s)
+	 * (e.g. when multiple requests are not supported)
+	 *
+	 * @param certificateTokens a list of {@link CertificateToken}s to get OCSP tokens for
+	 * @param issuerToken {@link CertificateToken} issued the {@code certificateTokens}
+	 * @param ocspUrls a list of {@link String} URLs to use to access an OCSP token
+	 * @return map between the certificates and obtained {@link OCSPToken}s
+	 */
+	protected Map<CertificateToken, OCSPToken> getRevocationTokens(List<CertificateToken> certificateTokens,
+																   CertificateToken issuerToken, List<String> ocspUrls) {
+		final List<CertificateID> certIds = new ArrayList<>();
+		for (CertificateToken certificateToken : certificateTokens) {
+			certIds.add(DSSRevocationUtils.getOCSPCertificateID(certificateToken, issuerToken, certIDDigestAlgorithm));
+		}
+
+		BigInteger nonce = null;
+		if (nonceSource != null) {
+			nonce = nonceSource.getNonce();
+		}
+
+		final byte[] content = buildOCSPRequest(certIds, nonce);
+
+		for (String ocspAccessLocation : ocspUrls) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Trying to retrieve an OCSP response for {} certificates from URL '{}'...",
+						certificateTokens.size(), ocspAccessLocation);
+			}
+
+			try {
+				final byte[] ocspRespBytes = dataLoader.post(ocspAccessLocation, content);
+				if (Utils.isArrayEmpty(ocspRespBytes)) {
+					LOG.warn("OCSP Data Loader responded with an empty byte array for URL '{}'!", ocspAccessLocation);
+					continue;
+				}
+
+				final OCSPResp ocspResp = new OCSPResp(ocspRespBytes);
+				verifyNonce(ocspResp, nonce);
+
+				OCSPRespStatus status = OCSPRespStatus.fromInt(ocspResp.getStatus());
+				if (!OCSPRespStatus.SUCCESSFUL.equals(status)) {
+					LOG.warn("Ignored OCSP Response for multiple requests from URL '{}' : status -> {}", ocspAccessLocation, status);
+					continue;
+				}
+
+				final BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResp.getResponseObject();
+				final Map<CertificateToken, OCSPToken> result = new HashMap<>();
+				for (CertificateToken certificateToken : certificateTokens) {
+					SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerToken);
+					if (latestSingleResponse != null) {
+						OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerToken);
+						ocspToken.setSourceURL(ocspAccessLocation);
+						ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+						result.put(certificateToken, ocspToken);
+					}
+				}
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("OCSP Response with {} single response(s) for {} requested certificates has been retrieved from URL '{}'.",
+							result.size(), certificateTokens.size(), ocspAccessLocation);
+				}
+				return result;
+
+			} catch (Exception e) {
+				LOG.warn("Unable to retrieve OCSP response for multiple requests with URL '{}' : {}", ocspAccessLocation, e.getMessage());
+			}
+		}
+
+		return Collections.emptyMap();
+	}
+
+	private byte[] buildOCSPRequest(final List<CertificateID> certIds, BigInteger nonce) throws DSSException {
 		try {
 			final OCSPReqBuilder ocspReqBuilder = new OCSPReqBuilder();
-			ocspReqBuilder.addRequest(certId);
+			for (CertificateID certId : certIds) {
+				ocspReqBuilder.addRequest(certId);
+			}
 			/*
 			 * The nonce extension is used to bind a request to a response to
 			 * prevent replay attacks. RFC 6960 (OCSP) section 4.1.2 such
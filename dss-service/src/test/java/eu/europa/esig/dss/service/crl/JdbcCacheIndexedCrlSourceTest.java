@@ -0,0 +1,268 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcCacheIndexedCrlSourceTest {
+
+	private JdbcDataSource dataSource = new JdbcDataSource();
+
+	private JdbcCacheIndexedCRLSource crlSource = new JdbcCacheIndexedCRLSource();
+
+	@BeforeEach
+	public void setUp() throws SQLException {
+		dataSource.setUrl("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1");
+		JdbcCacheConnector jdbcCacheConnector = new JdbcCacheConnector(dataSource);
+		crlSource.setJdbcCacheConnector(jdbcCacheConnector);
+		assertFalse(crlSource.isTableExists());
+		crlSource.initTable();
+		assertTrue(crlSource.isTableExists());
+	}
+
+	@Test
+	public void test() throws Exception {
+		CRLToken revocationToken;
+
+		DataLoader dataLoader = new CommonsDataLoader();
+		CertificateToken certificateToken = DSSUtils.loadCertificate(dataLoader.get("http://dss.nowina.lu/pki-factory/crt/good-user-crl-ocsp.crt"));
+		CertificateToken caToken = DSSUtils.loadCertificate(dataLoader.get("http://dss.nowina.lu/pki-factory/crt/good-ca.crt"));
+
+		revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNull(revocationToken);
+
+		OnlineCRLSource onlineCRLSource = new OnlineCRLSource();
+		crlSource.setProxySource(onlineCRLSource);
+		revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+
+		CRLToken savedRevocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		compareTokens(revocationToken, savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+
+		CRLToken forceRefresh = crlSource.getRevocationToken(certificateToken, caToken, true);
+		assertNotNull(forceRefresh);
+		assertEquals(RevocationOrigin.EXTERNAL, forceRefresh.getExternalOrigin());
+
+		savedRevocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		compareTokens(forceRefresh, savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+	}
+
+	private void compareTokens(CRLToken originalCRL, CRLToken cachedCRL) {
+		assertEquals(originalCRL.getDSSIdAsString(), cachedCRL.getDSSIdAsString());
+		assertEquals(originalCRL.getSignatureAlgorithm(), cachedCRL.getSignatureAlgorithm());
+		assertEquals(originalCRL.getThisUpdate(), cachedCRL.getThisUpdate());
+		assertEquals(originalCRL.getNextUpdate(), cachedCRL.getNextUpdate());
+		assertEquals(originalCRL.getExpiredCertsOnCRL(), cachedCRL.getExpiredCertsOnCRL());
+		assertEquals(originalCRL.getIssuerCertificateToken(), cachedCRL.getIssuerCertificateToken());
+		assertEquals(originalCRL.isSignatureIntact(), cachedCRL.isSignatureIntact());
+		assertEquals(originalCRL.isValid(), cachedCRL.isValid());
+		assertEquals(originalCRL.getSignatureValidity(), cachedCRL.getSignatureValidity());
+		assertEquals(originalCRL.getStatus(), cachedCRL.getStatus());
+		assertEquals(originalCRL.getRevocationDate(), cachedCRL.getRevocationDate());
+		assertEquals(originalCRL.getReason(), cachedCRL.getReason());
+	}
+
+	@Test
+	public void revokedCertificateTest() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair caKeyPair = keyPairGenerator.generateKeyPair();
+		KeyPair userKeyPair = keyPairGenerator.generateKeyPair();
+
+		Date now = new Date();
+		Date notBefore = new Date(now.getTime() - 24 * 3600 * 1000L);
+		Date notAfter = new Date(now.getTime() + 24 * 3600 * 1000L);
+		// CRL dates are encoded with a precision of a second
+		Date revocationDate = new Date((now.getTime() / 1000 - 3600) * 1000);
+
+		X500Name caName = new X500Name("CN=Test CA,O=DSS,C=LU");
+		ContentSigner caSigner = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		X509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, notBefore, notAfter,
+				caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		CertificateToken caToken = DSSUtils.loadCertificate(caBuilder.build(caSigner).getEncoded());
+
+		String crlUrl = "http://crl.test.lu/test-ca.crl";
+		CRLDistPoint crlDistPoint = new CRLDistPoint(new DistributionPoint[] { new DistributionPoint(new DistributionPointName(
+				new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, crlUrl))), null, null) });
+
+		BigInteger revokedSerialNumber = BigInteger.valueOf(1234);
+		CertificateToken revokedToken = createUserCertificate(caName, caSigner, revokedSerialNumber, notBefore, notAfter,
+				userKeyPair, crlDistPoint);
+		CertificateToken goodToken = createUserCertificate(caName, caSigner, BigInteger.valueOf(5678), notBefore, notAfter,
+				userKeyPair, crlDistPoint);
+
+		X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(caName, new Date(now.getTime() - 600 * 1000L));
+		crlBuilder.setNextUpdate(notAfter);
+		crlBuilder.addCRLEntry(BigInteger.valueOf(42), revocationDate, CRLReason.superseded);
+		crlBuilder.addCRLEntry(revokedSerialNumber, revocationDate, CRLReason.keyCompromise);
+		byte[] crlBinaries = crlBuilder.build(caSigner).getEncoded();
+
+		crlSource.setProxySource(new OnlineCRLSource(new MemoryDataLoader(Collections.singletonMap(crlUrl, crlBinaries))));
+
+		CRLToken revocationToken = crlSource.getRevocationToken(revokedToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(CertificateStatus.REVOKED, revocationToken.getStatus());
+
+		// the status is obtained from the indexed CRL entry
+		CRLToken savedRevocationToken = crlSource.getRevocationToken(revokedToken, caToken);
+		assertNotNull(savedRevocationToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+		compareTokens(revocationToken, savedRevocationToken);
+		assertEquals(CertificateStatus.REVOKED, savedRevocationToken.getStatus());
+		assertEquals(revocationDate, savedRevocationToken.getRevocationDate());
+		assertEquals(RevocationReason.KEY_COMPROMISE, savedRevocationToken.getReason());
+
+		CRLToken savedGoodToken = crlSource.getRevocationToken(goodToken, caToken);
+		assertNotNull(savedGoodToken);
+		assertEquals(RevocationOrigin.CACHED, savedGoodToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, savedGoodToken.getStatus());
+		assertNull(savedGoodToken.getRevocationDate());
+		assertNull(savedGoodToken.getReason());
+
+		// the CRL binaries are loaded on request
+		assertArrayEquals(crlBinaries, savedRevocationToken.getEncoded());
+
+		// a refreshed CRL updates the record and rebuilds its entries
+		Date newThisUpdate = new Date(now.getTime() - 300 * 1000L);
+		X509v2CRLBuilder newCrlBuilder = new X509v2CRLBuilder(caName, newThisUpdate);
+		newCrlBuilder.setNextUpdate(notAfter);
+		newCrlBuilder.addCRLEntry(BigInteger.valueOf(42), revocationDate, CRLReason.superseded);
+		crlSource.setProxySource(new OnlineCRLSource(new MemoryDataLoader(Collections.singletonMap(crlUrl,
+				newCrlBuilder.build(caSigner).getEncoded()))));
+		CRLToken refreshedToken = crlSource.getRevocationToken(revokedToken, caToken, true);
+		assertEquals(RevocationOrigin.EXTERNAL, refreshedToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, refreshedToken.getStatus());
+
+		savedRevocationToken = crlSource.getRevocationToken(revokedToken, caToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+		compareTokens(refreshedToken, savedRevocationToken);
+		assertEquals(CertificateStatus.GOOD, savedRevocationToken.getStatus());
+
+		// a failed update is rolled back : the entries of the previous CRL are kept
+		X509v2CRLBuilder failedCrlBuilder = new X509v2CRLBuilder(caName, now);
+		failedCrlBuilder.setNextUpdate(notAfter);
+		failedCrlBuilder.addCRLEntry(revokedSerialNumber, revocationDate, CRLReason.keyCompromise);
+		JdbcCacheIndexedCRLSource failingCrlSource = new JdbcCacheIndexedCRLSource() {
+
+			private static final long serialVersionUID = 7470329568432941751L;
+
+			@Override
+			protected SqlQuery getUpdateRevocationTokenEntryQuery() {
+				return SqlQuery.createQuery("UPDATE UNKNOWN_TABLE SET DATA = ?");
+			}
+
+		};
+		failingCrlSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		failingCrlSource.setProxySource(new OnlineCRLSource(new MemoryDataLoader(Collections.singletonMap(crlUrl,
+				failedCrlBuilder.build(caSigner).getEncoded()))));
+		assertEquals(CertificateStatus.REVOKED, failingCrlSource.getRevocationToken(revokedToken, caToken, true).getStatus());
+
+		savedRevocationToken = crlSource.getRevocationToken(revokedToken, caToken);
+		assertEquals(RevocationOrigin.CACHED, savedRevocationToken.getExternalOrigin());
+		compareTokens(refreshedToken, savedRevocationToken);
+		assertEquals(CertificateStatus.GOOD, savedRevocationToken.getStatus());
+	}
+
+	private CertificateToken createUserCertificate(X500Name caName, ContentSigner caSigner, BigInteger serialNumber,
+			Date notBefore, Date notAfter, KeyPair keyPair, CRLDistPoint crlDistPoint) throws Exception {
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, serialNumber, notBefore, notAfter,
+				new X500Name("CN=User " + serialNumber + ",O=DSS,C=LU"), keyPair.getPublic());
+		builder.addExtension(Extension.cRLDistributionPoints, false, crlDistPoint);
+		return DSSUtils.loadCertificate(builder.build(caSigner).getEncoded());
+	}
+
+	@Test
+	public void testExpired() throws SQLException {
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new File("src/test/resources/ec.europa.eu.crt"));
+		CertificateToken caToken = DSSUtils.loadCertificate(new File("src/test/resources/CALT.crt"));
+		CRLToken revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNull(revocationToken);
+
+		crlSource.setProxySource(new OnlineCRLSource());
+		revocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+
+		CRLToken savedRevocationToken = crlSource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(savedRevocationToken);
+		assertEquals(revocationToken.getNextUpdate(), savedRevocationToken.getNextUpdate());
+		assertEquals(RevocationOrigin.EXTERNAL, savedRevocationToken.getExternalOrigin()); // expired crl
+	}
+
+	@AfterEach
+	public void cleanUp() throws SQLException {
+		crlSource.destroyTable();
+		assertFalse(crlSource.isTableExists());
+	}
+
+}
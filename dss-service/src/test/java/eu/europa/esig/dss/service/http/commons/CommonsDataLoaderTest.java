@@ -30,18 +30,28 @@ import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -229,4 +239,72 @@ public class CommonsDataLoaderTest {
 				"Reason : [Not acceptable HTTP Status (HTTP status code : 200 / reason : OK)]", exception.getMessage());
 	}
 
+	@Test
+	public void httpClientReuseTest() {
+		assertNull(dataLoader.getConnectionPoolStats());
+
+		dataLoader.setHttpClientReuse(true);
+		byte[] firstResponse = dataLoader.get(URL_TO_LOAD);
+		assertTrue(Utils.isArrayNotEmpty(firstResponse));
+
+		PoolStats poolStats = dataLoader.getConnectionPoolStats();
+		assertNotNull(poolStats);
+		assertEquals(0, poolStats.getLeased());
+		assertEquals(0, poolStats.getPending());
+		assertTrue(poolStats.getAvailable() <= 1);
+
+		byte[] secondResponse = dataLoader.get(URL_TO_LOAD);
+		assertArrayEquals(firstResponse, secondResponse);
+
+		poolStats = dataLoader.getConnectionPoolStats();
+		assertEquals(0, poolStats.getLeased());
+		assertTrue(poolStats.getAvailable() <= 1);
+
+		dataLoader.close();
+		assertNull(dataLoader.getConnectionPoolStats());
+
+		// the data loader is still usable after closing
+		assertArrayEquals(firstResponse, dataLoader.get(URL_TO_LOAD));
+		dataLoader.close();
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void closeQuietlyWithHttpClientReuseTest() {
+		ClosingCountingHttpClient client = new ClosingCountingHttpClient();
+
+		// the shared client is not closed after a request
+		dataLoader.setHttpClientReuse(true);
+		dataLoader.closeQuietly(new HttpGet(URL_TO_LOAD), null, client);
+		dataLoader.closeQuietly(new HttpGet(URL_TO_LOAD), client);
+		assertEquals(0, client.closed);
+
+		dataLoader.setHttpClientReuse(false);
+		dataLoader.closeQuietly(new HttpGet(URL_TO_LOAD), null, client);
+		assertEquals(1, client.closed);
+		dataLoader.closeQuietly(new HttpGet(URL_TO_LOAD), client);
+		assertEquals(2, client.closed);
+	}
+
+	private static class ClosingCountingHttpClient extends CloseableHttpClient {
+
+		private int closed;
+
+		@Override
+		protected CloseableHttpResponse doExecute(HttpHost target, ClassicHttpRequest request, HttpContext context) throws IOException {
+			throw new IOException("Not supported");
+		}
+
+		@Override
+		public void close(CloseMode closeMode) {
+			closed++;
+		}
+
+		@Override
+		public void close() {
+			closed++;
+		}
+
+	}
+
 }
@@ -0,0 +1,236 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.ocsp;
+
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OnlineOCSPSourceMultipleRequestsTest {
+
+	private static final String OCSP_URL = "http://ocsp.test.lu/test-ca";
+
+	private static final BigInteger REVOKED_SERIAL_NUMBER = BigInteger.valueOf(1002);
+
+	private static X500Name caName;
+	private static ContentSigner caSigner;
+	private static X509CertificateHolder caCertificateHolder;
+	private static CertificateToken caToken;
+
+	private static Map<CertificateToken, CertificateToken> certificatesAndIssuers;
+
+	@BeforeAll
+	public static void init() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair caKeyPair = keyPairGenerator.generateKeyPair();
+		KeyPair userKeyPair = keyPairGenerator.generateKeyPair();
+
+		Date now = new Date();
+		Date notBefore = new Date(now.getTime() - 24 * 3600 * 1000L);
+		Date notAfter = new Date(now.getTime() + 24 * 3600 * 1000L);
+
+		caName = new X500Name("CN=Test CA,O=DSS,C=LU");
+		caSigner = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		X509v3CertificateBuilder caBuilder = new JcaX509v3CertificateBuilder(caName, BigInteger.ONE, notBefore, notAfter,
+				caName, caKeyPair.getPublic());
+		caBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		caBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		caCertificateHolder = caBuilder.build(caSigner);
+		caToken = DSSUtils.loadCertificate(caCertificateHolder.getEncoded());
+
+		AuthorityInformationAccess aia = new AuthorityInformationAccess(new AccessDescription(AccessDescription.id_ad_ocsp,
+				new GeneralName(GeneralName.uniformResourceIdentifier, OCSP_URL)));
+
+		certificatesAndIssuers = new LinkedHashMap<>();
+		for (BigInteger serialNumber : new BigInteger[] { BigInteger.valueOf(1001), REVOKED_SERIAL_NUMBER, BigInteger.valueOf(1003) }) {
+			X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, serialNumber, notBefore, notAfter,
+					new X500Name("CN=User " + serialNumber + ",O=DSS,C=LU"), userKeyPair.getPublic());
+			builder.addExtension(Extension.authorityInfoAccess, false, aia);
+			certificatesAndIssuers.put(DSSUtils.loadCertificate(builder.build(caSigner).getEncoded()), caToken);
+		}
+	}
+
+	@Test
+	public void multipleRequestsTest() {
+		MockOCSPDataLoader dataLoader = new MockOCSPDataLoader(true);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(certificatesAndIssuers, Collections.emptyList());
+
+		// a single OCSP request containing a CertID per certificate
+		assertEquals(1, dataLoader.requests.size());
+		assertEquals(OCSP_URL, dataLoader.urls.get(0));
+		assertEquals(certificatesAndIssuers.size(), dataLoader.requests.get(0).getRequestList().length);
+
+		assertEquals(certificatesAndIssuers.size(), ocspTokens.size());
+		for (CertificateToken certificateToken : certificatesAndIssuers.keySet()) {
+			OCSPToken ocspToken = ocspTokens.get(certificateToken);
+			assertNotNull(ocspToken);
+			assertEquals(certificateToken, ocspToken.getRelatedCertificate());
+			assertEquals(OCSP_URL, ocspToken.getSourceURL());
+			assertEquals(RevocationOrigin.EXTERNAL, ocspToken.getExternalOrigin());
+			assertTrue(ocspToken.isSignatureValid());
+			if (REVOKED_SERIAL_NUMBER.equals(certificateToken.getSerialNumber())) {
+				assertEquals(CertificateStatus.REVOKED, ocspToken.getStatus());
+			} else {
+				assertEquals(CertificateStatus.GOOD, ocspToken.getStatus());
+			}
+		}
+	}
+
+	@Test
+	public void multipleRequestsNotSupportedTest() {
+		MockOCSPDataLoader dataLoader = new MockOCSPDataLoader(false);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(certificatesAndIssuers, Collections.emptyList());
+
+		// the multi-request is rejected, then a single request is sent for every certificate
+		assertEquals(1 + certificatesAndIssuers.size(), dataLoader.requests.size());
+		assertEquals(certificatesAndIssuers.size(), dataLoader.requests.get(0).getRequestList().length);
+		for (int i = 1; i < dataLoader.requests.size(); i++) {
+			assertEquals(1, dataLoader.requests.get(i).getRequestList().length);
+		}
+
+		assertEquals(certificatesAndIssuers.size(), ocspTokens.size());
+		for (CertificateToken certificateToken : certificatesAndIssuers.keySet()) {
+			assertEquals(certificateToken, ocspTokens.get(certificateToken).getRelatedCertificate());
+		}
+	}
+
+	@Test
+	public void alternativeUrlsTest() {
+		MockOCSPDataLoader dataLoader = new MockOCSPDataLoader(true);
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource(dataLoader);
+
+		String alternativeUrl = "http://ocsp.test.lu/alternative";
+		dataLoader.failingUrl = OCSP_URL;
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(certificatesAndIssuers,
+				Collections.singletonList(alternativeUrl));
+
+		// the alternative url is used when the AIA url fails
+		assertEquals(2, dataLoader.requests.size());
+		assertEquals(OCSP_URL, dataLoader.urls.get(0));
+		assertEquals(alternativeUrl, dataLoader.urls.get(1));
+		assertEquals(certificatesAndIssuers.size(), ocspTokens.size());
+		for (OCSPToken ocspToken : ocspTokens.values()) {
+			assertEquals(alternativeUrl, ocspToken.getSourceURL());
+		}
+	}
+
+	private static class MockOCSPDataLoader extends MemoryDataLoader {
+
+		private static final long serialVersionUID = -2348532645734580542L;
+
+		/** Defines whether the responder accepts a request with several CertIDs */
+		private final boolean multipleRequestsSupported;
+
+		/** The requested URLs */
+		private final List<String> urls = new ArrayList<>();
+
+		/** The received OCSP requests */
+		private final List<OCSPReq> requests = new ArrayList<>();
+
+		/** The URL returning an empty response */
+		private String failingUrl;
+
+		private MockOCSPDataLoader(boolean multipleRequestsSupported) {
+			super(Collections.emptyMap());
+			this.multipleRequestsSupported = multipleRequestsSupported;
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			try {
+				OCSPReq ocspReq = new OCSPReq(content);
+				urls.add(url);
+				requests.add(ocspReq);
+				if (url.equals(failingUrl)) {
+					return new byte[0];
+				}
+
+				Req[] requestList = ocspReq.getRequestList();
+				if (requestList.length > 1 && !multipleRequestsSupported) {
+					return new OCSPRespBuilder().build(OCSPRespBuilder.MALFORMED_REQUEST, null).getEncoded();
+				}
+
+				Date now = new Date();
+				BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(caName));
+				for (Req req : requestList) {
+					CertificateID certID = req.getCertID();
+					if (REVOKED_SERIAL_NUMBER.equals(certID.getSerialNumber())) {
+						builder.addResponse(certID, new RevokedStatus(new Date(now.getTime() - 3600 * 1000L), CRLReason.keyCompromise));
+					} else {
+						builder.addResponse(certID, org.bouncycastle.cert.ocsp.CertificateStatus.GOOD);
+					}
+				}
+				return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL,
+						builder.build(caSigner, new X509CertificateHolder[] { caCertificateHolder }, now)).getEncoded();
+
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
+}
@@ -41,7 +41,10 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -125,6 +128,27 @@ public class OnlineOCSPSourceTest {
 		assertNotNull(ocspToken);
 	}
 
+	@Test
+	public void testMultipleCertificatesOCSP() {
+		OnlineOCSPSource ocspSource = new OnlineOCSPSource();
+		ocspSource.setNonceSource(new SecureRandomNonceSource());
+
+		Map<CertificateToken, CertificateToken> certificatesAndIssuers = new LinkedHashMap<>();
+		certificatesAndIssuers.put(goodUser, goodCa);
+		certificatesAndIssuers.put(goodUserOCSPWithReqCertId, goodCa);
+		certificatesAndIssuers.put(certificateToken, rootToken);
+
+		Map<CertificateToken, OCSPToken> ocspTokens = ocspSource.getRevocationTokens(certificatesAndIssuers, Collections.emptyList());
+		assertEquals(3, ocspTokens.size());
+		for (Map.Entry<CertificateToken, CertificateToken> entry : certificatesAndIssuers.entrySet()) {
+			OCSPToken ocspToken = ocspTokens.get(entry.getKey());
+			assertNotNull(ocspToken);
+			assertNotNull(ocspToken.getBasicOCSPResp());
+			assertEquals(entry.getKey(), ocspToken.getRelatedCertificate());
+			assertEquals(entry.getValue(), ocspToken.getIssuerCertificateToken());
+		}
+	}
+
 	@Test
 	public void testOCSPWithFileCache() {
 		File cacheFolder = new File("target/ocsp-cache");
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.signature.common;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
@@ -108,6 +109,34 @@ public interface RemoteDocumentSignatureService extends Serializable {
 	 *             if an error occurred
 	 */
 	RemoteDocument timestamp(final RemoteDocument toTimestampDocument, final RemoteTimestampParameters parameters) throws DSSException;
+
+	/**
+	 * Extends the level of the signatures in the {@code toExtendDocument}, provided as a {@code DSSDocument}
+	 * (e.g. a document streamed to a temporary file)
+	 *
+	 * @param toExtendDocument
+	 *            {@link DSSDocument} to extend
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @return the extended {@link DSSDocument}
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	DSSDocument extendDocument(final DSSDocument toExtendDocument, final RemoteSignatureParameters parameters) throws DSSException;
+
+	/**
+	 * Adds a timestamp to the document, provided as a {@code DSSDocument}
+	 * (e.g. a document streamed to a temporary file)
+	 *
+	 * @param toTimestampDocument
+	 *            {@link DSSDocument} to timestamp
+	 * @param parameters
+	 *            set of the driving timestamp parameters
+	 * @return the timestamped {@link DSSDocument}
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	DSSDocument timestamp(final DSSDocument toTimestampDocument, final RemoteTimestampParameters parameters) throws DSSException;
 	
 	/**
 	 * Retrieves the bytes of the data that need to be counter signed from {@code signatureDocument}.
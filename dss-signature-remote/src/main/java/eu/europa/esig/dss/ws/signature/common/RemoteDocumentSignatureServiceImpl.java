@@ -234,34 +234,46 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		return RemoteDocumentConverter.toRemoteDocument(signDocument);
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public RemoteDocument extendDocument(RemoteDocument remoteDocument, RemoteSignatureParameters remoteParameters) {
 		Objects.requireNonNull(remoteDocument, "remoteDocument must be defined!");
+		DSSDocument extendDocument = extendDocument(RemoteDocumentConverter.toDSSDocument(remoteDocument), remoteParameters);
+		return RemoteDocumentConverter.toRemoteDocument(extendDocument);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public DSSDocument extendDocument(DSSDocument dssDocument, RemoteSignatureParameters remoteParameters) {
+		Objects.requireNonNull(dssDocument, "dssDocument must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getSignatureLevel(), "signatureLevel must be defined!");
 		LOG.info("ExtendDocument in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
 		DSSDocument extendDocument = service.extendDocument(dssDocument, parameters);
 		LOG.info("ExtendDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(extendDocument);
+		return extendDocument;
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public RemoteDocument timestamp(RemoteDocument remoteDocument, RemoteTimestampParameters remoteParameters) {
 		Objects.requireNonNull(remoteDocument, "remoteDocument must be defined!");
+		DSSDocument timestampedDocument = timestamp(RemoteDocumentConverter.toDSSDocument(remoteDocument), remoteParameters);
+		return RemoteDocumentConverter.toRemoteDocument(timestampedDocument);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public DSSDocument timestamp(DSSDocument dssDocument, RemoteTimestampParameters remoteParameters) {
+		Objects.requireNonNull(dssDocument, "dssDocument must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getTimestampContainerForm(), "signatureForm must be defined!");
 		LOG.info("Timestamp document in process...");
 		TimestampParameters parameters = toTimestampParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForTimestamp(remoteParameters.getTimestampContainerForm());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
 		DSSDocument timestampedDocument = service.timestamp(dssDocument, parameters);
 		LOG.info("Timestamp document is finished");
-		return RemoteDocumentConverter.toRemoteDocument(timestampedDocument);
+		return timestampedDocument;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
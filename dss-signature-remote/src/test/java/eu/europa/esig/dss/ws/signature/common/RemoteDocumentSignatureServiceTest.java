@@ -385,6 +385,18 @@ public class RemoteDocumentSignatureServiceTest extends AbstractRemoteSignatureS
 		assertEquals(1, diagnosticData.getTimestampList().size());
 	}
 
+	@Test
+	public void testTimestampingDSSDocument() throws Exception {
+		RemoteTimestampParameters remoteTimestampParameters = new RemoteTimestampParameters(TimestampContainerForm.PDF, DigestAlgorithm.SHA256);
+
+		DSSDocument timestampedDocument = signatureService.timestamp(new FileDocument(new File("src/test/resources/sample.pdf")),
+				remoteTimestampParameters);
+
+		DiagnosticData diagnosticData = validate(timestampedDocument, Collections.emptyList());
+		assertEquals(0, diagnosticData.getSignatures().size());
+		assertEquals(1, diagnosticData.getTimestampList().size());
+	}
+
 	@Test
 	public void testCounterSignature() throws Exception {
 		DSSDocument fileToCounterSign = new FileDocument(new File("src/test/resources/xades-signed.xml"));
@@ -20,14 +20,21 @@
  */
 package eu.europa.esig.dss.ws.signature.rest.client;
 
+import java.io.InputStream;
 import java.io.Serializable;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.TimestampContainerForm;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.dto.CounterSignSignatureDTO;
@@ -120,4 +127,48 @@ public interface RestDocumentSignatureService extends Serializable {
 	@Path("counterSignSignature")
 	RemoteDocument counterSignSignature(CounterSignSignatureDTO counterSignSignature);
 
+	/**
+	 * Extends the signature(s) of the document sent as a binary stream (without base64 encoding).
+	 * The document is stored in a temporary storage on the server side and the extended document
+	 * is streamed back as the binary response entity.
+	 * <p>
+	 * NOTE: only the extension and the timestamping are available as a binary stream.
+	 * {@code getDataToSign} and {@code signDocument} still require the document as a base64 encoded JSON content.
+	 *
+	 * @param toExtendDocument the binary stream of the document to extend
+	 * @param documentName the optional name of the document
+	 * @param signatureLevel {@link SignatureLevel} the target signature level
+	 * @param asicContainerType {@link ASiCContainerType} the type of the ASiC container, if applicable
+	 * @return {@link Response} with the binary stream of the extended document
+	 */
+	@POST
+	@Path("extendDocument/stream")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	@Produces(MediaType.APPLICATION_OCTET_STREAM)
+	Response extendDocumentStream(InputStream toExtendDocument, @QueryParam("documentName") String documentName,
+			@QueryParam("signatureLevel") SignatureLevel signatureLevel,
+			@QueryParam("asicContainerType") ASiCContainerType asicContainerType);
+
+	/**
+	 * Timestamps the document sent as a binary stream (without base64 encoding).
+	 * The document is stored in a temporary storage on the server side and the timestamped document
+	 * is streamed back as the binary response entity.
+	 * <p>
+	 * NOTE: only the extension and the timestamping are available as a binary stream.
+	 * {@code getDataToSign} and {@code signDocument} still require the document as a base64 encoded JSON content.
+	 *
+	 * @param toTimestampDocument the binary stream of the document to timestamp
+	 * @param documentName the optional name of the document
+	 * @param timestampContainerForm {@link TimestampContainerForm} the container form of the timestamped document
+	 * @param digestAlgorithm {@link DigestAlgorithm} the digest algorithm to be used for the timestamp
+	 * @return {@link Response} with the binary stream of the timestamped document
+	 */
+	@POST
+	@Path("timestampDocument/stream")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	@Produces(MediaType.APPLICATION_OCTET_STREAM)
+	Response timestampDocumentStream(InputStream toTimestampDocument, @QueryParam("documentName") String documentName,
+			@QueryParam("timestampContainerForm") TimestampContainerForm timestampContainerForm,
+			@QueryParam("digestAlgorithm") DigestAlgorithm digestAlgorithm);
+
 }
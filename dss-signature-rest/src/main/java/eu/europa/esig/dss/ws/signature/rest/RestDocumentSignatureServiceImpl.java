@@ -20,8 +20,17 @@
  */
 package eu.europa.esig.dss.ws.signature.rest;
 
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.TimestampContainerForm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerUtils;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import eu.europa.esig.dss.ws.signature.common.RemoteDocumentSignatureService;
 import eu.europa.esig.dss.ws.signature.dto.CounterSignSignatureDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToBeCounterSignedDTO;
@@ -29,7 +38,16 @@ import eu.europa.esig.dss.ws.signature.dto.DataToSignOneDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampOneDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteTimestampParameters;
 import eu.europa.esig.dss.ws.signature.rest.client.RestDocumentSignatureService;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * REST implementation of the remote signature service
@@ -38,9 +56,18 @@ import eu.europa.esig.dss.ws.signature.rest.client.RestDocumentSignatureService;
 @SuppressWarnings("serial")
 public class RestDocumentSignatureServiceImpl implements RestDocumentSignatureService {
 
+	/** Hexadecimal digits used for the percent-encoding of the filename */
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
 	/** The service to use */
 	private RemoteDocumentSignatureService service;
 
+	/**
+	 * Used to store the streamed documents (temporary files by default). The files are removed at the end
+	 * of each request, so they are not registered for a removal on exit, which would keep their paths in memory.
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder().setDeleteOnExit(false);
+
 	/**
 	 * Default construction instantiating object with null RemoteDocumentSignatureService
 	 */
@@ -57,6 +84,18 @@ public class RestDocumentSignatureServiceImpl implements RestDocumentSignatureSe
 		this.service = service;
 	}
 
+	/**
+	 * Sets the {@code DSSResourcesHandlerBuilder} used to store the documents received as a binary stream
+	 *
+	 * Default : {@code TempFileResourcesHandlerBuilder} (the documents are stored in temporary files,
+	 *           removed at the end of the request, without {@code deleteOnExit})
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public ToBeSignedDTO getDataToSign(DataToSignOneDocumentDTO dataToSignDto) {
 		return service.getDataToSign(dataToSignDto.getToSignDocument(), dataToSignDto.getParameters());
@@ -88,4 +127,103 @@ public class RestDocumentSignatureServiceImpl implements RestDocumentSignatureSe
 				counterSignSignature.getParameters(), counterSignSignature.getSignatureValue());
 	}
 
+	@Override
+	public Response extendDocumentStream(InputStream toExtendDocument, String documentName, SignatureLevel signatureLevel,
+										 ASiCContainerType asicContainerType) {
+		final RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setSignatureLevel(signatureLevel);
+		parameters.setAsicContainerType(asicContainerType);
+
+		final DSSDocument document = toDSSDocument(toExtendDocument, documentName);
+		try {
+			return toResponse(service.extendDocument(document, parameters), document);
+		} catch (RuntimeException e) {
+			DSSResourcesHandlerUtils.delete(document);
+			throw e;
+		}
+	}
+
+	@Override
+	public Response timestampDocumentStream(InputStream toTimestampDocument, String documentName,
+											TimestampContainerForm timestampContainerForm, DigestAlgorithm digestAlgorithm) {
+		final RemoteTimestampParameters parameters = new RemoteTimestampParameters(timestampContainerForm, digestAlgorithm);
+
+		final DSSDocument document = toDSSDocument(toTimestampDocument, documentName);
+		try {
+			return toResponse(service.timestamp(document, parameters), document);
+		} catch (RuntimeException e) {
+			DSSResourcesHandlerUtils.delete(document);
+			throw e;
+		}
+	}
+
+	private DSSDocument toDSSDocument(InputStream inputStream, String documentName) {
+		try {
+			return DSSResourcesHandlerUtils.toDSSDocument(resourcesHandlerBuilder, inputStream, documentName);
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to read the document. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private Response toResponse(DSSDocument result, DSSDocument original) {
+		Response.ResponseBuilder builder = Response.ok(toStreamingOutput(result, original), MediaType.APPLICATION_OCTET_STREAM);
+		if (result.getName() != null) {
+			builder.header(HttpHeaders.CONTENT_DISPOSITION, getContentDisposition(result.getName()));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Builds a {@code StreamingOutput} writing the {@code result} document.
+	 * The {@code original} document is removed once the output is written, as the result may still refer to it.
+	 * The {@code result} document is removed as well, when it has been stored within the filesystem
+	 * (e.g. spooled to a temporary file by the resources handler of the signature service).
+	 *
+	 * @param result {@link DSSDocument} to be written
+	 * @param original {@link DSSDocument} received within the request
+	 * @return {@link StreamingOutput}
+	 */
+	static StreamingOutput toStreamingOutput(DSSDocument result, DSSDocument original) {
+		return os -> {
+			try {
+				result.writeTo(os);
+			} finally {
+				DSSResourcesHandlerUtils.delete(original);
+				DSSResourcesHandlerUtils.delete(result);
+			}
+		};
+	}
+
+	/**
+	 * Builds the value of a Content-Disposition header for the given filename (see RFC 6266).
+	 * The {@code filename} parameter contains an ASCII-only version of the name, without quotes, backslashes
+	 * or control characters, while the {@code filename*} parameter contains the UTF-8 percent-encoded name.
+	 *
+	 * @param filename {@link String}
+	 * @return {@link String} header value
+	 */
+	static String getContentDisposition(String filename) {
+		final StringBuilder asciiName = new StringBuilder();
+		for (char c : filename.toCharArray()) {
+			asciiName.append(c < 0x20 || c > 0x7e || c == '"' || c == '\\' ? '_' : c);
+		}
+		final StringBuilder encodedName = new StringBuilder();
+		for (byte b : filename.getBytes(StandardCharsets.UTF_8)) {
+			if (isAttrChar(b)) {
+				encodedName.append((char) b);
+			} else {
+				encodedName.append('%').append(HEX_DIGITS[(b >> 4) & 0x0f]).append(HEX_DIGITS[b & 0x0f]);
+			}
+		}
+		return "attachment; filename=\"" + asciiName + "\"; filename*=UTF-8''" + encodedName;
+	}
+
+	/**
+	 * Checks whether the byte may be written as is within an RFC 5987 extended value (attr-char)
+	 */
+	private static boolean isAttrChar(byte b) {
+		return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9')
+				|| "!#$&+-.^_`|~".indexOf(b) != -1;
+	}
+
 }
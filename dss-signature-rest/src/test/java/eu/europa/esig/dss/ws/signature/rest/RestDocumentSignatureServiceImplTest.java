@@ -0,0 +1,215 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.rest;
+
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.TimestampContainerForm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.common.RemoteDocumentSignatureService;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteTimestampParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestDocumentSignatureServiceImplTest {
+
+	private static final byte[] CONTENT = "Hello world!".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	File tempDir;
+
+	private RestDocumentSignatureServiceImpl restService;
+
+	@BeforeEach
+	public void init() {
+		restService = new RestDocumentSignatureServiceImpl();
+		restService.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder().setTempFileDirectory(tempDir).setDeleteOnExit(false));
+	}
+
+	@Test
+	public void extendDocumentStreamSpoolingTest() {
+		MockRemoteDocumentSignatureService service = new MockRemoteDocumentSignatureService();
+		restService.setService(service);
+
+		assertThrows(DSSException.class, () -> restService.extendDocumentStream(new ByteArrayInputStream(CONTENT),
+				"doc.xml", SignatureLevel.XAdES_BASELINE_T, ASiCContainerType.ASiC_E));
+
+		// the request stream has been spooled to a named temporary file
+		assertTrue(service.received instanceof FileDocument);
+		File spooledFile = ((FileDocument) service.received).getFile();
+		assertEquals(tempDir, spooledFile.getParentFile());
+		assertEquals("doc.xml", service.received.getName());
+		assertArrayEquals(CONTENT, service.content);
+
+		// and removed when the processing failed
+		assertFalse(spooledFile.exists());
+		assertEquals(0, tempDir.listFiles().length);
+	}
+
+	@Test
+	public void timestampDocumentStreamSpoolingTest() {
+		MockRemoteDocumentSignatureService service = new MockRemoteDocumentSignatureService();
+		restService.setService(service);
+
+		assertThrows(DSSException.class, () -> restService.timestampDocumentStream(new ByteArrayInputStream(CONTENT),
+				"doc.pdf", TimestampContainerForm.PDF, DigestAlgorithm.SHA256));
+
+		assertTrue(service.received instanceof FileDocument);
+		assertEquals("doc.pdf", service.received.getName());
+		assertArrayEquals(CONTENT, service.content);
+		assertEquals(0, tempDir.listFiles().length);
+	}
+
+	@Test
+	public void streamingOutputTest() throws IOException {
+		FileDocument original = createFileDocument("original");
+		FileDocument result = createFileDocument("result");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		RestDocumentSignatureServiceImpl.toStreamingOutput(result, original).write(baos);
+		assertArrayEquals(CONTENT, baos.toByteArray());
+
+		// both the request and the spooled result documents are removed once streamed
+		assertFalse(original.getFile().exists());
+		assertFalse(result.getFile().exists());
+		assertEquals(0, tempDir.listFiles().length);
+	}
+
+	@Test
+	public void streamingOutputInMemoryResultTest() throws IOException {
+		FileDocument original = createFileDocument("original");
+		DSSDocument result = new InMemoryDocument(CONTENT, "result.xml");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		RestDocumentSignatureServiceImpl.toStreamingOutput(result, original).write(baos);
+		assertArrayEquals(CONTENT, baos.toByteArray());
+		assertFalse(original.getFile().exists());
+	}
+
+	@Test
+	public void contentDispositionTest() {
+		assertEquals("attachment; filename=\"signed-doc.xml\"; filename*=UTF-8''signed-doc.xml",
+				RestDocumentSignatureServiceImpl.getContentDisposition("signed-doc.xml"));
+		assertEquals("attachment; filename=\"my doc.pdf\"; filename*=UTF-8''my%20doc.pdf",
+				RestDocumentSignatureServiceImpl.getContentDisposition("my doc.pdf"));
+
+		// quotes and line breaks cannot break the header
+		assertEquals("attachment; filename=\"a_.xml__Set-Cookie: x=y\"; " +
+						"filename*=UTF-8''a%22.xml%0D%0ASet-Cookie%3A%20x%3Dy",
+				RestDocumentSignatureServiceImpl.getContentDisposition("a\".xml\r\nSet-Cookie: x=y"));
+
+		// non-ASCII names are provided in the extended parameter
+		assertEquals("attachment; filename=\"_t_.xml\"; filename*=UTF-8''%C3%A9t%C3%A9.xml",
+				RestDocumentSignatureServiceImpl.getContentDisposition("\u00e9t\u00e9.xml"));
+	}
+
+	private FileDocument createFileDocument(String prefix) throws IOException {
+		Path path = Files.createTempFile(tempDir.toPath(), prefix, ".tmp");
+		Files.write(path, CONTENT);
+		return new FileDocument(path.toFile());
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockRemoteDocumentSignatureService implements RemoteDocumentSignatureService {
+
+		private DSSDocument received;
+
+		private byte[] content;
+
+		@Override
+		public DSSDocument extendDocument(DSSDocument toExtendDocument, RemoteSignatureParameters parameters) {
+			return process(toExtendDocument);
+		}
+
+		@Override
+		public DSSDocument timestamp(DSSDocument toTimestampDocument, RemoteTimestampParameters parameters) {
+			return process(toTimestampDocument);
+		}
+
+		private DSSDocument process(DSSDocument document) {
+			received = document;
+			try {
+				content = Files.readAllBytes(((FileDocument) document).getFile().toPath());
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			throw new DSSException("Unable to process the document");
+		}
+
+		@Override
+		public ToBeSignedDTO getDataToSign(RemoteDocument toSignDocument, RemoteSignatureParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public RemoteDocument signDocument(RemoteDocument toSignDocument, RemoteSignatureParameters parameters,
+										  SignatureValueDTO signatureValue) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public RemoteDocument extendDocument(RemoteDocument toExtendDocument, RemoteSignatureParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public RemoteDocument timestamp(RemoteDocument toTimestampDocument, RemoteTimestampParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ToBeSignedDTO getDataToBeCounterSigned(RemoteDocument signatureDocument, RemoteSignatureParameters parameters) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public RemoteDocument counterSignSignature(RemoteDocument signatureDocument, RemoteSignatureParameters parameters,
+												   SignatureValueDTO signatureValue) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
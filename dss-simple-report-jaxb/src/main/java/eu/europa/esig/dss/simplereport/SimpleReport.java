@@ -41,7 +41,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -52,6 +54,9 @@ public class SimpleReport {
 	/** The JAXB Simple report */
 	private final XmlSimpleReport wrapped;
 
+	/** Map of tokens (signatures, timestamps and signature timestamps) by ids (lazy loaded) */
+	private Map<String, XmlToken> tokensById;
+
 	/**
 	 * Default constructor
 	 *
@@ -500,32 +505,28 @@ public class SimpleReport {
 	 * @return the wrapper for the given token id
 	 */
 	private XmlToken getTokenById(String tokenId) {
-		List<XmlToken> tokens = wrapped.getSignatureOrTimestamp();
-		if (tokens != null) {
-			for (XmlToken token : tokens) {
-				if (tokenId.equals(token.getId())) {
-					return token;
-				} else if (token instanceof XmlSignature) {
-					XmlTimestamp timestampById = getSignatureTimestampById((XmlSignature) token, tokenId);
-					if (timestampById != null) {
-						return timestampById;
+		if (tokensById == null) {
+			tokensById = new HashMap<>();
+			List<XmlToken> tokens = wrapped.getSignatureOrTimestamp();
+			if (tokens != null) {
+				for (XmlToken token : tokens) {
+					tokensById.putIfAbsent(token.getId(), token);
+					if (token instanceof XmlSignature) {
+						addSignatureTimestamps((XmlSignature) token);
 					}
 				}
 			}
 		}
-		return null;
+		return tokensById.get(tokenId);
 	}
 
-	private XmlTimestamp getSignatureTimestampById(XmlSignature signature, String tokenId) {
+	private void addSignatureTimestamps(XmlSignature signature) {
 		XmlTimestamps timestamps = signature.getTimestamps();
 		if (timestamps != null && timestamps.getTimestamp() != null) {
 			for (XmlTimestamp timestamp : timestamps.getTimestamp()) {
-				if (tokenId.equals(timestamp.getId())) {
-					return timestamp;
-				}
+				tokensById.putIfAbsent(timestamp.getId(), timestamp);
 			}
 		}
-		return null;
 	}
 
 	/**
@@ -35,6 +35,7 @@ import eu.europa.esig.dss.model.x509.extension.SubjectAlternativeNames;
 import eu.europa.esig.dss.model.x509.extension.SubjectKeyIdentifier;
 import eu.europa.esig.dss.model.x509.extension.ValidityAssuredShortTerm;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
+import eu.europa.esig.dss.spi.x509.CertificateTokenCache;
 import eu.europa.esig.dss.spi.x509.SignerIdentifier;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -884,10 +885,20 @@ public final class DSSASN1Utils {
 	 */
 	public static CertificateToken getCertificate(final X509CertificateHolder x509CertificateHolder) {
 		try {
+			final CertificateTokenCache certificateTokenCache = CertificateTokenCache.getInstance();
+			if (certificateTokenCache.isEnabled()) {
+				CertificateToken cachedCertificate = certificateTokenCache.get(x509CertificateHolder.getEncoded());
+				if (cachedCertificate != null) {
+					return cachedCertificate;
+				}
+			}
 			JcaX509CertificateConverter converter = new JcaX509CertificateConverter().setProvider(DSSSecurityProvider.getSecurityProviderName());
 			X509Certificate x509Certificate = converter.getCertificate(x509CertificateHolder);
-			return new CertificateToken(x509Certificate);
+			return certificateTokenCache.intern(new CertificateToken(x509Certificate));
 
+		} catch (IOException e) {
+			throw new DSSException(String.format(
+					"Unable to encode the X509CertificateHolder : %s", e.getMessage()), e);
 		} catch (CertificateException e) {
 			throw new DSSException(String.format(
 					"Unable to get a CertificateToken from X509CertificateHolder : %s", e.getMessage()), e);
@@ -34,6 +34,7 @@ import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.CertificateTokenCache;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -303,7 +304,7 @@ public final class DSSUtils {
 					.getInstance("X.509", DSSSecurityProvider.getSecurityProviderName()).generateCertificates(is);
 			if (certificatesCollection != null) {
 				for (X509Certificate cert : certificatesCollection) {
-					certificates.add(new CertificateToken(cert));
+					certificates.add(CertificateTokenCache.getInstance().intern(new CertificateToken(cert)));
 				}
 			}
 			if (certificates.isEmpty()) {
@@ -332,6 +333,10 @@ public final class DSSUtils {
 	 */
 	public static CertificateToken loadCertificate(final byte[] input) {
 		Objects.requireNonNull(input, "Input binary cannot be null");
+		final CertificateToken cachedCertificate = CertificateTokenCache.getInstance().get(input);
+		if (cachedCertificate != null) {
+			return cachedCertificate;
+		}
 		try (ByteArrayInputStream inputStream = new ByteArrayInputStream(input)) {
 			return loadCertificate(inputStream);
 		} catch (IOException e) {
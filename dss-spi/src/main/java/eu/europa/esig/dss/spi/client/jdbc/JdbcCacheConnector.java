@@ -94,6 +94,36 @@ public class JdbcCacheConnector {
         }
     }
 
+    /**
+     * This method executes the queries of the given {@code transaction} on a single connection,
+     * by handling an exception. The changes are committed when all the queries succeed, rolled back otherwise.
+     *
+     * @param transaction {@link SqlTransaction} the queries to execute
+     * @return TRUE if the transaction has been committed, FALSE if it has been rolled back
+     */
+    public boolean executeTransaction(final SqlTransaction transaction) {
+        Objects.requireNonNull(transaction, "Transaction cannot be null!");
+
+        Connection c = null;
+        try {
+            c = dataSource.getConnection();
+            c.setAutoCommit(false);
+
+            transaction.execute(new SqlTransactionContext(c));
+            c.commit();
+            LOG.debug("The transaction has been executed successfully");
+            return true;
+
+        } catch (final SQLException | RuntimeException e) {
+            LOG.error("Unable to execute the transaction. Reason : '{}'", e.getMessage(), e);
+            rollback(c);
+            return false;
+
+        } finally {
+            closeQuietly(c, null, null);
+        }
+    }
+
     /**
      * This method executes the query and returns a collection of selected objects
      *
@@ -0,0 +1,98 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.jdbc;
+
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Executes the queries of a {@code SqlTransaction} on the connection of the transaction.
+ * The changes are committed or rolled back by {@code JdbcCacheConnector#executeTransaction}.
+ *
+ */
+public final class SqlTransactionContext {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlTransactionContext.class);
+
+    /**
+     * The connection of the transaction
+     */
+    private final Connection connection;
+
+    /**
+     * Default constructor
+     *
+     * @param connection {@link Connection} with a disabled auto-commit
+     */
+    SqlTransactionContext(final Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Executes an INSERT, UPDATE or DELETE query with a custom set of arguments
+     *
+     * @param query {@link SqlQuery} the query
+     * @param arguments an array of {@link Object}s, representing the query arguments
+     * @return number of rows concerned by the query
+     * @throws SQLException if an exception occurs
+     */
+    public int execute(final SqlQuery query, Object... arguments) throws SQLException {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        try (PreparedStatement s = connection.prepareStatement(query.getQueryString())) {
+            for (int ii = 0; ii < arguments.length; ii++) {
+                s.setObject(ii + 1, arguments[ii]);
+            }
+            int ii = s.executeUpdate();
+            LOG.debug("The query [{}] has been executed successfully", query);
+            return ii;
+        }
+    }
+
+    /**
+     * Executes a query multiple times with different sets of arguments (e.g. a batch INSERT)
+     *
+     * @param query {@link SqlQuery} the query
+     * @param argumentsList a collection of arrays of {@link Object}s, representing the query arguments for each execution
+     * @throws SQLException if an exception occurs
+     */
+    public void executeBatch(final SqlQuery query, Collection<Object[]> argumentsList) throws SQLException {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        Objects.requireNonNull(argumentsList, "Arguments list cannot be null!");
+        try (PreparedStatement s = connection.prepareStatement(query.getQueryString())) {
+            for (Object[] arguments : argumentsList) {
+                for (int ii = 0; ii < arguments.length; ii++) {
+                    s.setObject(ii + 1, arguments[ii]);
+                }
+                s.addBatch();
+            }
+            s.executeBatch();
+            LOG.debug("The batch query [{}] has been executed successfully for {} entries", query, argumentsList.size());
+        }
+    }
+
+}
@@ -21,21 +21,33 @@
 package eu.europa.esig.dss.spi.tsl;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
+import eu.europa.esig.dss.spi.x509.CertificateRef;
+import eu.europa.esig.dss.spi.x509.CertificateSourceEntity;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.spi.x509.SignerIdentifier;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
+import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This class allows injection of trusted certificates from Trusted Lists
+ *
+ * NOTE: the certificates and their trust properties are stored within an immutable snapshot,
+ * which is replaced as a whole on {@code #setTrustPropertiesByCertificates} call.
+ * Thus, a refresh of the source does not block concurrent validation processes.
  */
 @SuppressWarnings("serial")
 public class TrustedListsCertificateSource extends CommonTrustedCertificateSource {
@@ -45,8 +57,8 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	/** The TL Validation job summary */
 	private TLValidationJobSummary summary;
 
-	/** The map of trust properties by EntityIdentifier (public keys) */
-	private Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
+	/** The current state of the source (certificates and their trust properties) */
+	private volatile TrustedListsSnapshot snapshot = new TrustedListsSnapshot(Collections.emptyMap());
 
 	/**
 	 * The default constructor.
@@ -93,29 +105,19 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 
 	/**
 	 * The method allows to fill the CertificateSource
+	 *
+	 * NOTE: the content of the source is replaced atomically. Concurrent readers keep
+	 * using the previous state until the new one is completely built.
+	 *
 	 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties}
 	 */
-	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
-		this.trustPropertiesByEntity = new HashMap<>(); // reinit the map
-		super.reset();
-		trustPropertiesByCerts.forEach(this::addCertificate);
-	}
-	
-	private void addCertificate(CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
-		super.addCertificate(certificateToken);
-		
-		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
-		for (TrustProperties trustProperties : trustPropertiesList) {
-			if (!list.contains(trustProperties)) {
-				list.add(trustProperties);
-			}
-		}
+	public void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+		this.snapshot = new TrustedListsSnapshot(trustPropertiesByCerts);
 	}
 
 	@Override
-	public synchronized List<TrustProperties> getTrustServices(CertificateToken token) {
-		List<TrustProperties> currentTrustProperties = trustPropertiesByEntity.get(token.getEntityKey());
+	public List<TrustProperties> getTrustServices(CertificateToken token) {
+		List<TrustProperties> currentTrustProperties = snapshot.trustPropertiesByEntity.get(token.getEntityKey());
 		if (currentTrustProperties != null) {
 			return currentTrustProperties;
 		} else {
@@ -123,6 +125,56 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		}
 	}
 
+	@Override
+	public boolean isKnown(CertificateToken token) {
+		return snapshot.certificateSource.isKnown(token);
+	}
+
+	@Override
+	public List<CertificateToken> getCertificates() {
+		return snapshot.certificateSource.getCertificates();
+	}
+
+	@Override
+	public List<CertificateSourceEntity> getEntities() {
+		return snapshot.certificateSource.getEntities();
+	}
+
+	@Override
+	public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
+		return snapshot.certificateSource.getByPublicKey(publicKey);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySki(byte[] ski) {
+		return snapshot.certificateSource.getBySki(ski);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+		return snapshot.certificateSource.getBySubject(subject);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
+		return snapshot.certificateSource.getBySignerIdentifier(signerIdentifier);
+	}
+
+	@Override
+	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
+		return snapshot.certificateSource.getByCertificateDigest(digest);
+	}
+
+	@Override
+	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
+		return snapshot.certificateSource.findTokensFromCertRef(certificateRef);
+	}
+
+	@Override
+	public int getNumberOfEntities() {
+		return snapshot.certificateSource.getNumberOfEntities();
+	}
+
 	@Override
 	public List<String> getAlternativeOCSPUrls(CertificateToken trustAnchor) {
 		return getServiceSupplyPoints(trustAnchor, "ocsp");
@@ -160,7 +212,45 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	 * @return the number of trusted public keys
 	 */
 	public int getNumberOfTrustedPublicKeys() {
-		return trustPropertiesByEntity.size();
+		return snapshot.trustPropertiesByEntity.size();
+	}
+
+	/**
+	 * Immutable state of the {@code TrustedListsCertificateSource}.
+	 * The object is completely built before being published and is never modified afterwards.
+	 */
+	private static final class TrustedListsSnapshot implements Serializable {
+
+		private static final long serialVersionUID = 4862785231386460474L;
+
+		/** Indexes the trusted certificates (by public key, subject, etc.) */
+		private final CommonTrustedCertificateSource certificateSource = new CommonTrustedCertificateSource();
+
+		/** The map of trust properties by EntityIdentifier (public keys) */
+		private final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity;
+
+		/**
+		 * Builds the snapshot from the given trust properties
+		 *
+		 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties}
+		 */
+		private TrustedListsSnapshot(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+			final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesMap = new HashMap<>();
+			for (Map.Entry<CertificateToken, List<TrustProperties>> entry : trustPropertiesByCerts.entrySet()) {
+				final CertificateToken certificateToken = entry.getKey();
+				certificateSource.addCertificate(certificateToken);
+
+				List<TrustProperties> list = trustPropertiesMap.computeIfAbsent(certificateToken.getEntityKey(), k -> new ArrayList<>());
+				for (TrustProperties trustProperties : entry.getValue()) {
+					if (!list.contains(trustProperties)) {
+						list.add(trustProperties);
+					}
+				}
+			}
+			trustPropertiesMap.replaceAll((k, v) -> Collections.unmodifiableList(v));
+			this.trustPropertiesByEntity = Collections.unmodifiableMap(trustPropertiesMap);
+		}
+
 	}
 
 }
@@ -65,4 +65,22 @@ public class AlternateUrlsSourceAdapter<R extends Revocation> implements Revocat
 		return wrappedSource.getRevocationToken(certificateToken, issuerCertificateToken, alternativeUrls);
 	}
 
+	/**
+	 * Gets the wrapped source
+	 *
+	 * @return {@link RevocationSourceAlternateUrlsSupport}
+	 */
+	public RevocationSourceAlternateUrlsSupport<R> getWrappedSource() {
+		return wrappedSource;
+	}
+
+	/**
+	 * Gets the list of alternative URLs
+	 *
+	 * @return a list of {@link String}s
+	 */
+	public List<String> getAlternateUrls() {
+		return alternateUrls;
+	}
+
 }
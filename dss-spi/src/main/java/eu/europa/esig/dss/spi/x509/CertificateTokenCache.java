@@ -0,0 +1,237 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class keeps a process-wide set of canonical {@code CertificateToken} instances, keyed by the SHA-256 digest
+ * of the certificate's DER encoding.
+ * <p>
+ * When enabled, the certificates parsed by {@code DSSUtils} and {@code DSSASN1Utils} are interned, so the same
+ * intermediate and root certificates found in different signatures (CMS, KeyInfo, DSS dictionary, OCSP responses,
+ * AIA...) share a single {@code CertificateToken}, together with its memoized signature checks
+ * (see {@link CertificateToken#isSignedBy(java.security.PublicKey)}).
+ * <p>
+ * The cache is disabled by default. Use {@code CertificateTokenCache.getInstance().setMaxSize(size)} to enable it.
+ * When the maximum size is reached, the entries not requested since the previous sweep are evicted. If the cache
+ * remains full, new certificates are returned without being interned.
+ * <p>
+ * NOTE: the interned tokens are shared between concurrent validations. Their state is only related to the certificate
+ * itself (e.g. signature validity against a given public key).
+ */
+public class CertificateTokenCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CertificateTokenCache.class);
+
+	/** The digest algorithm used to compute the cache key */
+	private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+	/** The shared instance */
+	private static final CertificateTokenCache INSTANCE = new CertificateTokenCache();
+
+	/** The cached certificate tokens, by base64-encoded digest of the DER encoding */
+	private final Map<String, CacheEntry> certificates = new ConcurrentHashMap<>();
+
+	/** Ensures that only one thread sweeps the cache at a time */
+	private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+	/** The maximum number of cached certificates. 0 means the cache is disabled */
+	private volatile int maxSize = 0;
+
+	/**
+	 * Default constructor instantiating an independent disabled cache
+	 */
+	public CertificateTokenCache() {
+		// empty
+	}
+
+	/**
+	 * Returns the shared instance of the cache, used by {@code DSSUtils} and {@code DSSASN1Utils}
+	 *
+	 * @return {@link CertificateTokenCache}
+	 */
+	public static CertificateTokenCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of certificates to be kept in the cache.
+	 * The value 0 (default) disables the cache and removes all the cached entries.
+	 *
+	 * @param maxSize the maximum number of cached certificates
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the cache cannot be negative!");
+		}
+		this.maxSize = maxSize;
+		if (maxSize == 0) {
+			clear();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of certificates to be kept in the cache
+	 *
+	 * @return the maximum size, 0 when the cache is disabled
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns whether the cache is enabled
+	 *
+	 * @return TRUE if the cache is enabled, FALSE otherwise
+	 */
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Returns the number of cached certificates
+	 *
+	 * @return the number of cached certificates
+	 */
+	public int size() {
+		return certificates.size();
+	}
+
+	/**
+	 * Returns the cached {@code CertificateToken} for the given DER-encoded certificate, when present
+	 *
+	 * @param encoded DER-encoded certificate binaries
+	 * @return {@link CertificateToken} if found, null otherwise
+	 */
+	public CertificateToken get(byte[] encoded) {
+		Objects.requireNonNull(encoded, "Encoded certificate cannot be null!");
+		if (!isEnabled()) {
+			return null;
+		}
+		return get(getKey(DSSUtils.digest(DIGEST_ALGORITHM, encoded)));
+	}
+
+	/**
+	 * Returns the canonical instance for the given {@code certificateToken}.
+	 * If an equivalent certificate is already cached, the cached instance is returned.
+	 * Otherwise, the provided token is cached (when space is available) and returned.
+	 *
+	 * @param certificateToken {@link CertificateToken} to intern
+	 * @return the canonical {@link CertificateToken}
+	 */
+	public CertificateToken intern(CertificateToken certificateToken) {
+		Objects.requireNonNull(certificateToken, "CertificateToken cannot be null!");
+		if (!isEnabled()) {
+			return certificateToken;
+		}
+		final String key = getKey(certificateToken.getDigest(DIGEST_ALGORITHM));
+		CertificateToken cached = get(key);
+		if (cached != null) {
+			return cached;
+		}
+		if (certificates.size() >= maxSize) {
+			sweep();
+			if (certificates.size() >= maxSize) {
+				return certificateToken;
+			}
+		}
+		CacheEntry existing = certificates.putIfAbsent(key, new CacheEntry(certificateToken));
+		return existing != null ? existing.getCertificateToken() : certificateToken;
+	}
+
+	/**
+	 * Removes all the cached certificates
+	 */
+	public void clear() {
+		certificates.clear();
+	}
+
+	private CertificateToken get(String key) {
+		CacheEntry entry = certificates.get(key);
+		return entry != null ? entry.getCertificateToken() : null;
+	}
+
+	/**
+	 * Removes the entries not requested since the previous sweep and resets the request flag of the other ones
+	 */
+	private void sweep() {
+		if (!sweeping.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int before = certificates.size();
+			Iterator<CacheEntry> it = certificates.values().iterator();
+			while (it.hasNext()) {
+				if (!it.next().resetRequested()) {
+					it.remove();
+				}
+			}
+			LOG.debug("CertificateTokenCache swept : {} entries evicted", before - certificates.size());
+		} finally {
+			sweeping.set(false);
+		}
+	}
+
+	private static String getKey(byte[] digest) {
+		return Utils.toBase64(digest);
+	}
+
+	/**
+	 * A cached certificate token with its usage flag
+	 */
+	private static final class CacheEntry {
+
+		/** The canonical certificate token */
+		private final CertificateToken certificateToken;
+
+		/** Defines whether the entry has been requested since the last sweep */
+		private volatile boolean requested;
+
+		private CacheEntry(CertificateToken certificateToken) {
+			this.certificateToken = certificateToken;
+		}
+
+		private CertificateToken getCertificateToken() {
+			requested = true;
+			return certificateToken;
+		}
+
+		private boolean resetRequested() {
+			boolean result = requested;
+			requested = false;
+			return result;
+		}
+
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.spi.x509.revocation;
 
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 
 /**
@@ -39,6 +40,17 @@ public class RevocationTokenIdentifier extends TokenIdentifier {
 		this("R-", revocationToken);
 	}
 
+	/**
+	 * Constructor with an already known SHA-256 digest of the revocation token binaries
+	 * (the binaries are obtained from the token only on request)
+	 *
+	 * @param revocationToken {@link RevocationToken}
+	 * @param digest {@link Digest} SHA-256 digest of the revocation token binaries
+	 */
+	public RevocationTokenIdentifier(RevocationToken<?> revocationToken, Digest digest) {
+		super("R-", revocationToken, digest);
+	}
+
 	/**
 	 * Internal constructor with a custom prefix
 	 *
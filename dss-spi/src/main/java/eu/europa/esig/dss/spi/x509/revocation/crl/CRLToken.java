@@ -20,19 +20,24 @@
  */
 package eu.europa.esig.dss.spi.x509.revocation.crl;
 
+import eu.europa.esig.dss.crl.CRLRevokedCertificatesIndex;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.RevocationReason;
 import eu.europa.esig.dss.enumerations.RevocationType;
 import eu.europa.esig.dss.enumerations.SignatureValidity;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationCertificateSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationTokenIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,7 @@ import java.math.BigInteger;
 import java.security.PublicKey;
 import java.security.cert.CRLReason;
 import java.security.cert.X509CRLEntry;
+import java.util.Date;
 import java.util.Objects;
 
 /**
@@ -79,6 +85,41 @@ public class CRLToken extends RevocationToken<CRL> {
 		}
 	}
 
+	/**
+	 * The constructor to be used with the certificate which is managed by the
+	 * CRL, the {@code CRLValidity} and the revocation status of the certificate
+	 * obtained beforehand (e.g. from an index of the CRL entries).
+	 * The CRL binaries are not parsed in order to determine the revocation status.
+	 *
+	 * @param certificateToken
+	 *            the {@code CertificateToken} which is managed by this CRL.
+	 * @param crlValidity
+	 *            {@code CRLValidity} containing the information about the
+	 *            validity of the CRL
+	 * @param revocationDate
+	 *            {@link Date} of the certificate revocation, null if the certificate is not revoked
+	 * @param revocationReason
+	 *            {@link RevocationReason} of the certificate revocation, can be null
+	 */
+	public CRLToken(final CertificateToken certificateToken, final CRLValidity crlValidity,
+					final Date revocationDate, final RevocationReason revocationReason) {
+		Objects.requireNonNull(crlValidity, "CRL Validity cannot be null");
+		this.crlValidity = crlValidity;
+		this.relatedCertificate = certificateToken;
+		initInfo();
+		checkIssuer(certificateToken);
+		if (revocationDate != null) {
+			this.status = CertificateStatus.REVOKED;
+			this.revocationDate = revocationDate;
+			this.reason = revocationReason;
+		} else {
+			this.status = CertificateStatus.GOOD;
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("A CRLToken created with Id : [{}]", getDSSIdAsString());
+		}
+	}
+
 	private void initInfo() {
 		this.signatureAlgorithm = crlValidity.getSignatureAlgorithm();
 		this.thisUpdate = crlValidity.getThisUpdate();
@@ -100,21 +141,21 @@ public class CRLToken extends RevocationToken<CRL> {
 	 *            the {@code CertificateToken} which is managed by this CRL.
 	 */
 	private void setRevocationStatus(final CertificateToken certificateToken) {
-		final X500Principal issuerToken = certificateToken.getIssuerX500Principal();
-		CertificateToken crlSigner = crlValidity.getIssuerToken();
-		X500Principal crlSignerSubject = null;
-		if (crlSigner != null) {
-			crlSignerSubject = crlSigner.getSubject().getPrincipal();
-		}
+		checkIssuer(certificateToken);
 
-		if (!DSSASN1Utils.x500PrincipalAreEquals(issuerToken, crlSignerSubject)) {
-			if (!crlValidity.isSignatureIntact()) {
-				throw new DSSException(crlValidity.getSignatureInvalidityReason());
+		final BigInteger serialNumber = certificateToken.getSerialNumber();
+		final CRLRevokedCertificatesIndex revokedCertificatesIndex = crlValidity.getRevokedCertificatesIndex();
+		if (revokedCertificatesIndex != null) {
+			revocationDate = revokedCertificatesIndex.getRevocationDate(serialNumber);
+			if (revocationDate != null) {
+				status = CertificateStatus.REVOKED;
+				reason = revokedCertificatesIndex.getRevocationReason(serialNumber);
+			} else {
+				status = CertificateStatus.GOOD;
 			}
-			throw new DSSException("The CRLToken is not signed by the same issuer as the CertificateToken to be verified!");
+			return;
 		}
 
-		final BigInteger serialNumber = certificateToken.getSerialNumber();
 		X509CRLEntry crlEntry = CRLUtils.getRevocationInfo(crlValidity, serialNumber);
 
 		if (crlEntry != null) {
@@ -129,6 +170,29 @@ public class CRLToken extends RevocationToken<CRL> {
 		}
 	}
 
+	private void checkIssuer(final CertificateToken certificateToken) {
+		final X500Principal issuerToken = certificateToken.getIssuerX500Principal();
+		CertificateToken crlSigner = crlValidity.getIssuerToken();
+		X500Principal crlSignerSubject = null;
+		if (crlSigner != null) {
+			crlSignerSubject = crlSigner.getSubject().getPrincipal();
+		}
+
+		if (!DSSASN1Utils.x500PrincipalAreEquals(issuerToken, crlSignerSubject)) {
+			if (!crlValidity.isSignatureIntact()) {
+				throw new DSSException(crlValidity.getSignatureInvalidityReason());
+			}
+			throw new DSSException("The CRLToken is not signed by the same issuer as the CertificateToken to be verified!");
+		}
+	}
+
+	@Override
+	protected TokenIdentifier buildTokenIdentifier() {
+		// built from the digest of the CRL binaries, which can be loaded only on request (e.g. from a database)
+		final byte[] digestValue = crlValidity.getCrlBinary().getDigestValue(DigestAlgorithm.SHA256);
+		return new RevocationTokenIdentifier(this, new Digest(DigestAlgorithm.SHA256, digestValue));
+	}
+
 	@Override
 	protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
 		throw new UnsupportedOperationException(this.getClass().getName());
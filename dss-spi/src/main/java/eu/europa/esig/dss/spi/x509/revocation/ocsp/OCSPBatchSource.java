@@ -0,0 +1,51 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation.ocsp;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This interface provides a method to retrieve OCSP tokens for several certificates at once.
+ * The implementation is able to request the status of several certificates within a single
+ * OCSP request (see RFC 6960, 4.1.1 "requestList").
+ *
+ */
+public interface OCSPBatchSource extends OCSPSource {
+
+	/**
+	 * Gets {@code OCSPToken}s for the given certificates. The certificates issued by the same issuer
+	 * and using the same OCSP responder are requested within a single OCSP request.
+	 *
+	 * @param certificatesAndIssuers
+	 *                               map between the certificates to get OCSP tokens for and
+	 *                               their issuer's certificates
+	 * @param alternativeUrls
+	 *                               The list of alternative urls to call (can be empty)
+	 * @return map between the certificates and the obtained {@code OCSPToken}s.
+	 *         The certificates without an obtained response are not present in the map.
+	 */
+	Map<CertificateToken, OCSPToken> getRevocationTokens(Map<CertificateToken, CertificateToken> certificatesAndIssuers,
+														 List<String> alternativeUrls);
+
+}
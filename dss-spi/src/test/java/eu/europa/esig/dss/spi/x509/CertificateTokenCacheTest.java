@@ -0,0 +1,118 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CertificateTokenCacheTest {
+
+	@AfterEach
+	public void reset() {
+		CertificateTokenCache.getInstance().setMaxSize(0);
+	}
+
+	@Test
+	public void disabledByDefault() {
+		CertificateTokenCache cache = new CertificateTokenCache();
+		assertFalse(cache.isEnabled());
+
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		assertSame(certificate, cache.intern(certificate));
+		assertEquals(0, cache.size());
+		assertNull(cache.get(certificate.getEncoded()));
+
+		assertNotSame(certificate, DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer")));
+	}
+
+	@Test
+	public void internTest() {
+		CertificateTokenCache.getInstance().setMaxSize(10);
+
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		assertSame(certificate, DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer")));
+		assertSame(certificate, DSSUtils.loadCertificate(certificate.getEncoded()));
+		assertSame(certificate, DSSASN1Utils.getCertificate(DSSASN1Utils.getX509CertificateHolder(certificate)));
+		assertSame(certificate, CertificateTokenCache.getInstance().get(certificate.getEncoded()));
+		assertEquals(1, CertificateTokenCache.getInstance().size());
+	}
+
+	@Test
+	public void maxSizeTest() {
+		CertificateTokenCache cache = new CertificateTokenCache();
+		cache.setMaxSize(1);
+
+		CertificateToken caCertificate = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		CertificateToken rootCertificate = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+		CertificateToken tspCertificate = DSSUtils.loadCertificate(new File("src/test/resources/TSP_Certificate_2014.crt"));
+
+		assertSame(caCertificate, cache.intern(caCertificate));
+		assertEquals(1, cache.size());
+
+		// the cached entry has not been requested since its insertion, it is evicted
+		assertSame(rootCertificate, cache.intern(rootCertificate));
+		assertEquals(1, cache.size());
+		assertNull(cache.get(caCertificate.getEncoded()));
+
+		// the cached entry is requested, it is kept on the next sweep
+		assertSame(rootCertificate, cache.get(rootCertificate.getEncoded()));
+		assertSame(tspCertificate, cache.intern(tspCertificate));
+		assertEquals(1, cache.size());
+		assertSame(rootCertificate, cache.get(rootCertificate.getEncoded()));
+		assertNull(cache.get(tspCertificate.getEncoded()));
+
+		cache.setMaxSize(0);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void memoizedSignatureCheckTest() {
+		CertificateToken certificate = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer"));
+		CertificateToken issuer = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrs2.crt"));
+		CertificateToken otherCertificate = DSSUtils.loadCertificate(new File("src/test/resources/TSP_Certificate_2014.crt"));
+
+		assertFalse(certificate.isSignedBy(otherCertificate));
+		assertEquals(SignatureValidity.INVALID, certificate.getSignatureValidity());
+		assertFalse(certificate.getInvalidityReason().isEmpty());
+
+		assertTrue(certificate.isSignedBy(issuer));
+		assertEquals(SignatureValidity.VALID, certificate.getSignatureValidity());
+		assertTrue(certificate.getInvalidityReason().isEmpty());
+		assertEquals(issuer.getPublicKey(), certificate.getPublicKeyOfTheSigner());
+
+		assertTrue(certificate.isSignedBy(issuer));
+		assertFalse(certificate.isSignedBy(otherCertificate));
+	}
+
+}
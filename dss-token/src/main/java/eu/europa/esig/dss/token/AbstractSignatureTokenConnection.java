@@ -127,8 +127,18 @@ public abstract class AbstractSignatureTokenConnection implements SignatureToken
 		}
 	}
 
-	private byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
-						final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+	/**
+	 * Signs the {@code bytes} with the given Java signature algorithm and private key
+	 *
+	 * @param bytes the data to be signed
+	 * @param javaSignatureAlgorithm {@link String} the Java name of the signature algorithm
+	 * @param param {@link AlgorithmParameterSpec} the signature parameters, when applicable (can be null)
+	 * @param keyEntry {@link DSSPrivateKeyEntry} the private key to be used
+	 * @return signature value
+	 * @throws GeneralSecurityException if an error occurs
+	 */
+	protected byte[] sign(final byte[] bytes, final String javaSignatureAlgorithm, final AlgorithmParameterSpec param,
+						  final DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
 		if (!(keyEntry instanceof KSPrivateKeyEntry)) {
 			throw new IllegalArgumentException("Only KSPrivateKeyEntry are supported");
 		}
@@ -0,0 +1,237 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.model.DSSException;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds the number of concurrent signing operations performed with a {@code Pkcs11SignatureToken}
+ * and collects the related metrics (time waited for a session, signature latency).
+ * <p>
+ * The PKCS#11 sessions themselves are opened and reused by the SunPKCS11 provider, which is logged in once
+ * for the whole pool. The size of the pool defines how many sessions are used concurrently.
+ */
+public class Pkcs11SessionPool {
+
+	/** The available sessions */
+	private final Semaphore sessions;
+
+	/** The size of the pool */
+	private final int size;
+
+	/** The maximum time to wait for a session (in milliseconds), a negative value means no limit */
+	private final long maxWaitTime;
+
+	/** The number of performed operations */
+	private final LongAdder operationsCount = new LongAdder();
+
+	/** The total time waited for a session (in nanoseconds) */
+	private final LongAdder totalWaitTime = new LongAdder();
+
+	/** The maximum time waited for a session (in nanoseconds) */
+	private final AtomicLong maxObservedWaitTime = new AtomicLong();
+
+	/** The total time of the operations (in nanoseconds) */
+	private final LongAdder totalOperationTime = new LongAdder();
+
+	/** The maximum time of an operation (in nanoseconds) */
+	private final AtomicLong maxObservedOperationTime = new AtomicLong();
+
+	/**
+	 * Constructor waiting for a session without a time limit
+	 *
+	 * @param size the number of sessions to be used concurrently
+	 */
+	public Pkcs11SessionPool(int size) {
+		this(size, -1);
+	}
+
+	/**
+	 * Default constructor
+	 *
+	 * @param size the number of sessions to be used concurrently
+	 * @param maxWaitTime the maximum time to wait for a session, in milliseconds (a negative value means no limit)
+	 */
+	public Pkcs11SessionPool(int size, long maxWaitTime) {
+		if (size < 1) {
+			throw new IllegalArgumentException("The size of the session pool shall be positive!");
+		}
+		this.size = size;
+		this.maxWaitTime = maxWaitTime;
+		this.sessions = new Semaphore(size, true);
+	}
+
+	/**
+	 * Executes the {@code operation} within a session of the pool
+	 *
+	 * @param operation {@link PooledOperation} to execute
+	 * @param <T> the result type
+	 * @return the result of the operation
+	 * @throws GeneralSecurityException if the operation fails
+	 */
+	public <T> T execute(PooledOperation<T> operation) throws GeneralSecurityException {
+		final long waitStart = System.nanoTime();
+		acquire();
+		final long operationStart = System.nanoTime();
+		record(totalWaitTime, maxObservedWaitTime, operationStart - waitStart);
+		try {
+			return operation.execute();
+		} finally {
+			sessions.release();
+			record(totalOperationTime, maxObservedOperationTime, System.nanoTime() - operationStart);
+			operationsCount.increment();
+		}
+	}
+
+	private void acquire() {
+		try {
+			if (maxWaitTime < 0) {
+				sessions.acquire();
+			} else if (!sessions.tryAcquire(maxWaitTime, TimeUnit.MILLISECONDS)) {
+				throw new DSSException(String.format("No PKCS#11 session available after %s ms!", maxWaitTime));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while waiting for a PKCS#11 session", e);
+		}
+	}
+
+	private static void record(LongAdder total, AtomicLong max, long value) {
+		total.add(value);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Gets the size of the pool
+	 *
+	 * @return the number of sessions to be used concurrently
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Gets the number of sessions currently in use
+	 *
+	 * @return the number of busy sessions
+	 */
+	public int getActiveSessions() {
+		return size - sessions.availablePermits();
+	}
+
+	/**
+	 * Gets the number of threads waiting for a session
+	 *
+	 * @return the number of waiting threads
+	 */
+	public int getWaitingThreads() {
+		return sessions.getQueueLength();
+	}
+
+	/**
+	 * Gets the number of executed operations (signatures)
+	 *
+	 * @return the number of operations
+	 */
+	public long getOperationsCount() {
+		return operationsCount.sum();
+	}
+
+	/**
+	 * Gets the average time waited for a session
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value
+	 * @return the average wait time
+	 */
+	public long getAverageWaitTime(TimeUnit timeUnit) {
+		return average(totalWaitTime, timeUnit);
+	}
+
+	/**
+	 * Gets the maximum time waited for a session
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value
+	 * @return the maximum wait time
+	 */
+	public long getMaxWaitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(maxObservedWaitTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the average duration of an operation (signature latency, excluding the wait for a session)
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value
+	 * @return the average operation time
+	 */
+	public long getAverageOperationTime(TimeUnit timeUnit) {
+		return average(totalOperationTime, timeUnit);
+	}
+
+	/**
+	 * Gets the maximum duration of an operation
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value
+	 * @return the maximum operation time
+	 */
+	public long getMaxOperationTime(TimeUnit timeUnit) {
+		return timeUnit.convert(maxObservedOperationTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	private long average(LongAdder total, TimeUnit timeUnit) {
+		long count = operationsCount.sum();
+		if (count == 0) {
+			return 0;
+		}
+		return timeUnit.convert(total.sum() / count, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		return "Pkcs11SessionPool [size=" + size + ", active=" + getActiveSessions() + ", waiting=" + getWaitingThreads()
+				+ ", operations=" + getOperationsCount() + ", avgWaitMs=" + getAverageWaitTime(TimeUnit.MILLISECONDS)
+				+ ", avgOperationMs=" + getAverageOperationTime(TimeUnit.MILLISECONDS) + "]";
+	}
+
+	/**
+	 * An operation executed within a session of the pool
+	 *
+	 * @param <T> the result type
+	 */
+	@FunctionalInterface
+	public interface PooledOperation<T> {
+
+		/**
+		 * Executes the operation
+		 *
+		 * @return the result
+		 * @throws GeneralSecurityException if an error occurs
+		 */
+		T execute() throws GeneralSecurityException;
+
+	}
+
+}
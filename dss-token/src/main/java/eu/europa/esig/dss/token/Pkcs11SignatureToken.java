@@ -31,6 +31,7 @@ import javax.security.auth.callback.UnsupportedCallbackException;
 import javax.security.auth.login.LoginException;
 import java.io.IOException;
 import java.security.AuthProvider;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStore.PasswordProtection;
 import java.security.KeyStore.ProtectionParameter;
@@ -38,7 +39,11 @@ import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
 import java.security.Security;
 import java.security.Signature;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PKCS11 token with callback
@@ -74,6 +79,15 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 	/** Additional PKCS11 config */
 	private final String extraPkcs11Config;
 
+	/** The session pool, used when the pooled mode is enabled (null by default) */
+	private Pkcs11SessionPool sessionPool;
+
+	/** The loaded KeyStore, cached in the pooled mode */
+	private volatile KeyStore keyStore;
+
+	/** The key entries loaded in the pooled mode, by alias */
+	private final Map<String, DSSPrivateKeyEntry> keyEntries = new ConcurrentHashMap<>();
+
 	/**
 	 * Create the SignatureTokenConnection, using the provided path for the library.
 	 *
@@ -246,7 +260,7 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 	 *
 	 * @return {@link Provider}
 	 */
-	protected Provider getProvider() {
+	protected synchronized Provider getProvider() {
 		if (provider == null) {
 			String configString = buildConfig();
 			LOG.debug("PKCS11 Config : \n{}", configString);
@@ -309,8 +323,63 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 		}
 	}
 
+	/**
+	 * Enables the pooled mode, allowing the token to be shared between threads.
+	 * <p>
+	 * In the pooled mode, the token is logged in once, the KeyStore and the loaded key entries are kept
+	 * until {@code #close()} and at most {@code poolSize} signatures are computed concurrently.
+	 * The usage of the sessions can be monitored with {@code #getSessionPool()}.
+	 * <p>
+	 * Default : 0 (the pooled mode is disabled, a new KeyStore is loaded for each key retrieval)
+	 *
+	 * @param poolSize the number of PKCS#11 sessions to be used concurrently (0 to disable the pooled mode)
+	 */
+	public void setSessionPoolSize(int poolSize) {
+		setSessionPool(poolSize > 0 ? new Pkcs11SessionPool(poolSize) : null);
+	}
+
+	/**
+	 * Sets the session pool to be used (e.g. with a maximum wait time). Null disables the pooled mode.
+	 *
+	 * @param sessionPool {@link Pkcs11SessionPool}
+	 */
+	public void setSessionPool(Pkcs11SessionPool sessionPool) {
+		this.sessionPool = sessionPool;
+	}
+
+	/**
+	 * Gets the session pool, null if the pooled mode is disabled
+	 *
+	 * @return {@link Pkcs11SessionPool}
+	 */
+	public Pkcs11SessionPool getSessionPool() {
+		return sessionPool;
+	}
+
 	@Override
 	protected KeyStore getKeyStore() throws DSSException {
+		if (sessionPool == null) {
+			return loadKeyStore();
+		}
+		KeyStore result = keyStore;
+		if (result == null) {
+			synchronized (this) {
+				result = keyStore;
+				if (result == null) {
+					result = loadKeyStore();
+					keyStore = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates and loads a PKCS11 KeyStore (logs in the token)
+	 *
+	 * @return {@link KeyStore}
+	 */
+	protected KeyStore loadKeyStore() {
 		try {
 			KeyStore keyStore = KeyStore.getInstance(SUN_PKCS11_KEYSTORE_TYPE, getProvider());
 			keyStore.load(new KeyStore.LoadStoreParameter() {
@@ -350,6 +419,43 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 		return pkcs11Path;
 	}
 
+	@Override
+	public List<DSSPrivateKeyEntry> getKeys() throws DSSException {
+		final List<DSSPrivateKeyEntry> keys = super.getKeys();
+		if (sessionPool != null) {
+			for (DSSPrivateKeyEntry key : keys) {
+				if (key instanceof KSPrivateKeyEntry) {
+					keyEntries.put(((KSPrivateKeyEntry) key).getAlias(), key);
+				}
+			}
+		}
+		return keys;
+	}
+
+	@Override
+	public DSSPrivateKeyEntry getKey(String alias, PasswordProtection passwordProtection) {
+		if (sessionPool == null) {
+			return super.getKey(alias, passwordProtection);
+		}
+		DSSPrivateKeyEntry key = keyEntries.get(alias);
+		if (key == null) {
+			key = super.getKey(alias, passwordProtection);
+			if (key != null) {
+				keyEntries.put(alias, key);
+			}
+		}
+		return key;
+	}
+
+	@Override
+	protected byte[] sign(byte[] bytes, String javaSignatureAlgorithm, AlgorithmParameterSpec param,
+						  DSSPrivateKeyEntry keyEntry) throws GeneralSecurityException {
+		if (sessionPool == null) {
+			return super.sign(bytes, javaSignatureAlgorithm, param, keyEntry);
+		}
+		return sessionPool.execute(() -> super.sign(bytes, javaSignatureAlgorithm, param, keyEntry));
+	}
+
 	@Override
 	protected PasswordProtection getKeyProtectionParameter() {
 		return null;
@@ -361,7 +467,9 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 	}
 
 	@Override
-	public void close() {
+	public synchronized void close() {
+		keyStore = null;
+		keyEntries.clear();
 		if (provider != null) {
 			try {
 				try {
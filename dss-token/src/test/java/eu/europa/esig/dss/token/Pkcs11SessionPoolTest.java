@@ -0,0 +1,167 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore.PasswordProtection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Pkcs11SessionPoolTest {
+
+	@Test
+	public void concurrencyIsBounded() throws Exception {
+		Pkcs11SessionPool pool = new Pkcs11SessionPool(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				final int value = i;
+				futures.add(executor.submit(() -> pool.execute(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+					return value;
+				})));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals(i, futures.get(i).get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertTrue(maxRunning.get() <= 2);
+		assertEquals(32, pool.getOperationsCount());
+		assertEquals(0, pool.getActiveSessions());
+		assertTrue(pool.getMaxOperationTime(TimeUnit.NANOSECONDS) > 0);
+		assertTrue(pool.getAverageOperationTime(TimeUnit.NANOSECONDS) > 0);
+		assertTrue(pool.getMaxWaitTime(TimeUnit.NANOSECONDS) >= pool.getAverageWaitTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void sessionReleasedOnError() {
+		Pkcs11SessionPool pool = new Pkcs11SessionPool(1);
+		assertThrows(IllegalStateException.class, () -> pool.execute(() -> {
+			throw new IllegalStateException("Error");
+		}));
+		assertEquals(0, pool.getActiveSessions());
+		assertEquals(1, pool.getOperationsCount());
+	}
+
+	@Test
+	public void maxWaitTime() throws Exception {
+		Pkcs11SessionPool pool = new Pkcs11SessionPool(1, 10);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> future = executor.submit(() -> pool.execute(() -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return null;
+			}));
+			started.await();
+
+			Exception exception = assertThrows(DSSException.class, () -> pool.execute(() -> null));
+			assertEquals("No PKCS#11 session available after 10 ms!", exception.getMessage());
+
+			release.countDown();
+			future.get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void invalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> new Pkcs11SessionPool(0));
+	}
+
+	/**
+	 * Requires a PKCS#11 library with an initialized token (e.g. SoftHSM) :
+	 * PKCS11_LIBRARY (path to the library), PKCS11_PIN and optionally PKCS11_SLOT_LIST_INDEX
+	 */
+	@Test
+	@EnabledIfEnvironmentVariable(named = "PKCS11_LIBRARY", matches = ".+")
+	public void concurrentPkcs11Signing() throws Exception {
+		String slotListIndex = System.getenv("PKCS11_SLOT_LIST_INDEX");
+		PasswordProtection pin = new PasswordProtection(System.getenv("PKCS11_PIN").toCharArray());
+		try (Pkcs11SignatureToken token = new Pkcs11SignatureToken(System.getenv("PKCS11_LIBRARY"),
+				new PrefilledPasswordCallback(pin), -1, slotListIndex != null ? Integer.parseInt(slotListIndex) : 0, null)) {
+			token.setSessionPoolSize(4);
+
+			List<DSSPrivateKeyEntry> keys = token.getKeys();
+			assertFalse(keys.isEmpty());
+			KSPrivateKeyEntry key = (KSPrivateKeyEntry) keys.get(0);
+			assertSame(key, token.getKey(key.getAlias()));
+
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<SignatureValue>> futures = new ArrayList<>();
+				for (int i = 0; i < 64; i++) {
+					ToBeSigned toBeSigned = new ToBeSigned(("Hello world " + i).getBytes(StandardCharsets.UTF_8));
+					futures.add(executor.submit(() -> token.sign(toBeSigned, DigestAlgorithm.SHA256, key)));
+				}
+				for (Future<SignatureValue> future : futures) {
+					assertNotNull(future.get().getValue());
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			assertEquals(64, token.getSessionPool().getOperationsCount());
+		}
+	}
+
+}
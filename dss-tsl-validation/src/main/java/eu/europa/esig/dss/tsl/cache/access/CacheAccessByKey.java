@@ -20,19 +20,28 @@
  */
 package eu.europa.esig.dss.tsl.cache.access;
 
+import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
 import eu.europa.esig.dss.tsl.cache.DownloadCache;
 import eu.europa.esig.dss.tsl.cache.ParsingCache;
 import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
 import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
 import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshot;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshotEntry;
 import eu.europa.esig.dss.tsl.validation.ValidationResult;
 
+import java.util.HashSet;
+
 /**
  * Accesses a cache records by the specified key
  */
 public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 
+	/** The previously saved state of the job to restore the results from (can be null) */
+	private final TLSnapshot snapshot;
+
 	/**
 	 * Default constructor
 	 *
@@ -43,7 +52,22 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 	 */
 	public CacheAccessByKey(final CacheKey key, final DownloadCache downloadCache, final ParsingCache parsingCache,
 			final ValidationCache validationCache) {
+		this(key, downloadCache, parsingCache, validationCache, null);
+	}
+
+	/**
+	 * Constructor with a snapshot to restore the parsing/validation results from
+	 *
+	 * @param key {@link CacheKey} to use
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 * @param snapshot {@link TLSnapshot} (can be null)
+	 */
+	public CacheAccessByKey(final CacheKey key, final DownloadCache downloadCache, final ParsingCache parsingCache,
+			final ValidationCache validationCache, final TLSnapshot snapshot) {
 		super(key, downloadCache, parsingCache, validationCache);
+		this.snapshot = snapshot;
 	}
 	
 	/**
@@ -187,4 +211,53 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		}
 	}
 
+	/**
+	 * Restores the parsing result from the snapshot, when the snapshot has been created
+	 * for the same document (identical digest)
+	 *
+	 * @return TRUE if the parsing result has been restored, FALSE otherwise
+	 */
+	public boolean restoreParsingFromSnapshot() {
+		TLSnapshotEntry snapshotEntry = getMatchingSnapshotEntry();
+		if (snapshotEntry != null && snapshotEntry.getParsingResult() != null) {
+			parsingCache.update(key, snapshotEntry.getParsingResult());
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Restores the validation result from the snapshot, when the snapshot has been created
+	 * for the same document (identical digest) and with the same signing candidates
+	 *
+	 * @param certificateSource {@link CertificateSource} the current signing candidates
+	 * @return TRUE if the validation result has been restored, FALSE otherwise
+	 */
+	public boolean restoreValidationFromSnapshot(CertificateSource certificateSource) {
+		TLSnapshotEntry snapshotEntry = getMatchingSnapshotEntry();
+		if (snapshotEntry != null && snapshotEntry.getValidationResult() != null && certificateSource != null) {
+			ValidationResult validationResult = snapshotEntry.getValidationResult();
+			if (new HashSet<>(validationResult.getPotentialSigners()).equals(new HashSet<>(certificateSource.getCertificates()))) {
+				validationCache.update(key, validationResult);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TLSnapshotEntry getMatchingSnapshotEntry() {
+		if (snapshot == null) {
+			return null;
+		}
+		TLSnapshotEntry snapshotEntry = snapshot.getEntry(key);
+		if (snapshotEntry == null) {
+			return null;
+		}
+		CachedEntry<XmlDownloadResult> downloadEntry = downloadCache.get(key);
+		if (downloadEntry.isEmpty() || !snapshotEntry.getDigest().equals(downloadEntry.getCachedResult().getDigest())) {
+			return null;
+		}
+		return snapshotEntry;
+	}
+
 }
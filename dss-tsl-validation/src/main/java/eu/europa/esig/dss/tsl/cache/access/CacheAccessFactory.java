@@ -24,6 +24,7 @@ import eu.europa.esig.dss.tsl.cache.CacheKey;
 import eu.europa.esig.dss.tsl.cache.DownloadCache;
 import eu.europa.esig.dss.tsl.cache.ParsingCache;
 import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshot;
 
 /**
  * Builds the classes to deal with the cache
@@ -39,6 +40,9 @@ public final class CacheAccessFactory {
 	/** Global validation Cache */
 	private final ValidationCache validationCache;
 
+	/** The snapshot to restore the parsing/validation results from (can be null) */
+	private volatile TLSnapshot snapshot;
+
 	/**
 	 * Default constructor
 	 */
@@ -55,7 +59,7 @@ public final class CacheAccessFactory {
 	 * @return {@link CacheAccessByKey}
 	 */
 	public CacheAccessByKey getCacheAccess(CacheKey key) {
-		return new CacheAccessByKey(key, downloadCache, parsingCache, validationCache);
+		return new CacheAccessByKey(key, downloadCache, parsingCache, validationCache, snapshot);
 	}
 
 	/**
@@ -94,4 +98,23 @@ public final class CacheAccessFactory {
 		return new DebugCacheAccess(downloadCache, parsingCache, validationCache);
 	}
 
+	/**
+	 * Returns a cache access to extract the data to be stored within a {@code TLSnapshot}
+	 *
+	 * @return {@link SnapshotCacheAccess}
+	 */
+	public SnapshotCacheAccess getSnapshotCacheAccess() {
+		return new SnapshotCacheAccess(downloadCache, parsingCache, validationCache);
+	}
+
+	/**
+	 * Sets the snapshot to restore the parsing/validation results from.
+	 * The snapshot is used by the {@code CacheAccessByKey}s created after the call.
+	 *
+	 * @param snapshot {@link TLSnapshot} (null to disable the restoration)
+	 */
+	public void setSnapshot(TLSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
 }
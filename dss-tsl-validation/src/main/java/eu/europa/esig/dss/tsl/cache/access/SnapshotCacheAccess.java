@@ -0,0 +1,92 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.access;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
+import eu.europa.esig.dss.tsl.cache.ParsingCache;
+import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshotEntry;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Extracts the content of the caches to be stored within a {@code TLSnapshot}
+ */
+public class SnapshotCacheAccess extends ReadOnlyCacheAccess {
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 */
+	public SnapshotCacheAccess(final DownloadCache downloadCache, final ParsingCache parsingCache,
+							   final ValidationCache validationCache) {
+		super(downloadCache, parsingCache, validationCache);
+	}
+
+	/**
+	 * Returns the parsing and validation results of all downloaded TL/LOTLs
+	 *
+	 * @return a map between cache keys and {@link TLSnapshotEntry}s
+	 */
+	public Map<String, TLSnapshotEntry> getSnapshotEntries() {
+		Map<String, TLSnapshotEntry> entries = new HashMap<>();
+		for (CacheKey key : downloadCache.getKeys()) {
+			CachedEntry<XmlDownloadResult> downloadEntry = downloadCache.get(key);
+			if (downloadEntry.isEmpty()) {
+				continue;
+			}
+			AbstractParsingResult parsingResult = parsingCache.get(key).getCachedResult();
+			ValidationResult validationResult = copy(validationCache.get(key).getCachedResult());
+			if (parsingResult != null || validationResult != null) {
+				entries.put(key.getKey(), new TLSnapshotEntry(downloadEntry.getCachedResult().getDigest(), parsingResult, validationResult));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * The configured certificate source (e.g. a KeyStoreCertificateSource) is not
+	 * necessarily serializable. Only the signing candidates are kept.
+	 */
+	private ValidationResult copy(ValidationResult validationResult) {
+		if (validationResult == null) {
+			return null;
+		}
+		CommonCertificateSource potentialSigners = new CommonCertificateSource();
+		for (CertificateToken certificateToken : validationResult.getPotentialSigners()) {
+			potentialSigners.addCertificate(certificateToken);
+		}
+		return new ValidationResult(validationResult.getIndication(), validationResult.getSubIndication(),
+				validationResult.getSigningTime(), validationResult.getSigningCertificate(), potentialSigners);
+	}
+
+}
@@ -25,7 +25,9 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.tsl.LOTLInfo;
 import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.tsl.TLValidationJobSummary;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.tsl.alerts.TLValidationJobAlerter;
 import eu.europa.esig.dss.tsl.cache.CacheCleaner;
@@ -37,6 +39,8 @@ import eu.europa.esig.dss.tsl.dto.ParsingCacheDTO;
 import eu.europa.esig.dss.tsl.runnable.LOTLAnalysis;
 import eu.europa.esig.dss.tsl.runnable.LOTLWithPivotsAnalysis;
 import eu.europa.esig.dss.tsl.runnable.TLAnalysis;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshot;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshotStore;
 import eu.europa.esig.dss.tsl.source.LOTLSource;
 import eu.europa.esig.dss.tsl.source.TLSource;
 import eu.europa.esig.dss.tsl.summary.ValidationJobSummaryBuilder;
@@ -49,6 +53,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +137,16 @@ public class TLValidationJob {
      */
     private List<Alert<TLInfo>> tlAlerts;
 
+	/**
+	 * Stores the state of the job between the application restarts (optional)
+	 */
+	private TLSnapshotStore snapshotStore;
+
+	/**
+	 * Defines whether the snapshot has already been loaded (updated under the job's lock)
+	 */
+	private volatile boolean snapshotLoaded = false;
+
 	/**
 	 * Default constructor instantiating object with null configuration
 	 */
@@ -245,6 +260,45 @@ public class TLValidationJob {
 	    this.tlAlerts = tlAlerts;
 	}
 
+	/**
+	 * Sets the store for the state of the job (parsing/validation results and
+	 * the synchronized certificates). When defined, the snapshot is saved after each
+	 * refresh and used on the first refresh to avoid parsing and validation of
+	 * unchanged TL/LOTLs.
+	 *
+	 * NOTE: the snapshot shall be removed on a configuration change of the TL/LOTL sources
+	 * (e.g. trust service predicates), as the stored parsing results are reused as is.
+	 *
+	 * @param snapshotStore {@link TLSnapshotStore}
+	 */
+	public void setSnapshotStore(TLSnapshotStore snapshotStore) {
+		this.snapshotStore = snapshotStore;
+	}
+
+	/**
+	 * Loads the snapshot from the defined {@code TLSnapshotStore} and fills the
+	 * {@code TrustedListsCertificateSource} with the stored content. This method allows
+	 * serving the validations before the first refresh is performed.
+	 *
+	 * The stored parsing/validation results are reused on the next refresh for
+	 * the TL/LOTLs with unchanged content.
+	 *
+	 * @return TRUE if the snapshot has been restored, FALSE otherwise
+	 */
+	public synchronized boolean loadSnapshot() {
+		Objects.requireNonNull(snapshotStore, "The snapshotStore must be defined!");
+		TLSnapshot snapshot = snapshotStore.load();
+		snapshotLoaded = true;
+		if (snapshot == null) {
+			return false;
+		}
+		cacheAccessFactory.setSnapshot(snapshot);
+		if (trustedListCertificateSource != null) {
+			trustedListCertificateSource.setTrustPropertiesByCertificates(snapshot.getTrustPropertiesByCertificates());
+		}
+		return true;
+	}
+
 	/**
 	 * Returns validation job summary for all processed LOTL / TLs
 	 * @return {@link TLValidationJobSummary}
@@ -277,6 +331,7 @@ public class TLValidationJob {
 	}
 
 	private void refresh(DSSFileLoader dssFileLoader) {
+		loadSnapshotOnce();
 
 		List<TLSource> currentTLSources = new ArrayList<>();
 		if (trustedListSources != null) {
@@ -319,6 +374,10 @@ public class TLValidationJob {
 			LOG.info("Dump after synchronization");
 			cacheAccessFactory.getDebugCacheAccess().dump();
 		}
+
+		// the stored results are only relevant for the first refresh
+		cacheAccessFactory.setSnapshot(null);
+		saveSnapshot();
 	}
 
 	private void executeLOTLSourcesAnalysis(List<LOTLSource> lotlSources, DSSFileLoader dssFileLoader) {
@@ -402,6 +461,37 @@ public class TLValidationJob {
 		synchronizer.sync();
 	}
 
+	/**
+	 * Loads the snapshot on the first refresh. The check and the update of the flag are performed under the job's
+	 * lock, so the concurrent first refreshes do not load the snapshot twice.
+	 */
+	private synchronized void loadSnapshotOnce() {
+		if (snapshotStore != null && !snapshotLoaded) {
+			TLSnapshot snapshot = snapshotStore.load();
+			snapshotLoaded = true;
+			cacheAccessFactory.setSnapshot(snapshot);
+		}
+	}
+
+	private void saveSnapshot() {
+		if (snapshotStore == null) {
+			return;
+		}
+
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCertificates = new HashMap<>();
+		if (trustedListCertificateSource != null) {
+			for (CertificateToken certificateToken : trustedListCertificateSource.getCertificates()) {
+				trustPropertiesByCertificates.put(certificateToken, trustedListCertificateSource.getTrustServices(certificateToken));
+			}
+		}
+
+		try {
+			snapshotStore.save(new TLSnapshot(cacheAccessFactory.getSnapshotCacheAccess().getSnapshotEntries(), trustPropertiesByCertificates));
+		} catch (Exception e) {
+			LOG.warn("Unable to save the TL snapshot : {}", e.getMessage(), e);
+		}
+	}
+
 	private void executeCacheCleaner() {
 		if (cacheCleaner == null) {
 			LOG.debug("Cache cleaner is not defined");
@@ -23,13 +23,16 @@ package eu.europa.esig.dss.tsl.parsing;
 import eu.europa.esig.dss.enumerations.TSLType;
 import eu.europa.esig.dss.tsl.cache.CachedResult;
 
+import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 
 /**
  * Abstract parsing result
  */
-public abstract class AbstractParsingResult implements CachedResult {
+public abstract class AbstractParsingResult implements CachedResult, Serializable {
+
+	private static final long serialVersionUID = -6290306640946367436L;
 
 	/** The LOTL/TL TSLType */
 	private TSLType tslType;
@@ -121,6 +121,10 @@ public abstract class AbstractAnalysis  {
 	protected void parsing(DSSDocument document) {
 		// True if EMPTY / EXPIRED by TL/LOTL
 		if (cacheAccess.isParsingRefreshNeeded()) {
+			if (cacheAccess.restoreParsingFromSnapshot()) {
+				LOG.debug("Parsing result for the TL/LOTL with cache key '{}' is restored from the snapshot", cacheAccess.getCacheKey().getKey());
+				return;
+			}
 			try {
 				LOG.debug("Parsing the TL/LOTL with cache key '{}'...", cacheAccess.getCacheKey().getKey());
 				AbstractParsingTask<?> parsingTask = getParsingTask(document);
@@ -149,6 +153,10 @@ public abstract class AbstractAnalysis  {
 	protected void validation(DSSDocument document, CertificateSource certificateSource) {
 		// True if EMPTY / EXPIRED by TL/LOTL
 		if (cacheAccess.isValidationRefreshNeeded()) {
+			if (cacheAccess.restoreValidationFromSnapshot(certificateSource)) {
+				LOG.debug("Validation result for the TL/LOTL with cache key '{}' is restored from the snapshot", cacheAccess.getCacheKey().getKey());
+				return;
+			}
 			try {
 				LOG.debug("Validating the TL/LOTL with cache key '{}'...", cacheAccess.getCacheKey().getKey());
 				TLValidatorTask validationTask = getValidationTask(document, certificateSource);
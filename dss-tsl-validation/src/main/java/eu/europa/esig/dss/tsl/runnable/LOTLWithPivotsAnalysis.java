@@ -145,6 +145,10 @@ public class LOTLWithPivotsAnalysis extends LOTLAnalysis {
 	private void validationPivot(CacheAccessByKey pivotCacheAccess, DSSDocument document, CertificateSource certificateSource) {
 		// True if EMPTY / EXPIRED by TL/LOTL
 		if (pivotCacheAccess.isValidationRefreshNeeded()) {
+			if (pivotCacheAccess.restoreValidationFromSnapshot(certificateSource)) {
+				LOG.debug("Validation result for the Pivot LOTL with cache key '{}' is restored from the snapshot", pivotCacheAccess.getCacheKey().getKey());
+				return;
+			}
 			try {
 				LOG.debug("Validating the Pivot LOTL with cache key '{}'...", pivotCacheAccess.getCacheKey().getKey());
 				TLValidatorTask validationTask = new TLValidatorTask(document, certificateSource);
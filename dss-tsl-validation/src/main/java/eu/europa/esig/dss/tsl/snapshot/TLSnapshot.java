@@ -0,0 +1,105 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.snapshot;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a persistable state of a {@code TLValidationJob}.
+ *
+ * The snapshot contains the parsing and validation results of the processed TL/LOTLs (by cache key)
+ * and the content of the synchronized {@code TrustedListsCertificateSource}. It allows a fast restart
+ * of the application: the TL/LOTLs with an unchanged content are not parsed and validated again.
+ *
+ */
+public class TLSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 2203712638454873491L;
+
+	/** The time of the snapshot creation */
+	private final Date creationTime;
+
+	/** The TL/LOTL results by cache key */
+	private final Map<String, TLSnapshotEntry> entries;
+
+	/** The content of the synchronized TrustedListsCertificateSource */
+	private final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCertificates;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param entries a map of {@link TLSnapshotEntry} by cache key
+	 * @param trustPropertiesByCertificates the synchronized trust properties by certificates
+	 */
+	public TLSnapshot(final Map<String, TLSnapshotEntry> entries,
+					  final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCertificates) {
+		this.creationTime = new Date();
+		this.entries = new HashMap<>(entries);
+		this.trustPropertiesByCertificates = new HashMap<>(trustPropertiesByCertificates);
+	}
+
+	/**
+	 * Gets the time of the snapshot creation
+	 *
+	 * @return {@link Date}
+	 */
+	public Date getCreationTime() {
+		return creationTime;
+	}
+
+	/**
+	 * Gets the entry for the given {@code cacheKey}
+	 *
+	 * @param cacheKey {@link CacheKey}
+	 * @return {@link TLSnapshotEntry} if found, null otherwise
+	 */
+	public TLSnapshotEntry getEntry(CacheKey cacheKey) {
+		return entries.get(cacheKey.getKey());
+	}
+
+	/**
+	 * Gets the number of stored TL/LOTL entries
+	 *
+	 * @return number of entries
+	 */
+	public int getNumberOfEntries() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets the content of the synchronized {@code TrustedListsCertificateSource}
+	 *
+	 * @return an unmodifiable map between {@link CertificateToken}s and a list of {@link TrustProperties}
+	 */
+	public Map<CertificateToken, List<TrustProperties>> getTrustPropertiesByCertificates() {
+		return Collections.unmodifiableMap(trustPropertiesByCertificates);
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.snapshot;
+
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Contains the parsing and validation results of a single TL/LOTL,
+ * stored together with the digest of the document they have been computed from
+ *
+ */
+public class TLSnapshotEntry implements Serializable {
+
+	private static final long serialVersionUID = -1530963516476893152L;
+
+	/** Digest of the canonicalized TL/LOTL document (see {@code XmlDownloadResult}) */
+	private final Digest digest;
+
+	/** The parsing result (can be null) */
+	private final AbstractParsingResult parsingResult;
+
+	/** The validation result (can be null) */
+	private final ValidationResult validationResult;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param digest {@link Digest} of the canonicalized TL/LOTL document
+	 * @param parsingResult {@link AbstractParsingResult} (can be null)
+	 * @param validationResult {@link ValidationResult} (can be null)
+	 */
+	public TLSnapshotEntry(final Digest digest, final AbstractParsingResult parsingResult,
+						   final ValidationResult validationResult) {
+		Objects.requireNonNull(digest, "Digest cannot be null!");
+		this.digest = digest;
+		this.parsingResult = parsingResult;
+		this.validationResult = validationResult;
+	}
+
+	/**
+	 * Gets the digest of the canonicalized TL/LOTL document
+	 *
+	 * @return {@link Digest}
+	 */
+	public Digest getDigest() {
+		return digest;
+	}
+
+	/**
+	 * Gets the stored parsing result
+	 *
+	 * @return {@link AbstractParsingResult}, null if not available
+	 */
+	public AbstractParsingResult getParsingResult() {
+		return parsingResult;
+	}
+
+	/**
+	 * Gets the stored validation result
+	 *
+	 * @return {@link ValidationResult}, null if not available
+	 */
+	public ValidationResult getValidationResult() {
+		return validationResult;
+	}
+
+}
@@ -0,0 +1,342 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.snapshot;
+
+import eu.europa.esig.dss.model.DSSException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Stores a {@code TLSnapshot} in a local file (compressed Java serialization).
+ *
+ * The file starts with a SHA-256 digest of its content (or an HMAC-SHA256 when a secret key is defined), which is
+ * verified before the deserialization : a modified or truncated file is not loaded. The plain digest only detects
+ * accidental modifications, a secret key is required to detect the changes made by someone with a write access
+ * to the file.
+ *
+ * The snapshot is deserialized with an allowlist of classes (DSS classes and the basic JDK types used by them),
+ * any other class found in the file makes the loading fail.
+ *
+ */
+public class TLSnapshotStore {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TLSnapshotStore.class);
+
+	/** The packages (with sub-packages) of the classes allowed in a snapshot */
+	private static final String[] ALLOWED_PACKAGES = {
+			"eu.europa.esig.dss.",
+			// serialized form of the public keys created by the BouncyCastle provider
+			"org.bouncycastle.jcajce.provider.asymmetric."
+	};
+
+	/** The packages (without sub-packages) of the classes allowed in a snapshot */
+	private static final String[] ALLOWED_EXACT_PACKAGES = { "java.lang", "java.util" };
+
+	/** The other classes allowed in a snapshot */
+	private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+			"java.math.BigInteger",
+			"java.security.KeyRep",
+			"java.security.KeyRep$Type",
+			"java.security.cert.Certificate$CertificateRep",
+			"javax.security.auth.x500.X500Principal"
+	));
+
+	/** The digest algorithm used when no secret key is defined */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The MAC algorithm used when a secret key is defined */
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
+	/** The length of the digest (or MAC) written at the beginning of the file */
+	static final int DIGEST_LENGTH = 32;
+
+	/** The file containing the snapshot */
+	private final File snapshotFile;
+
+	/** The secret key used to compute the HMAC of the snapshot (optional) */
+	private byte[] secretKey;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param snapshotFile {@link File} to store the snapshot into
+	 */
+	public TLSnapshotStore(final File snapshotFile) {
+		Objects.requireNonNull(snapshotFile, "The snapshot file cannot be null!");
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Gets the file containing the snapshot
+	 *
+	 * @return {@link File}
+	 */
+	public File getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Sets the secret key used to compute and verify an HMAC-SHA256 of the snapshot file.
+	 * When not defined, a SHA-256 digest is used.
+	 *
+	 * NOTE: a snapshot saved with another key (or without a key) is not loaded
+	 *
+	 * @param secretKey byte array
+	 */
+	public void setSecretKey(byte[] secretKey) {
+		if (secretKey != null && secretKey.length == 0) {
+			throw new IllegalArgumentException("The secret key cannot be empty!");
+		}
+		this.secretKey = secretKey != null ? secretKey.clone() : null;
+	}
+
+	/**
+	 * Loads the snapshot from the file.
+	 *
+	 * A missing, unreadable or modified file is not an error: the job is processed from scratch in this case.
+	 *
+	 * @return {@link TLSnapshot} if available, null otherwise
+	 */
+	public TLSnapshot load() {
+		if (!snapshotFile.exists()) {
+			LOG.info("No TL snapshot found at '{}'", snapshotFile.getAbsolutePath());
+			return null;
+		}
+		Path path = snapshotFile.toPath();
+		try {
+			if (!isDigestValid(path)) {
+				LOG.warn("The TL snapshot at '{}' has been modified and is ignored", snapshotFile.getAbsolutePath());
+				return null;
+			}
+		} catch (Exception e) {
+			LOG.warn("Unable to verify the TL snapshot at '{}' : {}", snapshotFile.getAbsolutePath(), e.getMessage(), e);
+			return null;
+		}
+		try (InputStream fis = Files.newInputStream(path);
+			 InputStream is = new GZIPInputStream(new BufferedInputStream(skipDigest(fis)));
+			 ObjectInputStream ois = new SnapshotObjectInputStream(is)) {
+			TLSnapshot snapshot = (TLSnapshot) ois.readObject();
+			LOG.info("TL snapshot loaded from '{}' ({} entries, created at {})", snapshotFile.getAbsolutePath(),
+					snapshot.getNumberOfEntries(), snapshot.getCreationTime());
+			return snapshot;
+		} catch (Exception e) {
+			LOG.warn("Unable to load the TL snapshot from '{}' : {}", snapshotFile.getAbsolutePath(), e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the snapshot into the file.
+	 *
+	 * The snapshot is written in a temporary file first, which then replaces the previous one.
+	 *
+	 * @param snapshot {@link TLSnapshot} to save
+	 */
+	public void save(TLSnapshot snapshot) {
+		Objects.requireNonNull(snapshot, "The snapshot cannot be null!");
+		Path target = snapshotFile.toPath().toAbsolutePath();
+		Path tempFile = null;
+		try {
+			Files.createDirectories(target.getParent());
+			tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (OutputStream fos = Files.newOutputStream(tempFile)) {
+				// placeholder for the digest, computed once the content is written
+				fos.write(new byte[DIGEST_LENGTH]);
+				try (OutputStream os = new GZIPOutputStream(new BufferedOutputStream(fos));
+					 ObjectOutputStream oos = new ObjectOutputStream(os)) {
+					oos.writeObject(snapshot);
+				}
+			}
+			byte[] digest = computeDigest(tempFile);
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.wrap(digest), 0);
+				channel.force(true);
+			}
+			Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			LOG.info("TL snapshot saved to '{}' ({} entries)", target, snapshot.getNumberOfEntries());
+
+		} catch (IOException | GeneralSecurityException e) {
+			throw new DSSException(String.format("Unable to save the TL snapshot to '%s' : %s", target, e.getMessage()), e);
+
+		} finally {
+			deleteQuietly(tempFile);
+		}
+	}
+
+	private boolean isDigestValid(Path path) throws IOException, GeneralSecurityException {
+		byte[] storedDigest = new byte[DIGEST_LENGTH];
+		try (InputStream is = Files.newInputStream(path)) {
+			if (readFully(is, storedDigest) != DIGEST_LENGTH) {
+				return false;
+			}
+		}
+		return MessageDigest.isEqual(storedDigest, computeDigest(path));
+	}
+
+	/**
+	 * Computes the digest (or the HMAC) of the file content following the digest header
+	 */
+	private byte[] computeDigest(Path path) throws IOException, GeneralSecurityException {
+		Mac mac = null;
+		MessageDigest messageDigest = null;
+		if (secretKey != null) {
+			mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(new SecretKeySpec(secretKey, MAC_ALGORITHM));
+		} else {
+			messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		}
+		try (InputStream is = skipDigest(Files.newInputStream(path))) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				if (mac != null) {
+					mac.update(buffer, 0, read);
+				} else {
+					messageDigest.update(buffer, 0, read);
+				}
+			}
+		}
+		return mac != null ? mac.doFinal() : messageDigest.digest();
+	}
+
+	private static InputStream skipDigest(InputStream is) throws IOException {
+		if (readFully(is, new byte[DIGEST_LENGTH]) != DIGEST_LENGTH) {
+			is.close();
+			throw new IOException("The file is too short to contain a TL snapshot");
+		}
+		return is;
+	}
+
+	private static int readFully(InputStream is, byte[] bytes) throws IOException {
+		int total = 0;
+		while (total < bytes.length) {
+			int read = is.read(bytes, total, bytes.length - total);
+			if (read == -1) {
+				break;
+			}
+			total += read;
+		}
+		return total;
+	}
+
+	/**
+	 * Checks if the class with the given name is allowed to be deserialized from a snapshot
+	 *
+	 * @param className {@link String} the class name (as returned by {@code Class.getName()})
+	 * @return TRUE if the class is allowed, FALSE otherwise
+	 */
+	static boolean isAllowedClass(String className) {
+		String name = className;
+		if (name.startsWith("[")) {
+			// array : check the component type
+			name = name.substring(name.lastIndexOf('[') + 1);
+			if (name.length() == 1) {
+				return true; // primitive type
+			}
+			if (!name.startsWith("L") || !name.endsWith(";")) {
+				return false;
+			}
+			name = name.substring(1, name.length() - 1);
+		}
+		if (ALLOWED_CLASSES.contains(name)) {
+			return true;
+		}
+		for (String allowedPackage : ALLOWED_PACKAGES) {
+			if (name.startsWith(allowedPackage)) {
+				return true;
+			}
+		}
+		int lastDot = name.lastIndexOf('.');
+		if (lastDot > 0) {
+			String packageName = name.substring(0, lastDot);
+			for (String allowedPackage : ALLOWED_EXACT_PACKAGES) {
+				if (allowedPackage.equals(packageName)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			LOG.debug("Unable to delete the temporary file '{}' : {}", path, e.getMessage());
+		}
+	}
+
+	/**
+	 * Rejects the classes which are not expected within a snapshot, before their instantiation
+	 */
+	private static final class SnapshotObjectInputStream extends ObjectInputStream {
+
+		private SnapshotObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			if (!isAllowedClass(desc.getName())) {
+				throw new InvalidClassException(desc.getName(), "Class is not allowed within a TL snapshot");
+			}
+			return super.resolveClass(desc);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+			throw new InvalidClassException("Proxy classes are not allowed within a TL snapshot");
+		}
+
+	}
+
+}
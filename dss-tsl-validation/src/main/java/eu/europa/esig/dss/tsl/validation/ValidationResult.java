@@ -26,6 +26,7 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.cache.CachedResult;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -33,7 +34,9 @@ import java.util.List;
 /**
  * The validation task result
  */
-public class ValidationResult implements CachedResult {
+public class ValidationResult implements CachedResult, Serializable {
+
+	private static final long serialVersionUID = 8526913451347720915L;
 
 	/** The used certificate source */
 	private final CertificateSource certificateSource;
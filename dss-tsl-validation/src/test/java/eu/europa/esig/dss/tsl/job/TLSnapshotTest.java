@@ -0,0 +1,254 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import eu.europa.esig.dss.spi.tsl.ParsingInfoRecord;
+import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.tsl.ValidationInfoRecord;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.download.XmlDownloadTask;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshot;
+import eu.europa.esig.dss.tsl.snapshot.TLSnapshotStore;
+import eu.europa.esig.dss.tsl.source.TLSource;
+
+public class TLSnapshotTest {
+
+	private static final String URL = "FR";
+
+	private static CertificateToken C1 = DSSUtils.loadCertificateFromBase64EncodedString(
+			"MIIF1zCCA7+gAwIBAgISESD3lLB/f1WZUYjEB4ECqdejMA0GCSqGSIb3DQEBCwUAMF0xCzAJBgNVBAYTAkZSMRIwEAYDVQQKDAlPcGVuVHJ1c3QxFzAVBgNVBAsMDjAwMDIgNDc4MjE3MzE4MSEwHwYDVQQDDBhPcGVuVHJ1c3QgQ0EgZm9yIEFBVEwgRzEwHhcNMTQwNTI3MDAwMDAwWhcNMjUxMjMxMDAwMDAwWjBoMQswCQYDVQQGEwJGUjESMBAGA1UECgwJT1BFTlRSVVNUMRcwFQYDVQQLDA4wMDAyIDQ3ODIxNzMxODEsMCoGA1UEAwwjQ2xvdWQgU2lnbmluZyBQZXJzb25hbCBTaWduYXR1cmUgQ0EwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQC6ENIuJqI+wlda+RhaXJTnNrzk8Q08Jt9KRn4VkXdOsuLfMhURRTKLytqH4QYCM3AATH1KgMYU6ToPtMOWRy8aa//FE1B+RMPUPE1DCA4L42cJzaqzY8KYHQgGZa38Huw4fAHTotwp4v3mBcGoxNBCSk8ZnnNsKVBqrK8dVt4OeiVnKYSSyscY8c5mwhC5eZZvh7hm9H2uL+FXPyXxmAnV2OROhHmzI7fBt1fd1JrYWN4K0mGqzvFTX4lHimyD0waxXNLOHwbacPKRYY3kWXCBEMWHXacZgLlL5oJ0zfMq9X0ojH0rQsivGpwIlK2xX4O1mb4B4F8o9Rl13WDkxoAXAgMBAAGjggGEMIIBgDAOBgNVHQ8BAf8EBAMCAQYweQYDVR0gBHIwcDAyBgRVHSAAMCowKAYIKwYBBQUHAgEWHGh0dHA6Ly93d3cub3BlbnRydXN0LmNvbS9QQy8wOgYMKwYBBAGBrVoCDgMBMCowKAYIKwYBBQUHAgEWHGh0dHA6Ly93d3cub3BlbnRydXN0LmNvbS9QQy8wEgYDVR0TAQH/BAgwBgEB/wIBADBOBgNVHR8ERzBFMEOgQaA/hj1odHRwOi8vZ2V0LWNybC5jZXJ0aWZpY2F0LmNvbS9wdWJsaWMvb3BlbnRydXN0Y2Fmb3JhYXRsZzEuY3JsME8GCCsGAQUFBwEBBEMwQTA/BggrBgEFBQcwAYYzaHR0cDovL2dldC1vY3NwLmNlcnRpZmljYXQuY29tL29wZW50cnVzdGNhZm9yYWF0bGcxMB0GA1UdDgQWBBSSpv7Ap9O76KAduJ2i5xTaKs4hyjAfBgNVHSMEGDAWgBR4f25UqszoOLj9J8bnhRXBBYeNFjANBgkqhkiG9w0BAQsFAAOCAgEAKLA2XmXUqtMAAq5+AxPLEXmM80bMtq9wCwtqjiyKX8jcEkCV+n2D2WsSk31HBUeKSFXkG3luRwd2h6mIuZO96xWvO3pNjargfjo3a9p756TLvMyvc7lgLlNZEzDNELHuzfIkbaHEub7KpCzBuFG48Ynxr7RdgA5Gux9UWCx6P+4/KPEdtwGX2YE2DlWKJ2nNRflTIWe5mIxjP0tGGUuJpn14peBYa4GSuvTt6ZGf82doTMhVBUK+sUuo/HNxhblpy2FmvWalwRdpFxmxMLOm4Cm0WqZdTEURa+TZELPWD/6gmfRlurWZqIZgLbikYjzOaKEe5CK5T8MNnOQok4Jp/xYeFRXxKOn+SsGSI0K40uCPeSXn4p9K7haa3FRhlJKk/k1Enl6oIrMKkfOSvG1Ai9q1pB+DSK4MrbKUyp7iAdXtaDOpwXFICuZ00zlnMjnDrifdwr5tcHCFhyEA23tzrhp4Y7C9oIDa0nwauOJQXQUivyNx9mLW/6qBqR4BRfj4JdAaVqCIJ2nZJlwe8J+qS89xAKdLpRLsuzkx8ElYj6vrHJWnnIILKFYqDgIqsqiBa/9wX8PcyYawKYsPxCrc6Sqo5Yl4E5BVs20J9VS93VoqKX4y5x0ZEKCuMjmCtRr3oj3BhFxEfLl1xzak5X2hC6rr/fL0frmfDxgiZhTTuZ8=");
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	public void test() {
+		File snapshotFile = new File(tempDir, "snapshot/tl-snapshot.bin");
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(snapshotFile);
+		assertFalse(snapshotFile.exists());
+
+		// number of document reads performed by the download only (no parsing, no validation)
+		AtomicInteger downloadReads = new AtomicInteger();
+		new XmlDownloadTask(new CountingFileLoader(getOfflineFileLoader(), downloadReads), URL).get();
+		assertTrue(downloadReads.get() > 0);
+
+		AtomicInteger firstRunReads = new AtomicInteger();
+		TrustedListsCertificateSource trustedListCertificateSource = new TrustedListsCertificateSource();
+		TLValidationJob job = getJob(trustedListCertificateSource, firstRunReads);
+		job.setSnapshotStore(snapshotStore);
+		job.offlineRefresh();
+		// the document is parsed and validated
+		assertTrue(firstRunReads.get() > downloadReads.get());
+		ValidationInfoRecord validationCacheInfo = job.getSummary().getOtherTLInfos().get(0).getValidationCacheInfo();
+		assertTrue(validationCacheInfo.isSynchronized());
+
+		int nbCertificates = trustedListCertificateSource.getNumberOfCertificates();
+		assertTrue(nbCertificates > 0);
+		assertEquals(2, trustedListCertificateSource.getTrustServices(C1).size());
+		assertTrue(snapshotFile.exists());
+
+		TLSnapshot snapshot = snapshotStore.load();
+		assertNotNull(snapshot);
+		assertEquals(1, snapshot.getNumberOfEntries());
+		assertEquals(nbCertificates, snapshot.getTrustPropertiesByCertificates().size());
+
+		// restart
+		AtomicInteger restartReads = new AtomicInteger();
+		TrustedListsCertificateSource restoredCertificateSource = new TrustedListsCertificateSource();
+		TLValidationJob restoredJob = getJob(restoredCertificateSource, restartReads);
+		restoredJob.setSnapshotStore(snapshotStore);
+		assertTrue(restoredJob.loadSnapshot());
+
+		assertEquals(nbCertificates, restoredCertificateSource.getNumberOfCertificates());
+		assertEquals(trustedListCertificateSource.getNumberOfTrustedPublicKeys(), restoredCertificateSource.getNumberOfTrustedPublicKeys());
+		assertEquals(2, restoredCertificateSource.getTrustServices(C1).size());
+
+		restoredJob.offlineRefresh();
+		// the document is only downloaded, the parsing and validation results come from the snapshot
+		assertEquals(downloadReads.get(), restartReads.get());
+
+		assertEquals(nbCertificates, restoredCertificateSource.getNumberOfCertificates());
+		assertEquals(2, restoredCertificateSource.getTrustServices(C1).size());
+
+		TLInfo tlInfo = restoredJob.getSummary().getOtherTLInfos().get(0);
+		ParsingInfoRecord parsingCacheInfo = tlInfo.getParsingCacheInfo();
+		assertTrue(parsingCacheInfo.isSynchronized());
+		assertEquals(job.getSummary().getOtherTLInfos().get(0).getParsingCacheInfo().getSequenceNumber(),
+				parsingCacheInfo.getSequenceNumber());
+		ValidationInfoRecord restoredValidationCacheInfo = tlInfo.getValidationCacheInfo();
+		assertTrue(restoredValidationCacheInfo.isSynchronized());
+		assertEquals(validationCacheInfo.getIndication(), restoredValidationCacheInfo.getIndication());
+		assertEquals(validationCacheInfo.getSubIndication(), restoredValidationCacheInfo.getSubIndication());
+
+		// a further refresh of an unchanged document only downloads it
+		restartReads.set(0);
+		restoredJob.offlineRefresh();
+		assertEquals(downloadReads.get(), restartReads.get());
+	}
+
+	@Test
+	public void changedDocumentTest() {
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(new File(tempDir, "tl-snapshot.bin"));
+
+		AtomicInteger firstRunReads = new AtomicInteger();
+		TLValidationJob job = getJob(new TrustedListsCertificateSource(), firstRunReads);
+		job.setSnapshotStore(snapshotStore);
+		job.offlineRefresh();
+
+		// another content is served after the restart : the snapshot entry is not used
+		AtomicInteger restartReads = new AtomicInteger();
+		TLValidationJob restoredJob = getJob(new TrustedListsCertificateSource(), restartReads,
+				new FileDocument("src/test/resources/fr.xml"));
+		restoredJob.setSnapshotStore(snapshotStore);
+		restoredJob.offlineRefresh();
+		assertTrue(restartReads.get() > 0);
+
+		AtomicInteger downloadReads = new AtomicInteger();
+		new XmlDownloadTask(new CountingFileLoader(getOfflineFileLoader(new FileDocument("src/test/resources/fr.xml")),
+				downloadReads), URL).get();
+		assertTrue(restartReads.get() > downloadReads.get());
+	}
+
+	@Test
+	public void noSnapshotTest() {
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(new File(tempDir, "not-existing.bin"));
+		TrustedListsCertificateSource trustedListCertificateSource = new TrustedListsCertificateSource();
+		TLValidationJob job = getJob(trustedListCertificateSource);
+		job.setSnapshotStore(snapshotStore);
+		assertFalse(job.loadSnapshot());
+		assertEquals(0, trustedListCertificateSource.getNumberOfCertificates());
+
+		job.offlineRefresh();
+		assertTrue(trustedListCertificateSource.getNumberOfCertificates() > 0);
+		assertTrue(snapshotStore.getSnapshotFile().exists());
+	}
+
+	private TLValidationJob getJob(TrustedListsCertificateSource trustedListCertificateSource) {
+		return getJob(trustedListCertificateSource, new AtomicInteger());
+	}
+
+	private TLValidationJob getJob(TrustedListsCertificateSource trustedListCertificateSource, AtomicInteger reads) {
+		return getJob(trustedListCertificateSource, reads, new FileDocument("src/test/resources/fr-65-docusign.xml"));
+	}
+
+	private TLValidationJob getJob(TrustedListsCertificateSource trustedListCertificateSource, AtomicInteger reads,
+								   DSSDocument trustedList) {
+		TLSource source = new TLSource();
+		source.setUrl(URL);
+		CommonCertificateSource signingCandidates = new CommonCertificateSource();
+		signingCandidates.addCertificate(C1);
+		source.setCertificateSource(signingCandidates);
+
+		TLValidationJob tlValidationJob = new TLValidationJob();
+		tlValidationJob.setOfflineDataLoader(new CountingFileLoader(getOfflineFileLoader(trustedList), reads));
+		tlValidationJob.setTrustedListSources(source);
+		tlValidationJob.setTrustedListCertificateSource(trustedListCertificateSource);
+		return tlValidationJob;
+	}
+
+	private DSSFileLoader getOfflineFileLoader() {
+		return getOfflineFileLoader(new FileDocument("src/test/resources/fr-65-docusign.xml"));
+	}
+
+	private DSSFileLoader getOfflineFileLoader(DSSDocument trustedList) {
+		Map<String, DSSDocument> map = new HashMap<>();
+		map.put(URL, trustedList);
+		// in-memory loader, so each refresh serves the configured content
+		return new DSSFileLoader() {
+
+			private static final long serialVersionUID = -2410623296489574613L;
+
+			private final MockDataLoader dataLoader = new MockDataLoader(map);
+
+			@Override
+			public DSSDocument getDocument(String url) {
+				return new InMemoryDocument(dataLoader.get(url), url);
+			}
+
+			@Override
+			public boolean remove(String url) {
+				return false;
+			}
+
+		};
+	}
+
+	/**
+	 * Counts the number of times the loaded documents are read
+	 */
+	private static class CountingFileLoader implements DSSFileLoader {
+
+		private static final long serialVersionUID = 5937152860173218794L;
+
+		private final DSSFileLoader fileLoader;
+
+		private final AtomicInteger reads;
+
+		CountingFileLoader(DSSFileLoader fileLoader, AtomicInteger reads) {
+			this.fileLoader = fileLoader;
+			this.reads = reads;
+		}
+
+		@Override
+		public DSSDocument getDocument(String url) {
+			DSSDocument document = fileLoader.getDocument(url);
+			return new InMemoryDocument(DSSUtils.toByteArray(document), document.getName()) {
+
+				private static final long serialVersionUID = 7240718062451983062L;
+
+				@Override
+				public InputStream openStream() {
+					reads.incrementAndGet();
+					return super.openStream();
+				}
+
+			};
+		}
+
+		@Override
+		public boolean remove(String url) {
+			return fileLoader.remove(url);
+		}
+
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TLSnapshotStoreTest {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	public void notAllowedClassTest() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(baos))) {
+			oos.writeObject(new File("not-allowed"));
+		}
+		byte[] content = baos.toByteArray();
+
+		// a valid digest : the file is rejected by the class allowlist
+		File snapshotFile = new File(tempDir, "malicious.bin");
+		try (RandomAccessFile raf = new RandomAccessFile(snapshotFile, "rw")) {
+			raf.write(MessageDigest.getInstance("SHA-256").digest(content));
+			raf.write(content);
+		}
+		assertNull(new TLSnapshotStore(snapshotFile).load());
+	}
+
+	@Test
+	public void saveAndLoadTest() {
+		File snapshotFile = new File(tempDir, "snapshot.bin");
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(snapshotFile);
+		snapshotStore.save(new TLSnapshot(new HashMap<>(), new HashMap<>()));
+
+		TLSnapshot snapshot = snapshotStore.load();
+		assertNotNull(snapshot);
+		assertEquals(0, snapshot.getNumberOfEntries());
+	}
+
+	@Test
+	public void modifiedFileTest() throws Exception {
+		File snapshotFile = new File(tempDir, "snapshot.bin");
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(snapshotFile);
+		snapshotStore.save(new TLSnapshot(new HashMap<>(), new HashMap<>()));
+		assertNotNull(snapshotStore.load());
+
+		try (RandomAccessFile raf = new RandomAccessFile(snapshotFile, "rw")) {
+			long position = raf.length() - 1;
+			raf.seek(position);
+			int lastByte = raf.read();
+			raf.seek(position);
+			raf.write(lastByte ^ 0xFF);
+		}
+		assertNull(snapshotStore.load());
+	}
+
+	@Test
+	public void truncatedFileTest() throws Exception {
+		File snapshotFile = new File(tempDir, "snapshot.bin");
+		Files.write(snapshotFile.toPath(), new byte[TLSnapshotStore.DIGEST_LENGTH - 1]);
+		assertNull(new TLSnapshotStore(snapshotFile).load());
+	}
+
+	@Test
+	public void secretKeyTest() {
+		File snapshotFile = new File(tempDir, "snapshot.bin");
+		TLSnapshotStore snapshotStore = new TLSnapshotStore(snapshotFile);
+		snapshotStore.setSecretKey("secret".getBytes());
+		snapshotStore.save(new TLSnapshot(new HashMap<>(), new HashMap<>()));
+		assertNotNull(snapshotStore.load());
+
+		// another key or no key : the HMAC does not match
+		TLSnapshotStore otherKeyStore = new TLSnapshotStore(snapshotFile);
+		otherKeyStore.setSecretKey("other".getBytes());
+		assertNull(otherKeyStore.load());
+		assertNull(new TLSnapshotStore(snapshotFile).load());
+	}
+
+	@Test
+	public void allowedClassesTest() {
+		assertTrue(TLSnapshotStore.isAllowedClass(TLSnapshot.class.getName()));
+		assertTrue(TLSnapshotStore.isAllowedClass(String.class.getName()));
+		assertTrue(TLSnapshotStore.isAllowedClass(HashMap.class.getName()));
+		assertTrue(TLSnapshotStore.isAllowedClass(byte[].class.getName()));
+		assertTrue(TLSnapshotStore.isAllowedClass(String[][].class.getName()));
+		assertFalse(TLSnapshotStore.isAllowedClass(File.class.getName()));
+		assertFalse(TLSnapshotStore.isAllowedClass(File[].class.getName()));
+		assertFalse(TLSnapshotStore.isAllowedClass("java.lang.invoke.SerializedLambda"));
+		assertFalse(TLSnapshotStore.isAllowedClass("java.util.concurrent.ConcurrentSkipListMap"));
+		assertFalse(TLSnapshotStore.isAllowedClass("org.apache.commons.collections.functors.InvokerTransformer"));
+	}
+
+}
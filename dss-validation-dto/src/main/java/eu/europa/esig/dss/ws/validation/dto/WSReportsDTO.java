@@ -60,6 +60,9 @@ public class WSReportsDTO implements Serializable {
 	/** The ETSI validation report */
 	private transient ValidationReportType validationReport;
 
+	/** The error message, when the document could not be validated (within a batch) */
+	private String errorMessage;
+
 	/**
 	 * Empty constructor
 	 */
@@ -192,4 +195,22 @@ public class WSReportsDTO implements Serializable {
 		this.validationReport = validationReport;
 	}
 
+	/**
+	 * Gets the error message, when the document could not be validated (e.g. within a batch of documents)
+	 *
+	 * @return {@link String}, null if the document has been validated
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * Sets the error message, when the document could not be validated
+	 *
+	 * @param errorMessage {@link String}
+	 */
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
 }
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.validation.rest.client;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.List;
 
@@ -27,6 +28,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
@@ -71,4 +73,26 @@ public interface RestDocumentValidationService extends Serializable {
 	@Path("getOriginalDocuments")
 	List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the result of the validation of the signed file, sent as
+	 * a binary stream (without base64 encoding), with the default validation policy.
+	 * The document is stored in a temporary storage on the server side, allowing
+	 * the validation of big documents with a bounded memory usage.
+	 * <p>
+	 * NOTE: only the validation with the default policy of the server is available as a binary stream.
+	 * A validation with a custom policy or with detached documents still requires the base64 encoded
+	 * JSON content of {@code #validateSignature}.
+	 *
+	 * @param signedDocument
+	 *                       the binary stream of the signed file
+	 * @param documentName
+	 *                       the optional name of the signed file
+	 * @return a {@code ReportsDTO} with  4 reports : the diagnostic data, the
+	 *         detailed report, the simple report and the ETSI validation report
+	 */
+	@POST
+	@Path("validateSignature/stream")
+	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
+	WSReportsDTO validateSignatureStream(InputStream signedDocument, @QueryParam("documentName") String documentName);
+
 }
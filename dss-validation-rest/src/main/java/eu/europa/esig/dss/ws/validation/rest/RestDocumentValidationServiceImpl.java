@@ -20,12 +20,19 @@
  */
 package eu.europa.esig.dss.ws.validation.rest;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerUtils;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import eu.europa.esig.dss.ws.validation.rest.client.RestDocumentValidationService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -37,6 +44,12 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 	/** The validation service to use */
 	private RemoteDocumentValidationService validationService;
 
+	/**
+	 * Used to store the streamed documents (temporary files by default). The files are removed at the end
+	 * of each request, so they are not registered for a removal on exit, which would keep their paths in memory.
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder().setDeleteOnExit(false);
+
 	/**
 	 * Default construction instantiating object with null RemoteDocumentValidationService
 	 */
@@ -52,6 +65,18 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 	public void setValidationService(RemoteDocumentValidationService validationService) {
 		this.validationService = validationService;
 	}
+
+	/**
+	 * Sets the {@code DSSResourcesHandlerBuilder} used to store the documents received as a binary stream
+	 *
+	 * Default : {@code TempFileResourcesHandlerBuilder} (the documents are stored in temporary files,
+	 *           removed at the end of the request, without {@code deleteOnExit})
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
 	
 	@Override
 	public WSReportsDTO validateSignature(DataToValidateDTO dataToValidate) {
@@ -63,4 +88,22 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 		return validationService.getOriginalDocuments(dataToValidate);
 	}
 
+	@Override
+	public WSReportsDTO validateSignatureStream(InputStream signedDocument, String documentName) {
+		final DSSDocument document = toDSSDocument(signedDocument, documentName);
+		try {
+			return validationService.validateDocument(document);
+		} finally {
+			DSSResourcesHandlerUtils.delete(document);
+		}
+	}
+
+	private DSSDocument toDSSDocument(InputStream inputStream, String documentName) {
+		try {
+			return DSSResourcesHandlerUtils.toDSSDocument(resourcesHandlerBuilder, inputStream, documentName);
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to read the document. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 }
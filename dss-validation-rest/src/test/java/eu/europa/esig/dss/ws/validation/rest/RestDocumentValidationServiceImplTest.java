@@ -0,0 +1,128 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.rest;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
+import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestDocumentValidationServiceImplTest {
+
+	private static final byte[] CONTENT = "Hello world!".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	File tempDir;
+
+	private RestDocumentValidationServiceImpl restService;
+
+	private MockRemoteDocumentValidationService validationService;
+
+	@BeforeEach
+	public void init() {
+		validationService = new MockRemoteDocumentValidationService();
+		restService = new RestDocumentValidationServiceImpl();
+		restService.setValidationService(validationService);
+		restService.setResourcesHandlerBuilder(new TempFileResourcesHandlerBuilder().setTempFileDirectory(tempDir).setDeleteOnExit(false));
+	}
+
+	@Test
+	public void validateSignatureStreamTest() {
+		WSReportsDTO reports = restService.validateSignatureStream(new ByteArrayInputStream(CONTENT), "signed.xml");
+		assertNotNull(reports);
+
+		// the request stream has been spooled to a named temporary file
+		assertTrue(validationService.received instanceof FileDocument);
+		File spooledFile = ((FileDocument) validationService.received).getFile();
+		assertEquals(tempDir, spooledFile.getParentFile());
+		assertEquals("signed.xml", validationService.received.getName());
+		assertArrayEquals(CONTENT, validationService.content);
+
+		// and removed at the end of the request
+		assertFalse(spooledFile.exists());
+		assertEquals(0, tempDir.listFiles().length);
+	}
+
+	@Test
+	public void validateSignatureStreamFailureTest() {
+		validationService.failure = true;
+
+		assertThrows(DSSException.class, () -> restService.validateSignatureStream(new ByteArrayInputStream(CONTENT), "signed.xml"));
+		assertTrue(validationService.received instanceof FileDocument);
+		assertFalse(((FileDocument) validationService.received).getFile().exists());
+		assertEquals(0, tempDir.listFiles().length);
+	}
+
+	@Test
+	public void validateSignatureStreamInMemoryTest() {
+		restService.setResourcesHandlerBuilder(new InMemoryResourcesHandlerBuilder());
+
+		assertNotNull(restService.validateSignatureStream(new ByteArrayInputStream(CONTENT), "signed.xml"));
+		assertFalse(validationService.received instanceof FileDocument);
+		assertEquals("signed.xml", validationService.received.getName());
+		assertArrayEquals(CONTENT, validationService.content);
+	}
+
+	private static class MockRemoteDocumentValidationService extends RemoteDocumentValidationService {
+
+		private boolean failure;
+
+		private DSSDocument received;
+
+		private byte[] content;
+
+		@Override
+		public WSReportsDTO validateDocument(DSSDocument signedDocument) {
+			received = signedDocument;
+			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+				signedDocument.writeTo(baos);
+				content = baos.toByteArray();
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			if (failure) {
+				throw new DSSException("Unable to validate the document");
+			}
+			return new WSReportsDTO();
+		}
+
+	}
+
+}
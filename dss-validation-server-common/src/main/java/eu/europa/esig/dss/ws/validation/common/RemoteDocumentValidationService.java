@@ -20,14 +20,19 @@
  */
 package eu.europa.esig.dss.ws.validation.common;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.batch.BatchDocumentValidator;
 import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
@@ -37,9 +42,13 @@ import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * The remote validation service
@@ -48,17 +57,26 @@ public class RemoteDocumentValidationService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(RemoteDocumentValidationService.class);
 
+	/** The default maximum number of documents accepted within a batch */
+	private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
 	/** The certificate verifier to use */
 	private CertificateVerifier verifier;
 
 	/** The validation policy to be used by default */
 	private ValidationPolicy defaultValidationPolicy;
 
+	/** Keeps the parsed validation policies provided within the requests */
+	private ValidationPolicyCache validationPolicyCache;
+
+	/** The maximum number of documents accepted within a batch */
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
 	/**
 	 * Default construction instantiating object with null certificate verifier
 	 */
 	public RemoteDocumentValidationService() {
-		// empty
+		this.validationPolicyCache = new ValidationPolicyCache();
 	}
 
 	/**
@@ -92,6 +110,31 @@ public class RemoteDocumentValidationService {
 		this.defaultValidationPolicy = validationPolicy;
 	}
 
+	/**
+	 * Sets the cache used to keep the parsed validation policies provided within the requests.
+	 * By default, a dedicated cache bounded to {@code ValidationPolicyCache.DEFAULT_MAX_SIZE} entries is used.
+	 *
+	 * @param validationPolicyCache {@link ValidationPolicyCache}
+	 */
+	public void setValidationPolicyCache(ValidationPolicyCache validationPolicyCache) {
+		Objects.requireNonNull(validationPolicyCache, "ValidationPolicyCache cannot be null!");
+		this.validationPolicyCache = validationPolicyCache;
+	}
+
+	/**
+	 * Sets the maximum number of documents accepted within a batch. Larger batches are rejected.
+	 *
+	 * Default : 100
+	 *
+	 * @param maxBatchSize the maximum number of documents within a batch
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("The maximum batch size shall be positive!");
+		}
+		this.maxBatchSize = maxBatchSize;
+	}
+
 	/**
 	 * Validates the document
 	 *
@@ -101,9 +144,31 @@ public class RemoteDocumentValidationService {
 	public WSReportsDTO validateDocument(DataToValidateDTO dataToValidate) {
 		LOG.info("ValidateDocument in process...");
 		SignedDocumentValidator validator = initValidator(dataToValidate);
+		WSReportsDTO reportsDTO = validate(validator, dataToValidate.getPolicy());
+		LOG.info("ValidateDocument is finished");
+		return reportsDTO;
+	}
+
+	/**
+	 * Validates the given signed document with the default validation policy.
+	 * This method allows the validation of a document provided in a streaming way
+	 * (e.g. spooled to a {@code FileDocument}), without its conversion to a {@code RemoteDocument}.
+	 *
+	 * @param signedDocument {@link DSSDocument} to be validated
+	 * @return {@link WSReportsDTO}
+	 */
+	public WSReportsDTO validateDocument(DSSDocument signedDocument) {
+		Objects.requireNonNull(signedDocument, "signedDocument must be defined!");
+		LOG.info("ValidateDocument in process...");
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+		validator.setCertificateVerifier(verifier);
+		WSReportsDTO reportsDTO = validate(validator, null);
+		LOG.info("ValidateDocument is finished");
+		return reportsDTO;
+	}
 
+	private WSReportsDTO validate(SignedDocumentValidator validator, RemoteDocument policy) {
 		Reports reports;
-		RemoteDocument policy = dataToValidate.getPolicy();
 		if (policy != null) {
 			reports = validator.validateDocument(getValidationPolicy(policy));
 		} else if (defaultValidationPolicy != null) {
@@ -111,13 +176,79 @@ public class RemoteDocumentValidationService {
 		} else {
 			reports = validator.validateDocument();
 		}
+		return toWSReportsDTO(reports);
+	}
 
-		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
+	private WSReportsDTO toWSReportsDTO(Reports reports) {
+		return new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(),
 				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
-		LOG.info("ValidateDocument is finished");
+	}
+
+	private WSReportsDTO toErrorWSReportsDTO(Exception e) {
+		LOG.warn("Unable to validate a document of the batch. Reason : {}", e.getMessage());
+		WSReportsDTO reportsDTO = new WSReportsDTO();
+		reportsDTO.setErrorMessage(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
 		return reportsDTO;
 	}
 
+	/**
+	 * Validates a batch of documents. The certificates obtained by AIA and the revocation data are requested
+	 * only once for the whole batch, and the documents are validated concurrently.
+	 * A document which cannot be validated (e.g. an invalid document or policy) does not stop the batch :
+	 * its response contains only the error message (see {@code WSReportsDTO#getErrorMessage}).
+	 * Batches containing more than {@code maxBatchSize} documents are rejected.
+	 *
+	 * @param dataToValidate a list of {@link DataToValidateDTO} requests
+	 * @return a list of {@link WSReportsDTO} responses, in the order of the requests
+	 */
+	public List<WSReportsDTO> validateDocuments(List<DataToValidateDTO> dataToValidate) {
+		Objects.requireNonNull(dataToValidate, "List of DataToValidateDTO cannot be null!");
+		if (dataToValidate.size() > maxBatchSize) {
+			throw new DSSException(String.format("The batch contains %s documents, while the maximum allowed " +
+					"number of documents is %s!", dataToValidate.size(), maxBatchSize));
+		}
+		LOG.info("ValidateDocuments in process...");
+		BatchDocumentValidator batchValidator = new BatchDocumentValidator(verifier);
+
+		// requests with the same policy are validated together
+		Map<String, List<Integer>> requestsByPolicy = new LinkedHashMap<>();
+		for (int i = 0; i < dataToValidate.size(); i++) {
+			RemoteDocument policy = dataToValidate.get(i).getPolicy();
+			String policyKey = policy != null && policy.getBytes() != null ?
+					Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, policy.getBytes())) : null;
+			requestsByPolicy.computeIfAbsent(policyKey, k -> new ArrayList<>()).add(i);
+		}
+
+		WSReportsDTO[] reportsDTOs = new WSReportsDTO[dataToValidate.size()];
+		for (List<Integer> indexes : requestsByPolicy.values()) {
+			RemoteDocument policy = dataToValidate.get(indexes.get(0)).getPolicy();
+			try {
+				batchValidator.setValidationPolicy(policy != null ? getValidationPolicy(policy) : defaultValidationPolicy);
+			} catch (Exception e) {
+				for (Integer index : indexes) {
+					reportsDTOs[index] = toErrorWSReportsDTO(e);
+				}
+				continue;
+			}
+
+			List<SignedDocumentValidator> validators = new ArrayList<>();
+			List<Integer> validatorIndexes = new ArrayList<>();
+			for (Integer index : indexes) {
+				try {
+					validators.add(initValidator(dataToValidate.get(index)));
+					validatorIndexes.add(index);
+				} catch (Exception e) {
+					reportsDTOs[index] = toErrorWSReportsDTO(e);
+				}
+			}
+			// the reports are converted as soon as obtained
+			batchValidator.validate(validators, result -> reportsDTOs[validatorIndexes.get(result.getIndex())] =
+					result.isFailed() ? toErrorWSReportsDTO(result.getException()) : toWSReportsDTO(result.getReports()));
+		}
+		LOG.info("ValidateDocuments is finished");
+		return Arrays.asList(reportsDTOs);
+	}
+
 	/**
 	 * Gets the original documents
 	 *
@@ -144,8 +275,8 @@ public class RemoteDocumentValidationService {
 	}
 
 	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
-		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
-			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
+		try {
+			return validationPolicyCache.getValidationPolicy(policy.getBytes());
 		} catch (Exception e) {
 			throw new IllegalInputException(String.format("Unable to load the validation policy : %s", e.getMessage()), e);
 		}
@@ -27,8 +27,11 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.Indication;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyCache;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -41,9 +44,14 @@ import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -51,6 +59,10 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RemoteDocumentValidationServiceTest {
@@ -71,6 +83,12 @@ public class RemoteDocumentValidationServiceTest {
 		validateReports(result);
 	}
 
+	@Test
+	public void testDSSDocument() throws Exception {
+		WSReportsDTO result = validationService.validateDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		validateReports(result);
+	}
+
 	@Test
 	public void testWithNoPolicyAndNoOriginalFileAndStrategy() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
@@ -189,6 +207,108 @@ public class RemoteDocumentValidationServiceTest {
 		assertFalse(signature.isBLevelTechnicallyValid()); // no original data provided
 	}
 
+	@Test
+	public void testValidateDocuments() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		RemoteDocument signedLTAFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+
+		List<DataToValidateDTO> dtos = Arrays.asList(
+				new DataToValidateDTO(signedFile, originalFile, null),
+				new DataToValidateDTO(signedFile, originalFile, policy),
+				new DataToValidateDTO(signedLTAFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, originalFile, policy));
+
+		List<WSReportsDTO> results = validationService.validateDocuments(dtos);
+		assertEquals(4, results.size());
+		for (WSReportsDTO result : results) {
+			validateReports(result);
+		}
+		assertEquals("QES AdESQC TL based", results.get(0).getSimpleReport().getValidationPolicy().getPolicyName());
+		assertEquals("QES AdESQC TL based (Test WebServices)", results.get(1).getSimpleReport().getValidationPolicy().getPolicyName());
+		assertEquals("QES AdESQC TL based", results.get(2).getSimpleReport().getValidationPolicy().getPolicyName());
+		assertEquals("QES AdESQC TL based (Test WebServices)", results.get(3).getSimpleReport().getValidationPolicy().getPolicyName());
+		assertEquals(results.get(0).getSimpleReport().getSignatureOrTimestamp().get(0).getId(),
+				results.get(1).getSimpleReport().getSignatureOrTimestamp().get(0).getId());
+		assertEquals(results.get(1).getSimpleReport().getSignatureOrTimestamp().get(0).getId(),
+				results.get(3).getSimpleReport().getSignatureOrTimestamp().get(0).getId());
+	}
+
+	@Test
+	public void testValidateDocumentsWithFailures() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		RemoteDocument invalidFile = new RemoteDocument("Not a signature".getBytes(), "invalid.txt");
+		RemoteDocument invalidPolicy = new RemoteDocument("Not a policy".getBytes(), "policy.xml");
+
+		List<WSReportsDTO> results = validationService.validateDocuments(Arrays.asList(
+				new DataToValidateDTO(signedFile, originalFile, null),
+				new DataToValidateDTO(invalidFile, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, originalFile, invalidPolicy),
+				new DataToValidateDTO(signedFile, originalFile, null)));
+		assertEquals(4, results.size());
+
+		// the failures are reported per document, the other documents are validated
+		validateReports(results.get(0));
+		assertNull(results.get(0).getErrorMessage());
+		assertNotNull(results.get(1).getErrorMessage());
+		assertNull(results.get(1).getSimpleReport());
+		assertNotNull(results.get(2).getErrorMessage());
+		assertNull(results.get(2).getSimpleReport());
+		validateReports(results.get(3));
+		assertNull(results.get(3).getErrorMessage());
+	}
+
+	@Test
+	public void testValidateDocumentsMaxBatchSize() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		DataToValidateDTO dto = new DataToValidateDTO(signedFile, (RemoteDocument) null, null);
+
+		validationService.setMaxBatchSize(2);
+		assertEquals(2, validationService.validateDocuments(Arrays.asList(dto, dto)).size());
+		assertThrows(DSSException.class, () -> validationService.validateDocuments(Arrays.asList(dto, dto, dto)));
+		assertThrows(IllegalArgumentException.class, () -> validationService.setMaxBatchSize(0));
+	}
+
+	@Test
+	public void testValidationPolicyCachedBetweenRequests() throws Exception {
+		CountingValidationPolicyCache validationPolicyCache = new CountingValidationPolicyCache();
+		validationService.setValidationPolicyCache(validationPolicyCache);
+
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+
+		// each request provides its own copy of the policy
+		WSReportsDTO firstResult = validationService.validateDocument(new DataToValidateDTO(signedFile, originalFile,
+				RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"))));
+		WSReportsDTO secondResult = validationService.validateDocument(new DataToValidateDTO(signedFile, originalFile,
+				RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"))));
+		validateReports(firstResult);
+		validateReports(secondResult);
+		assertEquals("QES AdESQC TL based (Test WebServices)", firstResult.getSimpleReport().getValidationPolicy().getPolicyName());
+		assertEquals("QES AdESQC TL based (Test WebServices)", secondResult.getSimpleReport().getValidationPolicy().getPolicyName());
+
+		// the policy parsed for the first request is reused
+		assertEquals(2, validationPolicyCache.validationPolicies.size());
+		assertSame(validationPolicyCache.validationPolicies.get(0), validationPolicyCache.validationPolicies.get(1));
+
+		// the requests of a batch sharing the same policy are validated with a single lookup
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		List<WSReportsDTO> results = validationService.validateDocuments(Arrays.asList(
+				new DataToValidateDTO(signedFile, originalFile, policy),
+				new DataToValidateDTO(signedFile, originalFile, policy)));
+		assertEquals(2, results.size());
+		assertEquals(3, validationPolicyCache.validationPolicies.size());
+		assertSame(validationPolicyCache.validationPolicies.get(0), validationPolicyCache.validationPolicies.get(2));
+
+		// another policy content is parsed again
+		byte[] otherPolicyBytes = DSSUtils.concatenate(policy.getBytes(), "\n".getBytes());
+		validationService.validateDocument(new DataToValidateDTO(signedFile, originalFile, new RemoteDocument(otherPolicyBytes, "policy.xml")));
+		assertEquals(4, validationPolicyCache.validationPolicies.size());
+		assertNotSame(validationPolicyCache.validationPolicies.get(0), validationPolicyCache.validationPolicies.get(3));
+	}
+
 	@Test
 	public void testGetOriginals() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
@@ -272,4 +392,18 @@ public class RemoteDocumentValidationServiceTest {
 		assertTrue(signature.isBLevelTechnicallyValid());
 	}
 
+	private static class CountingValidationPolicyCache extends ValidationPolicyCache {
+
+		/** The policies returned for the requests content, in the order */
+		private final List<ValidationPolicy> validationPolicies = new ArrayList<>();
+
+		@Override
+		public ValidationPolicy getValidationPolicy(byte[] binaries) throws JAXBException, XMLStreamException, IOException, SAXException {
+			ValidationPolicy validationPolicy = super.getValidationPolicy(binaries);
+			validationPolicies.add(validationPolicy);
+			return validationPolicy;
+		}
+
+	}
+
 }
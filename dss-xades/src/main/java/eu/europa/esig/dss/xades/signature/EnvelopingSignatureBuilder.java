@@ -23,20 +23,35 @@ package eu.europa.esig.dss.xades.signature;
 import eu.europa.esig.dss.DomUtils;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigAttribute;
 import eu.europa.esig.dss.definition.xmldsig.XMLDSigElement;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.xades.DSSObject;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.reference.Base64Transform;
 import eu.europa.esig.dss.xades.reference.DSSReference;
+import eu.europa.esig.dss.xades.reference.DSSTransform;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * This class handles the specifics of the enveloping XML signature
@@ -44,6 +59,15 @@ import java.util.List;
  */
 class EnvelopingSignatureBuilder extends XAdESSignatureBuilder {
 
+	/** The number of bytes encoded at once (shall be a multiple of 3 to avoid intermediate padding) */
+	private static final int BASE64_CHUNK_SIZE = 3 * 1024;
+
+	/**
+	 * The documents to be base64-encoded within ds:Object elements on the signature serialization,
+	 * mapped by the placeholder text used within the DOM
+	 */
+	private final Map<String, DSSDocument> streamedContents = new LinkedHashMap<>();
+
 	/**
 	 * The default constructor for EnvelopingSignatureBuilder. The enveloped signature uses by default the inclusive
 	 * method of canonicalization.
@@ -92,7 +116,12 @@ class EnvelopingSignatureBuilder extends XAdESSignatureBuilder {
 				DSSObject object = new DSSObject();
 
 				DSSDocument content;
-				if (params.isEmbedXML()) {
+				if (isStreamingSupported(reference)) {
+					// the base64 content is written on the signature serialization, see {@code #createXmlDocument}
+					String placeholder = UUID.randomUUID().toString();
+					streamedContents.put(placeholder, reference.getContents());
+					content = new InMemoryDocument(placeholder.getBytes(StandardCharsets.US_ASCII));
+				} else if (params.isEmbedXML()) {
 					content = reference.getContents();
 				} else {
 					String base64EncodedOriginalDocument = Utils.toBase64(DSSUtils.toByteArray(reference.getContents()));
@@ -106,4 +135,100 @@ class EnvelopingSignatureBuilder extends XAdESSignatureBuilder {
 		}
 	}
 
+	/**
+	 * Checks whether the reference's content can be base64-encoded in a streaming way.
+	 * The reference digest is computed on the original content (single base64 transform),
+	 * therefore the ds:Object content is not required within the DOM.
+	 *
+	 * @param reference {@link DSSReference} to check
+	 * @return TRUE if the content can be streamed, FALSE otherwise
+	 */
+	private boolean isStreamingSupported(DSSReference reference) {
+		if (resourcesHandlerBuilder == null || !SignatureLevel.XAdES_BASELINE_B.equals(params.getSignatureLevel())
+				|| params.isEmbedXML() || params.isPrettyPrint() || reference.getContents() instanceof DigestDocument) {
+			return false;
+		}
+		List<DSSTransform> transforms = reference.getTransforms();
+		return transforms != null && transforms.size() == 1 && transforms.get(0) instanceof Base64Transform;
+	}
+
+	@Override
+	protected DSSDocument createXmlDocument() {
+		if (streamedContents.isEmpty()) {
+			return super.createXmlDocument();
+		}
+
+		// the DOM contains only the placeholders, the original contents are encoded while writing
+		final byte[] signatureBytes = DSSUtils.toByteArray(super.createXmlDocument());
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				int offset = 0;
+				for (Map.Entry<String, DSSDocument> entry : streamedContents.entrySet()) {
+					final byte[] placeholder = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+					final int position = indexOf(signatureBytes, placeholder, offset);
+					if (position == -1) {
+						throw new DSSException("Unable to find the ds:Object content placeholder within the signature!");
+					}
+					os.write(signatureBytes, offset, position - offset);
+					writeBase64(entry.getValue(), os);
+					offset = position + placeholder.length;
+				}
+				os.write(signatureBytes, offset, signatureBytes.length - offset);
+			}
+			final DSSDocument signatureDocument = resourcesHandler.writeToDSSDocument();
+			signatureDocument.setMimeType(MimeTypeEnum.XML);
+			return signatureDocument;
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the enveloping signature. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private void writeBase64(DSSDocument document, OutputStream os) throws IOException {
+		final Base64.Encoder encoder = Base64.getEncoder();
+		final byte[] buffer = new byte[BASE64_CHUNK_SIZE];
+		try (InputStream is = document.openStream()) {
+			int length;
+			while ((length = readChunk(is, buffer)) > 0) {
+				if (length == buffer.length) {
+					os.write(encoder.encode(buffer));
+				} else {
+					final byte[] lastChunk = new byte[length];
+					System.arraycopy(buffer, 0, lastChunk, 0, length);
+					os.write(encoder.encode(lastChunk));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills the buffer, unless the end of the stream is reached
+	 */
+	private int readChunk(InputStream is, byte[] buffer) throws IOException {
+		int length = 0;
+		int read;
+		while (length < buffer.length && (read = is.read(buffer, length, buffer.length - length)) != -1) {
+			length += read;
+		}
+		return length;
+	}
+
+	private int indexOf(byte[] array, byte[] target, int fromIndex) {
+		for (int i = fromIndex; i <= array.length - target.length; i++) {
+			if (startsWith(array, target, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean startsWith(byte[] array, byte[] target, int position) {
+		for (int j = 0; j < target.length; j++) {
+			if (array[position + j] != target[j]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.xades.signature;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.xades.SantuarioInitializer;
 import eu.europa.esig.dss.xades.SignatureBuilder;
@@ -45,6 +46,11 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 	 */
 	private CertificateVerifier certificateVerifier;
 
+	/**
+	 * Used to write an enveloping signature in a streaming way (null by default)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * The default constructor for XAdESLevelBaselineB.
 	 *
@@ -55,6 +61,15 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 		this.certificateVerifier = certificateVerifier;
 	}
 
+	/**
+	 * Sets a {@code DSSResourcesHandlerBuilder} used to write an enveloping signature in a streaming way
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	/**
 	 * Returns the canonicalized ds:SignedInfo XML segment under the form of InputStream
 	 *
@@ -68,6 +83,7 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 	 */
 	public byte[] getDataToSign(final DSSDocument dssDocument, final XAdESSignatureParameters parameters) throws DSSException {
 		final XAdESSignatureBuilder signatureBuilder = XAdESSignatureBuilder.getSignatureBuilder(parameters, dssDocument, certificateVerifier);
+		signatureBuilder.setResourcesHandlerBuilder(resourcesHandlerBuilder);
 		parameters.getContext().setBuilder(signatureBuilder);
 		return signatureBuilder.build();
 	}
@@ -91,7 +107,9 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 		if (builder != null) {
 			builder = parameters.getContext().getBuilder();
 		} else {
-			builder = XAdESSignatureBuilder.getSignatureBuilder(parameters, document, certificateVerifier);
+			final XAdESSignatureBuilder signatureBuilder = XAdESSignatureBuilder.getSignatureBuilder(parameters, document, certificateVerifier);
+			signatureBuilder.setResourcesHandlerBuilder(resourcesHandlerBuilder);
+			builder = signatureBuilder;
 		}
 		final DSSDocument dssDocument = builder.signDocument(signatureValue);
 		parameters.getContext().setBuilder(builder);
@@ -30,6 +30,7 @@ import eu.europa.esig.dss.signature.CounterSignatureService;
 import eu.europa.esig.dss.signature.MultipleDocumentsSignatureService;
 import eu.europa.esig.dss.signature.SignatureExtension;
 import eu.europa.esig.dss.signature.SigningOperation;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.validation.timestamp.TimestampToken;
@@ -65,6 +66,11 @@ public class XAdESService extends AbstractSignatureService<XAdESSignatureParamet
 
 	private static final Logger LOG = LoggerFactory.getLogger(XAdESService.class);
 
+	/**
+	 * Used to create an enveloping signature in a streaming way (not defined by default)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * This is the constructor to create an instance of the {@code XAdESService}. A certificate verifier must be
 	 * provided.
@@ -78,6 +84,21 @@ public class XAdESService extends AbstractSignatureService<XAdESSignatureParamet
 		LOG.debug("+ XAdESService created");
 	}
 
+	/**
+	 * Sets a {@code DSSResourcesHandlerBuilder} enabling the streaming creation of enveloping signatures.
+	 * When defined, the base64-encoded content of a document signed within an enveloping XAdES-BASELINE-B
+	 * signature is written directly to the document created by the handler (e.g. a temporary file with
+	 * {@code TempFileResourcesHandlerBuilder}), instead of being incorporated into the DOM.
+	 * Embedded XML, manifest, pretty-printed signatures and the higher levels are created in memory.
+	 *
+	 * Default : null (all signatures are created in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public TimestampToken getContentTimestamp(DSSDocument toSignDocument, XAdESSignatureParameters parameters) {
 		return getContentTimestamp(Arrays.asList(toSignDocument), parameters);
@@ -97,6 +118,7 @@ public class XAdESService extends AbstractSignatureService<XAdESSignatureParamet
 		
 		assertSigningCertificateValid(parameters);
 		final XAdESLevelBaselineB levelBaselineB = new XAdESLevelBaselineB(certificateVerifier);
+		levelBaselineB.setResourcesHandlerBuilder(resourcesHandlerBuilder);
 		final byte[] dataToSign = levelBaselineB.getDataToSign(toSignDocument, parameters);
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Data to sign: ");
@@ -132,7 +154,9 @@ public class XAdESService extends AbstractSignatureService<XAdESSignatureParamet
 		if (context.getProfile() != null) {
 			profile = context.getProfile();
 		} else {
-			profile = new XAdESLevelBaselineB(certificateVerifier);
+			final XAdESLevelBaselineB levelBaselineB = new XAdESLevelBaselineB(certificateVerifier);
+			levelBaselineB.setResourcesHandlerBuilder(resourcesHandlerBuilder);
+			profile = levelBaselineB;
 		}
 		
 		DSSDocument result = profile.signDocument(toSignDocument, parameters, signatureValue.getValue());
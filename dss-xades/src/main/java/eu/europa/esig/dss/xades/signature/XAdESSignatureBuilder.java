@@ -46,6 +46,7 @@ import eu.europa.esig.dss.model.SpDocSpecification;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.signature.BaselineBCertificateSelector;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -109,6 +110,9 @@ public abstract class XAdESSignatureBuilder extends XAdESBuilder implements Sign
 	/** The deterministic Id used for elements creation */
 	protected final String deterministicId;
 
+	/** Used to write the signature in a streaming way, when supported by the builder (null by default) */
+	protected DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/** This variable represents the current DOM signature object. */
 	protected Element signatureDom;
 
@@ -189,6 +193,16 @@ public abstract class XAdESSignatureBuilder extends XAdESBuilder implements Sign
 		setCanonicalizationMethods(params);
 	}
 	
+	/**
+	 * Sets a {@code DSSResourcesHandlerBuilder} to write the signature in a streaming way, when supported
+	 * (see {@code EnvelopingSignatureBuilder})
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	private void setCanonicalizationMethods(final XAdESSignatureParameters params) {
 		this.keyInfoCanonicalizationMethod = params.getKeyInfoCanonicalizationMethod();
 		this.signedInfoCanonicalizationMethod = params.getSignedInfoCanonicalizationMethod();
@@ -87,8 +87,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Parse an XAdES signature structure. Note that for each signature to be validated a new instance of this object must
@@ -1569,6 +1571,19 @@ public class XAdESSignature extends DefaultAdvancedSignature {
 		return signedDataObjects;
 	}
 
+	@Override
+	public Set<DigestAlgorithm> getReferencesDigestAlgorithms() {
+		final Set<DigestAlgorithm> digestAlgorithms = new HashSet<>();
+		for (Reference reference : getReferences()) {
+			try {
+				digestAlgorithms.add(DigestAlgorithm.forXML(reference.getMessageDigestAlgorithm().getAlgorithmURI()));
+			} catch (XMLSecurityException | IllegalArgumentException e) {
+				LOG.warn("Unable to extract DigestAlgorithm from a reference with Id [{}] : {}", reference.getId(), e.getMessage());
+			}
+		}
+		return digestAlgorithms;
+	}
+
 	/**
 	 * Gets a list of found references
 	 *
@@ -0,0 +1,137 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.signature;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.XAdESTimestampParameters;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XAdESLevelBDetachedReferenceDigestAlgorithmTest extends AbstractXAdESTestSignature {
+
+	private DocumentSignatureService<XAdESSignatureParameters, XAdESTimestampParameters> service;
+	private XAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+
+	private CountingFileDocument detachedContent;
+
+	@BeforeEach
+	public void init() throws Exception {
+		documentToSign = new FileDocument("src/test/resources/sample.xml");
+
+		signatureParameters = new XAdESSignatureParameters();
+		signatureParameters.bLevel().setSigningDate(new Date());
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignaturePackaging(SignaturePackaging.DETACHED);
+		signatureParameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		signatureParameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		signatureParameters.setReferenceDigestAlgorithm(DigestAlgorithm.SHA512);
+
+		service = new XAdESService(getOfflineCertificateVerifier());
+	}
+
+	@Override
+	protected List<DSSDocument> getDetachedContents() {
+		// a new instance is used for the validation, in order to not re-use the digests computed on signing
+		detachedContent = new CountingFileDocument(new File("src/test/resources/sample.xml"));
+		return Collections.singletonList(detachedContent);
+	}
+
+	@Override
+	protected void checkAdvancedSignatures(List<AdvancedSignature> signatures) {
+		super.checkAdvancedSignatures(signatures);
+
+		assertEquals(1, signatures.size());
+		AdvancedSignature signature = signatures.get(0);
+		assertEquals(DigestAlgorithm.SHA256, signature.getDigestAlgorithm());
+
+		Set<DigestAlgorithm> referencesDigestAlgorithms = signature.getReferencesDigestAlgorithms();
+		assertTrue(referencesDigestAlgorithms.contains(DigestAlgorithm.SHA512));
+		assertFalse(referencesDigestAlgorithms.contains(DigestAlgorithm.SHA256));
+	}
+
+	@Override
+	protected void verifyDiagnosticData(DiagnosticData diagnosticData) {
+		super.verifyDiagnosticData(diagnosticData);
+
+		// the digest with the reference digest algorithm has been computed on validation
+		int openedStreams = detachedContent.openedStreams;
+		detachedContent.getDigest(DigestAlgorithm.SHA512);
+		assertEquals(openedStreams, detachedContent.openedStreams);
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+	@Override
+	protected DocumentSignatureService<XAdESSignatureParameters, XAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected XAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@SuppressWarnings("serial")
+	private static class CountingFileDocument extends FileDocument {
+
+		private int openedStreams;
+
+		CountingFileDocument(File file) {
+			super(file);
+		}
+
+		@Override
+		public InputStream openStream() {
+			openedStreams++;
+			return super.openStream();
+		}
+
+	}
+
+}